@@ -0,0 +1,21 @@
+package io.fair_acc.bench;
+
+/**
+ * Records dimensionless counts, e.g., the number of coalesced or dropped events.
+ * Counts are not time measurements and are only recorded by recorders that
+ * explicitly support them, see {@link MeasurementRecorder#newCount(String, java.util.function.IntSupplier)}.
+ */
+@FunctionalInterface
+public interface CountMeasure {
+    /**
+     * @param count number of occurrences to be recorded
+     */
+    void recordCount(long count);
+
+    /**
+     * A default implementation that does nothing and may be eliminated at runtime
+     */
+    static final CountMeasure DISABLED = count -> {
+        // no-op
+    };
+}
@@ -0,0 +1,31 @@
+package io.fair_acc.bench;
+
+import java.util.function.BiPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Recorder that forwards time and count measures with matching tags and
+ * levels to a delegate recorder, optionally renaming the tags.
+ */
+class FilteredRecorder implements MeasurementRecorder {
+    FilteredRecorder(MeasurementRecorder delegate, BiPredicate<String, IntSupplier> condition, UnaryOperator<String> tagMapper) {
+        this.delegate = delegate;
+        this.condition = condition;
+        this.tagMapper = tagMapper;
+    }
+
+    @Override
+    public TimeMeasure newTime(String tag, IntSupplier level) {
+        return condition.test(tag, level) ? delegate.newTime(tagMapper.apply(tag), level) : TimeMeasure.DISABLED;
+    }
+
+    @Override
+    public CountMeasure newCount(String tag, IntSupplier level) {
+        return condition.test(tag, level) ? delegate.newCount(tagMapper.apply(tag), level) : CountMeasure.DISABLED;
+    }
+
+    private final MeasurementRecorder delegate;
+    private final BiPredicate<String, IntSupplier> condition;
+    private final UnaryOperator<String> tagMapper;
+}
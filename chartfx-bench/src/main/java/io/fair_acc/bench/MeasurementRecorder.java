@@ -5,6 +5,7 @@ import java.util.function.Consumer;
 import java.util.function.IntPredicate;
 import java.util.function.IntSupplier;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * A recorder for benchmark measurements.
@@ -94,6 +95,24 @@ public interface MeasurementRecorder {
         return newDurationSum(tag, BenchLevel.Debug);
     }
 
+    /**
+     * @param tag   a descriptive name to disambiguate multiple measures
+     * @param level the detail level of the measured value
+     * @return a count measure at the specified level. Counts are dimensionless, so recorders
+     * need to override this method to support them. The default returns {@link CountMeasure#DISABLED}.
+     */
+    default CountMeasure newCount(String tag, IntSupplier level) {
+        return CountMeasure.DISABLED;
+    }
+
+    /**
+     * @param tag a descriptive name to disambiguate multiple measures
+     * @return a debug level count measure
+     */
+    default CountMeasure newDebugCount(String tag) {
+        return newCount(tag, BenchLevel.Debug);
+    }
+
     /**
      * @return recorder that prints information on stdout
      */
@@ -106,8 +125,16 @@ public interface MeasurementRecorder {
      * @return recorder that prints information to a log output
      */
     public static MeasurementRecorder printRecorder(Consumer<String> log) {
-        return (tag, level) -> (TimeMeasure) (unit, time) -> {
-            log.accept(String.format(Locale.ENGLISH, "%s finished in %.3f ms", tag, unit.toMicros(time) * 1E-3));
+        return new MeasurementRecorder() {
+            @Override
+            public TimeMeasure newTime(String tag, IntSupplier level) {
+                return (unit, time) -> log.accept(String.format(Locale.ENGLISH, "%s finished in %.3f ms", tag, unit.toMicros(time) * 1E-3));
+            }
+
+            @Override
+            public CountMeasure newCount(String tag, IntSupplier level) {
+                return count -> log.accept(String.format(Locale.ENGLISH, "%s counted %d", tag, count));
+            }
         };
     }
 
@@ -128,7 +155,7 @@ public interface MeasurementRecorder {
      * @return a profiler that returns DISABLED for any non-matching tags
      */
     default MeasurementRecorder filterTag(Predicate<String> condition) {
-        return (tag, level) -> condition.test(tag) ? newTime(tag, level) : TimeMeasure.DISABLED;
+        return new FilteredRecorder(this, (tag, level) -> condition.test(tag), UnaryOperator.identity());
     }
 
     default MeasurementRecorder info() {
@@ -160,7 +187,7 @@ public interface MeasurementRecorder {
      * @return a profiler that returns DISABLED for any non-matching tags
      */
     default MeasurementRecorder filterLevel(IntPredicate condition) {
-        return (tag, level) -> condition.test(level.getAsInt()) ? newTime(tag, level) : TimeMeasure.DISABLED;
+        return new FilteredRecorder(this, (tag, level) -> condition.test(level.getAsInt()), UnaryOperator.identity());
     }
 
     /**
@@ -168,7 +195,7 @@ public interface MeasurementRecorder {
      * @return profiler
      */
     default MeasurementRecorder addPrefix(String prefix) {
-        return (tag, level) -> newTime(prefix + "-" + tag, level);
+        return mapTag(tag -> prefix + "-" + tag);
     }
 
     /**
@@ -176,7 +203,7 @@ public interface MeasurementRecorder {
      * @return profiler
      */
     default MeasurementRecorder addPostfix(String postfix) {
-        return (tag, level) -> newTime(tag + "-" + postfix, level);
+        return mapTag(tag -> tag + "-" + postfix);
     }
 
     /**
@@ -185,11 +212,19 @@ public interface MeasurementRecorder {
      * @return profiler
      */
     default MeasurementRecorder removeClassPrefix() {
-        return (tag, level) -> newTime(tag.substring(tag.indexOf('-') + 1), level);
+        return mapTag(tag -> tag.substring(tag.indexOf('-') + 1));
     }
 
     default MeasurementRecorder removePostfix() {
-        return (tag, level) -> newTime(tag.substring(tag.lastIndexOf('-') + 1), level);
+        return mapTag(tag -> tag.substring(tag.lastIndexOf('-') + 1));
+    }
+
+    /**
+     * @param tagMapper modifies the tags of all time and count measures
+     * @return profiler
+     */
+    default MeasurementRecorder mapTag(UnaryOperator<String> tagMapper) {
+        return new FilteredRecorder(this, (tag, level) -> true, tagMapper);
     }
 
     public static final MeasurementRecorder DISABLED = (tag, level) -> TimeMeasure.DISABLED;
@@ -99,6 +99,7 @@ public abstract class Chart extends Region implements EventSource, Measurable {
 
     // Inner canvas for the drawn content
     protected final ResizableCanvas canvas = StyleUtil.addStyles(new ResizableCanvas(), "chart-canvas");
+    protected final Pane canvasLayers = StyleUtil.addStyles(new FullSizePane(), "chart-canvas-layers");
     protected final Pane canvasForeground = StyleUtil.addStyles(new FullSizePane(), "chart-canvas-foreground");
     protected final Group pluginsArea = FXUtils.createUnmanagedGroup();
 
@@ -264,9 +265,11 @@ public abstract class Chart extends Region implements EventSource, Measurable {
         //           > hidden elements for zoom etc.
         //           > plot area
         //             > canvas (main)
+        //             > canvas layers (optional, cached per renderer)
         //             > canvas foreground
         //             > plugins
-        var canvasArea = StyleUtil.addStyles(new FullSizePane(canvas, canvasForeground, pluginsArea), "chart-canvas-area");
+        canvasLayers.setMouseTransparent(true);
+        var canvasArea = StyleUtil.addStyles(new FullSizePane(canvas, canvasLayers, canvasForeground, pluginsArea), "chart-canvas-area");
         plotArea.setContent(canvasArea);
         axesAndCanvasPane.addCenter(plotBackground, plotArea, plotForeGround);
         titleLegendPane.addCenter(axesAndCanvasPane);
@@ -327,6 +330,15 @@ public abstract class Chart extends Region implements EventSource, Measurable {
         return canvas;
     }
 
+    /**
+     * @param renderer the renderer that is about to draw
+     * @return the canvas the given renderer is supposed to draw upon, i.e. the main canvas unless derived charts
+     *         provide dedicated (e.g. cached) canvas layers
+     */
+    public Canvas getCanvas(final Renderer renderer) {
+        return canvas;
+    }
+
     public final Pane getCanvasForeground() {
         return canvasForeground;
     }
@@ -478,6 +490,15 @@ public abstract class Chart extends Region implements EventSource, Measurable {
         fireInvalidated(ChartBits.ChartLayout, ChartBits.ChartCanvas);
     }
 
+    /**
+     * Invalidates the canvas content drawn by the given renderer, e.g. after a change of one of its parameters
+     *
+     * @param renderer the renderer whose drawing is out-of-date
+     */
+    public void invalidateCanvas(final Renderer renderer) {
+        fireInvalidated(ChartBits.ChartCanvas);
+    }
+
     protected void runPreLayout() {
         state.setDirty(dataSetState.clear());
         if (state.isClean()) {
@@ -1,5 +1,13 @@
 package io.fair_acc.chartfx;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
@@ -8,8 +16,12 @@ import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.shape.Rectangle;
 
+import io.fair_acc.bench.CountMeasure;
 import io.fair_acc.bench.DurationMeasure;
 import io.fair_acc.bench.MeasurementRecorder;
 import io.fair_acc.chartfx.axes.Axis;
@@ -17,15 +29,19 @@ import io.fair_acc.chartfx.axes.spi.AxisRange;
 import io.fair_acc.chartfx.plugins.ChartPlugin;
 import io.fair_acc.chartfx.renderer.PolarTickStep;
 import io.fair_acc.chartfx.renderer.Renderer;
+import io.fair_acc.chartfx.renderer.spi.AbstractRendererXY;
 import io.fair_acc.chartfx.renderer.spi.ErrorDataSetRenderer;
 import io.fair_acc.chartfx.renderer.spi.GridRenderer;
 import io.fair_acc.chartfx.renderer.spi.LabelledMarkerRenderer;
+import io.fair_acc.chartfx.ui.ResizableCanvas;
 import io.fair_acc.chartfx.ui.css.DataSetNode;
 import io.fair_acc.chartfx.ui.geometry.Side;
 import io.fair_acc.chartfx.utils.FXUtils;
 import io.fair_acc.chartfx.utils.PropUtil;
 import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.events.BitState;
 import io.fair_acc.dataset.events.ChartBits;
+import io.fair_acc.dataset.events.StateListener;
 import io.fair_acc.dataset.utils.AssertUtils;
 
 /**
@@ -44,6 +60,12 @@ public class XYChart extends Chart {
     protected final BooleanProperty polarPlot = new SimpleBooleanProperty(this, "polarPlot", false);
     private final ObjectProperty<PolarTickStep> polarStepSize = new SimpleObjectProperty<>(PolarTickStep.THIRTY);
     private final GridRenderer gridRenderer = new GridRenderer(this);
+    private final BooleanProperty layeredRendering = new SimpleBooleanProperty(this, "layeredRendering", false);
+    private final Map<Renderer, CanvasLayer> canvasLayerMap = new IdentityHashMap<>();
+    private final Set<Renderer> invalidatedRenderers = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final ResizableCanvas gridLayer = new ResizableCanvas();
+    private final List<Node> layerNodes = new ArrayList<>();
+    private boolean layersInvalid = true;
 
     /**
      * Construct a new XYChart with the given axes.
@@ -89,6 +111,10 @@ public class XYChart extends Chart {
                 gridRenderer.drawOnTopProperty());
 
         getRenderers().addListener(this::rendererChanged);
+        PropUtil.runOnChange(() -> {
+            layersInvalid = true;
+            fireInvalidated(ChartBits.ChartCanvas);
+        }, layeredRendering);
 
         // TODO: get rid of default instance. It's created if anyone wants to use getDatasets()
         getRenderers().add(new ErrorDataSetRenderer());
@@ -133,6 +159,27 @@ public class XYChart extends Chart {
         return ret;
     }
 
+    /**
+     * In layered rendering mode, each renderer draws into its own cached canvas layer that is only redrawn if its
+     * data sets, its parameters, its axes or the canvas size changed, e.g. so that static reference traces are not
+     * redrawn for every update of a single live trace. Renderers that do not derive from {@link AbstractRendererXY}
+     * are drawn onto the main canvas beneath all layers.
+     *
+     * @return true if layered rendering is enabled (default: false)
+     */
+    public boolean isLayeredRendering() {
+        return layeredRendering.get();
+    }
+
+    @Override
+    public Canvas getCanvas(final Renderer renderer) {
+        if (renderer == gridRenderer) {
+            return isLayeredRendering() && gridRenderer.isDrawOnTop() ? gridLayer : canvas;
+        }
+        final CanvasLayer layer = canvasLayerMap.get(renderer);
+        return layer == null ? canvas : layer.canvas;
+    }
+
     /**
      * @return nomen est omen
      */
@@ -180,6 +227,13 @@ public class XYChart extends Chart {
         return polarPlot;
     }
 
+    /**
+     * @return property controlling the layered rendering mode, cf. {@link #isLayeredRendering()}
+     */
+    public BooleanProperty layeredRenderingProperty() {
+        return layeredRendering;
+    }
+
     public ObjectProperty<PolarTickStep> polarStepSizeProperty() {
         return polarStepSize;
     }
@@ -195,6 +249,27 @@ public class XYChart extends Chart {
         return this;
     }
 
+    @Override
+    public void invalidate() {
+        layersInvalid = true;
+        super.invalidate();
+    }
+
+    @Override
+    public void invalidateCanvas(final Renderer renderer) {
+        invalidatedRenderers.add(renderer);
+        super.invalidateCanvas(renderer);
+    }
+
+    /**
+     * @param state true if renderers shall draw into individually cached canvas layers, cf. {@link #isLayeredRendering()}
+     * @return itself (fluent design)
+     */
+    public final XYChart setLayeredRendering(final boolean state) {
+        layeredRendering.set(state);
+        return this;
+    }
+
     public void setPolarStepSize(final PolarTickStep step) {
         polarStepSizeProperty().set(step);
     }
@@ -203,8 +278,10 @@ public class XYChart extends Chart {
     public void updateAxisRange() {
         // Update the axis definitions of all datasets. We do it here, so we can make better
         // use of multi-threading. The datasets are already locked, so we can use a parallel
-        // stream without extra synchronization.
-        getRenderers().stream().flatMap(renderer -> renderer.getDatasetNodes().stream()).filter(DataSetNode::isVisible).map(DataSetNode::getDataSet).filter(ds -> ds.getBitState().isDirty(ChartBits.DataSetData, ChartBits.DataSetRange)).distinct().forEach(dataset -> dataset.getAxisDescriptions().parallelStream().filter(axisD -> !axisD.isDefined() || axisD.getBitState().isDirty()).forEach(axisDescription -> dataset.recomputeLimits(axisDescription.getDimIndex())));
+        // stream without extra synchronization. Datasets that maintain their limits incrementally
+        // (and invalidate them on arbitrary modifications) only require a full scan of undefined
+        // limits, all others also of limits that have been modified since the last layout.
+        getRenderers().stream().flatMap(renderer -> renderer.getDatasetNodes().stream()).filter(DataSetNode::isVisible).map(DataSetNode::getDataSet).filter(ds -> ds.getBitState().isDirty(ChartBits.DataSetData, ChartBits.DataSetRange)).distinct().forEach(dataset -> dataset.getAxisDescriptions().parallelStream().filter(axisD -> !axisD.isDefined() || (!dataset.hasIncrementalLimits() && axisD.getBitState().isDirty())).forEach(axisDescription -> dataset.recomputeLimits(axisDescription.getDimIndex())));
 
         // Update each axis
         for (Axis axis : getAxes()) {
@@ -263,6 +340,7 @@ public class XYChart extends Chart {
 
         final GraphicsContext gc = canvas.getGraphicsContext2D();
         gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        updateCanvasLayers();
 
         // Bottom grid
         if (!gridRenderer.isDrawOnTop()) {
@@ -273,19 +351,71 @@ public class XYChart extends Chart {
 
         // Data
         benchDrawData.start();
+        final boolean redrawAll = layersInvalid || getBitState().isDirty(ChartBits.ChartRenderers, ChartBits.ChartDataSets, ChartBits.ChartAxes);
+        int nLayersDrawn = 0;
         for (final Renderer renderer : getRenderers()) {
-            renderer.render();
+            final CanvasLayer layer = canvasLayerMap.get(renderer);
+            if (layer == null) {
+                renderer.render();
+            } else if (layer.draw(redrawAll || invalidatedRenderers.contains(renderer), benchLayersScrolled)) {
+                nLayersDrawn++;
+            }
         }
+        layersInvalid = false;
+        invalidatedRenderers.clear();
         benchDrawData.stop();
+        benchLayersDrawn.recordCount(nLayersDrawn);
 
         // Top grid
         if (gridRenderer.isDrawOnTop()) {
+            if (isLayeredRendering()) {
+                gridLayer.resize(canvas.getWidth(), canvas.getHeight());
+                gridLayer.getGraphicsContext2D().clearRect(0, 0, gridLayer.getWidth(), gridLayer.getHeight());
+            }
             benchDrawGrid.start();
             gridRenderer.render();
             benchDrawGrid.stop();
         }
     }
 
+    /**
+     * synchronises the cached canvas layers with the renderers (only in layered rendering mode)
+     */
+    private void updateCanvasLayers() {
+        if (!isLayeredRendering()) {
+            if (!canvasLayerMap.isEmpty() || !canvasLayers.getChildren().isEmpty()) {
+                canvasLayerMap.values().forEach(CanvasLayer::dispose);
+                canvasLayerMap.clear();
+                canvasLayers.getChildren().clear();
+            }
+            return;
+        }
+
+        // remove layers of renderers that are no longer attached
+        final var iterator = canvasLayerMap.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final var entry = iterator.next();
+            if (!getRenderers().contains(entry.getKey())) {
+                entry.getValue().dispose();
+                iterator.remove();
+            }
+        }
+
+        // layers are stacked in the drawing order of the renderers, the top grid is on top of all
+        layerNodes.clear();
+        for (final Renderer renderer : getRenderers()) {
+            if (renderer instanceof AbstractRendererXY) {
+                layerNodes.add(canvasLayerMap.computeIfAbsent(renderer, r -> new CanvasLayer((AbstractRendererXY<?>) r, canvas)).canvas);
+            }
+        }
+        if (gridRenderer.isDrawOnTop()) {
+            layerNodes.add(gridLayer);
+        }
+        if (!layerNodes.equals(canvasLayers.getChildren())) {
+            canvasLayers.getChildren().setAll(layerNodes);
+        }
+    }
+
     /**
      * @param recorder recorder for this chart and all nested components
      */
@@ -325,9 +455,188 @@ public class XYChart extends Chart {
     public void setRecorder(MeasurementRecorder recorder) {
         benchDrawData = recorder.newDuration("xychart-drawData");
         benchDrawGrid = recorder.newDuration("xychart-drawGrid");
+        benchLayersDrawn = recorder.newDebugCount("xychart-layersDrawn");
+        benchLayersScrolled = recorder.newDebugCount("xychart-layersScrolled");
         super.setRecorder(recorder);
     }
 
     private DurationMeasure benchDrawData = DurationMeasure.DISABLED;
     private DurationMeasure benchDrawGrid = DurationMeasure.DISABLED;
+    private CountMeasure benchLayersDrawn = CountMeasure.DISABLED;
+    private CountMeasure benchLayersScrolled = CountMeasure.DISABLED;
+
+    /**
+     * Cached canvas of a single renderer. The layer is out-of-date if any of the renderer's data sets has been
+     * invalidated since the last drawing, or if the visibility of the data sets, the axis transforms or the canvas
+     * size changed.
+     * <p>
+     * For renderers in the strip-chart mode (cf. {@link AbstractRendererXY#isScrollingRedraw()}) the layer canvas is
+     * twice as wide as the visible area. If the x-axis merely scrolled forward, the canvas node is shifted by the
+     * scroll distance and only the newly appended samples are drawn at the shifted position. A full redraw is needed
+     * once the accumulated shift exceeds the spare canvas width, or if the data sets have been modified other than by
+     * appending samples (e.g. removed or replaced samples, style changes).
+     */
+    private static final class CanvasLayer {
+        private static final int AXIS_STATE_SIZE = 5;
+        private static final int AXIS_MIN = 0;
+        private static final int AXIS_MAX = 1;
+        private static final double SPAN_TOLERANCE = 1e-9; // relative
+        // changes that allow to draw only the tail, i.e. appended samples and the resulting range extensions
+        private static final int APPEND_BITS = BitState.mask(ChartBits.DataSetDataAdded, ChartBits.DataSetRange, ChartBits.AxisDescriptionRange);
+        private final AbstractRendererXY<?> renderer;
+        private final Canvas mainCanvas;
+        private final ResizableCanvas canvas = new ResizableCanvas();
+        private final Rectangle clip = new Rectangle();
+        private final List<DataSet> observedDataSets = new ArrayList<>();
+        private final AtomicInteger changedBits = new AtomicInteger(BitState.ALL_BITS); // accumulated since the last drawing
+        private final StateListener dataSetListener = (src, bits) -> changedBits.getAndAccumulate(bits, (a, b) -> a | b);
+        private double[] axisState = new double[0];
+        private int nodeState;
+        private double offset; // horizontal shift of the canvas content in pixels
+        private double firstDataX = Double.NaN; // first x value of the data at the time of the last drawing
+        private double lastDataX = Double.NaN; // last x value of the data at the time of the last drawing
+
+        private CanvasLayer(final AbstractRendererXY<?> renderer, final Canvas mainCanvas) {
+            this.renderer = renderer;
+            this.mainCanvas = mainCanvas;
+            canvas.setManaged(false); // sized by the layer itself
+        }
+
+        private void dispose() {
+            observedDataSets.forEach(ds -> ds.getBitState().removeInvalidateListener(dataSetListener));
+            observedDataSets.clear();
+        }
+
+        /**
+         * @param force true if the layer needs to be redrawn in any case
+         * @return true if the layer has been (fully or incrementally) redrawn
+         */
+        private boolean draw(final boolean force, final CountMeasure benchScrolled) {
+            boolean fullRedraw = force;
+            if (!observedDataSets.equals(renderer.getDatasets())) {
+                dispose();
+                observedDataSets.addAll(renderer.getDatasets());
+                observedDataSets.forEach(ds -> ds.getBitState().addInvalidateListener(dataSetListener));
+                fullRedraw = true;
+            }
+            final int changed = changedBits.getAndSet(0);
+            final boolean dataChanged = changed != 0;
+            fullRedraw |= (changed & ~APPEND_BITS) != 0;
+
+            final double width = mainCanvas.getWidth();
+            final double height = mainCanvas.getHeight();
+            final boolean scrolling = renderer.isScrollingRedraw() && renderer.isScrollingRedrawSupported();
+            final double canvasWidth = scrolling ? 2.0 * width : width;
+            if (canvas.getWidth() != canvasWidth || canvas.getHeight() != height) {
+                canvas.resize(canvasWidth, height);
+                fullRedraw = true;
+            }
+
+            int nodes = 1;
+            for (final DataSetNode node : renderer.getDatasetNodes()) {
+                nodes = 31 * nodes + System.identityHashCode(node);
+                nodes = 31 * nodes + (node.isVisible() ? 1 : 0);
+            }
+            if (nodes != nodeState) {
+                nodeState = nodes;
+                fullRedraw = true;
+            }
+
+            // axis transforms: scrolling the x-axis of a strip-chart may be handled incrementally
+            final Axis scrollAxis = scrolling ? renderer.getFirstAxis(Orientation.HORIZONTAL) : null;
+            final List<Axis> axes = renderer.getAxes();
+            if (axisState.length != AXIS_STATE_SIZE * axes.size()) {
+                axisState = new double[AXIS_STATE_SIZE * axes.size()];
+                fullRedraw = true;
+            }
+            boolean scrolled = false;
+            double scrollShift = 0.0;
+            int index = 0;
+            for (final Axis axis : axes) {
+                final double previousMin = axisState[index + AXIS_MIN];
+                final double previousMax = axisState[index + AXIS_MAX];
+                final boolean minMaxChanged = updateAxisState(index + AXIS_MIN, axis.getMin()) | updateAxisState(index + AXIS_MAX, axis.getMax());
+                fullRedraw |= updateAxisState(index + 2, axis.getLength());
+                fullRedraw |= updateAxisState(index + 3, axis.isInvertedAxis() ? 1.0 : 0.0);
+                fullRedraw |= updateAxisState(index + 4, axis.isLogAxis() ? 1.0 : 0.0);
+                if (minMaxChanged && axis == scrollAxis && !axis.isInvertedAxis() && !axis.isLogAxis()) {
+                    scrolled = true;
+                    scrollShift = getScrollShift(axis, previousMin, previousMax);
+                } else {
+                    fullRedraw |= minMaxChanged;
+                }
+                index += AXIS_STATE_SIZE;
+            }
+            if (!fullRedraw && !scrolled && !dataChanged) {
+                return false;
+            }
+
+            final double firstX = getDataX(true);
+            final double lastX = getDataX(false);
+            final boolean incremental = scrolling && !fullRedraw && !Double.isNaN(lastDataX) && !Double.isNaN(lastX) //
+                                        && scrollShift >= 0.0 && offset + scrollShift + width <= canvasWidth //
+                                        && lastX >= lastDataX //
+                                        && (firstX == firstDataX || scrollAxis == null || firstDataX < scrollAxis.getMin());
+            final GraphicsContext gc = canvas.getGraphicsContext2D();
+            if (incremental) {
+                offset += scrollShift;
+                gc.save();
+                gc.translate(offset, 0);
+                renderer.renderTail(lastDataX);
+                gc.restore();
+                benchScrolled.recordCount(1);
+            } else {
+                offset = 0.0;
+                gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+                renderer.render();
+            }
+            firstDataX = firstX;
+            lastDataX = lastX;
+
+            canvas.setTranslateX(-offset);
+            if (scrolling) {
+                clip.setX(offset);
+                clip.setWidth(width);
+                clip.setHeight(height);
+                canvas.setClip(clip);
+            } else {
+                canvas.setClip(null);
+            }
+            return true;
+        }
+
+        /**
+         * @return the distance in pixels the content of a non-inverted linear axis moved to the left, or -1 if the
+         *         visible range has been zoomed rather than scrolled
+         */
+        private static double getScrollShift(final Axis axis, final double previousMin, final double previousMax) {
+            final double span = axis.getMax() - axis.getMin();
+            if (!(span > 0.0) || Math.abs(span - (previousMax - previousMin)) > SPAN_TOLERANCE * span) {
+                return -1.0;
+            }
+            return (axis.getMin() - previousMin) / span * axis.getLength();
+        }
+
+        private double getDataX(final boolean first) {
+            double value = Double.NaN;
+            for (final DataSetNode node : renderer.getDatasetNodes()) {
+                final DataSet dataSet = node.getDataSet();
+                final int count = dataSet.getDataCount();
+                if (!node.isVisible() || count == 0) {
+                    continue;
+                }
+                final double x = dataSet.get(DataSet.DIM_X, first ? 0 : count - 1);
+                value = Double.isNaN(value) ? x : first ? Math.min(value, x) : Math.max(value, x);
+            }
+            return value;
+        }
+
+        private boolean updateAxisState(final int index, final double value) {
+            if (Double.compare(axisState[index], value) == 0) {
+                return false;
+            }
+            axisState[index] = value;
+            return true;
+        }
+    }
 }
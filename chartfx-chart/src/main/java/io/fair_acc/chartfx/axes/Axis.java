@@ -154,6 +154,19 @@ public interface Axis extends AxisDescription, Measurable.EmptyDefault {
      */
     String getTickMarkLabel(double value);
 
+    /**
+     * Variant of {@link #getTickMarkLabel(double)} for recurring labels, e.g. during auto-ranging, that avoids
+     * allocations if the label did not change
+     *
+     * @param value The value to format into a tick label string
+     * @param previous a previous label of the same value (may be null)
+     * @return A formatted string for the given value, i.e. the previous instance if the text did not change
+     */
+    default String getTickMarkLabel(double value, String previous) {
+        final String label = getTickMarkLabel(value);
+        return label.equals(previous) ? previous : label;
+    }
+
     ObservableList<TickMark> getTickMarks();
 
     double getTickUnit();
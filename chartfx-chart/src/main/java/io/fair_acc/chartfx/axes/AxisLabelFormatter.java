@@ -55,6 +55,19 @@ public interface AxisLabelFormatter {
      */
     String toString(Number val);
 
+    /**
+     * Variant of {@link #toString(Number)} for recurring labels that avoids boxing and, if supported by the
+     * implementation, allocating a new String for unchanged labels.
+     *
+     * @param val the number to be converted
+     * @param previous a previous label that is likely to match the new one (may be null)
+     * @return a string representation of the number, i.e. the previous instance if the text did not change
+     */
+    default String toString(double val, String previous) {
+        final String label = toString(val);
+        return label.equals(previous) ? previous : label;
+    }
+
     /**
      * Called just before new TickMarks are computed
      *
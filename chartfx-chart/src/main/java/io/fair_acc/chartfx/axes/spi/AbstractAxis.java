@@ -1,5 +1,6 @@
 package io.fair_acc.chartfx.axes.spi;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -649,6 +650,7 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
     }
 
     private final transient DoubleArrayList newTickValues = new DoubleArrayList();
+    private final transient List<String> oldTickLabels = new ArrayList<>();
 
     protected void updateMajorTickMarks(AxisRange range) {
         // Compute new tick marks
@@ -667,13 +669,31 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
             getAxisLabelFormatter().updateFormatter(newTickValues, getUnitScaling());
         }
 
+        // Remember the previous labels so that the labels of ticks that remain
+        // visible (e.g. while panning) can be re-used without allocations
+        oldTickLabels.clear();
+        for (var mark : getTickMarks()) {
+            oldTickLabels.add(mark.getText());
+        }
+
         // Update the existing mark objects
         List<TickMark> marks = FXUtils.sizedList(getTickMarks(), newTickValues.size(), () -> new TickMark(getTickLabelStyle()));
         int i = 0;
+        int oldIndex = 0;
         for (var mark : marks) {
             var tick = newTickValues.getDouble(i++);
-            mark.setValue(tick, isTickLabelsVisible() ? getTickMarkLabel(tick) : "");
+            if (!isTickLabelsVisible()) {
+                mark.setValue(tick, "");
+                continue;
+            }
+            // N.B. tick values are sorted, so a single forward search suffices
+            while (oldIndex < oldTickValues.size() && oldTickValues.getDouble(oldIndex) < tick) {
+                oldIndex++;
+            }
+            final boolean sameTick = oldIndex < oldTickValues.size() && oldIndex < oldTickLabels.size() && oldTickValues.getDouble(oldIndex) == tick;
+            mark.setValue(tick, getTickMarkLabel(tick, sameTick ? oldTickLabels.get(oldIndex) : null));
         }
+        oldTickLabels.clear();
 
         oldTickValues.setAll(newTickValues);
         tickMarksUpdated();
@@ -5,7 +5,6 @@ import java.util.Objects;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.geometry.VPos;
-import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
 
 import io.fair_acc.chartfx.ui.css.TextStyle;
@@ -53,17 +52,10 @@ public class TickMark {
 
     private void updateTextSize() {
         if (usedStyle != style.getChangeCounter() || height < 0) {
-            if (text == null || text.isEmpty()) {
-                height = 0;
-                width = 0;
-            } else {
-                // N.B. important: usage of getBoundsInParent() which also takes into
-                // account text rotations
-                style.setText(text);
-                var bounds = style.getBoundsInParent();
-                height = bounds.getHeight();
-                width = bounds.getWidth();
-            }
+            // N.B. shared among all tick marks/axes with the same font and rotation
+            final var metrics = style.getTextMetrics(text);
+            height = metrics.getHeight();
+            width = metrics.getWidth();
             usedStyle = style.getChangeCounter();
         }
     }
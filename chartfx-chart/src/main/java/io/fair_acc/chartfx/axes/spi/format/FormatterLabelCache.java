@@ -1,36 +1,49 @@
 package io.fair_acc.chartfx.axes.spi.format;
 
-import java.util.WeakHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javafx.util.StringConverter;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 /**
- * Simple cache to keep recurring results of String formatters
+ * Simple cache to keep recurring results of String formatters. The number of entries is bounded: once the capacity
+ * is exceeded the least-recently-used label is evicted, e.g. while an axis is continuously panned.
  *
  * @author rstein
  */
-public class FormatterLabelCache extends WeakHashMap<Number, String> {
-    private static final Logger LOGGER = LoggerFactory.getLogger(FormatterLabelCache.class);
+public class FormatterLabelCache extends LinkedHashMap<Number, String> {
+    public static final int DEFAULT_CAPACITY = 1000;
+    private static final long serialVersionUID = -6372546233102562340L;
+    private final int capacity;
 
     public FormatterLabelCache() {
-        super();
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity maximum number of cached labels
+     */
+    public FormatterLabelCache(final int capacity) {
+        super(16, 0.75f, true);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity " + capacity + " must be greater than zero");
+        }
+        this.capacity = capacity;
     }
 
     public String get(final StringConverter<Number> formatter, final Number value) {
         return computeIfAbsent(value, formatter::toString);
     }
 
-    // @Override
-    // public String get(Object key) {
-    // String ret = super.get(key);
-    // if (ret == null) {
-    // System.out.println("cache missed");
-    // } else {
-    // System.out.println("cache hit");
-    // }
-    // return ret;
-    // }
+    /**
+     * @return maximum number of cached labels
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<Number, String> eldest) {
+        return size() > capacity;
+    }
 }
@@ -5,6 +5,7 @@ import io.fair_acc.dataset.AxisDescription;
 import io.fair_acc.dataset.DataSet;
 import io.fair_acc.dataset.events.ChartBits;
 import io.fair_acc.dataset.spi.AbstractDataSet;
+import io.fair_acc.dataset.spi.SlidingDataRange;
 import io.fair_acc.dataset.utils.DoubleCircularBuffer;
 
 /**
@@ -31,12 +32,22 @@ class CircularDoubleDataSet2D extends AbstractDataSet<CircularDoubleDataSet2D> {
         }
     }
 
+    @Override
+    public boolean hasIncrementalLimits() {
+        return true;
+    }
+
     public void add(double x, double y) {
         FXUtils.assertJavaFxThread();
         this.x.put(x);
         this.y.put(y);
-        getAxisDescription(DIM_X).add(x);
-        getAxisDescription(DIM_Y).add(y);
+        // the oldest sample may have been overwritten -> track the limits of the retained window
+        xRange.add(x);
+        yRange.add(y);
+        xRange.removeOldest(xRange.size() - this.x.available());
+        yRange.removeOldest(yRange.size() - this.y.available());
+        getAxisDescription(DIM_X).set(xRange.getMin(), xRange.getMax());
+        getAxisDescription(DIM_Y).set(yRange.getMin(), yRange.getMax());
         fireInvalidated(ChartBits.DataSetData);
     }
 
@@ -48,6 +59,8 @@ class CircularDoubleDataSet2D extends AbstractDataSet<CircularDoubleDataSet2D> {
     public void clear() {
         x.reset();
         y.reset();
+        xRange.clear();
+        yRange.clear();
         for (AxisDescription axisDescription : getAxisDescriptions()) {
             axisDescription.clear();
         }
@@ -60,4 +73,6 @@ class CircularDoubleDataSet2D extends AbstractDataSet<CircularDoubleDataSet2D> {
 
     protected final DoubleCircularBuffer x;
     protected final DoubleCircularBuffer y;
+    private final SlidingDataRange xRange = new SlidingDataRange();
+    private final SlidingDataRange yRange = new SlidingDataRange();
 }
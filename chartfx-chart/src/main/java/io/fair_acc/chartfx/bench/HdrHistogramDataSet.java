@@ -38,8 +38,9 @@ class HdrHistogramDataSet extends AbstractDataSet<HdrHistogramDataSet> {
         FXUtils.assertJavaFxThread();
         histogram.recordValue(value);
         getAxisDescription(DIM_Y).add(value);
-        getAxisDescription(DIM_X).fireInvalidated(ChartBits.DataSetRange);
-        fireInvalidated(ChartBits.DataSetDataAdded);
+        // the percentiles (x) need to be re-converted -> undefined limits get recomputed on the next layout
+        getAxisDescription(DIM_X).clear();
+        fireInvalidated(ChartBits.DataSetDataAdded, ChartBits.DataSetRange);
     }
 
     @Override
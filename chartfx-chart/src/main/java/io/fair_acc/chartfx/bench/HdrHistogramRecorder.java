@@ -15,6 +15,7 @@ import org.HdrHistogram.Histogram;
 import org.HdrHistogram.HistogramLogWriter;
 import org.HdrHistogram.SingleWriterRecorder;
 
+import io.fair_acc.bench.CountMeasure;
 import io.fair_acc.bench.MeasurementRecorder;
 import io.fair_acc.bench.TimeMeasure;
 import io.fair_acc.dataset.utils.AssertUtils;
@@ -51,6 +52,15 @@ public class HdrHistogramRecorder implements MeasurementRecorder, Closeable {
         return recorder;
     }
 
+    @Override
+    public CountMeasure newCount(String tag, IntSupplier level) {
+        HdrHistogramMeasure recorder = new HdrHistogramMeasure(tag + COUNT_TAG_SUFFIX);
+        synchronized (measurements) {
+            measurements.add(recorder);
+        }
+        return recorder;
+    }
+
     private HdrHistogramRecorder(Path path, long period, TimeUnit timeUnit) throws FileNotFoundException {
         this.out = new FileOutputStream(path.toFile());
         logWriter = new HistogramLogWriter(out);
@@ -59,7 +69,7 @@ public class HdrHistogramRecorder implements MeasurementRecorder, Closeable {
         logWriter.setBaseTime(now);
         logWriter.outputStartTime(now);
         logWriter.outputLegend();
-        logWriter.outputComment("Units: microseconds");
+        logWriter.outputComment("Units: microseconds, tags ending in '" + COUNT_TAG_SUFFIX + "': dimensionless counts");
         task = executor.scheduleAtFixedRate(this::persistToDisk, period, period, timeUnit);
     }
 
@@ -114,7 +124,12 @@ public class HdrHistogramRecorder implements MeasurementRecorder, Closeable {
     private final ScheduledFuture<?> task;
     private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(1);
 
-    static class HdrHistogramMeasure implements TimeMeasure {
+    /**
+     * Tag suffix of histograms that contain counts rather than times
+     */
+    public static final String COUNT_TAG_SUFFIX = ".count";
+
+    static class HdrHistogramMeasure implements TimeMeasure, CountMeasure {
         HdrHistogramMeasure(final String tag) {
             this.tag = AssertUtils.notNull("tag", tag);
             this.histogramRecorder = new SingleWriterRecorder(defaultMinValue, defaultMaxValue, numberOfSignificantDigits);
@@ -129,6 +144,15 @@ public class HdrHistogramRecorder implements MeasurementRecorder, Closeable {
             }
         }
 
+        @Override
+        public void recordCount(long count) {
+            try {
+                histogramRecorder.recordValue(count);
+            } catch (ArrayIndexOutOfBoundsException ex) {
+                System.err.println("Measurement on '" + tag + "' exceeded recordable range. Counted: " + count);
+            }
+        }
+
         public Histogram getTaggedIntervalHistogram() {
             interval = histogramRecorder.getIntervalHistogram(interval);
             interval.setTag(tag);
@@ -131,7 +131,7 @@ public class DataPointTooltip extends AbstractDataFormattingPlugin {
             int minIdx = 0;
             int maxIdx = dataset.getDataCount();
 
-            if (isDataSorted(renderer)) {
+            if (isDataSorted(renderer, dataset)) {
                 // get the screen x coordinates and dataset indices between which points can be in picking distance
                 final double xMin = xAxis.getValueForDisplay(mouseLocation.getX() - getPickingDistance());
                 final double xMax = xAxis.getValueForDisplay(mouseLocation.getX() + getPickingDistance());
@@ -149,8 +149,8 @@ public class DataPointTooltip extends AbstractDataFormattingPlugin {
         });
     }
 
-    private boolean isDataSorted(final Renderer renderer) {
-        return renderer instanceof ErrorDataSetRenderer && ((ErrorDataSetRenderer) renderer).isAssumeSortedData();
+    private boolean isDataSorted(final Renderer renderer, final DataSet dataset) {
+        return dataset.isSorted(DataSet.DIM_X) || (renderer instanceof ErrorDataSetRenderer && ((ErrorDataSetRenderer) renderer).isAssumeSortedData());
     }
 
     private Axis findYAxis(final Renderer renderer) {
@@ -0,0 +1,244 @@
+package io.fair_acc.chartfx.renderer.datareduction;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+import io.fair_acc.chartfx.renderer.RendererDataReducer;
+import io.fair_acc.dataset.utils.AssertUtils;
+import io.fair_acc.dataset.utils.ProcessingProfiler;
+
+/**
+ * M4 data reduction algorithm for the ErrorDataSet Renderer <br>
+ * Keeps the first, last, minimum and maximum point of each horizontal pixel column (cf. Jugel et al., "M4: A
+ * Visualization-Oriented Time Series Data Aggregation", VLDB 2014). Contrary to the {@link DefaultDataReducer}, which
+ * drops points closer than a minimum pixel distance, single-sample spikes and glitches are always retained, i.e. the
+ * reduction is visually lossless for line plots while bounding the number of drawn points to about four times the
+ * number of pixel columns. If errors are defined, the retained points of a column carry the error envelope of all
+ * points of that column. Non-numeric (NaN) y-values are retained to preserve gaps. N.B. numerical complexity: average
+ * = worst-case = O(n)
+ */
+public class M4DataReducer implements RendererDataReducer {
+    protected IntegerProperty pixelColumnWidth = new SimpleIntegerProperty(this, "pixelColumnWidth", 1) {
+        @Override
+        public void set(final int value) {
+            if (value < 1) {
+                throw new IllegalArgumentException("pixelColumnWidth " + value + " must be greater than zero");
+            }
+            super.set(value);
+        }
+    };
+
+    /**
+     * @return the width of the columns (in pixel) within which the first/last/min/max points are retained
+     */
+    public final int getPixelColumnWidth() {
+        return pixelColumnWidthProperty().get();
+    }
+
+    public final IntegerProperty pixelColumnWidthProperty() {
+        return pixelColumnWidth;
+    }
+
+    /**
+     * Internal function to the ErrorDataSetRenderer arrays are cached copies and operations are assumed to be performed
+     * in-place (&lt;-&gt; for performance reasons/minimisation of memory allocation)
+     *
+     * @param xValues array of x coordinates
+     * @param yValues array of y coordinates
+     * @param xPointErrorsPos array of coordinates containing x+exp
+     * @param xPointErrorsNeg array of coordinates containing x-exn
+     * @param yPointErrorsPos array of coordinates containing x+eyp
+     * @param yPointErrorsNeg array of coordinates containing x+eyn
+     * @param pointSelected array containing the points that have been specially selected by the user
+     * @param indexMin minimum index of those array that shall be considered
+     * @param indexMax maximum index of those array that shall be considered
+     * @return effective number of points that remain after the reduction
+     */
+    @Override
+    public int reducePoints(final double[] xValues, final double[] yValues, final double[] xPointErrorsPos,
+            final double[] xPointErrorsNeg, final double[] yPointErrorsPos, final double[] yPointErrorsNeg,
+            final String[] styles, final boolean[] pointSelected, final int indexMin, final int indexMax) {
+        AssertUtils.nonEmptyArray("xValues", xValues);
+        final int defaultDataLength = xValues.length;
+        AssertUtils.checkArrayDimension("yValues", yValues, defaultDataLength);
+        AssertUtils.checkArrayDimension("pointSelected", pointSelected, defaultDataLength);
+        AssertUtils.gtEqThanZero("indexMin", indexMin);
+        AssertUtils.gtThanZero("indexMax", indexMax);
+
+        final boolean xErrors = xPointErrorsPos != null && xPointErrorsNeg != null;
+        final boolean yErrors = yPointErrorsPos != null && yPointErrorsNeg != null;
+        if (xErrors) {
+            AssertUtils.checkArrayDimension("xPointErrorsPos", xPointErrorsPos, defaultDataLength);
+            AssertUtils.checkArrayDimension("xPointErrorsNeg", xPointErrorsNeg, defaultDataLength);
+        }
+        if (yErrors) {
+            AssertUtils.checkArrayDimension("yPointErrorsPos", yPointErrorsPos, defaultDataLength);
+            AssertUtils.checkArrayDimension("yPointErrorsNeg", yPointErrorsNeg, defaultDataLength);
+        }
+
+        final long start = ProcessingProfiler.getTimeStamp();
+        final Column column = new Column(xValues, yValues, xErrors ? xPointErrorsPos : null,
+                xErrors ? xPointErrorsNeg : null, yErrors ? yPointErrorsPos : null, yErrors ? yPointErrorsNeg : null,
+                styles, pointSelected);
+        final double columnWidth = getPixelColumnWidth();
+        int count = 0;
+        long currentColumn = Long.MIN_VALUE;
+        for (int i = indexMin; i < indexMax; i++) {
+            final double y = yValues[i];
+            if (Double.isNaN(y)) {
+                // publish accumulated points and the NaN itself to preserve the gap
+                count = column.flush(count);
+                column.copy(i, count++);
+                currentColumn = Long.MIN_VALUE;
+                continue;
+            }
+            final long pixelColumn = (long) Math.floor(xValues[i] / columnWidth);
+            if (pixelColumn != currentColumn || column.isEmpty()) {
+                count = column.flush(count);
+                currentColumn = pixelColumn;
+            }
+            column.add(i);
+        }
+        count = column.flush(count);
+
+        if (ProcessingProfiler.getDebugState()) {
+            ProcessingProfiler.getTimeDiff(start, String.format("M4 data reduction (from %d to %d)", indexMax - indexMin, count));
+        }
+        return count;
+    }
+
+    public final void setPixelColumnWidth(final int width) {
+        pixelColumnWidthProperty().setValue(width);
+    }
+
+    /**
+     * first/last/min/max book-keeping of the current pixel column.
+     * <p>
+     * N.B. in-place compaction is safe since a column of k points emits at most min(k, 4) points in ascending index
+     * order, i.e. the write index never overtakes the indices that remain to be read.
+     */
+    private static final class Column {
+        private final double[] xValues;
+        private final double[] yValues;
+        private final double[] xErrorsPos;
+        private final double[] xErrorsNeg;
+        private final double[] yErrorsPos;
+        private final double[] yErrorsNeg;
+        private final String[] styles;
+        private final boolean[] selected;
+        private final int[] emitted = new int[4];
+        private int first = -1;
+        private int last;
+        private int min;
+        private int max;
+        private boolean anySelected;
+        private double xErrorMin;
+        private double xErrorMax;
+        private double yErrorMin;
+        private double yErrorMax;
+
+        private Column(final double[] xValues, final double[] yValues, final double[] xErrorsPos,
+                final double[] xErrorsNeg, final double[] yErrorsPos, final double[] yErrorsNeg, final String[] styles,
+                final boolean[] selected) {
+            this.xValues = xValues;
+            this.yValues = yValues;
+            this.xErrorsPos = xErrorsPos;
+            this.xErrorsNeg = xErrorsNeg;
+            this.yErrorsPos = yErrorsPos;
+            this.yErrorsNeg = yErrorsNeg;
+            this.styles = styles;
+            this.selected = selected;
+        }
+
+        private void add(final int index) {
+            if (first < 0) {
+                first = index;
+                min = index;
+                max = index;
+                anySelected = false;
+                xErrorMin = Double.POSITIVE_INFINITY;
+                xErrorMax = Double.NEGATIVE_INFINITY;
+                yErrorMin = Double.POSITIVE_INFINITY;
+                yErrorMax = Double.NEGATIVE_INFINITY;
+            } else if (yValues[index] < yValues[min]) {
+                min = index;
+            } else if (yValues[index] > yValues[max]) {
+                max = index;
+            }
+            last = index;
+            anySelected |= selected[index];
+            if (xErrorsPos != null) {
+                xErrorMin = Math.min(xErrorMin, Math.min(xErrorsNeg[index], xErrorsPos[index]));
+                xErrorMax = Math.max(xErrorMax, Math.max(xErrorsNeg[index], xErrorsPos[index]));
+            }
+            if (yErrorsPos != null) {
+                yErrorMin = Math.min(yErrorMin, Math.min(yErrorsNeg[index], yErrorsPos[index]));
+                yErrorMax = Math.max(yErrorMax, Math.max(yErrorsNeg[index], yErrorsPos[index]));
+            }
+        }
+
+        private void copy(final int from, final int to) {
+            xValues[to] = xValues[from];
+            yValues[to] = yValues[from];
+            if (xErrorsPos != null) {
+                xErrorsPos[to] = xErrorsPos[from];
+                xErrorsNeg[to] = xErrorsNeg[from];
+            }
+            if (yErrorsPos != null) {
+                yErrorsPos[to] = yErrorsPos[from];
+                yErrorsNeg[to] = yErrorsNeg[from];
+            }
+            if (styles != null) {
+                styles[to] = styles[from];
+            }
+            selected[to] = selected[from];
+        }
+
+        private boolean isEmpty() {
+            return first < 0;
+        }
+
+        /**
+         * @param count write index of the next retained point
+         * @return write index after the retained points of this column
+         */
+        private int flush(final int count) {
+            if (first < 0) {
+                return count;
+            }
+            // sort the (up to four distinct) indices: first <= {min, max} <= last
+            int nEmitted = 0;
+            emitted[nEmitted++] = first;
+            final int lower = Math.min(min, max);
+            final int upper = Math.max(min, max);
+            if (lower != first) {
+                emitted[nEmitted++] = lower;
+            }
+            if (upper != lower && upper != first) {
+                emitted[nEmitted++] = upper;
+            }
+            if (last != emitted[nEmitted - 1]) {
+                emitted[nEmitted++] = last;
+            }
+
+            // error envelope orientation of the column (screen coordinates may be inverted)
+            final boolean xNegBelow = xErrorsPos == null || xErrorsNeg[first] <= xErrorsPos[first];
+            final boolean yNegBelow = yErrorsPos == null || yErrorsNeg[first] <= yErrorsPos[first];
+            for (int j = 0; j < nEmitted; j++) {
+                final int to = count + j;
+                copy(emitted[j], to);
+                if (xErrorsPos != null && nEmitted > 1) {
+                    xErrorsNeg[to] = xNegBelow ? xErrorMin : xErrorMax;
+                    xErrorsPos[to] = xNegBelow ? xErrorMax : xErrorMin;
+                }
+                if (yErrorsPos != null && nEmitted > 1) {
+                    yErrorsNeg[to] = yNegBelow ? yErrorMin : yErrorMax;
+                    yErrorsPos[to] = yNegBelow ? yErrorMax : yErrorMin;
+                }
+            }
+            selected[count] |= anySelected;
+            first = -1;
+            return count + nEmitted;
+        }
+    }
+}
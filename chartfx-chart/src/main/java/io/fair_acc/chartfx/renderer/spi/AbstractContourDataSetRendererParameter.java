@@ -50,6 +50,15 @@ public abstract class AbstractContourDataSetRendererParameter<R extends Abstract
         }
     };
 
+    private final BooleanProperty tiledRendering = new SimpleBooleanProperty(this, "tiledRendering", false);
+
+    private final IntegerProperty tileSize = new SimpleIntegerProperty(this, "tileSize", 128) {
+        @Override
+        public void set(int newValue) {
+            super.set(Math.max(8, newValue));
+        }
+    };
+
     private final BooleanProperty smooth = new SimpleBooleanProperty(this, "smooth", false) {
         @Override
         protected void invalidated() {
@@ -153,6 +162,10 @@ public abstract class AbstractContourDataSetRendererParameter<R extends Abstract
         return reductionTypeProperty().get();
     }
 
+    public int getTileSize() {
+        return tileSizeProperty().get();
+    }
+
     /**
      * This is used to compare different implementation and to potentially fall-back to an older reference
      * implementation
@@ -172,6 +185,15 @@ public abstract class AbstractContourDataSetRendererParameter<R extends Abstract
         return smoothProperty().get();
     }
 
+    /**
+     * Returns the value of the {@link #tiledRenderingProperty()}.
+     *
+     * @return {@code true} if the heatmap is rendered into a persistent, tiled image
+     */
+    public boolean isTiledRendering() {
+        return tiledRenderingProperty().get();
+    }
+
     /**
      * @return the property controlling the maximum number of sub-segments allowed for a contour to be drawn.
      */
@@ -265,6 +287,19 @@ public abstract class AbstractContourDataSetRendererParameter<R extends Abstract
         reductionTypeProperty().set(value);
     }
 
+    /**
+     * Sets the value of the {@link #tiledRenderingProperty()}.
+     *
+     * @param state {@code true} to enable the tiled heatmap rendering
+     */
+    public void setTiledRendering(final boolean state) {
+        tiledRenderingProperty().set(state);
+    }
+
+    public void setTileSize(final int size) {
+        tileSizeProperty().set(size);
+    }
+
     /**
      * Sets the value of the {@link #smoothProperty()}.
      *
@@ -289,4 +324,29 @@ public abstract class AbstractContourDataSetRendererParameter<R extends Abstract
     public BooleanProperty smoothProperty() {
         return smooth;
     }
+
+    /**
+     * Enables the tiled rendering of the {@link ContourType#HEATMAP} type: the heatmap image is kept between frames
+     * and split into square tiles of {@link #tileSizeProperty()} pixels. For {@link io.fair_acc.dataset.TrackedGridDataSet}s
+     * only the tiles covering modified rows and columns are colour-mapped again (in parallel) and uploaded, e.g. when a
+     * waterfall spectrogram adds a new line. The z range is taken from the z-axis rather than from the visible data
+     * (see {@link #computeLocalRangeProperty()}) so that unmodified tiles remain valid. Frames whose visible data exceed
+     * the canvas resolution fall back to the reducing (non-tiled) implementation.
+     * <p>
+     * By default the tiled rendering is disabled.
+     * </p>
+     *
+     * @return tiledRendering property
+     */
+    public BooleanProperty tiledRenderingProperty() {
+        return tiledRendering;
+    }
+
+    /**
+     * @return the property controlling the edge length of the square heatmap tiles in pixels (see
+     *         {@link #tiledRenderingProperty()})
+     */
+    public IntegerProperty tileSizeProperty() {
+        return tileSize;
+    }
 }
@@ -12,6 +12,8 @@ import javafx.css.Styleable;
 
 import io.fair_acc.chartfx.ui.css.CssPropertyFactory;
 import io.fair_acc.chartfx.ui.css.StyleUtil;
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.MultiResolutionDataSet;
 
 public abstract class AbstractPointReducingRenderer<R extends AbstractPointReducingRenderer<R>>
         extends AbstractRendererXY<R> {
@@ -138,6 +140,24 @@ public abstract class AbstractPointReducingRenderer<R extends AbstractPointReduc
         return getThis();
     }
 
+    /**
+     * Selects the coarsest pre-computed level of detail of a {@link MultiResolutionDataSet} that still provides at
+     * least one sample per pixel within the visible range. Other data sets, or if point reduction is disabled, are
+     * returned unchanged. N.B. to be called within the data set's read lock.
+     *
+     * @param dataSet the data set to be rendered
+     * @param xMin lower bound of the visible x-range
+     * @param xMax upper bound of the visible x-range
+     * @param nPixels number of horizontal pixels
+     * @return the data set to be actually rendered
+     */
+    protected DataSet getLevelOfDetail(final DataSet dataSet, final double xMin, final double xMax, final int nPixels) {
+        if (!isActualReducePoints() || !(dataSet instanceof MultiResolutionDataSet)) {
+            return dataSet;
+        }
+        return ((MultiResolutionDataSet) dataSet).getLevelOfDetail(Math.min(xMin, xMax), Math.max(xMin, xMax), nPixels);
+    }
+
     /**
      * Sets whether renderer should aim at parallelising sub-functionalities
      *
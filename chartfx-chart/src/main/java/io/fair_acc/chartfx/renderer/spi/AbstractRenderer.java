@@ -263,7 +263,10 @@ public abstract class AbstractRenderer<R extends Renderer> extends Parent implem
     }
 
     protected void invalidateCanvas() {
-        fireInvalidated(ChartBits.ChartCanvas);
+        var chart = getChart();
+        if (chart != null) {
+            chart.invalidateCanvas(this);
+        }
     }
 
     protected void fireInvalidated(IntSupplier bit) {
@@ -2,6 +2,7 @@ package io.fair_acc.chartfx.renderer.spi;
 
 import java.security.InvalidParameterException;
 
+import javafx.beans.property.BooleanProperty;
 import javafx.geometry.Orientation;
 import javafx.scene.canvas.GraphicsContext;
 
@@ -23,6 +24,9 @@ import io.fair_acc.dataset.utils.AssertUtils;
  * @author ennerf
  */
 public abstract class AbstractRendererXY<R extends AbstractRendererXY<R>> extends AbstractRenderer<R> implements Measurable {
+    private final BooleanProperty scrollingRedraw = registerCanvasProp(css().createBooleanProperty(this, "scrollingRedraw", false));
+    private double tailMinX = Double.NaN;
+
     public AbstractRendererXY() {
         chartProperty().addListener((obs, old, chart) -> requireChartXY(chart));
     }
@@ -62,7 +66,7 @@ public abstract class AbstractRendererXY<R extends AbstractRendererXY<R>> extend
             var dataSetNode = getDatasetNodes().get(i);
             if (dataSetNode.isVisible()) {
                 benchDrawOne.start();
-                render(getChart().getCanvas().getGraphicsContext2D(), dataSetNode.getDataSet(), dataSetNode);
+                render(getChart().getCanvas(this).getGraphicsContext2D(), dataSetNode.getDataSet(), dataSetNode);
                 benchDrawOne.stop();
             }
         }
@@ -72,6 +76,53 @@ public abstract class AbstractRendererXY<R extends AbstractRendererXY<R>> extend
 
     protected abstract void render(GraphicsContext gc, DataSet dataSet, DataSetNode style);
 
+    /**
+     * Renders only the data beyond the given x value (plus the connecting segment to the preceding sample) on top of
+     * the existing canvas content. Used by the chart for the incremental strip-chart redraw,
+     * cf. {@link #scrollingRedrawProperty()}. Only called for renderers that {@link #isScrollingRedrawSupported()}.
+     *
+     * @param fromX x value of the last sample that has been rendered previously
+     */
+    public void renderTail(final double fromX) {
+        tailMinX = fromX;
+        try {
+            render();
+        } finally {
+            tailMinX = Double.NaN;
+        }
+    }
+
+    /**
+     * Strip-chart mode for data that is only appended at increasing x values (e.g. circular or FIFO buffers displayed
+     * on an auto-ranging time axis): if the x-axis only scrolled and the y-axis remained unchanged, the previously
+     * rendered pixels are shifted by the scroll distance and only the newly appended samples are drawn. Zooming,
+     * y-range or style changes fall back to a full redraw. Only effective with {@link XYChart#isLayeredRendering()}
+     * and for renderers that {@link #isScrollingRedrawSupported()}.
+     *
+     * @return true if the incremental scrolling redraw is enabled (default: false)
+     */
+    public boolean isScrollingRedraw() {
+        return scrollingRedraw.get();
+    }
+
+    /**
+     * @return true if the renderer draws only the data beyond the x value passed to {@link #renderTail(double)}
+     *         (including the segment connecting it to the preceding sample), which is required for the incremental
+     *         scrolling redraw. Default: false, i.e. the layer is always fully redrawn.
+     */
+    public boolean isScrollingRedrawSupported() {
+        return false;
+    }
+
+    public BooleanProperty scrollingRedrawProperty() {
+        return scrollingRedraw;
+    }
+
+    public R setScrollingRedraw(final boolean state) {
+        scrollingRedraw.set(state);
+        return getThis();
+    }
+
     @Override
     public void updateAxes() {
         final var xAxisBefore = xAxis;
@@ -142,6 +193,9 @@ public abstract class AbstractRendererXY<R extends AbstractRendererXY<R>> extend
     protected void updateCachedVariables() {
         xMin = xAxis.getValueForDisplay(xAxis.isInvertedAxis() ? xAxis.getLength() : 0.0);
         xMax = xAxis.getValueForDisplay(xAxis.isInvertedAxis() ? 0.0 : xAxis.getLength());
+        if (!Double.isNaN(tailMinX)) {
+            xMin = Math.max(xMin, tailMinX);
+        }
     }
 
     protected double xMin, xMax;
@@ -231,6 +231,11 @@ public class BasicDataSetRenderer extends AbstractRendererXY<BasicDataSetRendere
         return this;
     }
 
+    @Override
+    public boolean isScrollingRedrawSupported() {
+        return isAssumeSortedData(); // otherwise all samples are drawn irrespective of the tail start
+    }
+
     @Override
     public void setRecorder(MeasurementRecorder recorder) {
         super.setRecorder(recorder);
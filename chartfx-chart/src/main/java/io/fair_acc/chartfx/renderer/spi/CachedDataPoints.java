@@ -4,21 +4,16 @@ import static io.fair_acc.dataset.DataSet.DIM_X;
 import static io.fair_acc.dataset.DataSet.DIM_Y;
 import static io.fair_acc.math.ArrayUtils.*;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
 
 import io.fair_acc.chartfx.axes.Axis;
 import io.fair_acc.chartfx.renderer.ErrorStyle;
 import io.fair_acc.chartfx.renderer.RendererDataReducer;
 import io.fair_acc.chartfx.ui.css.DataSetNode;
+import io.fair_acc.chartfx.utils.ParallelRangeExecutor;
 import io.fair_acc.dataset.DataSet;
 import io.fair_acc.dataset.DataSetError;
 import io.fair_acc.dataset.DataSetError.ErrorType;
-import io.fair_acc.dataset.utils.CachedDaemonThreadFactory;
 import io.fair_acc.dataset.utils.IndexedStringConsumer;
 import io.fair_acc.dataset.utils.ProcessingProfiler;
 import io.fair_acc.math.ArrayUtils;
@@ -62,6 +57,11 @@ public class CachedDataPoints {
     protected double maxRadius;
     protected int maxDataCount;
     protected int actualDataCount; // number of data points that remain after data reduction
+    private final ParallelRangeExecutor parallelExecutor = new ParallelRangeExecutor("points-computeScreenCoordinates");
+    private final ParallelRangeExecutor.RangeTask parallelTask = this::computeScreenCoordinatesRange;
+    private Axis parallelXAxis; // arguments of the ongoing parallel computation
+    private Axis parallelYAxis;
+    private DataSet parallelDataSet;
 
     public void trim() {
         xValues = clearIfLarger(xValues, maxDataCount);
@@ -202,11 +202,18 @@ public class CachedDataPoints {
     protected void computeScreenCoordinatesInParallel(final Axis xAxis, final Axis yAxis, final DataSet dataSet, final DataSetNode style,
             final int min, final int max, final ErrorStyle localRendErrorStyle,
             final boolean isPolarPlot, final boolean doAllowForNaNs) {
+        computeScreenCoordinatesInParallel(xAxis, yAxis, dataSet, style, min, max, localRendErrorStyle, isPolarPlot, doAllowForNaNs,
+                ParallelRangeExecutor.Measures.DISABLED);
+    }
+
+    protected void computeScreenCoordinatesInParallel(final Axis xAxis, final Axis yAxis, final DataSet dataSet, final DataSetNode style,
+            final int min, final int max, final ErrorStyle localRendErrorStyle,
+            final boolean isPolarPlot, final boolean doAllowForNaNs, final ParallelRangeExecutor.Measures measures) {
         setBoundaryConditions(xAxis, yAxis, dataSet, style, min, max, localRendErrorStyle, isPolarPlot,
                 doAllowForNaNs);
 
         // compute data set to screen coordinates
-        computeScreenCoordinatesParallel(xAxis, yAxis, dataSet, min, max);
+        computeScreenCoordinatesParallel(xAxis, yAxis, dataSet, min, max, measures);
     }
 
     protected void computeScreenCoordinatesNonThreaded(final Axis xAxis, final Axis yAxis, final DataSet dataSet,
@@ -219,34 +226,31 @@ public class CachedDataPoints {
     }
 
     protected void computeScreenCoordinatesParallel(final Axis xAxis, final Axis yAxis, final DataSet dataSet,
-            final int min, final int max) {
-        final int minthreshold = 1000;
-        final int divThread = (int) Math
-                                      .ceil(Math.abs(max - min) / (double) CachedDaemonThreadFactory.getNumbersOfThreads());
-        final int stepSize = Math.max(divThread, minthreshold);
-        final List<Callable<Boolean>> workers = new ArrayList<>();
-        for (int i = min; i < max; i += stepSize) {
-            final int start = i;
-            workers.add(() -> {
-                if (polarPlot) {
-                    computeScreenCoordinatesPolar(yAxis, dataSet, start, Math.min(max, start + stepSize));
-                } else {
-                    computeScreenCoordinatesEuclidean(xAxis, yAxis, dataSet, start, Math.min(max, start + stepSize));
-                }
-                return Boolean.TRUE;
-            });
+            final int min, final int max, final ParallelRangeExecutor.Measures measures) {
+        parallelXAxis = xAxis;
+        parallelYAxis = yAxis;
+        parallelDataSet = dataSet;
+        try {
+            parallelExecutor.execute(min, max, parallelTask, measures);
+        } finally {
+            parallelXAxis = null;
+            parallelYAxis = null;
+            parallelDataSet = null;
         }
+    }
 
-        try {
-            final List<Future<Boolean>> jobs = CachedDaemonThreadFactory.getCommonPool().invokeAll(workers);
-            for (final Future<Boolean> future : jobs) {
-                final Boolean r = future.get();
-                if (Boolean.FALSE.equals(r)) {
-                    throw new IllegalStateException("one parallel worker thread finished execution with error");
-                }
-            }
-        } catch (final InterruptedException | ExecutionException e) {
-            throw new IllegalStateException("one parallel worker thread finished execution with error", e);
+    /**
+     * @return executor used to compute the screen coordinates in parallel
+     */
+    public ParallelRangeExecutor getParallelExecutor() {
+        return parallelExecutor;
+    }
+
+    private void computeScreenCoordinatesRange(final int min, final int max) {
+        if (polarPlot) {
+            computeScreenCoordinatesPolar(parallelYAxis, parallelDataSet, min, max);
+        } else {
+            computeScreenCoordinatesEuclidean(parallelXAxis, parallelYAxis, parallelDataSet, min, max);
         }
     }
 
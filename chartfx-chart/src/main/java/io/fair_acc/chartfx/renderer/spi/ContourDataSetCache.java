@@ -3,12 +3,6 @@ package io.fair_acc.chartfx.renderer.spi;
 import static io.fair_acc.dataset.DataSet.DIM_X;
 import static io.fair_acc.dataset.DataSet.DIM_Y;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
-
 import javafx.scene.image.PixelFormat;
 import javafx.scene.image.PixelWriter;
 import javafx.scene.image.WritableImage;
@@ -23,6 +17,7 @@ import io.fair_acc.chartfx.renderer.ContourType;
 import io.fair_acc.chartfx.renderer.datareduction.DefaultDataReducer3D;
 import io.fair_acc.chartfx.renderer.datareduction.ReductionType;
 import io.fair_acc.chartfx.renderer.spi.utils.ColorGradient;
+import io.fair_acc.chartfx.utils.ParallelRangeExecutor;
 import io.fair_acc.chartfx.utils.WritableImageCache;
 import io.fair_acc.dataset.DataSet;
 import io.fair_acc.dataset.GridDataSet;
@@ -34,10 +29,9 @@ import io.fair_acc.dataset.utils.*;
  */
 class ContourDataSetCache extends WritableImageCache {
     private static final Logger LOGGER = LoggerFactory.getLogger(ContourDataSetCache.class);
-    private static final String PARALLEL_WORKER_ERROR = "one parallel worker thread finished execution with error";
-    private static final int BGRA_BYTE_SIZE = 4;
-    private static final int REF_WIDTH_PARALLEL = 1024;
-    private static final int REF_HEIGHT_PARALLEL = 1000;
+    private static final int TRANSPARENT = 0;
+    /** parallel row-wise copy-transform of the visible sub-frame, shared by all contour renderers */
+    static final ParallelRangeExecutor COPY_EXECUTOR = new ParallelRangeExecutor("contour-copySubFrame", 8); // unit: rows
 
     protected final DataSet dataSet;
     protected final Axis xAxis;
@@ -68,6 +62,7 @@ class ContourDataSetCache extends WritableImageCache {
     protected int ySize;
     protected double zMin;
     protected double zMax;
+    protected final int nQuant;
 
     protected final boolean xInverted;
     protected final boolean yInverted;
@@ -79,6 +74,17 @@ class ContourDataSetCache extends WritableImageCache {
     protected final double[] reduced;
 
     public ContourDataSetCache(final XYChart chart, final ContourDataSetRenderer renderer, final DataSet dataSet) {
+        this(chart, renderer, dataSet, true);
+    }
+
+    /**
+     * @param chart the chart
+     * @param renderer the renderer
+     * @param dataSet the GridDataSet to be rendered
+     * @param processData {@code false}: computes only the visible geometry and index ranges, without copying, reducing
+     *            or quantising the data (e.g. for the tiled heatmap rendering)
+     */
+    ContourDataSetCache(final XYChart chart, final ContourDataSetRenderer renderer, final DataSet dataSet, final boolean processData) {
         if (dataSet.getDimension() < 3) {
             throw new IllegalArgumentException("dataSet needs be at least 3D but is " + dataSet.getDimension());
         }
@@ -103,6 +109,7 @@ class ContourDataSetCache extends WritableImageCache {
         xInverted = xAxis.isInvertedAxis();
         yInverted = yAxis.isInvertedAxis();
         zInverted = zAxis.isInvertedAxis();
+        nQuant = renderer.getNumberQuantisationLevels();
 
         this.xAxisWidth = xAxis.getWidth();
         this.yAxisHeight = yAxis.getHeight();
@@ -138,12 +145,16 @@ class ContourDataSetCache extends WritableImageCache {
         this.xSize = Math.abs(this.indexXMax - this.indexXMin) + 1;
         this.ySize = Math.abs(this.indexYMax - this.indexYMin) + 1;
 
+        if (!processData) {
+            dataBuffer = null;
+            reduced = null;
+            return;
+        }
+
         // copy- transform data
         dataBuffer = DoubleArrayCache.getInstance().getArrayExact(this.xSize * this.ySize);
-        // TODO: tune this limit
-        final int minSizeThreshold = REF_WIDTH_PARALLEL * REF_HEIGHT_PARALLEL;
-        final boolean sufficientlyLarge = xSize * ySize < minSizeThreshold;
-        copySubFrame(dataSet, dataBuffer, renderer.isParallelImplementation() && sufficientlyLarge, //
+        // N.B. the parallel executor processes small frames in the calling thread
+        copySubFrame(dataSet, dataBuffer, renderer.isParallelImplementation(), renderer.benchCopySubFrame, //
                 xInverted, indexXMin, indexXMax, yInverted, indexYMin, indexYMax);
         ProcessingProfiler.getTimeDiff(start, "copySubFrame");
 
@@ -166,7 +177,6 @@ class ContourDataSetCache extends WritableImageCache {
         if (axisTransform == null) {
             throw new IllegalArgumentException("zAxis of renderer needs to have an axis transform for its z-Axis");
         }
-        final int nQuant = renderer.getNumberQuantisationLevels();
         quantizeData(reduced, xSize, ySize, zInverted, zMin, zMax, axisTransform, nQuant);
         ProcessingProfiler.getTimeDiff(start, "quantized data");
     }
@@ -197,11 +207,9 @@ class ContourDataSetCache extends WritableImageCache {
         final ReductionType reductionType = renderer.getReductionType();
         final double dataPixelSizeX = (double) reductionFactorX * xSize / xAxisWidth;
         final double dataPixelSizeY = (double) reductionFactorY * ySize / yAxisHeight;
-        final boolean mayReduceX = dataPixelSizeX > 1.0 && xSize > 10;
-        final boolean mayReduceY = dataPixelSizeY > 1.0 && ySize > 10;
 
         final double[] reducedData;
-        if ((mayReduceX || mayReduceY) && renderer.isActualReducePoints()) {
+        if (isReductionRequired(renderer)) {
             int targetWidth = (int) (srcWidth / Math.max((dataPixelSizeX), 1));
             int targetHeight = (int) (srcHeight / Math.max((dataPixelSizeY), 1));
 
@@ -232,6 +240,18 @@ class ContourDataSetCache extends WritableImageCache {
         return reducedData;
     }
 
+    /**
+     * @param renderer the renderer
+     * @return {@code true} if the visible data exceeds the canvas resolution and is going to be reduced
+     */
+    protected boolean isReductionRequired(final ContourDataSetRenderer renderer) {
+        final double dataPixelSizeX = (double) Math.max(renderer.getReductionFactorX(), 1) * xSize / xAxisWidth;
+        final double dataPixelSizeY = (double) Math.max(renderer.getReductionFactorY(), 1) * ySize / yAxisHeight;
+        final boolean mayReduceX = dataPixelSizeX > 1.0 && xSize > 10;
+        final boolean mayReduceY = dataPixelSizeY > 1.0 && ySize > 10;
+        return (mayReduceX || mayReduceY) && renderer.isActualReducePoints();
+    }
+
     protected static void computeCoordinates(final GridDataSet dataSet, final double[] dataBuffer, final int dataLength, //
             final boolean xAxisInverted, final int xMinIndex, final int xMaxIndex, //
             final boolean yAxisInverted, final int yMinIndex, final int yMaxIndex, //
@@ -295,6 +315,14 @@ class ContourDataSetCache extends WritableImageCache {
             final boolean parallelImplementation, //
             final boolean xInverted, final int xMinIndex, final int xMaxIndex, //
             final boolean yInverted, final int yMinIndex, final int yMaxIndex) {
+        copySubFrame(dataSet, dataBuffer, parallelImplementation, ParallelRangeExecutor.Measures.DISABLED, //
+                xInverted, xMinIndex, xMaxIndex, yInverted, yMinIndex, yMaxIndex);
+    }
+
+    protected static void copySubFrame(final DataSet dataSet, final double[] dataBuffer,
+            final boolean parallelImplementation, final ParallelRangeExecutor.Measures measures, //
+            final boolean xInverted, final int xMinIndex, final int xMaxIndex, //
+            final boolean yInverted, final int yMinIndex, final int yMaxIndex) {
         final int width = Math.abs(xMaxIndex - xMinIndex) + 1;
         final int height = Math.abs(yMaxIndex - yMinIndex) + 1;
         final int dataLength = width * height;
@@ -305,47 +333,28 @@ class ContourDataSetCache extends WritableImageCache {
             return;
         }
 
-        final int nMaxThreads = CachedDaemonThreadFactory.getNumbersOfThreads();
-        final int minthreshold = REF_HEIGHT_PARALLEL / 2; // TODO: tune this limit
-        final int divThread = (int) Math.ceil(height / (double) nMaxThreads);
-        final int stepSize = Math.max(divThread, minthreshold);
-        final List<Callable<Boolean>> workers = new ArrayList<>();
-        for (int i = yMinIndex; i < yMaxIndex; i += stepSize) {
-            final int start = i;
-            workers.add(() -> {
-                final int yMinLocal = start;
-                final int yMaxLocal = Math.min(start + stepSize, yMaxIndex);
+        // rows are processed in parallel, N.B. computeCoordinates uses an inclusive upper row index
+        COPY_EXECUTOR.execute(yMinIndex, yMaxIndex + 1, (yMinLocal, yMaxLocal) -> //
                 computeCoordinates((GridDataSet) dataSet, dataBuffer, dataLength, //
                         xInverted, xMinIndex, xMaxIndex, //
-                        yInverted, yMinLocal, yMaxLocal, //
-                        yMinIndex);
-                return Boolean.TRUE;
-            });
-        }
-
-        try {
-            final List<Future<Boolean>> jobs = CachedDaemonThreadFactory.getCommonPool().invokeAll(workers);
-            for (final Future<Boolean> future : jobs) {
-                final Boolean r = future.get();
-                if (Boolean.FALSE.equals(r)) {
-                    throw new IllegalStateException(PARALLEL_WORKER_ERROR);
-                }
-            }
-        } catch (final InterruptedException | ExecutionException e) {
-            throw new IllegalStateException(PARALLEL_WORKER_ERROR, e);
-        }
+                        yInverted, yMinLocal, yMaxLocal - 1, //
+                        yMinIndex),
+                measures);
     }
 
     protected static double quantize(final double value, final int nLevels) {
         return ((int) (value * nLevels)) / (double) nLevels;
     }
 
+    /**
+     * @param inputData quantised z values, i.e. multiples of 1/nQuant
+     * @param dataWidth image width
+     * @param dataHeight image height
+     * @param colorGradient the colour gradient
+     * @return image of the colour-mapped data (N.B. lowest data row is at the bottom)
+     */
     protected WritableImage convertDataArrayToImage(final double[] inputData, final int dataWidth, final int dataHeight,
             final ColorGradient colorGradient) {
-        final int length = dataWidth * dataHeight;
-
-        final byte[] byteBuffer = ByteArrayCache.getInstance().getArrayExact(length * BGRA_BYTE_SIZE);
-        final int rowSizeInBytes = BGRA_BYTE_SIZE * dataWidth;
         final WritableImage image = this.getImage(dataWidth, dataHeight);
         final PixelWriter pixelWriter = image.getPixelWriter();
         if (pixelWriter == null) {
@@ -355,24 +364,24 @@ class ContourDataSetCache extends WritableImageCache {
             return image;
         }
 
-        final int hMinus1 = dataHeight - 1;
-        for (int yIndex = 0; yIndex < dataHeight; yIndex++) {
-            final int rowIndex = dataWidth * yIndex;
-            final int rowPixelIndex = rowSizeInBytes * (hMinus1 - yIndex);
-            for (int xIndex = 0; xIndex < dataWidth; xIndex++) {
-                final int[] color = colorGradient.getColorBytes(inputData[rowIndex + xIndex]);
-
-                final int pixelIndex = rowPixelIndex + xIndex * BGRA_BYTE_SIZE;
-                byteBuffer[pixelIndex] = (byte) (color[3]);
-                byteBuffer[pixelIndex + 1] = (byte) (color[2]);
-                byteBuffer[pixelIndex + 2] = (byte) (color[1]);
-                byteBuffer[pixelIndex + 3] = (byte) (color[0]);
+        final int[] lut = colorGradient.getLookupTable(nQuant);
+        final int length = dataWidth * dataHeight;
+        final int[] argb = ArrayPool.INT.borrow(length);
+        try {
+            final int hMinus1 = dataHeight - 1;
+            for (int yIndex = 0; yIndex < dataHeight; yIndex++) {
+                final int rowIndex = dataWidth * yIndex;
+                final int rowPixelIndex = dataWidth * (hMinus1 - yIndex);
+                for (int xIndex = 0; xIndex < dataWidth; xIndex++) {
+                    // N.B. rounding since the quantised levels are not exact multiples of 1/nQuant
+                    final int level = (int) Math.round(inputData[rowIndex + xIndex] * nQuant);
+                    argb[rowPixelIndex + xIndex] = level >= 0 && level <= nQuant ? lut[level] : TRANSPARENT;
+                }
             }
+            pixelWriter.setPixels(0, 0, dataWidth, dataHeight, PixelFormat.getIntArgbInstance(), argb, 0, dataWidth);
+        } finally {
+            ArrayPool.INT.release(argb);
         }
-
-        pixelWriter.setPixels(0, 0, dataWidth, dataHeight, PixelFormat.getByteBgraPreInstance(), byteBuffer, 0,
-                rowSizeInBytes);
-        ByteArrayCache.getInstance().add(byteBuffer);
         return image;
     }
 
@@ -29,12 +29,14 @@ import javafx.scene.shape.StrokeType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.fair_acc.bench.MeasurementRecorder;
 import io.fair_acc.chartfx.Chart;
 import io.fair_acc.chartfx.XYChart;
 import io.fair_acc.chartfx.axes.Axis;
 import io.fair_acc.chartfx.axes.AxisTransform;
 import io.fair_acc.chartfx.axes.spi.DefaultNumericAxis;
 import io.fair_acc.chartfx.plugins.Zoomer;
+import io.fair_acc.chartfx.renderer.ContourType;
 import io.fair_acc.chartfx.renderer.Renderer;
 import io.fair_acc.chartfx.renderer.spi.hexagon.Hexagon;
 import io.fair_acc.chartfx.renderer.spi.hexagon.HexagonMap;
@@ -44,6 +46,7 @@ import io.fair_acc.chartfx.renderer.spi.utils.ColorGradient;
 import io.fair_acc.chartfx.ui.css.DataSetNode;
 import io.fair_acc.chartfx.ui.geometry.Side;
 import io.fair_acc.chartfx.ui.layout.ChartPane;
+import io.fair_acc.chartfx.utils.ParallelRangeExecutor;
 import io.fair_acc.dataset.DataSet;
 import io.fair_acc.dataset.GridDataSet;
 import io.fair_acc.dataset.utils.ProcessingProfiler;
@@ -64,7 +67,8 @@ import io.fair_acc.dataset.utils.ProcessingProfiler;
  * the the underlying number Canvas pixels number in order to improve efficiency and required texture GPU buffer. This
  * data reduction is controlled via {@link #setPointReduction(boolean)} and the reduction type (MIN, MAX, AVERAGE,
  * DOWN_SAMPLE) via {@link #setReductionType}, and the {@link #setReductionFactorX(int)} and
- * {@link #setReductionFactorY(int)} functions.
+ * {@link #setReductionFactorY(int)} functions. Heatmaps of frequently but only partially updated DataSets (e.g.
+ * waterfall spectrograms) may be rendered incrementally via {@link #setTiledRendering(boolean)}.
  * N.B. Regarding implementation of user-level DataSet interfaces: While the DataSet3D::getZ(int) and
  * DataSet::get(DIM_Z, int) routines should match, the DataSet3D is considered a convenience interface primarily to be
  * used for external user-level code.
@@ -77,6 +81,10 @@ import io.fair_acc.dataset.utils.ProcessingProfiler;
 public class ContourDataSetRenderer extends AbstractContourDataSetRendererParameter<ContourDataSetRenderer> implements Renderer {
     private static final Logger LOGGER = LoggerFactory.getLogger(ContourDataSetRenderer.class);
     private ContourDataSetCache localCache;
+    private final List<TiledHeatMapCache> tiledHeatMaps = new ArrayList<>();
+    // the executors are shared by all contour renderers, hence the measures are kept per renderer
+    ParallelRangeExecutor.Measures benchCopySubFrame = ParallelRangeExecutor.Measures.DISABLED;
+    ParallelRangeExecutor.Measures benchHeatMapTiles = ParallelRangeExecutor.Measures.DISABLED;
     protected final ColorGradientBar gradientBar = new ColorGradientBar();
 
     private void drawContour(final GraphicsContext gc, final ContourDataSetCache lCache) {
@@ -171,10 +179,13 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
             return;
         }
 
-        final ColorGradient colorGradient = getColorGradient();
-        for (final double level : levels) {
+        final int nQuant = levels.length;
+        final int[] lut = getColorGradient().getLookupTable(nQuant);
+        for (int levelIndex = 0; levelIndex < nQuant; levelIndex++) {
+            final double level = levels[levelIndex];
             ContourDataSetRenderer.sobelOperator(input, output2, zMin, zMax, level);
             ContourDataSetRenderer.erosionOperator(output2, output, zMin, zMax, level);
+            final int argb = lut[lCache.zInverted ? nQuant - levelIndex - 1 : levelIndex + 1]; // level = (levelIndex + 1) / nQuant
 
             for (int yIndex = 0; yIndex < ySize; yIndex++) {
                 final int yIndex2 = ySize - 1 - yIndex;
@@ -184,9 +195,7 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
                     if (z <= 0) {
                         continue;
                     }
-                    Color color = lCache.zInverted ? colorGradient.getColor(1 - level) : colorGradient.getColor(level);
-
-                    pixelWriter.setColor(xIndex, yIndex2, color);
+                    pixelWriter.setArgb(xIndex, yIndex2, argb);
                 }
             }
         }
@@ -213,6 +222,32 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
         ProcessingProfiler.getTimeDiff(start, "drawHeatMap");
     }
 
+    private void drawTiledHeatMap(final GraphicsContext gc, final ContourDataSetCache view, final AxisTransform axisTransform) {
+        final long start = ProcessingProfiler.getTimeStamp();
+        gc.setImageSmoothing(isSmooth());
+
+        // colour-map and upload only the modified tiles
+        final TiledHeatMapCache tiledHeatMap = getTiledHeatMap((GridDataSet) view.dataSet);
+        tiledHeatMap.update(view, this, axisTransform);
+        ProcessingProfiler.getTimeDiff(start, "color map tiles");
+
+        tiledHeatMap.draw(gc, view);
+        ProcessingProfiler.getTimeDiff(start, "drawTiledHeatMap");
+    }
+
+    TiledHeatMapCache getTiledHeatMap(final GridDataSet dataSet) {
+        for (final TiledHeatMapCache tiledHeatMap : tiledHeatMaps) {
+            if (tiledHeatMap.getDataSet() == dataSet) {
+                return tiledHeatMap;
+            }
+        }
+        // drop the images of data sets that are no longer rendered
+        tiledHeatMaps.removeIf(tiledHeatMap -> getDatasets().stream().noneMatch(ds -> ds == tiledHeatMap.getDataSet()));
+        final TiledHeatMapCache tiledHeatMap = new TiledHeatMapCache(dataSet);
+        tiledHeatMaps.add(tiledHeatMap);
+        return tiledHeatMap;
+    }
+
     private void drawHexagonHeatMap(final GraphicsContext gc, final ContourDataSetCache lCache) {
         final long start = ProcessingProfiler.getTimeStamp();
 
@@ -435,6 +470,17 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
     @Override
     protected void render(GraphicsContext gc, DataSet dataSet, DataSetNode style) {
         long start = ProcessingProfiler.getTimeStamp();
+        if (isTiledRendering() && getContourType() == ContourType.HEATMAP) {
+            final ContourDataSetCache view = new ContourDataSetCache(getChart(), this, dataSet, false); // NOPMD
+            final AxisTransform axisTransform = zAxis.getAxisTransform();
+            if (view.xSize == 0 || view.ySize == 0 || axisTransform == null) {
+                return;
+            }
+            if (!view.isReductionRequired(this)) {
+                drawTiledHeatMap(gc, view, axisTransform);
+                return;
+            }
+        }
         localCache = new ContourDataSetCache(getChart(), this, dataSet); // NOPMD
         ProcessingProfiler.getTimeDiff(start, "updateCachedVariables");
 
@@ -552,4 +598,11 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
             }
         }
     }
+
+    @Override
+    public void setRecorder(MeasurementRecorder recorder) {
+        super.setRecorder(recorder);
+        benchCopySubFrame = ContourDataSetCache.COPY_EXECUTOR.newMeasures(recorder);
+        benchHeatMapTiles = TiledHeatMapCache.TILE_EXECUTOR.newMeasures(recorder);
+    }
 }
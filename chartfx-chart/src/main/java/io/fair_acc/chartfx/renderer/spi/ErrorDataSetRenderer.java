@@ -7,6 +7,7 @@ import javafx.scene.shape.FillRule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.fair_acc.bench.MeasurementRecorder;
 import io.fair_acc.chartfx.marker.Marker;
 import io.fair_acc.chartfx.renderer.ErrorStyle;
 import io.fair_acc.chartfx.renderer.Renderer;
@@ -14,6 +15,7 @@ import io.fair_acc.chartfx.renderer.spi.utils.BezierCurve;
 import io.fair_acc.chartfx.ui.css.DataSetNode;
 import io.fair_acc.chartfx.ui.css.DataSetStyleParser;
 import io.fair_acc.chartfx.utils.FastDoubleArrayCache;
+import io.fair_acc.chartfx.utils.ParallelRangeExecutor;
 import io.fair_acc.dataset.DataSet;
 import io.fair_acc.dataset.DataSetError.ErrorType;
 import io.fair_acc.dataset.utils.ProcessingProfiler;
@@ -36,6 +38,7 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
     private static final Logger LOGGER = LoggerFactory.getLogger(ErrorDataSetRenderer.class);
 
     private final DataSetStyleParser styleParser = DataSetStyleParser.newInstance();
+    private ParallelRangeExecutor.Measures benchParallel = ParallelRangeExecutor.Measures.DISABLED;
 
     /**
      * Creates new <code>ErrorDataSetRenderer</code>.
@@ -99,12 +102,13 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
     }
 
     @Override
-    protected void render(final GraphicsContext gc, final DataSet dataSet, final DataSetNode style) {
+    protected void render(final GraphicsContext gc, final DataSet fullDataSet, final DataSetNode style) {
         // N.B. print out for debugging purposes, please keep (used for
         // detecting redundant or too frequent render updates)
         // System.err.println(String.format("render for range [%f,%f] and dataset = '%s'", xMin, xMax, dataSet.getName()));
 
         var timestamp = ProcessingProfiler.getTimeStamp();
+        final DataSet dataSet = getLevelOfDetail(fullDataSet, xMin, xMax, (int) Math.ceil(xAxis.getLength()));
         int indexMin;
         int indexMax; /* indexMax is excluded in the drawing */
         if (isAssumeSortedData()) {
@@ -136,7 +140,7 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         if (isParallelImplementation()) {
             points.computeScreenCoordinatesInParallel(xAxis, yAxis, dataSet, style,
                     indexMin, indexMax, getErrorType(), isPolarPlot,
-                    isallowNaNs());
+                    isallowNaNs(), benchParallel);
         } else {
             points.computeScreenCoordinates(xAxis, yAxis, dataSet, style,
                     indexMin, indexMax, getErrorType(), isPolarPlot, isallowNaNs());
@@ -532,6 +536,11 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         return this;
     }
 
+    @Override
+    public boolean isScrollingRedrawSupported() {
+        return isAssumeSortedData(); // otherwise all samples are drawn irrespective of the tail start
+    }
+
     private void drawChartComponents(final GraphicsContext gc, final DataSetNode style, final CachedDataPoints points) {
         final long start = ProcessingProfiler.getTimeStamp();
         switch (getErrorType()) {
@@ -808,6 +817,13 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         }
     }
 
+    @Override
+    public void setRecorder(MeasurementRecorder recorder) {
+        super.setRecorder(recorder);
+        // the executor is shared by all renderers, hence the measures are kept per renderer
+        benchParallel = SHARED_POINTS_CACHE.getParallelExecutor().newMeasures(recorder);
+    }
+
     // The cache can be shared because there can only ever be one renderer accessing it
     // Note: should not be exposed to child classes to guarantee that arrays aren't double used.
     private static final FastDoubleArrayCache SHARED_ARRAYS = new FastDoubleArrayCache(4);
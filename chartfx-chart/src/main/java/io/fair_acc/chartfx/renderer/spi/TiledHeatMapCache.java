@@ -0,0 +1,298 @@
+package io.fair_acc.chartfx.renderer.spi;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+import io.fair_acc.chartfx.axes.AxisTransform;
+import io.fair_acc.chartfx.renderer.spi.utils.ColorGradient;
+import io.fair_acc.chartfx.utils.ParallelRangeExecutor;
+import io.fair_acc.dataset.CircularGridDataSet;
+import io.fair_acc.dataset.GridDataSet;
+import io.fair_acc.dataset.TrackedGridDataSet;
+
+/**
+ * Persistent heatmap image of one {@link GridDataSet} that is split into square tiles.
+ * <p>
+ * For {@link TrackedGridDataSet}s only the tiles covering rows and columns that have been modified since the previous
+ * update are colour-mapped again. The dirty tiles are processed in parallel into a shared {@code int[]} ARGB buffer
+ * using the gradient's {@link ColorGradient#getLookupTable(int) colour lookup table}, and are uploaded with one {@link PixelWriter#setPixels} call
+ * each. Any change of the visible index range, the z range, the colour gradient, the quantisation or the axis
+ * inversion re-maps all tiles.
+ * <p>
+ * If all rows of a {@link CircularGridDataSet} are visible, the image follows the data set's storage layout rather
+ * than its logical row order: appending a row then touches only one image row (i.e. one row of tiles) instead of
+ * shifting all rows, and {@link #draw} stitches the two storage segments back into the logical order.
+ */
+class TiledHeatMapCache {
+    /** parallel colour-mapping of the dirty tiles, shared by all contour renderers */
+    static final ParallelRangeExecutor TILE_EXECUTOR = new ParallelRangeExecutor("contour-heatMapTiles", 1); // unit: tiles
+    private static final int TRANSPARENT = 0;
+
+    private final GridDataSet dataSet;
+    private WritableImage image;
+    private int[] argb = new int[0];
+    private int[] lut = new int[0];
+    private int[] dirtyTiles = new int[0];
+    private boolean[] dirtyTileRows = new boolean[0];
+    private boolean[] dirtyTileColumns = new boolean[0];
+    private int nDirtyTiles;
+    private long lastModificationCount = -1;
+    private int firstStorageRow; // circular storage layout: storage row of the oldest data row
+    private int rowCount; // circular storage layout: number of data rows
+
+    // state the cached image is valid for
+    private int width;
+    private int height;
+    private int tileSize;
+    private int nTilesX;
+    private int nTilesY;
+    private int indexXMin;
+    private int indexYMin;
+    private boolean xInverted;
+    private boolean yInverted;
+    private boolean zInverted;
+    private boolean storageLayout;
+    private double zMin;
+    private double zMax;
+    private int nQuant;
+    private ColorGradient colorGradient;
+    private AxisTransform axisTransform;
+
+    // colour-mapping constants of the current update
+    private int dataDim;
+    private double zMinPixel;
+    private double zRangeInv;
+
+    TiledHeatMapCache(final GridDataSet dataSet) {
+        this.dataSet = dataSet;
+    }
+
+    GridDataSet getDataSet() {
+        return dataSet;
+    }
+
+    /**
+     * @return the number of tiles that have been re-computed and uploaded during the last update
+     */
+    int getUpdatedTileCount() {
+        return nDirtyTiles;
+    }
+
+    /**
+     * Draws the image of the last {@link #update} into the data area of the given view.
+     *
+     * @param gc the graphics context
+     * @param view visible geometry of the data set
+     */
+    void draw(final GraphicsContext gc, final ContourDataSetCache view) {
+        if (!storageLayout) {
+            gc.drawImage(image, view.xDataPixelMin, view.yDataPixelMin, view.xDataPixelRange, view.yDataPixelRange);
+            return;
+        }
+        if (rowCount == 0) {
+            return;
+        }
+        // segment A: storage rows [first, first + nA) = logical rows [0, nA), segment B: storage rows [0, nB)
+        final int nA = Math.min(rowCount, height - firstStorageRow);
+        final int nB = rowCount - nA;
+        final double rowHeight = view.yDataPixelRange / rowCount;
+        final double syA = yInverted ? firstStorageRow : height - firstStorageRow - nA;
+        final double dyA = view.yDataPixelMin + (yInverted ? 0 : (rowCount - nA) * rowHeight);
+        gc.drawImage(image, 0, syA, width, nA, view.xDataPixelMin, dyA, view.xDataPixelRange, nA * rowHeight);
+        if (nB > 0) {
+            final double syB = yInverted ? 0 : height - nB;
+            final double dyB = view.yDataPixelMin + (yInverted ? nA * rowHeight : 0);
+            gc.drawImage(image, 0, syB, width, nB, view.xDataPixelMin, dyB, view.xDataPixelRange, nB * rowHeight);
+        }
+    }
+
+    /**
+     * @param view visible geometry and index ranges of the data set
+     * @param renderer the renderer
+     * @param transform the z-axis transform
+     * @return the heatmap image of the visible data
+     */
+    WritableImage update(final ContourDataSetCache view, final ContourDataSetRenderer renderer, final AxisTransform transform) {
+        final boolean stateChanged = updateState(view, renderer, transform);
+        if (storageLayout) {
+            final CircularGridDataSet circularDataSet = (CircularGridDataSet) dataSet;
+            firstStorageRow = circularDataSet.getFirstStorageRow();
+            rowCount = circularDataSet.getShape(GridDataSet.DIM_Y);
+        }
+        final boolean sizeChanged = image == null || (int) image.getWidth() != width || (int) image.getHeight() != height;
+        if (sizeChanged) {
+            image = new WritableImage(width, height);
+            if (argb.length < width * height) {
+                argb = new int[width * height];
+            }
+        }
+
+        final boolean tracked = dataSet instanceof TrackedGridDataSet;
+        final long modificationCount = tracked ? ((TrackedGridDataSet) dataSet).getModificationCount() : -1;
+        if (stateChanged || sizeChanged || !tracked || ((TrackedGridDataSet) dataSet).getStructureModificationCount() > lastModificationCount) {
+            markAllTilesDirty();
+        } else if (modificationCount == lastModificationCount) {
+            nDirtyTiles = 0;
+            return image;
+        } else {
+            markModifiedTilesDirty((TrackedGridDataSet) dataSet);
+        }
+        lastModificationCount = modificationCount;
+
+        dataDim = dataSet.getNGrid();
+        zMinPixel = axisTransform.forward(zMin);
+        zRangeInv = 1.0 / Math.abs(axisTransform.forward(zMax) - zMinPixel);
+        if (renderer.isParallelImplementation()) {
+            TILE_EXECUTOR.execute(0, nDirtyTiles, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    colourMapTile(dirtyTiles[i]);
+                }
+            }, renderer.benchHeatMapTiles);
+        } else {
+            for (int i = 0; i < nDirtyTiles; i++) {
+                colourMapTile(dirtyTiles[i]);
+            }
+        }
+
+        // N.B. the image may only be modified from within the FX application thread
+        final PixelWriter pixelWriter = image.getPixelWriter();
+        final PixelFormat<IntBuffer> format = PixelFormat.getIntArgbInstance();
+        for (int i = 0; i < nDirtyTiles; i++) {
+            final int x0 = (dirtyTiles[i] % nTilesX) * tileSize;
+            final int y0 = (dirtyTiles[i] / nTilesX) * tileSize;
+            pixelWriter.setPixels(x0, y0, Math.min(tileSize, width - x0), Math.min(tileSize, height - y0), format, argb, y0 * width + x0, width);
+        }
+        return image;
+    }
+
+    private boolean updateState(final ContourDataSetCache view, final ContourDataSetRenderer renderer, final AxisTransform transform) {
+        final int newTileSize = renderer.getTileSize();
+        final int newQuant = renderer.getNumberQuantisationLevels();
+        final ColorGradient newGradient = renderer.getColorGradient();
+        // N.B. the storage layout image does not depend on the number of rows, i.e. also not while filling the buffer
+        final boolean newStorageLayout = dataSet instanceof CircularGridDataSet && view.indexYMin == 0 && view.ySize == dataSet.getShape(GridDataSet.DIM_Y);
+        final int newHeight = newStorageLayout ? ((CircularGridDataSet) dataSet).getRowCapacity() : view.ySize;
+        final int newIndexYMin = newStorageLayout ? 0 : view.indexYMin;
+        final boolean changed = width != view.xSize || height != newHeight || tileSize != newTileSize || storageLayout != newStorageLayout //
+                             || indexXMin != view.indexXMin || indexYMin != newIndexYMin //
+                             || xInverted != view.xInverted || yInverted != view.yInverted || zInverted != view.zInverted //
+                             || Double.compare(zMin, view.zMin) != 0 || Double.compare(zMax, view.zMax) != 0 //
+                             || nQuant != newQuant || colorGradient != newGradient || axisTransform != transform;
+        if (!changed) {
+            return false;
+        }
+        width = view.xSize;
+        height = newHeight;
+        storageLayout = newStorageLayout;
+        tileSize = newTileSize;
+        nTilesX = (width + tileSize - 1) / tileSize;
+        nTilesY = (height + tileSize - 1) / tileSize;
+        indexXMin = view.indexXMin;
+        indexYMin = newIndexYMin;
+        xInverted = view.xInverted;
+        yInverted = view.yInverted;
+        zInverted = view.zInverted;
+        zMin = view.zMin;
+        zMax = view.zMax;
+        axisTransform = transform;
+        if (nQuant != newQuant || colorGradient != newGradient) {
+            nQuant = newQuant;
+            colorGradient = newGradient;
+            lut = newGradient.getLookupTable(newQuant);
+        }
+        if (dirtyTiles.length < nTilesX * nTilesY) {
+            dirtyTiles = new int[nTilesX * nTilesY];
+        }
+        if (dirtyTileColumns.length < nTilesX) {
+            dirtyTileColumns = new boolean[nTilesX];
+        }
+        if (dirtyTileRows.length < nTilesY) {
+            dirtyTileRows = new boolean[nTilesY];
+        }
+        return true;
+    }
+
+    private void markAllTilesDirty() {
+        nDirtyTiles = nTilesX * nTilesY;
+        for (int i = 0; i < nDirtyTiles; i++) {
+            dirtyTiles[i] = i;
+        }
+    }
+
+    private void markModifiedTilesDirty(final TrackedGridDataSet trackedDataSet) {
+        for (int px = 0; px < width; px++) {
+            final int xIndex = indexXMin + (xInverted ? width - 1 - px : px);
+            if (px % tileSize == 0) {
+                dirtyTileColumns[px / tileSize] = false;
+            }
+            if (trackedDataSet.getColumnModificationCount(xIndex) > lastModificationCount) {
+                dirtyTileColumns[px / tileSize] = true;
+            }
+        }
+        for (int py = 0; py < height; py++) {
+            final int yIndex = indexYMin + (yInverted ? py : height - 1 - py);
+            if (py % tileSize == 0) {
+                dirtyTileRows[py / tileSize] = false;
+            }
+            final long rowModificationCount = storageLayout ? ((CircularGridDataSet) trackedDataSet).getStorageRowModificationCount(yIndex) : trackedDataSet.getRowModificationCount(yIndex);
+            if (rowModificationCount > lastModificationCount) {
+                dirtyTileRows[py / tileSize] = true;
+            }
+        }
+        nDirtyTiles = 0;
+        for (int ty = 0; ty < nTilesY; ty++) {
+            if (!dirtyTileRows[ty]) {
+                continue;
+            }
+            for (int tx = 0; tx < nTilesX; tx++) {
+                if (dirtyTileColumns[tx]) {
+                    dirtyTiles[nDirtyTiles++] = ty * nTilesX + tx;
+                }
+            }
+        }
+    }
+
+    private void colourMapTile(final int tile) {
+        final int x0 = (tile % nTilesX) * tileSize;
+        final int y0 = (tile / nTilesX) * tileSize;
+        final int x1 = Math.min(x0 + tileSize, width);
+        final int y1 = Math.min(y0 + tileSize, height);
+        // N.B. (0,0) in pixel coordinates is the top-left corner, i.e. the lowest data row is at the bottom
+        for (int py = y0; py < y1; py++) {
+            final int yIndex = getDataRow(py);
+            final int rowOffset = py * width;
+            if (yIndex < 0) {
+                Arrays.fill(argb, rowOffset + x0, rowOffset + x1, TRANSPARENT);
+                continue;
+            }
+            for (int px = x0; px < x1; px++) {
+                final int xIndex = indexXMin + (xInverted ? width - 1 - px : px);
+                argb[rowOffset + px] = getColour(dataSet.get(dataDim, xIndex, yIndex));
+            }
+        }
+    }
+
+    /**
+     * @param py image row
+     * @return the logical data row shown in the given image row, or '-1' for not yet filled storage rows
+     */
+    private int getDataRow(final int py) {
+        final int row = indexYMin + (yInverted ? py : height - 1 - py);
+        if (!storageLayout) {
+            return row;
+        }
+        final int logicalRow = (row - firstStorageRow + height) % height;
+        return logicalRow < rowCount ? logicalRow : -1;
+    }
+
+    private int getColour(final double z) {
+        final double offset = (axisTransform.forward(z) - zMinPixel) * zRangeInv;
+        final int level = ColorGradient.getLookupIndex(zInverted ? 1.0 - offset : offset, nQuant);
+        return level < 0 ? TRANSPARENT : lut[level];
+    }
+}
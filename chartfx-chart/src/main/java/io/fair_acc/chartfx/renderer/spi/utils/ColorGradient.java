@@ -7,13 +7,17 @@ package io.fair_acc.chartfx.renderer.spi.utils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javafx.scene.paint.Color;
 import javafx.scene.paint.CycleMethod;
 import javafx.scene.paint.LinearGradient;
 import javafx.scene.paint.Stop;
 
+import io.fair_acc.dataset.utils.AssertUtils;
+
 /**
  * @author braeun
  */
@@ -112,6 +116,7 @@ public class ColorGradient {
     private final String name;
     private final WeakHashMap<Double, Color> colorMap = new WeakHashMap<>();
     private final WeakHashMap<Double, int[]> colorMapBytes = new WeakHashMap<>();
+    private final Map<Integer, int[]> lookupTables = new ConcurrentHashMap<>(); // N.B. valid since the stops are immutable
 
     /**
      * Creates a new instance of ColorGradient.**
@@ -169,29 +174,7 @@ public class ColorGradient {
      * @return corresponding interpolated colour
      */
     public Color getColor(final double offset) {
-        return colorMap.computeIfAbsent(offset, value -> {
-            double lowerOffset = 0.0;
-            double upperOffset = 1.0;
-            Color lowerColor = Color.TRANSPARENT;
-            Color upperColor = Color.TRANSPARENT;
-
-            for (final Stop stop : getStops()) {
-                final double currentOffset = stop.getOffset();
-                if (currentOffset == offset) {
-                    return stop.getColor();
-                } else if (currentOffset < offset) {
-                    lowerOffset = currentOffset;
-                    lowerColor = stop.getColor();
-                } else {
-                    upperOffset = currentOffset;
-                    upperColor = stop.getColor();
-                    break;
-                }
-            }
-
-            final double interpolationOffset = (offset - lowerOffset) / (upperOffset - lowerOffset);
-            return lowerColor.interpolate(upperColor, interpolationOffset);
-        });
+        return colorMap.computeIfAbsent(offset, this::interpolate);
     }
 
     /**
@@ -200,40 +183,47 @@ public class ColorGradient {
      */
     public int[] getColorBytes(final double offset) {
         return colorMapBytes.computeIfAbsent(offset, value -> {
-            double lowerOffset = 0.0;
-            double upperOffset = 1.0;
-            Color lowerColor = Color.TRANSPARENT;
-            Color upperColor = Color.TRANSPARENT;
-            final int[] color = new int[4];
-
-            for (final Stop stop : getStops()) {
-                final double currentOffset = stop.getOffset();
-                if (currentOffset == offset) {
-                    color[0] = (int) Math.round(255 * stop.getColor().getOpacity());
-                    color[1] = (int) Math.round(255 * stop.getColor().getRed());
-                    color[2] = (int) Math.round(255 * stop.getColor().getGreen());
-                    color[3] = (int) Math.round(255 * stop.getColor().getBlue());
-                    return color;
-                } else if (currentOffset < offset) {
-                    lowerOffset = currentOffset;
-                    lowerColor = stop.getColor();
-                } else {
-                    upperOffset = currentOffset;
-                    upperColor = stop.getColor();
-                    break;
-                }
-            }
+            final int argb = toArgb(interpolate(value));
+            return new int[] { argb >>> 24, (argb >> 16) & 0xFF, (argb >> 8) & 0xFF, argb & 0xFF };
+        });
+    }
 
-            final double interpolationOffset = (offset - lowerOffset) / (upperOffset - lowerOffset);
-            final Color interpolatedColor = lowerColor.interpolate(upperColor, interpolationOffset);
-            color[0] = (int) Math.round(255 * interpolatedColor.getOpacity());
-            color[1] = (int) Math.round(255 * interpolatedColor.getRed());
-            color[2] = (int) Math.round(255 * interpolatedColor.getGreen());
-            color[3] = (int) Math.round(255 * interpolatedColor.getBlue());
-            return color;
+    /**
+     * Returns the colour lookup table of the quantised gradient, e.g. for colour-mapping images without evaluating the
+     * gradient or allocating colour objects per pixel. Entry {@code i} is the colour of the offset {@code i / nLevels},
+     * see {@link #getLookupIndex(double, int)} for the corresponding quantisation.
+     *
+     * @param nLevels number of quantisation levels
+     * @return the non-premultiplied ARGB colours of the offsets 0, 1/nLevels, ..., 1 (i.e. nLevels + 1 entries). N.B.
+     *         the table is cached and shared and must not be modified
+     */
+    public int[] getLookupTable(final int nLevels) {
+        AssertUtils.gtThanZero("nLevels", nLevels);
+        return lookupTables.computeIfAbsent(nLevels, n -> {
+            final int[] table = new int[n + 1];
+            for (int i = 0; i <= n; i++) {
+                table[i] = toArgb(interpolate(i / (double) n));
+            }
+            return table;
         });
     }
 
+    /**
+     * Returns the index of the quantised offset within the {@link #getLookupTable(int) lookup table}. N.B. the offset
+     * is the value's normalised position within the colour range, i.e. linear or logarithmic quantisation is obtained
+     * by computing it from the (e.g. logarithmic) axis transform of the value.
+     *
+     * @param offset within ranges [0, 1]
+     * @param nLevels number of quantisation levels
+     * @return lookup table index within [0, nLevels] or '-1' for offsets outside [0, 1] (and NaN)
+     */
+    public static int getLookupIndex(final double offset, final int nLevels) {
+        if (!(offset >= 0.0 && offset <= 1.0)) { // N.B. also catches NaN
+            return -1;
+        }
+        return (int) (offset * nLevels);
+    }
+
     /**
      * Returns the gradient stops.
      *
@@ -249,6 +239,35 @@ public class ColorGradient {
         return name;
     }
 
+    private Color interpolate(final double offset) {
+        double lowerOffset = 0.0;
+        double upperOffset = 1.0;
+        Color lowerColor = Color.TRANSPARENT;
+        Color upperColor = Color.TRANSPARENT;
+
+        for (final Stop stop : getStops()) {
+            final double currentOffset = stop.getOffset();
+            if (currentOffset == offset) {
+                return stop.getColor();
+            } else if (currentOffset < offset) {
+                lowerOffset = currentOffset;
+                lowerColor = stop.getColor();
+            } else {
+                upperOffset = currentOffset;
+                upperColor = stop.getColor();
+                break;
+            }
+        }
+
+        final double interpolationOffset = (offset - lowerOffset) / (upperOffset - lowerOffset);
+        return lowerColor.interpolate(upperColor, interpolationOffset);
+    }
+
+    private static int toArgb(final Color color) {
+        return (int) Math.round(255 * color.getOpacity()) << 24 | (int) Math.round(255 * color.getRed()) << 16
+                | (int) Math.round(255 * color.getGreen()) << 8 | (int) Math.round(255 * color.getBlue());
+    }
+
     public static List<ColorGradient> colorGradients() {
         return Arrays.asList(ColorGradient.RAINBOW, ColorGradient.RAINBOW_OPAQUE, ColorGradient.JET, ColorGradient.TOPO, ColorGradient.TOPO_EXT,
                 ColorGradient.WHITE_BLACK, ColorGradient.BLACK_WHITE, ColorGradient.HOT, ColorGradient.SUNRISE,
@@ -0,0 +1,166 @@
+package io.fair_acc.chartfx.ui.css;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javafx.geometry.Bounds;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextBoundsType;
+
+/**
+ * Cache of the rendered text dimensions (including rotation and scaling) shared by all {@link TextStyle}s with the same
+ * font and text transform, e.g. to avoid a scene-graph text layout for each recurring tick label while axes are
+ * auto-ranging or panned. Both the number of distinct styles and the number of strings per style are bounded with a
+ * least-recently-used eviction policy.
+ */
+public final class TextMetricsCache {
+    public static final int MAX_STYLES = 64;
+    public static final int MAX_ENTRIES_PER_STYLE = 2048;
+    private static final Map<Key, Map<String, Metrics>> STYLE_CACHES = new LruMap<>(MAX_STYLES);
+    private static volatile long generation; // incremented by clear() to invalidate the caches held by the styles
+
+    private TextMetricsCache() {
+        // utility class
+    }
+
+    /**
+     * @param style the style the text is going to be rendered with
+     * @param text the text
+     * @return width and height of the text's bounds in parent, i.e. including the style's rotation and scaling
+     */
+    public static Metrics getMetrics(final TextStyle style, final String text) {
+        if (text == null || text.isEmpty()) {
+            return Metrics.EMPTY;
+        }
+        final Map<String, Metrics> cache = style.getMetricsCache();
+        synchronized (cache) {
+            final Metrics cached = cache.get(text);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        // N.B. important: usage of getBoundsInParent() which also takes into account text rotations
+        style.setText(text);
+        final Bounds bounds = style.getBoundsInParent();
+        final Metrics metrics = new Metrics(bounds.getWidth(), bounds.getHeight());
+        synchronized (cache) {
+            cache.put(text, metrics);
+        }
+        return metrics;
+    }
+
+    /**
+     * @return the number of distinct styles with cached text metrics
+     */
+    public static int getStyleCount() {
+        synchronized (STYLE_CACHES) {
+            return STYLE_CACHES.size();
+        }
+    }
+
+    /**
+     * removes all cached text metrics, including the caches that are still referenced by existing styles
+     */
+    public static void clear() {
+        synchronized (STYLE_CACHES) {
+            STYLE_CACHES.clear();
+            generation++;
+        }
+    }
+
+    static long getGeneration() {
+        return generation;
+    }
+
+    static Map<String, Metrics> getCache(final TextStyle style) {
+        final Key key = new Key(style);
+        synchronized (STYLE_CACHES) {
+            return STYLE_CACHES.computeIfAbsent(key, k -> new LruMap<>(MAX_ENTRIES_PER_STYLE));
+        }
+    }
+
+    /**
+     * Immutable dimensions of a rendered text
+     */
+    public static final class Metrics {
+        static final Metrics EMPTY = new Metrics(0.0, 0.0);
+        private final double width;
+        private final double height;
+
+        private Metrics(final double width, final double height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        public double getHeight() {
+            return height;
+        }
+
+        public double getWidth() {
+            return width;
+        }
+    }
+
+    /**
+     * Text style properties that affect the size of the text's bounds in parent
+     */
+    private static final class Key {
+        private final Font font;
+        private final double rotate;
+        private final double scaleX;
+        private final double scaleY;
+        private final double strokeWidth;
+        private final double lineSpacing;
+        private final double wrappingWidth;
+        private final TextBoundsType boundsType;
+        private final int hashCode;
+
+        private Key(final TextStyle style) {
+            font = style.getFont();
+            rotate = style.getRotate();
+            scaleX = style.getScaleX();
+            scaleY = style.getScaleY();
+            strokeWidth = style.getStroke() == null ? 0.0 : style.getStrokeWidth();
+            lineSpacing = style.getLineSpacing();
+            wrappingWidth = style.getWrappingWidth();
+            boundsType = style.getBoundsType();
+            hashCode = Objects.hash(font, rotate, scaleX, scaleY, strokeWidth, lineSpacing, wrappingWidth, boundsType);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return hashCode == other.hashCode && Objects.equals(font, other.font) && boundsType == other.boundsType //
+                    && Double.compare(rotate, other.rotate) == 0 && Double.compare(scaleX, other.scaleX) == 0 //
+                    && Double.compare(scaleY, other.scaleY) == 0 && Double.compare(strokeWidth, other.strokeWidth) == 0 //
+                    && Double.compare(lineSpacing, other.lineSpacing) == 0 && Double.compare(wrappingWidth, other.wrappingWidth) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class LruMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = -2345807004516375049L;
+        private final int maxSize;
+
+        private LruMap(final int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package io.fair_acc.chartfx.ui.css;
 
+import java.util.Map;
+
 import javafx.beans.property.LongProperty;
 import javafx.beans.property.ReadOnlyLongProperty;
 import javafx.beans.property.SimpleLongProperty;
+import javafx.beans.value.ChangeListener;
 import javafx.scene.text.Text;
 
 /**
@@ -12,6 +15,13 @@ public class TextStyle extends Text implements StyleUtil.StyleNode {
     public TextStyle(String... styles) {
         StyleUtil.styleNode(this, styles);
         StyleUtil.forEachStyleProp(this, StyleUtil.incrementOnChange(changeCounter));
+        // properties that affect the text metrics but are not tracked by the change counter
+        final ChangeListener<Object> invalidateMetrics = (obs, old, value) -> metricsCache = null;
+        scaleXProperty().addListener(invalidateMetrics);
+        scaleYProperty().addListener(invalidateMetrics);
+        lineSpacingProperty().addListener(invalidateMetrics);
+        wrappingWidthProperty().addListener(invalidateMetrics);
+        boundsTypeProperty().addListener(invalidateMetrics);
     }
 
     protected void incrementChangeCounter() {
@@ -27,5 +37,26 @@ public class TextStyle extends Text implements StyleUtil.StyleNode {
         return changeCounter;
     }
 
+    /**
+     * @param text the text to be rendered with this style
+     * @return cached width and height of the text including rotation, cf. {@link TextMetricsCache}
+     */
+    public TextMetricsCache.Metrics getTextMetrics(final String text) {
+        return TextMetricsCache.getMetrics(this, text);
+    }
+
+    Map<String, TextMetricsCache.Metrics> getMetricsCache() {
+        final long generation = TextMetricsCache.getGeneration();
+        if (metricsCache == null || metricsChangeCounter != getChangeCounter() || metricsGeneration != generation) {
+            metricsCache = TextMetricsCache.getCache(this);
+            metricsChangeCounter = getChangeCounter();
+            metricsGeneration = generation;
+        }
+        return metricsCache;
+    }
+
     private final LongProperty changeCounter = new SimpleLongProperty(0);
+    private Map<String, TextMetricsCache.Metrics> metricsCache;
+    private long metricsChangeCounter = -1;
+    private long metricsGeneration = -1;
 }
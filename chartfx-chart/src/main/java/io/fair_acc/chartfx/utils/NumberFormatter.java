@@ -10,4 +10,16 @@ public interface NumberFormatter {
     NumberFormatter setDecimalPlaces(int precision);
 
     String toString(double val);
+
+    /**
+     * Variant of {@link #toString(double)} for recurring labels, e.g. axis tick marks
+     *
+     * @param val the number to be converted
+     * @param previous a previous label that is likely to match the new one (may be null)
+     * @return the string representation of the number, i.e. the previous instance if the text did not change
+     */
+    default String toString(double val, String previous) {
+        final String label = toString(val);
+        return label.equals(previous) ? previous : label;
+    }
 }
@@ -53,13 +53,22 @@ public class NumberFormatterImpl extends StringConverter<Number> implements Numb
 
     @Override
     public String toString(final double val) {
-        switch (Schubfach.encodeDouble(val, this::encodeDouble)) {
+        return toString(val, null);
+    }
+
+    /**
+     * Formats the digits into an internal buffer and only materialises a new String if the result differs from the
+     * previous label, i.e. recurring labels are formatted without any allocation.
+     */
+    @Override
+    public String toString(final double val, final String previous) {
+        switch (Schubfach.encodeDouble(val, encoder)) {
         case Schubfach.NON_SPECIAL:
-            return bytesToString();
+            return bytesToString(previous);
         case Schubfach.PLUS_ZERO:
         case Schubfach.MINUS_ZERO:
             encodeZero();
-            return length == 1 ? "0" : bytesToString();
+            return length == 1 ? "0" : bytesToString(previous);
         case Schubfach.PLUS_INF:
             return "+inf";
         case Schubfach.MINUS_INF:
@@ -317,7 +326,16 @@ public class NumberFormatterImpl extends StringConverter<Number> implements Numb
         appendDigit(e - 10 * d);
     }
 
-    private String bytesToString() {
+    private String bytesToString(final String previous) {
+        if (previous != null && previous.length() == length) {
+            int i = 0;
+            while (i < length && previous.charAt(i) == (char) (bytes[i] & 0xFF)) {
+                i++;
+            }
+            if (i == length) {
+                return previous;
+            }
+        }
         return new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
     }
 
@@ -342,6 +360,7 @@ public class NumberFormatterImpl extends StringConverter<Number> implements Numb
      */
     private static final int MAX_PLAIN_EXP = 7;
     private static final long DIGITS_18 = 100000000000000000L;
+    private final Schubfach.DoubleEncoder encoder = this::encodeDouble; // N.B. avoids a lambda allocation per call
     byte[] bytes = new byte[MAX_CHARS_DOUBLE];
     int length = 0;
 
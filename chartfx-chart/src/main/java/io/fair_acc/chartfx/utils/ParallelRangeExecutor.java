@@ -0,0 +1,295 @@
+package io.fair_acc.chartfx.utils;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+import io.fair_acc.bench.CountMeasure;
+import io.fair_acc.bench.Measurable;
+import io.fair_acc.bench.MeasurementRecorder;
+import io.fair_acc.bench.TimeMeasure;
+
+/**
+ * Executes an index range [fromIndex, toIndex) in parallel chunks on a fork-join pool, e.g. to transform data
+ * coordinates to screen coordinates.
+ * <p>
+ * The chunk size adapts to the measured per-element cost of the previous executions so that each chunk carries roughly
+ * {@link #getTargetChunkNanos()} of work: cheap or small ranges are processed directly in the calling thread, expensive
+ * ones are split into at most {@link #getMaxChunks()} chunks. The chunk tasks are allocated once per calling thread and
+ * re-used, i.e. there is no per-call allocation in the steady state. The calling thread processes the first chunk
+ * itself.
+ * <p>
+ * Since the cost model is per instance, use one executor per type of workload. Measurements (recorded through
+ * {@link #setRecorder(MeasurementRecorder)}, or per call through {@link #newMeasures(MeasurementRecorder)} if the
+ * executor is shared between several owners with their own recorders):
+ * <ul>
+ * <li>'&lt;name&gt;-total': wall-clock time of the whole execution
+ * <li>'&lt;name&gt;-compute': time spent in the longest chunk, i.e. the critical path of the actual work
+ * <li>'&lt;name&gt;-overhead': split, scheduling and merge overhead, i.e. total minus compute time
+ * <li>'&lt;name&gt;-chunks': number of chunks
+ * </ul>
+ */
+public class ParallelRangeExecutor implements Measurable {
+    public static final long DEFAULT_TARGET_CHUNK_NANOS = 100_000; // 100 us
+    public static final int DEFAULT_MIN_CHUNK_SIZE = 256;
+    private static final double COST_SMOOTHING = 0.25; // weight of the latest cost measurement
+    private static final String PARALLEL_WORKER_ERROR = "one parallel worker thread finished execution with error";
+
+    private final String name;
+    private final ForkJoinPool pool;
+    private final int maxChunks;
+    private final ThreadLocal<Chunk[]> chunks;
+    private volatile int minChunkSize = DEFAULT_MIN_CHUNK_SIZE;
+    private volatile long targetChunkNanos = DEFAULT_TARGET_CHUNK_NANOS;
+    private volatile double nanosPerElement = Double.NaN; // NaN: not yet measured
+
+    private Measures measures = Measures.DISABLED;
+
+    /**
+     * @param name name used as prefix for the recorded measurements
+     */
+    public ParallelRangeExecutor(final String name) {
+        this(name, ForkJoinPool.commonPool(), DEFAULT_MIN_CHUNK_SIZE);
+    }
+
+    /**
+     * @param name name used as prefix for the recorded measurements
+     * @param minChunkSize the minimum number of elements per chunk
+     */
+    public ParallelRangeExecutor(final String name, final int minChunkSize) {
+        this(name, ForkJoinPool.commonPool(), minChunkSize);
+    }
+
+    /**
+     * @param name name used as prefix for the recorded measurements
+     * @param pool fork-join pool executing the chunks
+     * @param minChunkSize the minimum number of elements per chunk
+     */
+    public ParallelRangeExecutor(final String name, final ForkJoinPool pool, final int minChunkSize) {
+        this.name = name;
+        this.pool = pool;
+        setMinChunkSize(minChunkSize);
+        // a few chunks per worker for load-balancing, the calling thread also participates
+        this.maxChunks = 4 * (pool.getParallelism() + 1);
+        this.chunks = ThreadLocal.withInitial(() -> {
+            final Chunk[] array = new Chunk[maxChunks];
+            for (int i = 0; i < maxChunks; i++) {
+                array[i] = new Chunk();
+            }
+            return array;
+        });
+    }
+
+    /**
+     * Processes the range [fromIndex, toIndex) and returns after all chunks have been completed.
+     *
+     * @param fromIndex first index (inclusive)
+     * @param toIndex last index (exclusive)
+     * @param task the range operation, must be safe to be executed concurrently on disjoint sub-ranges
+     * @throws IllegalStateException if one of the chunks finished with an exception
+     */
+    public void execute(final int fromIndex, final int toIndex, final RangeTask task) {
+        execute(fromIndex, toIndex, task, measures);
+    }
+
+    /**
+     * Processes the range [fromIndex, toIndex) and returns after all chunks have been completed.
+     *
+     * @param fromIndex first index (inclusive)
+     * @param toIndex last index (exclusive)
+     * @param task the range operation, must be safe to be executed concurrently on disjoint sub-ranges
+     * @param measures the measures this execution is recorded to, see {@link #newMeasures(MeasurementRecorder)}
+     * @throws IllegalStateException if one of the chunks finished with an exception
+     */
+    public void execute(final int fromIndex, final int toIndex, final RangeTask task, final Measures measures) {
+        final int length = toIndex - fromIndex;
+        if (length <= 0) {
+            return;
+        }
+        final int nChunks = getChunkCount(length);
+        final long start = System.nanoTime();
+        if (nChunks <= 1) {
+            task.compute(fromIndex, toIndex);
+            final long elapsed = System.nanoTime() - start;
+            updateCost(elapsed, length);
+            measures.record(elapsed, elapsed, 1);
+            return;
+        }
+
+        final Chunk[] local = chunks.get();
+        final int chunkSize = (int) Math.ceil(length / (double) nChunks);
+        int nUsed = 0;
+        for (int from = fromIndex; from < toIndex; from += chunkSize) {
+            local[nUsed++].init(task, from, Math.min(toIndex, from + chunkSize));
+        }
+        final boolean inPool = Thread.currentThread() instanceof ForkJoinWorkerThread worker && worker.getPool() == pool;
+        for (int i = 1; i < nUsed; i++) {
+            if (inPool) {
+                local[i].fork();
+            } else {
+                pool.execute(local[i]);
+            }
+        }
+        local[0].quietlyInvoke();
+
+        Throwable exception = null;
+        long computeSum = 0;
+        long computeMax = 0;
+        for (int i = 0; i < nUsed; i++) {
+            final Chunk chunk = local[i];
+            chunk.quietlyJoin();
+            if (chunk.isCompletedAbnormally() && exception == null) {
+                exception = chunk.getException();
+            }
+            computeSum += chunk.nanos;
+            computeMax = Math.max(computeMax, chunk.nanos);
+            chunk.task = null; // do not retain references to the caller's data
+        }
+        if (exception != null) {
+            throw new IllegalStateException(PARALLEL_WORKER_ERROR, exception);
+        }
+        updateCost(computeSum, length);
+        measures.record(System.nanoTime() - start, computeMax, nUsed);
+    }
+
+    /**
+     * @return the maximum number of chunks a range is split into
+     */
+    public int getMaxChunks() {
+        return maxChunks;
+    }
+
+    /**
+     * @return the minimum number of elements per chunk
+     */
+    public int getMinChunkSize() {
+        return minChunkSize;
+    }
+
+    /**
+     * @return the moving average of the measured processing time per element in nano-seconds, or NaN if not yet known
+     */
+    public double getNanosPerElement() {
+        return nanosPerElement;
+    }
+
+    /**
+     * @return the processing time per chunk the chunk size is adapted to
+     */
+    public long getTargetChunkNanos() {
+        return targetChunkNanos;
+    }
+
+    /**
+     * @param recorder recorder the measurements are registered with
+     * @return measures for {@link #execute(int, int, RangeTask, Measures)}, e.g. kept by each owner of a shared executor
+     */
+    public Measures newMeasures(final MeasurementRecorder recorder) {
+        return new Measures(recorder.newDebugTime(name + "-total"), recorder.newDebugTime(name + "-compute"),
+                recorder.newDebugTime(name + "-overhead"), recorder.newDebugCount(name + "-chunks"));
+    }
+
+    /**
+     * @param minChunkSize the minimum number of elements per chunk
+     */
+    public void setMinChunkSize(final int minChunkSize) {
+        if (minChunkSize < 1) {
+            throw new IllegalArgumentException("minChunkSize " + minChunkSize + " must be greater than zero");
+        }
+        this.minChunkSize = minChunkSize;
+    }
+
+    @Override
+    public void setRecorder(final MeasurementRecorder recorder) {
+        measures = newMeasures(recorder);
+    }
+
+    /**
+     * @param targetChunkNanos the processing time per chunk the chunk size is adapted to
+     */
+    public void setTargetChunkNanos(final long targetChunkNanos) {
+        if (targetChunkNanos < 1) {
+            throw new IllegalArgumentException("targetChunkNanos " + targetChunkNanos + " must be greater than zero");
+        }
+        this.targetChunkNanos = targetChunkNanos;
+    }
+
+    protected int getChunkCount(final int length) {
+        final double cost = nanosPerElement;
+        long chunkSize = minChunkSize;
+        if (cost > 0) {
+            chunkSize = Math.max(chunkSize, (long) (targetChunkNanos / cost));
+        }
+        return (int) Math.max(1, Math.min(maxChunks, (length + chunkSize - 1) / chunkSize));
+    }
+
+    private void updateCost(final long nanos, final int length) {
+        final double cost = nanos / (double) length;
+        final double previous = nanosPerElement;
+        nanosPerElement = Double.isNaN(previous) ? cost : previous + COST_SMOOTHING * (cost - previous);
+    }
+
+    /**
+     * Operation on a sub-range of indices.
+     */
+    @FunctionalInterface
+    public interface RangeTask {
+        /**
+         * @param fromIndex first index (inclusive)
+         * @param toIndex last index (exclusive)
+         */
+        void compute(int fromIndex, int toIndex);
+    }
+
+    /**
+     * The measures an execution is recorded to.
+     */
+    public static final class Measures {
+        public static final Measures DISABLED = new Measures(TimeMeasure.DISABLED, TimeMeasure.DISABLED, TimeMeasure.DISABLED, CountMeasure.DISABLED);
+        private final TimeMeasure benchTotal;
+        private final TimeMeasure benchCompute;
+        private final TimeMeasure benchOverhead;
+        private final CountMeasure benchChunks;
+
+        private Measures(final TimeMeasure total, final TimeMeasure compute, final TimeMeasure overhead, final CountMeasure chunks) {
+            this.benchTotal = total;
+            this.benchCompute = compute;
+            this.benchOverhead = overhead;
+            this.benchChunks = chunks;
+        }
+
+        private void record(final long total, final long compute, final int nChunks) {
+            benchTotal.recordTime(TimeUnit.NANOSECONDS, total);
+            benchCompute.recordTime(TimeUnit.NANOSECONDS, compute);
+            benchOverhead.recordTime(TimeUnit.NANOSECONDS, Math.max(0, total - compute));
+            benchChunks.recordCount(nChunks);
+        }
+    }
+
+    private static final class Chunk extends RecursiveAction {
+        private static final long serialVersionUID = 2520532426395916722L;
+        private transient RangeTask task;
+        private int fromIndex;
+        private int toIndex;
+        private long nanos;
+
+        @Override
+        protected void compute() {
+            final long start = System.nanoTime();
+            try {
+                task.compute(fromIndex, toIndex);
+            } finally {
+                nanos = System.nanoTime() - start;
+            }
+        }
+
+        private void init(final RangeTask task, final int fromIndex, final int toIndex) {
+            reinitialize();
+            this.task = task;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.nanos = 0;
+        }
+    }
+}
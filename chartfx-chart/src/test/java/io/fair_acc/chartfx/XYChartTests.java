@@ -0,0 +1,243 @@
+package io.fair_acc.chartfx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.IntSupplier;
+
+import javafx.stage.Stage;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import io.fair_acc.bench.CountMeasure;
+import io.fair_acc.bench.MeasurementRecorder;
+import io.fair_acc.bench.TimeMeasure;
+import io.fair_acc.chartfx.axes.Axis;
+import io.fair_acc.chartfx.axes.spi.DefaultNumericAxis;
+import io.fair_acc.chartfx.renderer.Renderer;
+import io.fair_acc.chartfx.renderer.spi.ErrorDataSetRenderer;
+import io.fair_acc.chartfx.ui.utils.JavaFXInterceptorUtils.SelectiveJavaFxInterceptor;
+import io.fair_acc.chartfx.ui.utils.TestFx;
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.events.ChartBits;
+import io.fair_acc.dataset.spi.DoubleDataSet;
+
+/**
+ * Checks for the axis range updates and the layered (per-renderer cached canvas) rendering mode of the XYChart
+ */
+@ExtendWith(ApplicationExtension.class)
+@ExtendWith(SelectiveJavaFxInterceptor.class)
+class XYChartTests {
+    private XYChart chart;
+    private ErrorDataSetRenderer staticRenderer;
+    private ErrorDataSetRenderer liveRenderer;
+    private DoubleDataSet staticData;
+    private DoubleDataSet liveData;
+
+    @Start
+    public void start(final Stage stage) {
+        chart = new XYChart(new TestAxis("x", 0, 10), new TestAxis("y", -1, 1));
+        staticRenderer = new ErrorDataSetRenderer();
+        liveRenderer = new ErrorDataSetRenderer();
+        staticData = new DoubleDataSet("static");
+        liveData = new DoubleDataSet("live");
+        for (int i = 0; i < 10; i++) {
+            staticData.add(i, Math.sin(i));
+            liveData.add(i, Math.cos(i));
+        }
+        staticRenderer.getDatasets().add(staticData);
+        liveRenderer.getDatasets().add(liveData);
+        chart.getRenderers().setAll(staticRenderer, liveRenderer);
+        chart.resize(400, 300);
+        chart.getRenderers().forEach(Renderer::updateAxes);
+    }
+
+    @TestFx
+    void autoRangeShrinksWithRemovedExtremum() {
+        final Axis yAxis = chart.getYAxis();
+        liveData.add(10, 5.0);
+        chart.updateAxisRange();
+        assertEquals(10.0, chart.getXAxis().getAutoRange().getMax(), 1e-9);
+        assertEquals(5.0, yAxis.getAutoRange().getMax(), 1e-9);
+
+        // removing the extremum
+        liveData.remove(10, 11);
+        chart.updateAxisRange();
+        assertEquals(9.0, chart.getXAxis().getAutoRange().getMax(), 1e-9);
+        assertEquals(1.0, yAxis.getAutoRange().getMax(), 1e-9); // cos(0)
+
+        // overwriting the extremum
+        liveData.set(0, 0.0, 0.0);
+        chart.updateAxisRange();
+        assertEquals(Math.sin(8), yAxis.getAutoRange().getMax(), 1e-9);
+    }
+
+    @TestFx
+    void modifiedLimitsOfNonIncrementalDataSetsAreRecomputed() {
+        // data set that writes directly into its arrays and only marks its limits as modified
+        final DoubleDataSet directData = new DoubleDataSet("direct") {
+            @Override
+            public boolean hasIncrementalLimits() {
+                return false;
+            }
+        };
+        for (int i = 0; i < 10; i++) {
+            directData.add(i, 2.0);
+        }
+        liveRenderer.getDatasets().add(directData);
+        chart.updateAxisRange();
+        assertEquals(2.0, chart.getYAxis().getAutoRange().getMax(), 1e-9);
+
+        directData.lock().writeLockGuard(() -> {
+            directData.getValues(DataSet.DIM_Y)[3] = 3.0;
+            directData.getAxisDescription(DataSet.DIM_Y).set(0.0, 2.5); // modified, but not exact
+        });
+        directData.fireInvalidated(ChartBits.DataSetData);
+        chart.updateAxisRange();
+        assertEquals(3.0, chart.getYAxis().getAutoRange().getMax(), 1e-9);
+        liveRenderer.getDatasets().remove(directData);
+    }
+
+    @TestFx
+    void layeredRenderingTests() {
+        assertEquals(false, chart.isLayeredRendering());
+        assertSame(chart.getCanvas(), chart.getCanvas(staticRenderer));
+        assertSame(chart.getCanvas(), chart.getCanvas(liveRenderer));
+
+        final List<Long> layersDrawn = new ArrayList<>();
+        chart.setRecorder(countRecorder((tag, value) -> {
+            if ("xychart-layersDrawn".equals(tag)) {
+                layersDrawn.add(value);
+            }
+        }));
+        chart.setLayeredRendering(true);
+        chart.redrawCanvas();
+        assertNotSame(chart.getCanvas(), chart.getCanvas(staticRenderer));
+        assertNotSame(chart.getCanvas(staticRenderer), chart.getCanvas(liveRenderer));
+        assertTrue(chart.canvasLayers.getChildren().contains(chart.getCanvas(staticRenderer)));
+        assertEquals(chart.getCanvas().getWidth(), chart.getCanvas(liveRenderer).getWidth());
+        chart.getBitState().clear();
+
+        // only the layer of the modified data set is redrawn
+        layersDrawn.clear();
+        liveData.set(DoubleDataSet.DIM_Y, 0, 0.5);
+        chart.redrawCanvas();
+        assertEquals(List.of(1L), layersDrawn);
+
+        // nothing changed: no layer is redrawn
+        layersDrawn.clear();
+        chart.getBitState().clear();
+        chart.redrawCanvas();
+        assertEquals(List.of(0L), layersDrawn);
+
+        chart.setLayeredRendering(false);
+        chart.redrawCanvas();
+        assertTrue(chart.canvasLayers.getChildren().isEmpty());
+        assertSame(chart.getCanvas(), chart.getCanvas(liveRenderer));
+    }
+
+    @TestFx
+    void scrollingRedrawTests() {
+        final List<Long> layersDrawn = new ArrayList<>();
+        final List<Long> layersScrolled = new ArrayList<>();
+        chart.setRecorder(countRecorder((tag, value) -> {
+            if ("xychart-layersDrawn".equals(tag)) {
+                layersDrawn.add(value);
+            } else if ("xychart-layersScrolled".equals(tag)) {
+                layersScrolled.add(value);
+            }
+        }));
+        ((TestAxis) chart.getXAxis()).setLength(400);
+        chart.getCanvas().resize(400, 300);
+        chart.setLayeredRendering(true);
+        liveRenderer.setScrollingRedraw(true);
+        chart.redrawCanvas();
+        chart.getBitState().clear();
+        assertEquals(2 * chart.getCanvas().getWidth(), chart.getCanvas(liveRenderer).getWidth());
+        assertTrue(layersScrolled.isEmpty());
+
+        // appending a sample and scrolling the x-axis: incremental for the strip-chart, full redraw for the other
+        layersDrawn.clear();
+        liveData.add(10, 0.5);
+        chart.getXAxis().set(1, 11);
+        chart.redrawCanvas();
+        chart.getBitState().clear();
+        assertEquals(List.of(2L), layersDrawn);
+        assertEquals(List.of(1L), layersScrolled);
+        assertEquals(-40.0, chart.getCanvas(liveRenderer).getTranslateX(), 1e-9);
+
+        // replaced samples or style changes together with an append: full redraw
+        layersScrolled.clear();
+        liveData.add(11, 0.6);
+        liveData.set(DoubleDataSet.DIM_Y, 10, 0.4);
+        chart.getXAxis().set(2, 12);
+        chart.redrawCanvas();
+        chart.getBitState().clear();
+        assertTrue(layersScrolled.isEmpty());
+        liveData.add(12, 0.6);
+        liveRenderer.getDatasetNodes().get(0).setIntensity(50); // node style change
+        chart.getXAxis().set(3, 13);
+        chart.redrawCanvas();
+        chart.getBitState().clear();
+        assertTrue(layersScrolled.isEmpty());
+
+        // renderers that do not support drawing only the tail are always fully redrawn
+        liveRenderer.setAssumeSortedData(false);
+        liveData.add(13, 0.6);
+        chart.getXAxis().set(4, 14);
+        chart.redrawCanvas();
+        chart.getBitState().clear();
+        assertTrue(layersScrolled.isEmpty());
+        assertEquals(chart.getCanvas().getWidth(), chart.getCanvas(liveRenderer).getWidth());
+        liveRenderer.setAssumeSortedData(true);
+        chart.redrawCanvas();
+        chart.getBitState().clear();
+
+        // zooming: full redraw
+        layersScrolled.clear();
+        chart.getXAxis().set(1, 21);
+        chart.redrawCanvas();
+        chart.getBitState().clear();
+        assertTrue(layersScrolled.isEmpty());
+        assertEquals(0.0, chart.getCanvas(liveRenderer).getTranslateX(), 1e-9);
+
+        // y-range changes: full redraw
+        liveData.add(11, 0.7);
+        chart.getXAxis().set(2, 22);
+        chart.getYAxis().set(-2, 2);
+        chart.redrawCanvas();
+        assertTrue(layersScrolled.isEmpty());
+    }
+
+    private static class TestAxis extends DefaultNumericAxis {
+        TestAxis(final String name, final double min, final double max) {
+            super(name, min, max, 1.0);
+        }
+
+        @Override
+        protected void setLength(final double axisLength) { // NOPMD - widens visibility, no layout pass in this test
+            super.setLength(axisLength);
+        }
+    }
+
+    private static MeasurementRecorder countRecorder(final BiConsumer<String, Long> counts) {
+        return new MeasurementRecorder() {
+            @Override
+            public TimeMeasure newTime(final String tag, final IntSupplier level) {
+                return TimeMeasure.DISABLED;
+            }
+
+            @Override
+            public CountMeasure newCount(final String tag, final IntSupplier level) {
+                return count -> counts.accept(tag, count);
+            }
+        };
+    }
+}
@@ -0,0 +1,110 @@
+package io.fair_acc.chartfx.axes.spi;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.fair_acc.chartfx.ui.css.TextMetricsCache;
+import io.fair_acc.chartfx.ui.geometry.Side;
+
+/**
+ * Axis layout cost (tick computation, label formatting and label size measurement) while an axis is continuously
+ * panned, with and without the shared text metrics cache. Without the cache, {@link TextMetricsCache#clear()} is called
+ * before each update such that every label needs to be measured again. The layout is performed on the JavaFX
+ * application thread in batches of {@value #N_UPDATES} updates to amortise the thread hand-over.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class AxisPanningBenchmark {
+    private static final int N_UPDATES = 100;
+    private static final double AXIS_LENGTH = 800;
+    private static final double PAN_STEP = 0.013; // fraction of the visible range per update
+
+    @Param({ "true", "false" })
+    private boolean horizontal;
+
+    @Param({ "true", "false" })
+    private boolean useMetricsCache;
+
+    private DefaultNumericAxis axis;
+
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException, ExecutionException {
+        // text measurements require the JavaFX toolkit
+        final CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+        runOnFxThread(() -> {
+            axis = new DefaultNumericAxis("time", 0, 100, 10);
+            axis.setSide(horizontal ? Side.BOTTOM : Side.LEFT);
+            if (!horizontal) {
+                axis.getTickLabelStyle().setRotate(90);
+            }
+            TextMetricsCache.clear();
+            return 0.0;
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Platform.exit();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(N_UPDATES)
+    public double panAxis() throws InterruptedException, ExecutionException {
+        return runOnFxThread(() -> {
+            final double span = axis.getMax() - axis.getMin();
+            double sum = 0;
+            for (int i = 0; i < N_UPDATES; i++) {
+                if (!useMetricsCache) {
+                    TextMetricsCache.clear();
+                }
+                axis.set(axis.getMin() + PAN_STEP * span, axis.getMax() + PAN_STEP * span);
+                axis.updateDirtyContent(AXIS_LENGTH);
+                for (final TickMark tickMark : axis.getTickMarks()) {
+                    sum += tickMark.getWidth() + tickMark.getHeight();
+                }
+            }
+            return sum;
+        });
+    }
+
+    private static double runOnFxThread(final Callable<Double> action) throws InterruptedException, ExecutionException {
+        final FutureTask<Double> task = new FutureTask<>(action);
+        Platform.runLater(task);
+        return task.get();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder().include(AxisPanningBenchmark.class.getSimpleName()).build();
+        new Runner(opt).run();
+    }
+}
@@ -3,6 +3,7 @@ package io.fair_acc.chartfx.axes.spi;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -93,4 +94,22 @@ public class DefaultNumericAxisTests {
         tickValues.clear();
         axis.calculateMinorTickValues(tickValues);
     }
+
+    @Test
+    public void tickMarkLabelTests() {
+        final DefaultNumericAxis axis = new DefaultNumericAxis("axis name", -10, +10, 1.0);
+        final String label = axis.getTickMarkLabel(2.5);
+        assertSame(label, axis.getTickMarkLabel(2.5, null), "label should be served from the formatter's label cache");
+        assertSame(label, axis.getTickMarkLabel(2.5, label), "unchanged label should be re-used");
+
+        // derived axes that override getTickMarkLabel(double) must not be bypassed by the allocation-free variant
+        final DefaultNumericAxis custom = new DefaultNumericAxis("axis name", -10, +10, 1.0) {
+            @Override
+            public String getTickMarkLabel(final double value) {
+                return "custom" + value;
+            }
+        };
+        assertEquals("custom2.5", custom.getTickMarkLabel(2.5, null));
+        assertEquals("custom2.5", custom.getTickMarkLabel(2.5, label));
+    }
 }
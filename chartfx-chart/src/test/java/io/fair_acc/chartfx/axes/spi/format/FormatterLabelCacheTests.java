@@ -0,0 +1,57 @@
+package io.fair_acc.chartfx.axes.spi.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javafx.util.StringConverter;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks for the bounded least-recently-used FormatterLabelCache
+ */
+class FormatterLabelCacheTests {
+    @Test
+    void lruTests() {
+        final AtomicInteger nFormatted = new AtomicInteger();
+        final StringConverter<Number> formatter = new StringConverter<>() {
+            @Override
+            public Number fromString(final String string) {
+                return Double.parseDouble(string);
+            }
+
+            @Override
+            public String toString(final Number object) {
+                nFormatted.incrementAndGet();
+                return String.valueOf(object);
+            }
+        };
+
+        assertEquals(FormatterLabelCache.DEFAULT_CAPACITY, new FormatterLabelCache().getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new FormatterLabelCache(0));
+
+        final FormatterLabelCache cache = new FormatterLabelCache(3);
+        assertEquals("1.0", cache.get(formatter, 1.0));
+        assertEquals("2.0", cache.get(formatter, 2.0));
+        assertEquals("3.0", cache.get(formatter, 3.0));
+        assertEquals("1.0", cache.get(formatter, 1.0)); // hit, becomes most recently used
+        assertEquals(3, nFormatted.get());
+
+        assertEquals("4.0", cache.get(formatter, 4.0)); // evicts 2.0
+        assertEquals(3, cache.size());
+        assertFalse(cache.containsKey(2.0));
+        assertTrue(cache.containsKey(1.0));
+        assertTrue(cache.containsKey(3.0));
+        assertTrue(cache.containsKey(4.0));
+
+        // panning: the cache size remains bounded
+        for (int i = 0; i < 100; i++) {
+            cache.get(formatter, 10.0 + i);
+        }
+        assertEquals(3, cache.size());
+    }
+}
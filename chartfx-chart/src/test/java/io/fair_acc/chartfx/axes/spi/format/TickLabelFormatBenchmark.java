@@ -0,0 +1,109 @@
+package io.fair_acc.chartfx.axes.spi.format;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.fair_acc.chartfx.utils.NumberFormatterImpl;
+
+/**
+ * Formatting the major tick labels of a continuously panned axis (each update shifts the visible ticks by one tick
+ * unit) via the boxed and cached {@link DefaultFormatter#toString(Number)}, the plain
+ * {@link NumberFormatterImpl#toString(double)} and the label re-using {@code toString(double, String)} variants.
+ * Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class TickLabelFormatBenchmark {
+    private static final int N_TICKS = 11;
+    private static final int N_PAN_STEPS = 10_000;
+
+    @Param({ "1.0", "0.001" })
+    private double tickUnit;
+
+    private final DefaultFormatter defaultFormatter = new DefaultFormatter();
+    private final NumberFormatterImpl numberFormatter = new NumberFormatterImpl();
+    private String[] labels = new String[N_TICKS];
+    private String[] previousLabels = new String[N_TICKS];
+    private int panStep;
+
+    @Setup
+    public void setup() {
+        panStep = 0;
+        for (int i = 0; i < N_TICKS; i++) {
+            labels[i] = null;
+            previousLabels[i] = null;
+        }
+    }
+
+    @Benchmark
+    public void defaultFormatterCached(final Blackhole blackhole) {
+        final int offset = nextPanStep();
+        for (int i = 0; i < N_TICKS; i++) {
+            blackhole.consume(defaultFormatter.toString((Number) ((offset + i) * tickUnit)));
+        }
+    }
+
+    @Benchmark
+    public void defaultFormatterReusingLabels(final Blackhole blackhole) {
+        final int offset = nextPanStep();
+        for (int i = 0; i < N_TICKS; i++) {
+            // the tick at index i + 1 of the previous update is the tick at index i now
+            labels[i] = defaultFormatter.toString((offset + i) * tickUnit, i + 1 < N_TICKS ? previousLabels[i + 1] : null);
+        }
+        blackhole.consume(swapLabels());
+    }
+
+    @Benchmark
+    public void numberFormatter(final Blackhole blackhole) {
+        final int offset = nextPanStep();
+        for (int i = 0; i < N_TICKS; i++) {
+            blackhole.consume(numberFormatter.toString((offset + i) * tickUnit));
+        }
+    }
+
+    @Benchmark
+    public void numberFormatterReusingLabels(final Blackhole blackhole) {
+        final int offset = nextPanStep();
+        for (int i = 0; i < N_TICKS; i++) {
+            labels[i] = numberFormatter.toString((offset + i) * tickUnit, i + 1 < N_TICKS ? previousLabels[i + 1] : null);
+        }
+        blackhole.consume(swapLabels());
+    }
+
+    private int nextPanStep() {
+        panStep = (panStep + 1) % N_PAN_STEPS;
+        return panStep;
+    }
+
+    private String[] swapLabels() {
+        final String[] tmp = previousLabels;
+        previousLabels = labels;
+        labels = tmp;
+        return previousLabels;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder().include(TickLabelFormatBenchmark.class.getSimpleName()).addProfiler("gc").build();
+        new Runner(opt).run();
+    }
+}
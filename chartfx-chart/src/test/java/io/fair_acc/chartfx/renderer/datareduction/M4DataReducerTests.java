@@ -0,0 +1,116 @@
+package io.fair_acc.chartfx.renderer.datareduction;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests to verify that the M4 data reduction retains first/last/min/max per pixel column
+ */
+class M4DataReducerTests {
+    @Test
+    void testProperties() {
+        final M4DataReducer dataReducer = new M4DataReducer();
+        assertEquals(1, dataReducer.getPixelColumnWidth());
+        dataReducer.setPixelColumnWidth(3);
+        assertEquals(3, dataReducer.getPixelColumnWidth());
+        assertEquals(3, dataReducer.pixelColumnWidthProperty().get());
+        assertThrows(IllegalArgumentException.class, () -> dataReducer.setPixelColumnWidth(0));
+    }
+
+    @Test
+    void testNoErrors() {
+        final M4DataReducer dataReducer = new M4DataReducer();
+        // one point per pixel column: nop
+        final double[] xValues = { 0, 1, 2, 3, 4 };
+        final double[] yValues = { 5, 4, 3, 2, 1 };
+        final boolean[] selected = new boolean[xValues.length];
+        final double[] xResult = xValues.clone();
+        final double[] yResult = yValues.clone();
+        assertEquals(5, dataReducer.reducePoints(xResult, yResult, null, null, null, null, new String[5], selected, 0, 5));
+        assertArrayEquals(xValues, xResult);
+        assertArrayEquals(yValues, yResult);
+
+        // many points per pixel column: first, min, max, last in index order, spikes retained
+        final double[] x = { 0.0, 0.1, 0.2, 0.3, 0.4, 0.5, 1.0, 1.5, 1.6, 1.7, 3.2 };
+        final double[] y = { 5.0, 5.1, 90.0, 5.2, -7.0, 5.3, 1.0, 2.0, 2.0, 2.0, 4.0 };
+        final String[] styles = { "a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k" };
+        final boolean[] sel = new boolean[x.length];
+        sel[3] = true; // dropped, but selection is propagated to the column's first point
+        final int count = dataReducer.reducePoints(x, y, null, null, null, null, styles, sel, 0, x.length);
+        assertEquals(8, count);
+        assertArrayEquals(new double[] { 0.0, 0.2, 0.4, 0.5, 1.0, 1.5, 1.7, 3.2 }, Arrays.copyOf(x, count));
+        assertArrayEquals(new double[] { 5.0, 90.0, -7.0, 5.3, 1.0, 2.0, 2.0, 4.0 }, Arrays.copyOf(y, count));
+        assertArrayEquals(new String[] { "a", "c", "e", "f", "g", "h", "j", "k" }, Arrays.copyOf(styles, count));
+        assertTrue(sel[0]);
+
+        // sub-range and wider columns
+        final double[] x2 = { 0, 1, 2, 3, 4, 5, 6, 7 };
+        final double[] y2 = { 0, 3, 1, 2, 9, 8, 7, 6 };
+        dataReducer.setPixelColumnWidth(4);
+        final int count2 = dataReducer.reducePoints(x2, y2, null, null, null, null, new String[8], new boolean[8], 1, 7);
+        assertEquals(5, count2);
+        assertArrayEquals(new double[] { 1, 2, 3, 4, 6 }, Arrays.copyOf(x2, count2));
+        assertArrayEquals(new double[] { 3, 1, 2, 9, 7 }, Arrays.copyOf(y2, count2));
+    }
+
+    @Test
+    void testNaN() {
+        final M4DataReducer dataReducer = new M4DataReducer();
+        final double[] x = { 0.0, 0.2, 0.4, 0.6, 0.8, 1.2 };
+        final double[] y = { 1.0, 2.0, Double.NaN, 3.0, 4.0, 5.0 };
+        final int count = dataReducer.reducePoints(x, y, null, null, null, null, new String[6], new boolean[6], 0, 6);
+        assertEquals(6, count);
+        assertArrayEquals(new double[] { 1.0, 2.0, Double.NaN, 3.0, 4.0, 5.0 }, Arrays.copyOf(y, count));
+    }
+
+    @Test
+    void testErrorEnvelope() {
+        final M4DataReducer dataReducer = new M4DataReducer();
+        // screen coordinates: y-axis is inverted, i.e. y - eyn maps to larger pixel values than y + eyp
+        final double[] x = { 0.0, 0.3, 0.6, 0.9, 1.0 };
+        final double[] y = { 10, 12, 8, 11, 10 };
+        final double[] yNeg = { 11, 20, 9, 12, 11 };
+        final double[] yPos = { 9, 11, 2, 10, 9 };
+        final double[] xNeg = { -0.5, -0.2, 0.1, 0.4, 0.5 };
+        final double[] xPos = { 0.5, 0.8, 1.1, 1.4, 1.5 };
+        final int count = dataReducer.reducePoints(x, y, xPos, xNeg, yPos, yNeg, new String[5], new boolean[5], 0, 5);
+        assertEquals(5, count);
+        assertArrayEquals(new double[] { 0.0, 0.3, 0.6, 0.9, 1.0 }, Arrays.copyOf(x, count));
+        for (int i = 0; i < 4; i++) {
+            assertEquals(20, yNeg[i]);
+            assertEquals(2, yPos[i]);
+            assertEquals(-0.5, xNeg[i]);
+            assertEquals(1.4, xPos[i]);
+        }
+        // single point column keeps its own errors
+        assertEquals(10, y[4]);
+        assertEquals(11, yNeg[4]);
+        assertEquals(9, yPos[4]);
+    }
+
+    @Test
+    void testLargeTrace() {
+        final M4DataReducer dataReducer = new M4DataReducer();
+        final int n = 1_000_000;
+        final int width = 500;
+        final double[] x = new double[n];
+        final double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = i * (double) width / n;
+            y[i] = Math.sin(0.001 * i);
+        }
+        y[123_457] = 1e3; // glitch
+        final int count = dataReducer.reducePoints(x, y, null, null, null, null, new String[n], new boolean[n], 0, n);
+        assertTrue(count <= 4 * width, "count = " + count);
+        assertEquals(1e3, Arrays.stream(y, 0, count).max().orElseThrow());
+        for (int i = 1; i < count; i++) {
+            assertTrue(x[i] >= x[i - 1], "monotonic x");
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package io.fair_acc.chartfx.renderer.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import static io.fair_acc.dataset.DataSet.DIM_Y;
+import static io.fair_acc.dataset.DataSet.DIM_Z;
+
+import java.util.Arrays;
+
+import javafx.scene.image.WritableImage;
+import javafx.stage.Stage;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import io.fair_acc.chartfx.XYChart;
+import io.fair_acc.chartfx.axes.spi.DefaultNumericAxis;
+import io.fair_acc.chartfx.renderer.spi.utils.ColorGradient;
+import io.fair_acc.chartfx.ui.utils.JavaFXInterceptorUtils.SelectiveJavaFxInterceptor;
+import io.fair_acc.chartfx.ui.geometry.Side;
+import io.fair_acc.chartfx.ui.utils.TestFx;
+import io.fair_acc.dataset.spi.CircularDoubleGridDataSet;
+import io.fair_acc.dataset.spi.DoubleGridDataSet;
+
+/**
+ * Checks the incremental, tiled heatmap rendering of the {@link ContourDataSetRenderer}
+ */
+@ExtendWith(ApplicationExtension.class)
+@ExtendWith(SelectiveJavaFxInterceptor.class)
+class TiledHeatMapCacheTests {
+    private static final int N_X = 40;
+    private static final int N_Y = 30;
+    private static final int TILE_SIZE = 8;
+    private static final int N_TILES = 5 * 4;
+    private XYChart chart;
+    private TestAxis yAxis;
+    private ContourDataSetRenderer renderer;
+    private DoubleGridDataSet dataSet;
+
+    @Start
+    public void start(final Stage stage) {
+        final TestAxis xAxis = new TestAxis(0, N_X - 1);
+        yAxis = new TestAxis(0, N_Y - 1);
+        chart = new XYChart(xAxis, yAxis);
+        dataSet = new DoubleGridDataSet("heatmap", 3, new int[] { N_X, N_Y });
+        dataSet.recomputeLimits();
+        renderer = new ContourDataSetRenderer();
+        renderer.getDatasets().add(dataSet);
+        renderer.setColorGradient(ColorGradient.JET);
+        renderer.setTiledRendering(true);
+        renderer.setTileSize(TILE_SIZE);
+        chart.getRenderers().setAll(renderer);
+        renderer.updateAxes();
+        renderer.zAxis.setAutoRanging(false);
+        renderer.zAxis.set(0, 100);
+
+        xAxis.setSide(Side.BOTTOM);
+        yAxis.setSide(Side.LEFT);
+        xAxis.resize(400, 20);
+        xAxis.setLength(400);
+        yAxis.resize(20, 300);
+        yAxis.setLength(300);
+    }
+
+    @TestFx
+    void incrementalTileUpdates() {
+        final ContourDataSetCache view = new ContourDataSetCache(chart, renderer, dataSet, false);
+        assertEquals(N_X, view.xSize);
+        assertEquals(N_Y, view.ySize);
+        assertFalse(view.isReductionRequired(renderer));
+
+        final TiledHeatMapCache tiledHeatMap = renderer.getTiledHeatMap(dataSet);
+        assertSame(tiledHeatMap, renderer.getTiledHeatMap(dataSet));
+        render();
+        assertEquals(N_TILES, tiledHeatMap.getUpdatedTileCount());
+        final WritableImage image = tiledHeatMap.update(view, renderer, renderer.zAxis.getAxisTransform());
+        assertEquals(0, tiledHeatMap.getUpdatedTileCount(), "unmodified data");
+
+        // single value: only the enclosing tile is updated
+        dataSet.set(DIM_Z, new int[] { 3, 2 }, 50.0);
+        render();
+        assertEquals(1, tiledHeatMap.getUpdatedTileCount());
+        assertSame(image, tiledHeatMap.update(view, renderer, renderer.zAxis.getAxisTransform()));
+        final int[] lut = ColorGradient.JET.getLookupTable(renderer.getNumberQuantisationLevels());
+        final int expected = lut[renderer.getNumberQuantisationLevels() / 2];
+        assertEquals(expected, image.getPixelReader().getArgb(3, N_Y - 1 - 2)); // lowest data row is at the bottom
+
+        // values in two different tile rows and columns: tiles in the bounding rows x columns
+        dataSet.set(DIM_Z, new int[] { 0, 0 }, 10.0);
+        dataSet.set(DIM_Z, new int[] { N_X - 1, N_Y - 1 }, 90.0);
+        render();
+        assertEquals(4, tiledHeatMap.getUpdatedTileCount());
+
+        // z range changes: all tiles need to be re-mapped
+        renderer.zAxis.set(0, 200);
+        render();
+        assertEquals(N_TILES, tiledHeatMap.getUpdatedTileCount());
+        render();
+        assertEquals(0, tiledHeatMap.getUpdatedTileCount());
+
+        // grid structure changes: all tiles
+        dataSet.set(new DoubleGridDataSet(dataSet), true);
+        render();
+        assertEquals(N_TILES, tiledHeatMap.getUpdatedTileCount());
+
+        // tiled and full-frame colour-mapping yield the same image
+        final ContourDataSetCache fullFrame = new ContourDataSetCache(chart, renderer, dataSet);
+        final WritableImage reference = fullFrame.convertDataArrayToImage(fullFrame.reduced, fullFrame.xSize, fullFrame.ySize, renderer.getColorGradient());
+        final WritableImage tiled = tiledHeatMap.update(new ContourDataSetCache(chart, renderer, dataSet, false), renderer, renderer.zAxis.getAxisTransform());
+        for (int y = 0; y < N_Y; y++) {
+            for (int x = 0; x < N_X; x++) {
+                assertEquals(reference.getPixelReader().getArgb(x, y), tiled.getPixelReader().getArgb(x, y), "pixel (" + x + ", " + y + ")");
+            }
+        }
+    }
+
+    @TestFx
+    void circularRowAppend() {
+        final double[] xGrid = new double[N_X];
+        for (int i = 0; i < N_X; i++) {
+            xGrid[i] = i;
+        }
+        final CircularDoubleGridDataSet waterfall = new CircularDoubleGridDataSet("waterfall", xGrid, N_Y);
+        final double[] row = new double[N_X];
+        for (int i = 0; i < 10; i++) {
+            waterfall.appendRow(row);
+        }
+        renderer.getDatasets().setAll(waterfall);
+        yAxis.set(-1, 2.0 * N_Y);
+        yAxis.setLength(300);
+        final TiledHeatMapCache tiledHeatMap = renderer.getTiledHeatMap(waterfall);
+        render(waterfall);
+        assertEquals(N_TILES, tiledHeatMap.getUpdatedTileCount());
+
+        // appending a row (without dropping one) only touches one row of tiles
+        waterfall.appendRow(row);
+        render(waterfall);
+        assertEquals(N_TILES / 4, tiledHeatMap.getUpdatedTileCount());
+
+        // full buffer: dropping the oldest row does not shift the image rows
+        for (int i = waterfall.getShape(DIM_Y); i < N_Y; i++) {
+            waterfall.appendRow(row);
+        }
+        render(waterfall);
+        assertEquals(3 * N_TILES / 4, tiledHeatMap.getUpdatedTileCount()); // storage rows 11..29: image rows 0..18
+        final double[] newRow = new double[N_X];
+        Arrays.fill(newRow, 50.0);
+        waterfall.appendRow(newRow);
+        assertEquals(1, waterfall.getFirstStorageRow());
+        render(waterfall);
+        assertEquals(N_TILES / 4, tiledHeatMap.getUpdatedTileCount());
+
+        // new row replaced the storage row '0', i.e. the lowest image row
+        final int[] lut = ColorGradient.JET.getLookupTable(renderer.getNumberQuantisationLevels());
+        final WritableImage image = tiledHeatMap.update(new ContourDataSetCache(chart, renderer, waterfall, false), renderer, renderer.zAxis.getAxisTransform());
+        assertEquals(N_Y, (int) image.getHeight());
+        assertEquals(lut[renderer.getNumberQuantisationLevels() / 2], image.getPixelReader().getArgb(0, N_Y - 1));
+        assertEquals(lut[0], image.getPixelReader().getArgb(0, N_Y - 2));
+    }
+
+    private void render() {
+        renderer.render(chart.getCanvas().getGraphicsContext2D(), dataSet, null);
+    }
+
+    private void render(final CircularDoubleGridDataSet waterfall) {
+        renderer.render(chart.getCanvas().getGraphicsContext2D(), waterfall, null);
+    }
+
+    private static class TestAxis extends DefaultNumericAxis {
+        TestAxis(final double min, final double max) {
+            super("axis", min, max, 1.0);
+        }
+
+        @Override
+        protected void setLength(final double axisLength) { // NOPMD - widens visibility, no layout pass in this test
+            super.setLength(axisLength);
+            updateScale();
+            updateCachedTransforms();
+        }
+    }
+}
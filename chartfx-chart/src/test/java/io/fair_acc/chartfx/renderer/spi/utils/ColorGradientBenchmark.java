@@ -0,0 +1,72 @@
+package io.fair_acc.chartfx.renderer.spi.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Colour-mapping a 4096 x 2048 heatmap frame of normalised z values into an ARGB buffer via the cached per-offset
+ * {@link ColorGradient#getColorBytes(double)} and via the primitive {@link ColorGradient#getLookupTable(int)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class ColorGradientBenchmark {
+    private static final int WIDTH = 4096;
+    private static final int HEIGHT = 2048;
+    private static final int N_QUANT = 256;
+
+    private final ColorGradient gradient = ColorGradient.VIRIDIS;
+    private final double[] offsets = new double[WIDTH * HEIGHT];
+    private final int[] argb = new int[WIDTH * HEIGHT];
+
+    @Setup
+    public void setup() {
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                final double offset = 0.5 + 0.5 * Math.sin(0.01 * x) * Math.cos(0.02 * y);
+                offsets[y * WIDTH + x] = ((int) (offset * N_QUANT)) / (double) N_QUANT; // quantised as in ContourDataSetCache
+            }
+        }
+    }
+
+    @Benchmark
+    public int[] colorBytes() {
+        for (int i = 0; i < offsets.length; i++) {
+            final int[] color = gradient.getColorBytes(offsets[i]);
+            argb[i] = color[0] << 24 | color[1] << 16 | color[2] << 8 | color[3];
+        }
+        return argb;
+    }
+
+    @Benchmark
+    public int[] lookupTable() {
+        final int[] lut = gradient.getLookupTable(N_QUANT);
+        for (int i = 0; i < offsets.length; i++) {
+            final int level = ColorGradient.getLookupIndex(offsets[i], N_QUANT);
+            argb[i] = level < 0 ? 0 : lut[level];
+        }
+        return argb;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder().include(ColorGradientBenchmark.class.getSimpleName()).addProfiler("gc").build();
+        new Runner(opt).run();
+    }
+}
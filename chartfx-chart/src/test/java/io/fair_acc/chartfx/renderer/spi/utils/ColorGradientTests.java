@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -43,4 +45,27 @@ public class ColorGradientTests {
             assertNotNull(gradient.toString(), "gradient name");
         }
     }
+
+    @Test
+    public void testLookupTable() {
+        final int nLevels = 16;
+        for (ColorGradient gradient : ColorGradient.colorGradients()) {
+            final int[] lut = gradient.getLookupTable(nLevels);
+            assertEquals(nLevels + 1, lut.length);
+            assertSame(lut, gradient.getLookupTable(nLevels), "lookup table caching");
+            for (int i = 0; i <= nLevels; i++) {
+                final int[] colorBytes = gradient.getColorBytes(i / (double) nLevels);
+                assertEquals(colorBytes[0] << 24 | colorBytes[1] << 16 | colorBytes[2] << 8 | colorBytes[3], lut[i], gradient + " level " + i);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> ColorGradient.JET.getLookupTable(0));
+
+        assertEquals(0, ColorGradient.getLookupIndex(0.0, nLevels));
+        assertEquals(nLevels / 2, ColorGradient.getLookupIndex(0.5, nLevels));
+        assertEquals(nLevels / 2, ColorGradient.getLookupIndex(0.5 + 0.5 / nLevels, nLevels));
+        assertEquals(nLevels, ColorGradient.getLookupIndex(1.0, nLevels));
+        assertEquals(-1, ColorGradient.getLookupIndex(-0.1, nLevels));
+        assertEquals(-1, ColorGradient.getLookupIndex(1.1, nLevels));
+        assertEquals(-1, ColorGradient.getLookupIndex(Double.NaN, nLevels));
+    }
 }
@@ -0,0 +1,49 @@
+package io.fair_acc.chartfx.ui.css;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import javafx.scene.text.Font;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks for the sharing and invalidation of the TextMetricsCache among text styles
+ */
+class TextMetricsCacheTests {
+    @Test
+    void sharingTests() {
+        TextMetricsCache.clear();
+        final TextStyle style1 = new TextStyle();
+        final TextStyle style2 = new TextStyle();
+        assertSame(style1.getMetricsCache(), style2.getMetricsCache());
+        assertSame(style1.getMetricsCache(), style1.getMetricsCache());
+        assertEquals(1, TextMetricsCache.getStyleCount());
+
+        // empty strings do not require a measurement
+        assertEquals(0.0, style1.getTextMetrics("").getWidth());
+        assertEquals(0.0, style1.getTextMetrics(null).getHeight());
+
+        // rotation and font changes need separate caches
+        style2.setRotate(90);
+        assertNotSame(style1.getMetricsCache(), style2.getMetricsCache());
+        style2.setRotate(0);
+        assertSame(style1.getMetricsCache(), style2.getMetricsCache());
+        style2.setFont(Font.font(style1.getFont().getSize() + 3));
+        assertNotSame(style1.getMetricsCache(), style2.getMetricsCache());
+        assertEquals(3, TextMetricsCache.getStyleCount());
+
+        // scaling is not part of the style but affects the metrics
+        final Object unscaled = style1.getMetricsCache();
+        style1.setScaleX(2.0);
+        assertNotSame(unscaled, style1.getMetricsCache());
+        style1.setScaleX(1.0);
+        assertSame(unscaled, style1.getMetricsCache());
+
+        // clearing also invalidates the caches held by the styles
+        TextMetricsCache.clear();
+        assertEquals(0, TextMetricsCache.getStyleCount());
+        assertNotSame(unscaled, style1.getMetricsCache());
+    }
+}
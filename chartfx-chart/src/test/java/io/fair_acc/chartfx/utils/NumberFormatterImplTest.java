@@ -110,6 +110,21 @@ class NumberFormatterImplTest {
         assertEquals("0.00", formatter.apply(0.001000000000000004));
     }
 
+    @Test
+    void reusePreviousLabel() {
+        Locale.setDefault(Locale.US);
+        var formatter = new NumberFormatterImpl(2, false);
+        final String label = formatter.toString(1.25);
+        assertEquals("1.25", label);
+        assertSame(label, formatter.toString(1.25, label));
+        assertSame(label, formatter.toString(1.249999999, label));
+        assertEquals("1.26", formatter.toString(1.26, label));
+        assertEquals("-1.25", formatter.toString(-1.25, label));
+        assertEquals("1.25", formatter.toString(1.25, null));
+        assertEquals("0.00", formatter.toString(0.0, "0.01"));
+        assertEquals("NaN", formatter.toString(Double.NaN, label));
+    }
+
     private static DoubleFunction<String> createFormatter(boolean exponentialForm, int decimalPlaces) {
         var formatter = new NumberFormatterImpl();
         formatter.setExponentialForm(exponentialForm);
@@ -0,0 +1,135 @@
+package io.fair_acc.chartfx.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.fair_acc.bench.MeasurementRecorder;
+
+/**
+ * Checks for ParallelRangeExecutor range coverage, adaptive chunking, error propagation and instrumentation
+ */
+class ParallelRangeExecutorTests {
+    @Test
+    void coverageTests() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final ParallelRangeExecutor executor = new ParallelRangeExecutor("test", pool, 10);
+            assertEquals(20, executor.getMaxChunks());
+            assertEquals(10, executor.getMinChunkSize());
+            assertTrue(Double.isNaN(executor.getNanosPerElement()));
+
+            for (final int length : new int[] { 0, 1, 9, 10, 11, 1000, 12_345 }) {
+                final int offset = 7;
+                final int[] visited = new int[offset + length];
+                final AtomicInteger calls = new AtomicInteger();
+                executor.execute(offset, offset + length, (from, to) -> {
+                    calls.incrementAndGet();
+                    for (int i = from; i < to; i++) {
+                        visited[i]++;
+                    }
+                });
+                for (int i = 0; i < visited.length; i++) {
+                    assertEquals(i < offset ? 0 : 1, visited[i], "length = " + length + " index = " + i);
+                }
+                assertTrue(calls.get() <= executor.getMaxChunks());
+            }
+            assertTrue(executor.getNanosPerElement() >= 0);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void adaptiveChunkTests() {
+        final ParallelRangeExecutor executor = new ParallelRangeExecutor("test", 1);
+        executor.setTargetChunkNanos(1_000_000);
+        assertEquals(1_000_000, executor.getTargetChunkNanos());
+
+        // cheap elements: all processed within a single chunk in the calling thread
+        final AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            calls.set(0);
+            executor.execute(0, 1000, (from, to) -> calls.incrementAndGet());
+        }
+        assertEquals(1, calls.get());
+
+        // expensive elements: split into several chunks
+        final ParallelRangeExecutor expensive = new ParallelRangeExecutor("test", 1);
+        expensive.setTargetChunkNanos(1_000_000);
+        for (int i = 0; i < 3; i++) {
+            calls.set(0);
+            expensive.execute(0, 100, (from, to) -> {
+                calls.incrementAndGet();
+                sleep(to - from);
+            });
+        }
+        assertTrue(expensive.getNanosPerElement() > 500_000, "cost = " + expensive.getNanosPerElement());
+        assertTrue(calls.get() > 1 || expensive.getMaxChunks() == 1);
+
+        assertThrows(IllegalArgumentException.class, () -> executor.setMinChunkSize(0));
+        assertThrows(IllegalArgumentException.class, () -> executor.setTargetChunkNanos(0));
+    }
+
+    @Test
+    void exceptionTests() {
+        final ParallelRangeExecutor executor = new ParallelRangeExecutor("test", 1);
+        final IllegalStateException exception = assertThrows(IllegalStateException.class, () -> executor.execute(0, 10_000, (from, to) -> {
+            if (to == 10_000) {
+                throw new IllegalArgumentException("last chunk");
+            }
+        }));
+        assertTrue(exception.getCause() instanceof IllegalArgumentException || exception.getMessage().contains("last chunk"));
+
+        // executor remains usable
+        final AtomicInteger sum = new AtomicInteger();
+        executor.execute(0, 100, (from, to) -> sum.addAndGet(to - from));
+        assertEquals(100, sum.get());
+    }
+
+    @Test
+    void recorderTests() {
+        final List<String> tags = new ArrayList<>();
+        final ParallelRangeExecutor executor = new ParallelRangeExecutor("test", 1);
+        executor.setRecorder(MeasurementRecorder.printRecorder(tags::add));
+        executor.execute(0, 100, (from, to) -> {});
+        assertTrue(tags.stream().anyMatch(tag -> tag.startsWith("test-total")), tags.toString());
+        assertTrue(tags.stream().anyMatch(tag -> tag.startsWith("test-compute")), tags.toString());
+        assertTrue(tags.stream().anyMatch(tag -> tag.startsWith("test-overhead")), tags.toString());
+        assertTrue(tags.stream().anyMatch(tag -> tag.startsWith("test-chunks")), tags.toString());
+    }
+
+    @Test
+    void measuresPerCallTests() {
+        // a shared executor records to the measures of the respective caller
+        final List<String> tagsA = new ArrayList<>();
+        final List<String> tagsB = new ArrayList<>();
+        final ParallelRangeExecutor executor = new ParallelRangeExecutor("test", 1);
+        final ParallelRangeExecutor.Measures measuresA = executor.newMeasures(MeasurementRecorder.printRecorder(tagsA::add));
+        final ParallelRangeExecutor.Measures measuresB = executor.newMeasures(MeasurementRecorder.printRecorder(tagsB::add));
+        executor.execute(0, 100, (from, to) -> {}, measuresA);
+        final int nTagsA = tagsA.size();
+        assertTrue(nTagsA > 0);
+        assertTrue(tagsB.isEmpty(), tagsB.toString());
+        executor.execute(0, 100, (from, to) -> {}, measuresB);
+        assertEquals(nTagsA, tagsA.size(), tagsA.toString());
+        assertTrue(tagsB.stream().anyMatch(tag -> tag.startsWith("test-total")), tagsB.toString());
+        executor.execute(0, 100, (from, to) -> {}, ParallelRangeExecutor.Measures.DISABLED);
+        assertEquals(nTagsA, tagsA.size(), tagsA.toString());
+    }
+
+    private static void sleep(final int millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.fair_acc.dataset;
+
+/**
+ * 2D {@link TrackedGridDataSet} whose rows (DIM_Y, e.g. the time axis of a waterfall or spectrogram) are stored in a
+ * circular buffer: appending a row overwrites the oldest one once the capacity has been reached.
+ * <p>
+ * Grid indices are logical, i.e. row '0' is always the oldest row. Since every append that drops a row shifts all
+ * logical rows, consumers that keep derived per-row data (e.g. the image rows of a heatmap) may instead follow the
+ * storage layout: logical row {@code i} is kept in storage row {@code (getFirstStorageRow() + i) % getRowCapacity()},
+ * and only the storage rows with a modification count greater than the one of the consumer's last update have changed.
+ */
+public interface CircularGridDataSet extends TrackedGridDataSet {
+    /**
+     * @return the maximum number of rows
+     */
+    int getRowCapacity();
+
+    /**
+     * @return storage row of the logical row '0', i.e. of the oldest row
+     */
+    int getFirstStorageRow();
+
+    /**
+     * @param storageRow storage row index, smaller than {@link #getRowCapacity()}
+     * @return the modification count of the last change of the given storage row
+     */
+    long getStorageRowModificationCount(int storageRow);
+}
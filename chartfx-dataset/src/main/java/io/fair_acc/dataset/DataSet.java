@@ -97,6 +97,30 @@ public interface DataSet extends EventSource, Serializable, Measurable.EmptyDefa
      */
     int getIndex(final int dimIndex, final double... x);
 
+    /**
+     * Indicates whether the coordinates of the given dimension are monotonically increasing with the index, which e.g.
+     * allows to locate data points or index ranges via binary search rather than scanning the whole data set.
+     *
+     * @param dimIndex the dimension index (ie. '0' equals 'X', '1' equals 'Y')
+     * @return true if the coordinates are known to be sorted, false if they are unsorted or unknown
+     */
+    default boolean isSorted(final int dimIndex) {
+        return false;
+    }
+
+    /**
+     * Indicates whether the data set keeps the limits of its axis descriptions exact on every modification, i.e.
+     * extends them on appends and clears them whenever an extremum may have been removed or overwritten. Such limits
+     * only need to be re-computed once they are undefined. Otherwise, limits that have been modified since the last
+     * layout are re-computed via a full scan of the data. N.B. writers that modify the arrays returned by
+     * {@link #getValues(int)} directly need to clear the affected axis descriptions of such data sets.
+     *
+     * @return true if the limits are maintained incrementally by the data set itself
+     */
+    default boolean hasIncrementalLimits() {
+        return false;
+    }
+
     /**
      * Gets the name of the data set.
      *
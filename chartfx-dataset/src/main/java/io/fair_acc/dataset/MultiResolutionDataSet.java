@@ -0,0 +1,20 @@
+package io.fair_acc.dataset;
+
+/**
+ * A <code>DataSet</code> that provides pre-computed, down-sampled representations (levels of detail) of its data, e.g.
+ * to display huge traces at any zoom level in a time proportional to the number of pixels rather than the number of
+ * samples.
+ */
+public interface MultiResolutionDataSet extends DataSet {
+    /**
+     * Returns the coarsest representation of this data set that still contains at least <code>minSamples</code>
+     * samples within the given x-range. Down-sampled representations retain the min/max envelope of the original
+     * data, i.e. narrow spikes remain visible.
+     *
+     * @param xMin lower bound of the visible x-range
+     * @param xMax upper bound of the visible x-range
+     * @param minSamples minimum number of samples required within [xMin, xMax] (e.g. the number of pixels)
+     * @return the best matching level of detail, or this data set itself if no coarser level suffices
+     */
+    DataSet getLevelOfDetail(double xMin, double xMax, int minSamples);
+}
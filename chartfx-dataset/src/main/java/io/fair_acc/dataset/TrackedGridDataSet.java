@@ -0,0 +1,34 @@
+package io.fair_acc.dataset;
+
+/**
+ * GridDataSet that keeps track of the modified rows (DIM_Y grid indices) and columns (DIM_X grid indices) of its
+ * values, e.g. to allow renderers to update only the affected region of a cached image.
+ * <p>
+ * Each modification increments the data set's modification count and stamps the affected rows and columns with the new
+ * count. Consumers remember the count of their last update: a row or column has been modified since if its stamp is
+ * greater than the remembered count. Modifications of the grid itself (shape or grid values) are reported through
+ * {@link #getStructureModificationCount()}, in which case all values are to be considered as modified.
+ */
+public interface TrackedGridDataSet extends GridDataSet {
+    /**
+     * @return the monotonically increasing count of modifications
+     */
+    long getModificationCount();
+
+    /**
+     * @return the modification count of the last change of the grid shape or the grid values
+     */
+    long getStructureModificationCount();
+
+    /**
+     * @param yIndex grid index along DIM_Y
+     * @return the modification count of the last change of a value in the given row
+     */
+    long getRowModificationCount(int yIndex);
+
+    /**
+     * @param xIndex grid index along DIM_X
+     * @return the modification count of the last change of a value in the given column
+     */
+    long getColumnModificationCount(int xIndex);
+}
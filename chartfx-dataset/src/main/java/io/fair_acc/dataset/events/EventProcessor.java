@@ -2,4 +2,17 @@ package io.fair_acc.dataset.events;
 
 public interface EventProcessor {
     void addAction(BitState obj, Runnable action);
+
+    /**
+     * Adds an action that should not be executed more often than the given period. Invalidations that arrive
+     * within the period get coalesced into a single trailing execution. Implementations that do not support
+     * rate limiting execute the action on every update.
+     *
+     * @param obj state that triggers the action
+     * @param action action to be executed
+     * @param minUpdatePeriod minimum period between two executions in milliseconds (&lt;= 0: no limit)
+     */
+    default void addAction(BitState obj, Runnable action, long minUpdatePeriod) {
+        addAction(obj, action);
+    }
 }
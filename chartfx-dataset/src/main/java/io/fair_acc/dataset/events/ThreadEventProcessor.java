@@ -1,10 +1,28 @@
 package io.fair_acc.dataset.events;
 
-import java.util.*;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
-import org.apache.commons.lang3.tuple.Pair;
+import io.fair_acc.bench.BenchLevel;
+import io.fair_acc.bench.CountMeasure;
+import io.fair_acc.bench.Measurable;
+import io.fair_acc.bench.MeasurementRecorder;
+import io.fair_acc.bench.TimeMeasure;
+import io.fair_acc.dataset.utils.CachedDaemonThreadFactory;
 
 /**
  * An event processor class which processes dataset events independent of the UI thread of the chart.
@@ -13,18 +31,36 @@ import org.apache.commons.lang3.tuple.Pair;
  * Data processing can either be added to a separate EventProcessor or be handled inside the event processing of
  * the chartfx-chart package, eg as a member of a plugin which will perform the update during the plugin's preLayout phase.
  * <p>
- * TODO:
- * - implement rate limiting
- * - distribute work on multiple threads/thread-pool
+ * Actions are grouped by their {@link BitState}. Only groups whose state actually got invalidated are scheduled,
+ * so the cost of a wake-up does not depend on the number of registered actions. Actions sharing the same
+ * {@link BitState} are always executed sequentially in registration order and a group is never executed
+ * concurrently with itself. By default, all groups are processed on a single daemon thread. A pooled instance
+ * (see {@link #createPooled(int)}) dispatches independent groups in parallel, e.g. via:
+ * <pre>
+ * ThreadEventProcessor.setUserInstance(ThreadEventProcessor.createPooled(4));
+ * </pre>
+ * <p>
+ * Rate limiting: a minimum update period can be set globally via {@link #setMinUpdatePeriod(long)} or per action via
+ * {@link #addAction(BitState, Runnable, long)}. The first invalidation after an idle period is processed immediately,
+ * further invalidations within the period are coalesced into a single execution at the end of the period, so that the
+ * latest state always gets processed. The number of executed and coalesced (dropped) updates is available via
+ * {@link #getExecutedCount()}/{@link #getDroppedCount()} and through the {@link MeasurementRecorder}.
  */
-public class ThreadEventProcessor implements EventProcessor, Runnable {
+public class ThreadEventProcessor implements EventProcessor, Runnable, Measurable {
     private static final AtomicReference<ThreadEventProcessor> INSTANCE = new AtomicReference<>();
     private static EventProcessor userInstance;
 
     private final Object changeLock = new Object();
-    private final BitState state = BitState.initDirtyMultiThreaded(this, ChartBits.DataSetMask)
-                                           .addChangeListener((src, bits) -> notifyChanged());
-    private final List<Pair<BitState, Runnable>> actions = new CopyOnWriteArrayList<>();
+    private final BitState state = BitState.initDirtyMultiThreaded(this, ChartBits.DataSetMask);
+    private final Map<BitState, ActionGroup> actionGroups = new ConcurrentHashMap<>();
+    private final Queue<ActionGroup> pendingGroups = new ConcurrentLinkedQueue<>();
+    private final Executor executor; // null: process on the internal thread
+    private final LongAdder executedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final Object recordLock = new Object();
+    private volatile long minUpdatePeriod; // [ns]
+    private volatile TimeMeasure benchAction = TimeMeasure.DISABLED;
+    private volatile CountMeasure benchCoalesced = CountMeasure.DISABLED;
 
     public static EventProcessor getUserInstance() {
         return userInstance != null ? userInstance : getInstance();
@@ -48,35 +84,59 @@ public class ThreadEventProcessor implements EventProcessor, Runnable {
         }
     }
 
+    /**
+     * @param parallelism maximum number of actions that may be executed concurrently
+     * @return new event processor that dispatches dirty actions on a dedicated pool of daemon worker threads
+     */
+    public static ThreadEventProcessor createPooled(final int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        final ForkJoinPool.ForkJoinWorkerThreadFactory factory = pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("ChartFx event processor #" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        };
+        // asyncMode = true: FIFO scheduling of event-style tasks that are never joined
+        return new ThreadEventProcessor(new ForkJoinPool(parallelism, factory, null, true));
+    }
+
     ThreadEventProcessor() {
-        // TODO: use a thread pool instead of a single thread
+        this.executor = null;
         var thread = new Thread(this, "ChartFx event processor");
         thread.setDaemon(true);
         thread.start();
     }
 
+    /**
+     * @param executor executor on which the dirty actions are dispatched
+     */
+    public ThreadEventProcessor(final Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null");
+        }
+        this.executor = executor;
+    }
+
     @Override
     public void run() {
         // noinspection InfiniteLoopStatement
         while (true) {
-            boolean isDirty = state.clear() != 0;
-            if (isDirty) {
-                for (final var action : actions) {
-                    if (action.getLeft().isDirty(ChartBits.DataSetMask)) {
-                        action.getLeft().clear();
-                        try {
-                            action.getRight().run();
-                        } catch (Exception ignored) {
-                        }
-                    }
-                }
+            ActionGroup group;
+            while ((group = pendingGroups.poll()) != null) {
+                group.run();
             }
-            // Todo: add optional rate limiting
             waitForChanges();
         }
     }
 
-    private void notifyChanged() {
+    private void dispatch(final ActionGroup group) {
+        if (executor != null) {
+            executor.execute(group);
+            return;
+        }
+        pendingGroups.add(group);
         synchronized (changeLock) {
             changeLock.notifyAll();
         }
@@ -84,7 +144,7 @@ public class ThreadEventProcessor implements EventProcessor, Runnable {
 
     private void waitForChanges() {
         synchronized (changeLock) {
-            if (state.isClean()) {
+            if (pendingGroups.isEmpty()) {
                 try {
                     changeLock.wait();
                 } catch (InterruptedException ignored) {
@@ -97,9 +157,132 @@ public class ThreadEventProcessor implements EventProcessor, Runnable {
         return state;
     }
 
+    /**
+     * @param minUpdatePeriod global minimum period between two executions of the same action in milliseconds
+     *            (&lt;= 0: no limit). N.B. the actions registered to the same {@link BitState} are executed together
+     *            and limited by the larger of this period and the largest individual period of any of these actions.
+     */
+    public void setMinUpdatePeriod(final long minUpdatePeriod) {
+        this.minUpdatePeriod = TimeUnit.MILLISECONDS.toNanos(Math.max(0, minUpdatePeriod));
+    }
+
+    /**
+     * @return global minimum period between two executions of the same action in milliseconds
+     */
+    public long getMinUpdatePeriod() {
+        return TimeUnit.NANOSECONDS.toMillis(minUpdatePeriod);
+    }
+
+    /**
+     * @return number of action group executions since the creation of this processor
+     */
+    public long getExecutedCount() {
+        return executedCount.sum();
+    }
+
+    /**
+     * @return number of invalidations that were coalesced into another execution
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    @Override
+    public void setRecorder(final MeasurementRecorder recorder) {
+        benchAction = recorder.newTime("events-action", BenchLevel.Debug);
+        benchCoalesced = recorder.newDebugCount("events-coalesced");
+    }
+
+    /**
+     * @return true if actions are dispatched to an executor rather than the single internal thread
+     */
+    public boolean isPooled() {
+        return executor != null;
+    }
+
     @Override
     public void addAction(final BitState obj, final Runnable action) {
+        addAction(obj, action, 0);
+    }
+
+    @Override
+    public void addAction(final BitState obj, final Runnable action, final long minUpdatePeriod) {
         obj.addInvalidateListener(state);
-        actions.add(Pair.of(obj, action));
+        final ActionGroup group = actionGroups.computeIfAbsent(obj, ActionGroup::new);
+        group.actions.add(action);
+        group.minUpdatePeriod = Math.max(group.minUpdatePeriod, TimeUnit.MILLISECONDS.toNanos(minUpdatePeriod));
+        if (obj.isDirty(ChartBits.DataSetMask)) {
+            group.invalidations.incrementAndGet();
+            group.schedule();
+        }
+    }
+
+    /**
+     * All actions registered to the same {@link BitState}. Scheduled whenever the state gets invalidated and
+     * re-scheduled if it got invalidated again while the actions were running or waiting for the rate limit.
+     */
+    private final class ActionGroup implements Runnable, StateListener {
+        private final BitState bitState;
+        private final List<Runnable> actions = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicLong invalidations = new AtomicLong();
+        private volatile long minUpdatePeriod; // [ns]
+        private long lastExecution = System.nanoTime() - TimeUnit.DAYS.toNanos(1);
+
+        private ActionGroup(final BitState bitState) {
+            this.bitState = bitState;
+            bitState.addInvalidateListener(ChartBits.DataSetMask, this);
+        }
+
+        @Override
+        public void accept(final BitState source, final int bits) {
+            invalidations.incrementAndGet();
+            schedule();
+        }
+
+        private void schedule() {
+            if (!scheduled.get() && scheduled.compareAndSet(false, true)) {
+                dispatch(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            final long now = System.nanoTime();
+            final long remaining = lastExecution + Math.max(minUpdatePeriod, ThreadEventProcessor.this.minUpdatePeriod) - now;
+            if (remaining > 0) {
+                // stays scheduled, i.e. further invalidations get coalesced into the delayed execution
+                DelayedDispatch.SCHEDULER.schedule(() -> dispatch(this), remaining, TimeUnit.NANOSECONDS);
+                return;
+            }
+            lastExecution = now;
+
+            state.clear();
+            bitState.clear();
+            final long coalesced = Math.max(0, invalidations.getAndSet(0) - 1);
+            for (final Runnable action : actions) {
+                try {
+                    action.run();
+                } catch (Exception ignored) {
+                }
+            }
+            executedCount.increment();
+            droppedCount.add(coalesced);
+            if (benchAction != TimeMeasure.DISABLED) {
+                synchronized (recordLock) { // recorders are not required to be thread-safe
+                    benchAction.recordTime(TimeUnit.NANOSECONDS, System.nanoTime() - now);
+                    benchCoalesced.recordCount(coalesced);
+                }
+            }
+            scheduled.set(false);
+            // catch invalidations that happened while running, i.e. that could not schedule the group themselves
+            if (bitState.isDirty(ChartBits.DataSetMask)) {
+                schedule();
+            }
+        }
+    }
+
+    private static final class DelayedDispatch { // lazy initialisation
+        private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(CachedDaemonThreadFactory.getInstance());
     }
 }
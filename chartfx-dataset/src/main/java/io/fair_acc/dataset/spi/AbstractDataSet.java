@@ -37,11 +37,13 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
     private static final long serialVersionUID = -7612136495756923417L;
 
     private static final String[] DEFAULT_AXES_NAME = { "x-Axis", "y-Axis", "z-Axis" };
+    private static final double EQUIDISTANT_TOLERANCE = 1e-9; // relative to the step size
     private String name;
     protected final int dimension;
     private final List<AxisDescription> axesDescriptions = new ArrayList<>();
     private final transient BitState state = BitState.initDirty(this);
     private final transient DataSetLock<? extends DataSet> lock = new DefaultDataSetLock<>(this);
+    private transient volatile SortedState sortedState; // cached order of the x coordinates
     private final StringHashMapList dataLabels = new StringHashMapList();
     private final StringHashMapList dataStyles = new StringHashMapList();
     private final List<String> styleClasses = new ArrayList<>();
@@ -662,6 +664,13 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
             return 0;
         }
 
+        if (dimIndex == DIM_X) {
+            final SortedState sorted = sortedState;
+            if (sorted != null && sorted.equidistant) {
+                return getEquidistantIndex(x[0], sorted.step);
+            }
+        }
+
         final double min = this.getAxisDescription(dimIndex).getMin();
         final double max = this.getAxisDescription(dimIndex).getMax();
 
@@ -678,6 +687,165 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
         return binarySearch(x[0], 0, lastIndex, val -> get(dimIndex, val));
     }
 
+    /**
+     * N.B. the order of the x coordinates is only known for derived classes that report all of their modifications of
+     * the x coordinates, see {@link #updateSortedX(int)}. It is never computed lazily by this method.
+     *
+     * @param dimIndex the dimension index (ie. '0' equals 'X', '1' equals 'Y')
+     * @return true if the x coordinates are known to be sorted, false otherwise
+     */
+    @Override
+    public boolean isSorted(final int dimIndex) {
+        final SortedState state = sortedState;
+        return dimIndex == DIM_X && state != null && state.sorted;
+    }
+
+    /**
+     * Updates the cached order of the x coordinates after values have been appended without re-scanning the existing
+     * data, i.e. in O(nAppended). The oldest values may have been dropped in the same operation (e.g. circular
+     * buffers). If all values have been (re-)set, nAppended should equal the data count, which (re-)starts the
+     * tracking of the order.
+     * <p>
+     * Contract for derived classes: the cached order is opt-in and only valid as long as every modification of the x
+     * coordinates is reported within the write lock and after the values have been modified, i.e. via this method,
+     * {@link #updateSortedXInserted(int, int)}, {@link #updateSortedXRemoved(int)},
+     * {@link #updateSortedXReplaced(int, int)} or {@link #invalidateSortedX()}. Data sets that do not report their
+     * modifications are never considered sorted and {@link #getIndex(int, double...)} uses a binary search.
+     *
+     * @param nAppended number of values that have been appended to the end of the data set
+     */
+    protected void updateSortedX(final int nAppended) {
+        final int first = getDataCount() - nAppended;
+        if (first < 0) {
+            sortedState = null;
+            return;
+        }
+        if (first == 0) {
+            sortedState = scanX(null, 0);
+            return;
+        }
+        final SortedState previous = sortedState;
+        if (previous == null || Double.compare(previous.last, get(DIM_X, first - 1)) != 0) {
+            sortedState = null;
+            return;
+        }
+        sortedState = scanX(previous, first);
+    }
+
+    /**
+     * Updates the cached order of the x coordinates after values have been inserted, i.e. in O(nInserted). Appends
+     * extend the order (see {@link #updateSortedX(int)}), insertions before the end check the order of the inserted
+     * values w.r.t. their neighbours.
+     *
+     * @param index index of the first inserted value
+     * @param nInserted number of inserted values
+     */
+    protected void updateSortedXInserted(final int index, final int nInserted) {
+        if (index + nInserted == getDataCount()) {
+            updateSortedX(nInserted);
+        } else {
+            updateSortedXReplaced(index, nInserted);
+        }
+    }
+
+    /**
+     * Updates the cached order of the x coordinates after values have been removed, i.e. in O(1): removing values
+     * retains the order, removing values other than the first or last ones breaks equidistant spacing.
+     *
+     * @param index index of the first removed value
+     */
+    protected void updateSortedXRemoved(final int index) {
+        final SortedState previous = sortedState;
+        final int count = getDataCount();
+        if (count == 0) {
+            sortedState = scanX(null, 0); // the order of an empty data set is known
+            return;
+        }
+        if (previous == null) {
+            return;
+        }
+        final boolean equidistant = previous.equidistant && count > 1 && (index == 0 || index == count);
+        sortedState = new SortedState(previous.sorted, equidistant, previous.step, get(DIM_X, count - 1));
+    }
+
+    /**
+     * Updates the cached order of the x coordinates after values have been replaced in-place, i.e. in O(nReplaced) by
+     * checking the new values against their neighbours. Unsorted data remains unsorted until all values are re-set.
+     *
+     * @param index index of the first replaced value
+     * @param nReplaced number of replaced values
+     */
+    protected void updateSortedXReplaced(final int index, final int nReplaced) {
+        final SortedState previous = sortedState;
+        if (previous == null) {
+            return;
+        }
+        final int count = getDataCount();
+        boolean sorted = previous.sorted;
+        boolean equidistant = previous.equidistant;
+        final int to = Math.min(count - 1, index + nReplaced);
+        for (int i = Math.max(1, index); sorted && i <= to; i++) {
+            final double diff = get(DIM_X, i) - get(DIM_X, i - 1);
+            sorted = diff >= 0; // also false for NaN
+            equidistant &= Math.abs(diff - previous.step) <= EQUIDISTANT_TOLERANCE * previous.step;
+        }
+        sortedState = new SortedState(sorted, equidistant && sorted, previous.step, count > 0 ? get(DIM_X, count - 1) : Double.NaN);
+    }
+
+    /**
+     * Discards the cached order of the x coordinates, i.e. the data set is not considered sorted until all values are
+     * re-set or {@link #recomputeSortedX()} is called. Needs to be called within the write lock by writers that modify
+     * the x coordinates outside of the data set's own methods, e.g. via the arrays returned by {@link #getValues(int)}.
+     */
+    public void invalidateSortedX() {
+        sortedState = null;
+    }
+
+    /**
+     * Re-computes the cached order of the x coordinates via a full scan of the data, i.e. in O(n). Needs to be called
+     * within the write lock by writers that modify the x coordinates outside of the data set's own methods, e.g. via the
+     * arrays returned by {@link #getValues(int)}, and that want to retain the fast sorted index look-up.
+     */
+    public void recomputeSortedX() {
+        updateSortedX(getDataCount());
+    }
+
+    private SortedState scanX(final SortedState previous, final int from) {
+        final int count = getDataCount();
+        boolean sorted = previous == null || previous.sorted;
+        boolean equidistant = previous == null || previous.equidistant;
+        double step = previous == null ? Double.NaN : previous.step;
+        double last = previous == null ? Double.NaN : previous.last;
+        for (int i = from; i < count; i++) {
+            final double x = get(DIM_X, i);
+            if (i > 0) {
+                final double diff = x - last;
+                sorted &= x >= last; // also false for NaN
+                if (i == 1) {
+                    step = diff;
+                    equidistant = diff > 0;
+                } else {
+                    equidistant &= Math.abs(diff - step) <= EQUIDISTANT_TOLERANCE * step;
+                }
+            }
+            last = x;
+        }
+        return new SortedState(sorted, equidistant && sorted && count > 1, step, last);
+    }
+
+    private int getEquidistantIndex(final double x, final double step) {
+        final int lastIndex = getDataCount() - 1;
+        int index = (int) Math.max(0, Math.min(lastIndex, Math.round((x - get(DIM_X, 0)) / step)));
+        // correct rounding errors of the estimate
+        while (index > 0 && Math.abs(get(DIM_X, index - 1) - x) < Math.abs(get(DIM_X, index) - x)) {
+            index--;
+        }
+        while (index < lastIndex && Math.abs(get(DIM_X, index + 1) - x) < Math.abs(get(DIM_X, index) - x)) {
+            index++;
+        }
+        return index;
+    }
+
     @Override
     public DataSet recomputeLimits(final int dimIndex) {
         benchRecomputeLimitsSingle.start();
@@ -693,11 +861,79 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
         return this;
     }
 
+    /**
+     * Extends the limits by a newly added value without re-scanning the existing data, i.e. in O(1). Limits that have
+     * been invalidated before (e.g. by an arbitrary 'set' or 'remove') are left undefined so that they get fully
+     * recomputed by {@link #recomputeLimits(int)}. N.B. needs to be called after the value has been added.
+     *
+     * @param dimIndex the dimension index (ie. '0' equals 'X', '1' equals 'Y')
+     * @param value the newly added value
+     */
+    protected void extendLimits(final int dimIndex, final double value) {
+        final AxisDescription axisDescription = getAxisDescription(dimIndex);
+        if (axisDescription.isDefined() || getDataCount() <= 1) {
+            axisDescription.add(value);
+        }
+    }
+
+    /**
+     * Extends the limits by newly added values without re-scanning the existing data.
+     *
+     * @param dimIndex the dimension index (ie. '0' equals 'X', '1' equals 'Y')
+     * @param values array containing the newly added values
+     * @param offset index of the first new value
+     * @param length number of new values
+     * @see #extendLimits(int, double)
+     */
+    protected void extendLimits(final int dimIndex, final double[] values, final int offset, final int length) {
+        if (!getAxisDescription(dimIndex).isDefined() && getDataCount() > length) {
+            return;
+        }
+        final DataRange newRange = new DataRange();
+        for (int i = offset; i < offset + length; i++) {
+            newRange.add(values[i]);
+        }
+        extendLimits(dimIndex, newRange, length);
+    }
+
+    /**
+     * Extends the limits by the range of newly added values without re-scanning the existing data.
+     *
+     * @param dimIndex the dimension index (ie. '0' equals 'X', '1' equals 'Y')
+     * @param newRange range of the newly added values (e.g. including their errors)
+     * @param length number of new values
+     * @see #extendLimits(int, double)
+     */
+    protected void extendLimits(final int dimIndex, final DataRange newRange, final int length) {
+        final AxisDescription axisDescription = getAxisDescription(dimIndex);
+        if (newRange.isDefined() && (axisDescription.isDefined() || getDataCount() <= length)) {
+            axisDescription.add(newRange.getMin());
+            axisDescription.add(newRange.getMax());
+        }
+    }
+
     @Override
     public BitState getBitState() {
         return state;
     }
 
+    /**
+     * Order of the x coordinates of the data set.
+     */
+    private static final class SortedState {
+        private final boolean sorted; // monotonically increasing
+        private final boolean equidistant; // sorted with constant spacing 'step'
+        private final double step;
+        private final double last; // last x coordinate, needed to extend the state by appended values
+
+        private SortedState(final boolean sorted, final boolean equidistant, final double step, final double last) {
+            this.sorted = sorted;
+            this.equidistant = equidistant;
+            this.step = step;
+            this.last = last;
+        }
+    }
+
     protected boolean copyMetaData(final DataSet other) {
         this.setName(other.getName());
         if (!(other instanceof DataSetMetaData)) {
@@ -89,6 +89,54 @@ public abstract class AbstractErrorDataSet<D extends AbstractErrorDataSet<D>> ex
         return getThis();
     }
 
+    /**
+     * @param dimIndex the dimension index (ie. '0' equals 'X', '1' equals 'Y')
+     * @param value the data point coordinate
+     * @param errorNeg the negative error of the data point
+     * @param errorPos the positive error of the data point
+     * @return lower bound of the data point w.r.t. the error type (consistent with {@link #recomputeLimits(int)})
+     */
+    protected double getLowerLimit(final int dimIndex, final double value, final double errorNeg, final double errorPos) {
+        switch (getErrorType(dimIndex)) {
+        case NO_ERROR:
+            return value;
+        case ASYMMETRIC:
+            return value - errorNeg;
+        case SYMMETRIC:
+        default:
+            return value - errorPos;
+        }
+    }
+
+    /**
+     * @param dimIndex the dimension index (ie. '0' equals 'X', '1' equals 'Y')
+     * @param value the data point coordinate
+     * @param errorNeg the negative error of the data point
+     * @param errorPos the positive error of the data point
+     * @return upper bound of the data point w.r.t. the error type (consistent with {@link #recomputeLimits(int)})
+     */
+    protected double getUpperLimit(final int dimIndex, final double value, final double errorNeg, final double errorPos) {
+        return getErrorType(dimIndex) == ErrorType.NO_ERROR ? value : value + errorPos;
+    }
+
+    /**
+     * @param dimIndex the dimension index (ie. '0' equals 'X', '1' equals 'Y')
+     * @param values the data point coordinates
+     * @param errorsNeg the negative errors
+     * @param errorsPos the positive errors
+     * @param offset index of the first data point
+     * @param length number of data points
+     * @return range of the data points including their errors
+     */
+    protected DataRange getErrorRange(final int dimIndex, final double[] values, final double[] errorsNeg, final double[] errorsPos, final int offset, final int length) {
+        final DataRange range = new DataRange();
+        for (int i = offset; i < offset + length; i++) {
+            range.add(getLowerLimit(dimIndex, values[i], errorsNeg[i], errorsPos[i]));
+            range.add(getUpperLimit(dimIndex, values[i], errorsNeg[i], errorsPos[i]));
+        }
+        return range;
+    }
+
     /**
      * sets the error type of the data set for the given dimension index
      *
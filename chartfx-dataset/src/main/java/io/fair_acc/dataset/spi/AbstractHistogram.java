@@ -148,7 +148,12 @@ public abstract class AbstractHistogram extends AbstractDataSet<AbstractHistogra
     public void addBinContent(final int bin, final double w) {
         lock().writeLockGuard(() -> {
             data[bin] = data[bin] + w;
-            getAxisDescription(this.getDimension() - 1).add(data[bin]);
+            if (w < 0) {
+                // the bin may have been the maximum -> recomputed on demand
+                getAxisDescription(this.getDimension() - 1).clear();
+            } else {
+                extendLimits(this.getDimension() - 1, data[bin]);
+            }
         });
         fireInvalidated(ChartBits.DataSetData);
     }
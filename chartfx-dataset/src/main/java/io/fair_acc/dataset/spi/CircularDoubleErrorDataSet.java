@@ -20,6 +20,8 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
     protected DoubleCircularBuffer yErrorsNeg;
     protected CircularBuffer<String> dataLabels;
     protected CircularBuffer<String> dataStyles;
+    private final transient SlidingDataRange xRange = new SlidingDataRange();
+    private final transient SlidingDataRange yRange = new SlidingDataRange();
 
     /**
      * Creates a new instance of <code>CircularDoubleErrorDataSet</code>.
@@ -86,10 +88,10 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
             dataLabels.put(label);
             dataStyles.put(style);
 
-            // assumes in X sorted data range
-            getAxisDescription(DIM_X).setMin(xValues.get(0));
-            getAxisDescription(DIM_X).setMax(xValues.get(xValues.available() - 1));
-            getAxisDescription(DIM_Y).clear();
+            xRange.add(x);
+            yRange.add(getLowerLimit(DIM_Y, y, yErrorNeg, yErrorPos), getUpperLimit(DIM_Y, y, yErrorNeg, yErrorPos));
+            updateLimits();
+            updateSortedX(1);
         });
 
         fireInvalidated(ChartBits.DataSetDataAdded);
@@ -131,33 +133,89 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
      * @return itself
      */
     public CircularDoubleErrorDataSet add(final double[] xVals, final double[] yVals, final double[] yErrNeg, final double[] yErrPos, final int dataCount) {
+        return add(xVals, yVals, yErrNeg, yErrPos, 0, dataCount);
+    }
+
+    /**
+     * Appends a block of samples, e.g. an acquisition frame. The data is copied with at most one split at the buffer's
+     * wrap-around boundary, the limits are updated using only the new samples, and a single invalidation event is
+     * emitted.
+     *
+     * @param xVals the new x coordinates
+     * @param yVals the new y coordinates
+     * @param yErrNeg the -dy errors
+     * @param yErrPos the +dy errors
+     * @param offset index of the first sample within the arrays
+     * @param length number of samples to be appended
+     * @return itself
+     */
+    public CircularDoubleErrorDataSet add(final double[] xVals, final double[] yVals, final double[] yErrNeg, final double[] yErrPos, final int offset, final int length) {
         AssertUtils.notNull("X coordinates", xVals);
         AssertUtils.notNull("Y coordinates", yVals);
         AssertUtils.notNull("Y error neg", yErrNeg);
         AssertUtils.notNull("Y error pos", yErrPos);
-        AssertUtils.gtOrEqual("X coordinates", dataCount, xVals.length);
-        AssertUtils.gtOrEqual("Y coordinates", dataCount, yVals.length);
-        AssertUtils.gtOrEqual("Y error neg", dataCount, yErrNeg.length);
-        AssertUtils.gtOrEqual("Y error pos", dataCount, yErrPos.length);
+        AssertUtils.gtEqThanZero("offset", offset);
+        AssertUtils.gtEqThanZero("length", length);
+        AssertUtils.gtOrEqual("X coordinates", offset + length, xVals.length);
+        AssertUtils.gtOrEqual("Y coordinates", offset + length, yVals.length);
+        AssertUtils.gtOrEqual("Y error neg", offset + length, yErrNeg.length);
+        AssertUtils.gtOrEqual("Y error pos", offset + length, yErrPos.length);
+        if (length == 0) {
+            return getThis();
+        }
 
         lock().writeLockGuard(() -> {
-            this.xValues.put(xVals, dataCount);
-            this.yValues.put(yVals, dataCount);
-            this.yErrorsNeg.put(yErrNeg, dataCount);
-            this.yErrorsPos.put(yErrPos, dataCount);
-            dataLabels.put(new String[yVals.length], dataCount);
-            dataStyles.put(new String[yVals.length], dataCount);
-
-            // assumes in X sorted data range
-            getAxisDescription(DIM_X).setMin(xValues.get(0));
-            getAxisDescription(DIM_X).setMax(xValues.get(xValues.available() - 1));
-            getAxisDescription(DIM_Y).clear();
+            this.xValues.put(xVals, offset, length);
+            this.yValues.put(yVals, offset, length);
+            this.yErrorsNeg.put(yErrNeg, offset, length);
+            this.yErrorsPos.put(yErrPos, offset, length);
+            dataLabels.fill(null, length);
+            dataStyles.fill(null, length);
+
+            // samples that are not retained by the buffer do not need to be tracked either
+            final int start = offset + Math.max(0, length - xValues.capacity());
+            for (int i = start; i < offset + length; i++) {
+                xRange.add(xVals[i]);
+                yRange.add(getLowerLimit(DIM_Y, yVals[i], yErrNeg[i], yErrPos[i]), getUpperLimit(DIM_Y, yVals[i], yErrNeg[i], yErrPos[i]));
+            }
+            updateLimits();
+            updateSortedX(offset + length - start);
         });
 
         fireInvalidated(ChartBits.DataSetDataAdded);
         return getThis();
     }
 
+    /**
+     * Drops the overwritten samples from the sliding limits and updates the axis descriptions, i.e. in O(1) amortised
+     * rather than via a full {@link #recomputeLimits(int)} scan.
+     */
+    private void updateLimits() {
+        xRange.removeOldest(xRange.size() - xValues.available());
+        yRange.removeOldest(yRange.size() - xValues.available());
+        getAxisDescription(DIM_X).set(xRange.getMin(), xRange.getMax());
+        getAxisDescription(DIM_Y).set(yRange.getMin(), yRange.getMax());
+    }
+
+    /**
+     * Recomputes the limits via a full scan of the buffer, e.g. after the error type has been changed. N.B. limits are
+     * otherwise maintained incrementally on every add.
+     */
+    @Override
+    public CircularDoubleErrorDataSet recomputeLimits(final int dimIndex) {
+        final SlidingDataRange range = dimIndex == DIM_X ? xRange : yRange;
+        range.clear();
+        final int dataCount = getDataCount();
+        for (int i = 0; i < dataCount; i++) {
+            final double value = get(dimIndex, i);
+            final double errorNeg = getErrorNegative(dimIndex, i);
+            final double errorPos = getErrorPositive(dimIndex, i);
+            range.add(getLowerLimit(dimIndex, value, errorNeg, errorPos), getUpperLimit(dimIndex, value, errorNeg, errorPos));
+        }
+        getAxisDescription(dimIndex).set(range.getMin(), range.getMax());
+        return getThis();
+    }
+
     @Override
     public int getDataCount() {
         return xValues.available();
@@ -188,6 +246,11 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
         return dimIndex == DataSet.DIM_X ? xValues.get(index) : yValues.get(index);
     }
 
+    @Override
+    public boolean hasIncrementalLimits() {
+        return true;
+    }
+
     @Override
     public String addDataLabel(int index, String label) {
         throw new UnsupportedOperationException("Adding data labels later is not supported, supply labels to add()");
@@ -221,7 +284,10 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
             yErrorsPos.reset();
             dataLabels.reset();
             dataStyles.reset();
+            xRange.clear();
+            yRange.clear();
             getAxisDescriptions().forEach(AxisDescription::clear);
+            updateSortedX(0);
         });
 
         fireInvalidated(ChartBits.DataSetDataRemoved);
@@ -0,0 +1,317 @@
+package io.fair_acc.dataset.spi;
+
+import java.util.Arrays;
+
+import io.fair_acc.dataset.AxisDescription;
+import io.fair_acc.dataset.CircularGridDataSet;
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.DataSet3D;
+import io.fair_acc.dataset.GridDataSet;
+import io.fair_acc.dataset.events.ChartBits;
+import io.fair_acc.dataset.utils.AssertUtils;
+
+/**
+ * Waterfall-type 2D grid DataSet, e.g. for scrolling spectrograms: a fixed x grid (e.g. frequencies) and a y dimension
+ * (e.g. time) whose rows are stored in a circular buffer.
+ * <p>
+ * {@link #appendRow(double, double[])} copies only the new row (O(nx)), i.e. independent of the number of retained
+ * rows, and replaces the oldest row once the capacity has been reached. Grid indices are logical (row '0' being the
+ * oldest row) and are re-mapped to the storage rows internally. The z limits are maintained incrementally from the
+ * per-row minima and maxima using a {@link SlidingDataRange}. The y grid values (e.g. time stamps) are expected to be
+ * increasing.
+ */
+@SuppressWarnings({ "java:S2160" }) // equals is still valid because of DataSet interface
+public class CircularDoubleGridDataSet extends AbstractGridDataSet<CircularDoubleGridDataSet> implements DataSet3D, CircularGridDataSet {
+    private static final long serialVersionUID = 2476155264390658283L;
+    private final int capacity;
+    protected transient double[] xGrid;
+    protected transient double[] yGrid; // per storage row
+    protected transient double[] values; // row-major storage: [storageRow * nx + xIndex]
+    private transient int first; // storage row of the oldest row
+    private transient int count; // number of rows
+    private final transient SlidingDataRange zRange = new SlidingDataRange();
+    private transient long modificationCount;
+    private transient long structureModificationCount;
+    private transient long shiftModificationCount; // last append that dropped the oldest row
+    private final transient long[] storageRowModificationCount;
+    private transient long[] columnModificationCount;
+
+    /**
+     * @param name name of this DataSet
+     * @param xGrid the x grid values (e.g. frequencies)
+     * @param capacity the maximum number of rows
+     */
+    public CircularDoubleGridDataSet(final String name, final double[] xGrid, final int capacity) {
+        super(name, 3);
+        AssertUtils.notNull("xGrid", xGrid);
+        AssertUtils.gtThanZero("capacity", capacity);
+        this.capacity = capacity;
+        this.xGrid = xGrid.clone();
+        yGrid = new double[capacity];
+        values = new double[capacity * xGrid.length];
+        storageRowModificationCount = new long[capacity];
+        columnModificationCount = new long[xGrid.length];
+        structureModified();
+        updateLimits();
+    }
+
+    /**
+     * Appends a row with a y value one unit after the previous row.
+     *
+     * @param rowValues the new row's values, at least as long as the x grid
+     * @return itself for method chaining
+     */
+    public CircularDoubleGridDataSet appendRow(final double[] rowValues) {
+        return appendRow(Double.NaN, rowValues, true);
+    }
+
+    /**
+     * Appends a row and drops the oldest one if the capacity has been reached.
+     *
+     * @param y the new row's y value (e.g. its time stamp), should be larger than the previous one
+     * @param rowValues the new row's values, at least as long as the x grid
+     * @return itself for method chaining
+     */
+    public CircularDoubleGridDataSet appendRow(final double y, final double[] rowValues) {
+        return appendRow(y, rowValues, false);
+    }
+
+    /**
+     * removes all rows
+     *
+     * @return itself for method chaining
+     */
+    public CircularDoubleGridDataSet clearData() {
+        lock().writeLockGuard(() -> {
+            first = 0;
+            count = 0;
+            zRange.clear();
+            structureModified();
+            updateLimits();
+        });
+        fireInvalidated(ChartBits.DataSetDataRemoved);
+        return this;
+    }
+
+    @Override
+    public double get(final int dimIndex, final int index) {
+        final int nx = xGrid.length;
+        return get(dimIndex, index % nx, index / nx);
+    }
+
+    @Override
+    public boolean hasIncrementalLimits() {
+        return true;
+    }
+
+    @Override
+    public double get(final int dimIndex, final int... indices) {
+        final int xIndex = indices.length > DIM_X ? indices[DIM_X] : 0;
+        final int yIndex = indices.length > DIM_Y ? indices[DIM_Y] : 0;
+        switch (dimIndex) {
+        case DIM_X:
+            return xGrid[xIndex];
+        case DIM_Y:
+            return yGrid[getStorageRow(yIndex)];
+        default:
+            if (xIndex >= xGrid.length) {
+                throw new IndexOutOfBoundsException("x index " + xIndex + " out of bounds for grid size " + xGrid.length);
+            }
+            return values[getStorageRow(yIndex) * xGrid.length + xIndex];
+        }
+    }
+
+    @Override
+    public long getColumnModificationCount(final int xIndex) {
+        return columnModificationCount[xIndex];
+    }
+
+    @Override
+    public int getDataCount() {
+        return xGrid.length * count;
+    }
+
+    @Override
+    public int getFirstStorageRow() {
+        return first;
+    }
+
+    @Override
+    public double getGrid(final int dimIndex, final int index) {
+        switch (dimIndex) {
+        case DIM_X:
+            return xGrid[index];
+        case DIM_Y:
+            return yGrid[getStorageRow(index)];
+        default:
+            throw new IndexOutOfBoundsException("Grid index out of bounds");
+        }
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public int getRowCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public long getRowModificationCount(final int yIndex) {
+        return Math.max(storageRowModificationCount[getStorageRow(yIndex)], shiftModificationCount);
+    }
+
+    @Override
+    public int[] getShape() {
+        return new int[] { xGrid.length, count };
+    }
+
+    @Override
+    public int getShape(final int dimIndex) {
+        switch (dimIndex) {
+        case DIM_X:
+            return xGrid.length;
+        case DIM_Y:
+            return count;
+        default:
+            throw new IndexOutOfBoundsException("Grid index out of bounds");
+        }
+    }
+
+    @Override
+    public long getStorageRowModificationCount(final int storageRow) {
+        return storageRowModificationCount[storageRow];
+    }
+
+    @Override
+    public long getStructureModificationCount() {
+        return structureModificationCount;
+    }
+
+    /**
+     * Recomputes the limits via a full scan of the retained rows. N.B. limits are otherwise maintained incrementally on
+     * every {@link #appendRow(double, double[])}.
+     */
+    @Override
+    public CircularDoubleGridDataSet recomputeLimits(final int dimIndex) {
+        if (dimIndex == DIM_Z) {
+            zRange.clear();
+            final int nx = xGrid.length;
+            for (int row = 0; row < count; row++) {
+                final DataRange rowRange = new DataRange();
+                final int offset = getStorageRow(row) * nx;
+                for (int i = 0; i < nx; i++) {
+                    rowRange.add(values[offset + i]);
+                }
+                zRange.add(rowRange.getMin(), rowRange.getMax());
+            }
+        }
+        updateLimits();
+        return this;
+    }
+
+    /**
+     * Copies the x grid and the most recent rows (up to the capacity) of another 2D grid data set.
+     */
+    @Override
+    public DataSet set(final DataSet other, final boolean copy) {
+        if (!(other instanceof GridDataSet) || ((GridDataSet) other).getNGrid() != 2) {
+            throw new IllegalArgumentException("other data set has to be a 2D GridDataSet");
+        }
+        final GridDataSet otherGrid = (GridDataSet) other;
+        lock().writeLockGuard(() -> other.lock().readLockGuard(() -> {
+            final int nx = otherGrid.getShape(DIM_X);
+            final int ny = otherGrid.getShape(DIM_Y);
+            xGrid = Arrays.copyOf(otherGrid.getGridValues(DIM_X), nx); // N.B. may be the other data set's internal array
+            if (values.length != capacity * nx) {
+                values = new double[capacity * nx];
+                columnModificationCount = new long[nx];
+            }
+            first = 0;
+            count = Math.min(ny, capacity);
+            zRange.clear();
+            for (int row = 0; row < count; row++) {
+                final int otherRow = ny - count + row;
+                yGrid[row] = otherGrid.getGrid(DIM_Y, otherRow);
+                final DataRange rowRange = new DataRange();
+                for (int i = 0; i < nx; i++) {
+                    final double value = otherGrid.get(DIM_Z, i, otherRow);
+                    values[row * nx + i] = value;
+                    rowRange.add(value);
+                }
+                zRange.add(rowRange.getMin(), rowRange.getMax());
+            }
+            copyMetaData(other);
+            structureModified();
+            updateLimits();
+        }));
+        fireInvalidated(ChartBits.DataSetData);
+        return this;
+    }
+
+    private CircularDoubleGridDataSet appendRow(final double yValue, final double[] rowValues, final boolean nextY) {
+        AssertUtils.notNull("rowValues", rowValues);
+        lock().writeLockGuard(() -> {
+            final int nx = xGrid.length;
+            AssertUtils.gtOrEqual("rowValues", nx, rowValues.length);
+            // N.B. derived from the previous row within the same write lock to be consistent with concurrent appends
+            final double y = nextY ? (count == 0 ? 0.0 : yGrid[getStorageRow(count - 1)] + 1.0) : yValue;
+            final int storageRow;
+            modificationCount++;
+            if (count < capacity) {
+                storageRow = (first + count) % capacity;
+                count++;
+            } else {
+                // overwrite the oldest row, all logical rows are shifted by one
+                storageRow = first;
+                first = (first + 1) % capacity;
+                zRange.removeOldest(1);
+                shiftModificationCount = modificationCount;
+            }
+            System.arraycopy(rowValues, 0, values, storageRow * nx, nx);
+            yGrid[storageRow] = y;
+            final DataRange rowRange = new DataRange();
+            for (int i = 0; i < nx; i++) {
+                rowRange.add(rowValues[i]);
+            }
+            zRange.add(rowRange.getMin(), rowRange.getMax());
+            storageRowModificationCount[storageRow] = modificationCount;
+            Arrays.fill(columnModificationCount, modificationCount);
+            updateLimits();
+        });
+        fireInvalidated(ChartBits.DataSetDataAdded);
+        return this;
+    }
+
+    private int getStorageRow(final int yIndex) {
+        if (yIndex < 0 || yIndex >= count) {
+            throw new IndexOutOfBoundsException("y index " + yIndex + " out of bounds for " + count + " rows");
+        }
+        return (first + yIndex) % capacity;
+    }
+
+    private void structureModified() {
+        structureModificationCount = ++modificationCount;
+        Arrays.fill(storageRowModificationCount, modificationCount);
+        Arrays.fill(columnModificationCount, modificationCount);
+    }
+
+    private void updateLimits() {
+        final AxisDescription xDescription = getAxisDescription(DIM_X);
+        final AxisDescription yDescription = getAxisDescription(DIM_Y);
+        final AxisDescription zDescription = getAxisDescription(DIM_Z);
+        if (xGrid.length == 0 || count == 0) {
+            getAxisDescriptions().forEach(AxisDescription::clear);
+            return;
+        }
+        xDescription.set(Math.min(xGrid[0], xGrid[xGrid.length - 1]), Math.max(xGrid[0], xGrid[xGrid.length - 1]));
+        yDescription.set(yGrid[first], yGrid[getStorageRow(count - 1)]);
+        if (zRange.isDefined()) {
+            zDescription.set(zRange.getMin(), zRange.getMax());
+        } else {
+            zDescription.clear();
+        }
+    }
+}
@@ -0,0 +1,456 @@
+package io.fair_acc.dataset.spi;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import io.fair_acc.dataset.AxisDescription;
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.DataSet2D;
+import io.fair_acc.dataset.DataSetError;
+import io.fair_acc.dataset.events.ChartBits;
+import io.fair_acc.dataset.utils.AssertUtils;
+
+/**
+ * Implementation of the {@code DataSetError} interface which stores x, y, -eyn, and +eyp values in separate
+ * {@link DoubleBuffer DoubleBuffers} rather than on-heap arrays, e.g. to display very large (archived) data sets
+ * without the corresponding garbage-collector pressure. The buffers may be
+ * <ul>
+ * <li>a read-only memory-mapped file (cf. {@link #map(String, Path, int, ByteOrder)}),
+ * <li>direct (off-heap) buffers for live data that are grown as needed (cf.
+ * {@link #DoubleBufferDataSet(String, int, boolean)}), or
+ * <li>any user-supplied buffers.
+ * </ul>
+ * {@link #get(int, int)} reads straight from the buffers. Since the {@code DataSet} interface also requires array
+ * access, {@link #getValues(int)} and the error array getters lazily materialise an on-heap copy that is cached until
+ * the next modification. Callers that only need a range of the data should prefer
+ * {@link #getValues(int, int, int)}.
+ *
+ * @see DoubleErrorDataSet for the on-heap counterpart
+ */
+@SuppressWarnings("PMD.TooManyMethods") // part of the flexible class nature
+public class DoubleBufferDataSet extends AbstractErrorDataSet<DoubleBufferDataSet> implements DataSet2D, DataSetError {
+    private static final long serialVersionUID = -1875463826453264843L;
+    private static final int DIM_EYN = 2; // indices of the error columns in the materialised array cache
+    private static final int DIM_EYP = 3;
+    /** maximum number of data points per column, i.e. the number of doubles that fit into a single direct buffer */
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE / Double.BYTES;
+    private transient DoubleBuffer xValues;
+    private transient DoubleBuffer yValues;
+    private transient DoubleBuffer yErrorsNeg; // null if the data set has no errors
+    private transient DoubleBuffer yErrorsPos;
+    private int dataCount;
+    private final transient double[][] materialised = new double[4][]; // lazily copied arrays, reset on modification
+
+    /**
+     * Creates a new data set backed by direct (off-heap) buffers that are grown as data is added.
+     *
+     * @param name name of this data set.
+     * @param initialCapacity initial capacity of the buffers (N.B. size=0)
+     * @param withErrors whether to allocate buffers for the (asymmetric) y errors
+     */
+    public DoubleBufferDataSet(final String name, final int initialCapacity, final boolean withErrors) {
+        this(name, allocateDirect(initialCapacity), allocateDirect(initialCapacity), withErrors ? allocateDirect(initialCapacity) : null, withErrors ? allocateDirect(initialCapacity) : null, 0);
+    }
+
+    /**
+     * Creates a new data set wrapping the given buffers. The data is given by the remaining elements of the buffers,
+     * i.e. from their current position to their limit.
+     *
+     * @param name name of this data set.
+     * @param xValues X coordinates
+     * @param yValues Y coordinates
+     */
+    public DoubleBufferDataSet(final String name, final DoubleBuffer xValues, final DoubleBuffer yValues) {
+        this(name, xValues, yValues, null, null);
+    }
+
+    /**
+     * Creates a new data set wrapping the given buffers. The data is given by the remaining elements of the buffers,
+     * i.e. from their current position to their limit.
+     *
+     * @param name name of this data set.
+     * @param xValues X coordinates
+     * @param yValues Y coordinates
+     * @param yErrorsNeg Y negative coordinate error (may be {@code null} for data without errors)
+     * @param yErrorsPos Y positive coordinate error (may be {@code null} for data without errors)
+     */
+    public DoubleBufferDataSet(final String name, final DoubleBuffer xValues, final DoubleBuffer yValues, final DoubleBuffer yErrorsNeg, final DoubleBuffer yErrorsPos) {
+        this(name, xValues, yValues, yErrorsNeg, yErrorsPos, minRemaining(xValues, yValues, yErrorsNeg, yErrorsPos));
+    }
+
+    private DoubleBufferDataSet(final String name, final DoubleBuffer xValues, final DoubleBuffer yValues, final DoubleBuffer yErrorsNeg, final DoubleBuffer yErrorsPos, final int dataCount) {
+        super(name, 2, ErrorType.NO_ERROR, yErrorsNeg == null ? ErrorType.NO_ERROR : ErrorType.ASYMMETRIC);
+        AssertUtils.notNull("X coordinates", xValues);
+        AssertUtils.notNull("Y coordinates", yValues);
+        if ((yErrorsNeg == null) != (yErrorsPos == null)) {
+            throw new IllegalArgumentException("both or none of the negative and positive errors must be given");
+        }
+        // slices decouple the position/limit of the user's buffers from the data set
+        this.xValues = xValues.slice();
+        this.yValues = yValues.slice();
+        this.yErrorsNeg = yErrorsNeg == null ? null : yErrorsNeg.slice();
+        this.yErrorsPos = yErrorsPos == null ? null : yErrorsPos.slice();
+        this.dataCount = dataCount;
+    }
+
+    /**
+     * Maps a binary file read-only into memory. The file is interpreted as consecutive columns of equal length: x, y
+     * and, optionally, the negative and positive y errors. Only the pages that are accessed are loaded by the operating
+     * system and the data is not copied onto the Java heap.
+     *
+     * @param name name of the data set.
+     * @param file the file to be mapped
+     * @param nColumns number of columns (2: x, y; 4: x, y, -eyn, +eyp)
+     * @param byteOrder byte order of the stored doubles
+     * @return new read-only data set
+     * @throws IOException in case the file cannot be mapped
+     */
+    public static DoubleBufferDataSet map(final String name, final Path file, final int nColumns, final ByteOrder byteOrder) throws IOException {
+        if (nColumns != 2 && nColumns != 4) {
+            throw new IllegalArgumentException("nColumns = '" + nColumns + "' must be 2 (x, y) or 4 (x, y, -eyn, +eyp)");
+        }
+        AssertUtils.notNull("byteOrder", byteOrder);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long columnBytes = channel.size() / nColumns / Double.BYTES * Double.BYTES;
+            if (columnBytes > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("column size = '" + columnBytes + "' bytes exceeds maximum buffer size");
+            }
+            // mapping stays valid after the channel has been closed
+            final DoubleBuffer[] columns = new DoubleBuffer[4];
+            for (int i = 0; i < nColumns; i++) {
+                columns[i] = channel.map(FileChannel.MapMode.READ_ONLY, i * columnBytes, columnBytes).order(byteOrder).asDoubleBuffer();
+            }
+            final DoubleBufferDataSet dataSet = new DoubleBufferDataSet(name, columns[0], columns[1], columns[2], columns[3]);
+            dataSet.recomputeLimits();
+            return dataSet;
+        }
+    }
+
+    /**
+     * add point to the data set
+     *
+     * @param x horizontal coordinate of the new data point
+     * @param y vertical coordinate of the new data point
+     * @return itself (fluent design)
+     */
+    public DoubleBufferDataSet add(final double x, final double y) {
+        return add(x, y, 0.0, 0.0);
+    }
+
+    /**
+     * add point to the data set
+     *
+     * @param x horizontal coordinate of the new data point
+     * @param y vertical coordinate of the new data point
+     * @param yErrorNeg vertical negative error of y (ignored if the data set has no errors)
+     * @param yErrorPos vertical positive error of y (ignored if the data set has no errors)
+     * @return itself (fluent design)
+     */
+    public DoubleBufferDataSet add(final double x, final double y, final double yErrorNeg, final double yErrorPos) {
+        lock().writeLockGuard(() -> {
+            ensureCapacity(dataCount + 1L);
+            xValues.put(dataCount, x);
+            yValues.put(dataCount, y);
+            if (yErrorsNeg != null) {
+                yErrorsNeg.put(dataCount, yErrorNeg);
+                yErrorsPos.put(dataCount, yErrorPos);
+            }
+            dataCount++;
+            clearMaterialised();
+
+            extendLimits(DIM_X, x);
+            extendLimits(DIM_Y, getLowerLimit(DIM_Y, y, yErrorNeg, yErrorPos));
+            extendLimits(DIM_Y, getUpperLimit(DIM_Y, y, yErrorNeg, yErrorPos));
+            updateSortedX(1);
+        });
+        fireInvalidated(ChartBits.DataSetDataAdded);
+        return getThis();
+    }
+
+    /**
+     * Adds a block of data points to the data set.
+     *
+     * @param xVals X coordinates
+     * @param yVals Y coordinates
+     * @param yErrNeg negative Y errors (may be {@code null} if the data set has no errors)
+     * @param yErrPos positive Y errors (may be {@code null} if the data set has no errors)
+     * @param offset index of the first sample to be copied
+     * @param length number of samples to be copied
+     * @return itself (fluent design)
+     */
+    public DoubleBufferDataSet add(final double[] xVals, final double[] yVals, final double[] yErrNeg, final double[] yErrPos, final int offset, final int length) {
+        AssertUtils.notNull("X coordinates", xVals);
+        AssertUtils.notNull("Y coordinates", yVals);
+        AssertUtils.gtEqThanZero("offset", offset);
+        AssertUtils.gtEqThanZero("length", length);
+        AssertUtils.gtOrEqual("X coordinates", offset + length, xVals.length);
+        AssertUtils.gtOrEqual("Y coordinates", offset + length, yVals.length);
+        if (hasErrors()) {
+            AssertUtils.notNull("Y error neg", yErrNeg);
+            AssertUtils.notNull("Y error pos", yErrPos);
+            AssertUtils.gtOrEqual("Y error neg", offset + length, yErrNeg.length);
+            AssertUtils.gtOrEqual("Y error pos", offset + length, yErrPos.length);
+        }
+        if (length == 0) {
+            return getThis();
+        }
+
+        lock().writeLockGuard(() -> {
+            ensureCapacity((long) dataCount + length);
+            xValues.put(dataCount, xVals, offset, length);
+            yValues.put(dataCount, yVals, offset, length);
+            if (hasErrors()) {
+                yErrorsNeg.put(dataCount, yErrNeg, offset, length);
+                yErrorsPos.put(dataCount, yErrPos, offset, length);
+            }
+            dataCount += length;
+            clearMaterialised();
+
+            extendLimits(DIM_X, xVals, offset, length);
+            if (hasErrors()) {
+                extendLimits(DIM_Y, getErrorRange(DIM_Y, yVals, yErrNeg, yErrPos, offset, length), length);
+            } else {
+                extendLimits(DIM_Y, yVals, offset, length);
+            }
+            updateSortedX(length);
+        });
+        fireInvalidated(ChartBits.DataSetDataAdded);
+        return getThis();
+    }
+
+    /**
+     * clears all data (N.B. the buffers are retained)
+     *
+     * @return itself (fluent design)
+     * @throws UnsupportedOperationException if the buffers are read-only
+     */
+    public DoubleBufferDataSet clearData() {
+        lock().writeLockGuard(() -> {
+            checkWritable();
+            dataCount = 0;
+            clearMaterialised();
+            getDataLabelMap().clear();
+            getDataStyleMap().clear();
+            clearMetaInfo();
+
+            getAxisDescriptions().forEach(AxisDescription::clear);
+            updateSortedX(0);
+        });
+        fireInvalidated(ChartBits.DataSetDataRemoved);
+        return getThis();
+    }
+
+    @Override
+    public final double get(final int dimIndex, final int index) {
+        return dimIndex == DIM_X ? xValues.get(index) : yValues.get(index);
+    }
+
+    @Override
+    public boolean hasIncrementalLimits() {
+        return true;
+    }
+
+    /**
+     * @param dimIndex the dimension index (ie. '0' equals 'X', '1' equals 'Y')
+     * @return the underlying buffer (N.B. internal buffer, the data is given by the first {@link #getDataCount()}
+     *         elements)
+     */
+    public DoubleBuffer getBuffer(final int dimIndex) {
+        return dimIndex == DIM_X ? xValues : yValues;
+    }
+
+    /**
+     * @return storage capacity of the buffers
+     */
+    public int getCapacity() {
+        return Math.min(xValues.capacity(), yValues.capacity());
+    }
+
+    @Override
+    public int getDataCount() {
+        return dataCount;
+    }
+
+    @Override
+    public double getErrorNegative(final int dimIndex, final int index) {
+        return dimIndex == DIM_X || yErrorsNeg == null ? 0.0 : yErrorsNeg.get(index);
+    }
+
+    @Override
+    public double getErrorPositive(final int dimIndex, final int index) {
+        return dimIndex == DIM_X || yErrorsPos == null ? 0.0 : yErrorsPos.get(index);
+    }
+
+    @Override
+    public double[] getErrorsNegative(final int dimIndex) {
+        return dimIndex == DIM_X || yErrorsNeg == null ? super.getErrorsNegative(dimIndex) : getMaterialised(DIM_EYN, yErrorsNeg);
+    }
+
+    @Override
+    public double[] getErrorsPositive(final int dimIndex) {
+        return dimIndex == DIM_X || yErrorsPos == null ? super.getErrorsPositive(dimIndex) : getMaterialised(DIM_EYP, yErrorsPos);
+    }
+
+    /**
+     * N.B. the array is copied from the underlying buffer on first access after a modification, i.e. this is an O(n)
+     * operation that allocates on the heap. Prefer {@link #get(int, int)} or {@link #getValues(int, int, int)}.
+     *
+     * @param dimIndex the dimension index (ie. '0' equals 'X', '1' equals 'Y')
+     * @return on-heap copy of the data, shared between callers until the next modification (do not modify)
+     */
+    @Override
+    public double[] getValues(final int dimIndex) {
+        return getMaterialised(dimIndex, getBuffer(dimIndex));
+    }
+
+    /**
+     * @param dimIndex the dimension index (ie. '0' equals 'X', '1' equals 'Y')
+     * @param fromIndex index of the first data point (inclusive)
+     * @param toIndex index of the last data point (exclusive)
+     * @return new on-heap copy of the given range of the data
+     */
+    public double[] getValues(final int dimIndex, final int fromIndex, final int toIndex) {
+        AssertUtils.indexInBounds(fromIndex, dataCount + 1, "fromIndex");
+        AssertUtils.indexInBounds(toIndex, dataCount + 1, "toIndex");
+        AssertUtils.indexOrder(fromIndex, "fromIndex", toIndex, "toIndex");
+        final double[] values = new double[toIndex - fromIndex];
+        getBuffer(dimIndex).get(fromIndex, values);
+        return values;
+    }
+
+    /**
+     * @return true if the data set stores y errors
+     */
+    public boolean hasErrors() {
+        return yErrorsNeg != null;
+    }
+
+    /**
+     * @return true if the underlying buffers cannot be modified (e.g. read-only memory-mapped file)
+     */
+    public boolean isReadOnly() {
+        return xValues.isReadOnly();
+    }
+
+    /**
+     * clear old data and overwrite with data from 'other' data set (deep copy into direct buffers)
+     *
+     * @param other the other data set
+     * @param copy unused, the data is always copied into the buffers
+     * @return itself (fluent design)
+     * @throws UnsupportedOperationException if the buffers are read-only
+     * @throws IllegalArgumentException if the other data set exceeds {@link #MAX_CAPACITY}
+     */
+    @Override
+    public DoubleBufferDataSet set(final DataSet other, final boolean copy) {
+        lock().writeLockGuard(() -> other.lock().readLockGuard(() -> {
+            final int count = other.getDataCount();
+            // reject the data before the existing data is discarded
+            checkWritable();
+            checkCapacity(count);
+            dataCount = 0; // no need to retain the old data when growing the buffers
+            ensureCapacity(count);
+            for (int i = 0; i < count; i++) {
+                xValues.put(i, other.get(DIM_X, i));
+                yValues.put(i, other.get(DIM_Y, i));
+            }
+            if (hasErrors()) {
+                final boolean otherHasErrors = other instanceof DataSetError;
+                for (int i = 0; i < count; i++) {
+                    yErrorsNeg.put(i, otherHasErrors ? ((DataSetError) other).getErrorNegative(DIM_Y, i) : 0.0);
+                    yErrorsPos.put(i, otherHasErrors ? ((DataSetError) other).getErrorPositive(DIM_Y, i) : 0.0);
+                }
+            }
+            dataCount = count;
+            clearMaterialised();
+            updateSortedX(count);
+
+            copyMetaData(other);
+            copyDataLabelsAndStyles(other, true);
+            copyAxisDescription(other);
+        }));
+        fireInvalidated(ChartBits.DataSetData);
+        return getThis();
+    }
+
+    private void clearMaterialised() {
+        synchronized (materialised) {
+            for (int i = 0; i < materialised.length; i++) {
+                materialised[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Ensures that the buffers can hold at least 'capacity' elements. Insufficient buffers are replaced by (larger)
+     * direct buffers, retaining the current data.
+     *
+     * @param capacity the required capacity
+     * @throws IllegalArgumentException if the capacity exceeds {@link #MAX_CAPACITY}
+     */
+    private void ensureCapacity(final long capacity) {
+        checkWritable();
+        if (capacity <= getCapacity()) {
+            return;
+        }
+        checkCapacity(capacity);
+        final int newCapacity = (int) Math.min(MAX_CAPACITY, Math.max(capacity, getCapacity() + (getCapacity() >> 1)));
+        xValues = grow(xValues, newCapacity, dataCount);
+        yValues = grow(yValues, newCapacity, dataCount);
+        if (hasErrors()) {
+            yErrorsNeg = grow(yErrorsNeg, newCapacity, dataCount);
+            yErrorsPos = grow(yErrorsPos, newCapacity, dataCount);
+        }
+    }
+
+    private void checkWritable() {
+        if (isReadOnly()) {
+            throw new UnsupportedOperationException("cannot modify read-only (e.g. memory-mapped) data set");
+        }
+    }
+
+    private double[] getMaterialised(final int column, final DoubleBuffer buffer) {
+        synchronized (materialised) {
+            if (materialised[column] == null) {
+                final double[] values = new double[dataCount];
+                buffer.get(0, values);
+                materialised[column] = values;
+            }
+            return materialised[column];
+        }
+    }
+
+    private static DoubleBuffer allocateDirect(final int capacity) {
+        AssertUtils.gtEqThanZero("capacity", capacity);
+        checkCapacity(capacity);
+        final long nBytes = (long) capacity * Double.BYTES;
+        return ByteBuffer.allocateDirect((int) nBytes).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+    }
+
+    private static void checkCapacity(final long capacity) {
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity = '" + capacity + "' exceeds the maximum direct buffer capacity of '" + MAX_CAPACITY + "' data points");
+        }
+    }
+
+    private static DoubleBuffer grow(final DoubleBuffer buffer, final int capacity, final int length) {
+        final DoubleBuffer newBuffer = allocateDirect(capacity);
+        newBuffer.put(0, buffer, 0, length);
+        return newBuffer;
+    }
+
+    private static int minRemaining(final DoubleBuffer... buffers) {
+        int min = Integer.MAX_VALUE;
+        for (final DoubleBuffer buffer : buffers) {
+            if (buffer != null) {
+                min = Math.min(min, buffer.remaining());
+            }
+        }
+        return min;
+    }
+}
@@ -106,8 +106,9 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
                 addDataLabel(xValues.size() - 1, label);
             }
 
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y);
+            extendLimits(DIM_X, x);
+            extendLimits(DIM_Y, y);
+            updateSortedX(1);
         });
         fireInvalidated(ChartBits.DataSetDataAdded);
         return getThis();
@@ -128,12 +129,13 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
         lock().writeLockGuard(() -> {
             final int addAt = xValues.size();
             final int newElements = Math.min(xValuesNew.length, yValuesNew.length);
-            resize(addAt + newElements);
+            resizeInternal(addAt + newElements);
             xValues.setElements(addAt, xValuesNew);
             yValues.setElements(addAt, yValuesNew);
 
-            getAxisDescription(DIM_X).add(xValuesNew);
-            getAxisDescription(DIM_Y).add(yValuesNew);
+            extendLimits(DIM_X, xValuesNew, 0, newElements);
+            extendLimits(DIM_Y, yValuesNew, 0, newElements);
+            updateSortedX(newElements);
         });
 
         fireInvalidated(ChartBits.DataSetDataAdded);
@@ -181,8 +183,9 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
             yValues.add(indexAt, y);
             getDataLabelMap().addValueAndShiftKeys(indexAt, xValues.size(), label);
             getDataStyleMap().shiftKeys(indexAt, xValues.size());
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y);
+            extendLimits(DIM_X, x);
+            extendLimits(DIM_Y, y);
+            updateSortedXInserted(indexAt, 1);
         });
         fireInvalidated(ChartBits.DataSetDataAdded);
         return getThis();
@@ -206,10 +209,11 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
             final int indexAt = Math.max(0, Math.min(index, getDataCount() + 1));
             xValues.addElements(indexAt, x, 0, min);
             yValues.addElements(indexAt, y, 0, min);
-            getAxisDescription(DIM_X).add(x, min);
-            getAxisDescription(DIM_Y).add(y, min);
+            extendLimits(DIM_X, x, 0, min);
+            extendLimits(DIM_Y, y, 0, min);
             getDataLabelMap().shiftKeys(indexAt, xValues.size());
             getDataStyleMap().shiftKeys(indexAt, xValues.size());
+            updateSortedXInserted(indexAt, min);
         });
         fireInvalidated(ChartBits.DataSetDataAdded);
         return getThis();
@@ -229,6 +233,7 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
             clearMetaInfo();
 
             getAxisDescriptions().forEach(AxisDescription::clear);
+            updateSortedX(0);
         });
         fireInvalidated(ChartBits.DataSetDataRemoved);
         return getThis();
@@ -239,6 +244,11 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
         return dimIndex == DataSet.DIM_X ? xValues.elements()[index] : yValues.elements()[index];
     }
 
+    @Override
+    public boolean hasIncrementalLimits() {
+        return true;
+    }
+
     /**
      * @return storage capacity of dataset
      */
@@ -263,8 +273,8 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
     public DoubleDataSet increaseCapacity(final int amount) {
         lock().writeLockGuard(() -> {
             final int size = getDataCount();
-            resize(getCapacity() + amount);
-            resize(size);
+            resizeInternal(getCapacity() + amount);
+            resizeInternal(size);
         });
         return getThis();
     }
@@ -302,6 +312,7 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
 
             // invalidate ranges
             getAxisDescriptions().forEach(AxisDescription::clear);
+            updateSortedXRemoved(fromIndex);
         });
         fireInvalidated(ChartBits.DataSetDataRemoved);
         return getThis();
@@ -315,13 +326,26 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
      */
     public DoubleDataSet resize(final int size) {
         lock().writeLockGuard(() -> {
-            xValues.size(size);
-            yValues.size(size);
+            final int oldCount = getDataCount();
+            resizeInternal(size);
+            if (size < oldCount) {
+                updateSortedXRemoved(size);
+            } else if (size > oldCount) {
+                invalidateSortedX(); // the appended values are not yet defined
+            }
+            if (size != oldCount) {
+                getAxisDescriptions().forEach(AxisDescription::clear);
+            }
         });
         fireInvalidated(ChartBits.DataSetData);
         return getThis();
     }
 
+    private void resizeInternal(final int size) { // N.B. the caller needs to update the order of the x coordinates
+        xValues.size(size);
+        yValues.size(size);
+    }
+
     /**
      * clear old data and overwrite with data from 'other' data set
      *
@@ -416,6 +440,7 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
 
             // invalidate ranges
             getAxisDescriptions().forEach(AxisDescription::clear);
+            updateSortedX(nSamplesToAdd);
         });
         fireInvalidated(ChartBits.DataSetData);
         return getThis();
@@ -443,6 +468,7 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
      */
     public DoubleDataSet set(final int index, final double x, final double y) {
         lock().writeLockGuard(() -> {
+            final int from = Math.min(index, getDataCount()); // zero-padding if index exceeds the data count
             final int dataCount = Math.max(index + 1, this.getDataCount());
             xValues.size(dataCount);
             yValues.size(dataCount);
@@ -453,6 +479,7 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
 
             // invalidate ranges
             getAxisDescriptions().forEach(AxisDescription::clear);
+            updateSortedXReplaced(from, index + 1 - from);
         });
         fireInvalidated(ChartBits.DataSetData);
         return getThis();
@@ -460,7 +487,10 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
 
     public DoubleDataSet set(final int index, final double[] x, final double[] y) {
         lock().writeLockGuard(() -> {
-            resize(Math.max(index + x.length, xValues.size()));
+            final int from = Math.min(index, getDataCount()); // zero-padding if index exceeds the data count
+            final int dataCount = Math.max(index + x.length, xValues.size());
+            xValues.size(dataCount);
+            yValues.size(dataCount);
             System.arraycopy(x, 0, xValues.elements(), index, x.length);
             System.arraycopy(y, 0, yValues.elements(), index, y.length);
             getDataLabelMap().remove(index, index + x.length);
@@ -468,6 +498,7 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
 
             // invalidate ranges
             getAxisDescriptions().forEach(AxisDescription::clear);
+            updateSortedXReplaced(from, index + x.length - from);
         });
         fireInvalidated(ChartBits.DataSetData);
         return getThis();
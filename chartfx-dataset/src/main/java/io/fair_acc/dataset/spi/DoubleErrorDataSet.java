@@ -130,9 +130,10 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
                 addDataLabel(xValues.size() - 1, label);
             }
 
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y - yErrorNeg);
-            getAxisDescription(DIM_Y).add(y + yErrorPos);
+            extendLimits(DIM_X, x);
+            extendLimits(DIM_Y, getLowerLimit(DIM_Y, y, yErrorNeg, yErrorPos));
+            extendLimits(DIM_Y, getUpperLimit(DIM_Y, y, yErrorNeg, yErrorPos));
+            updateSortedX(1);
         });
         fireInvalidated(ChartBits.DataSetDataAdded);
         return getThis();
@@ -153,19 +154,43 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
         AssertUtils.notNull("X error coordinates", yErrorsNegNew);
         AssertUtils.notNull("Y error coordinates", yErrorsPosNew);
         AssertUtils.equalDoubleArrays(xValuesNew, yValuesNew);
+        return add(xValuesNew, yValuesNew, yErrorsNegNew, yErrorsPosNew, Math.min(Math.min(xValuesNew.length, yValuesNew.length), Math.min(yErrorsNegNew.length, yErrorsPosNew.length)));
+    }
+
+    /**
+     * Add the first nSamples of the array vectors to data set, e.g. from (re-used) buffers that are longer than the
+     * number of valid samples.
+     *
+     * @param xValuesNew X coordinates
+     * @param yValuesNew Y coordinates
+     * @param yErrorsNegNew the +dy errors
+     * @param yErrorsPosNew the -dy errors
+     * @param nSamples number of samples to be added
+     * @return itself (fluent design)
+     */
+    public DoubleErrorDataSet add(final double[] xValuesNew, final double[] yValuesNew, final double[] yErrorsNegNew, final double[] yErrorsPosNew, final int nSamples) {
+        AssertUtils.notNull(X_COORDINATES, xValuesNew);
+        AssertUtils.notNull(Y_COORDINATES, yValuesNew);
+        AssertUtils.notNull("X error coordinates", yErrorsNegNew);
+        AssertUtils.notNull("Y error coordinates", yErrorsPosNew);
+        AssertUtils.indexInBounds(nSamples, xValuesNew.length + 1, "xValues bounds");
+        AssertUtils.indexInBounds(nSamples, yValuesNew.length + 1, "yValues bounds");
+        AssertUtils.indexInBounds(nSamples, yErrorsNegNew.length + 1, "yErrorsNeg bounds");
+        AssertUtils.indexInBounds(nSamples, yErrorsPosNew.length + 1, "yErrorsPos bounds");
 
         lock().writeLockGuard(() -> {
             final int addAt = xValues.size();
-            final int newElements = Math.min(Math.min(xValuesNew.length, yValuesNew.length), Math.min(yErrorsNegNew.length, yErrorsPosNew.length));
-            this.resize(addAt + newElements);
+            final int newElements = nSamples;
+            this.resizeInternal(addAt + newElements);
 
             xValues.setElements(addAt, xValuesNew, 0, newElements);
             yValues.setElements(addAt, yValuesNew, 0, newElements);
             yErrorsNeg.setElements(addAt, yErrorsNegNew, 0, newElements);
             yErrorsPos.setElements(addAt, yErrorsPosNew, 0, newElements);
 
-            getAxisDescription(DIM_X).add(xValuesNew);
-            getAxisDescription(DIM_Y).add(yValuesNew);
+            extendLimits(DIM_X, xValuesNew, 0, newElements);
+            extendLimits(DIM_Y, getErrorRange(DIM_Y, yValuesNew, yErrorsNegNew, yErrorsPosNew, 0, newElements), newElements);
+            updateSortedX(newElements);
         });
         fireInvalidated(ChartBits.DataSetDataAdded);
         return getThis();
@@ -233,9 +258,10 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             yErrorsPos.add(indexAt, yErrorPos);
             getDataLabelMap().addValueAndShiftKeys(indexAt, xValues.size(), label);
             getDataStyleMap().shiftKeys(indexAt, xValues.size());
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y - yErrorNeg);
-            getAxisDescription(DIM_Y).add(y + yErrorPos);
+            extendLimits(DIM_X, x);
+            extendLimits(DIM_Y, getLowerLimit(DIM_Y, y, yErrorNeg, yErrorPos));
+            extendLimits(DIM_Y, getUpperLimit(DIM_Y, y, yErrorNeg, yErrorPos));
+            updateSortedXInserted(indexAt, 1);
         });
         fireInvalidated(ChartBits.DataSetDataAdded);
         return getThis();
@@ -267,12 +293,12 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             yErrorsNeg.addElements(indexAt, yErrorNeg, 0, min);
             yErrorsPos.addElements(indexAt, yErrorPos, 0, min);
 
-            // recompute ranges
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y);
+            extendLimits(DIM_X, x, 0, min);
+            extendLimits(DIM_Y, getErrorRange(DIM_Y, y, yErrorNeg, yErrorPos, 0, min), min);
 
             getDataLabelMap().shiftKeys(indexAt, xValues.size());
             getDataStyleMap().shiftKeys(indexAt, xValues.size());
+            updateSortedXInserted(indexAt, min);
         });
 
         fireInvalidated(ChartBits.DataSetDataAdded);
@@ -295,6 +321,7 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             clearMetaInfo();
 
             getAxisDescriptions().forEach(AxisDescription::clear);
+            updateSortedX(0);
         });
         fireInvalidated(ChartBits.DataSetDataRemoved);
         return getThis();
@@ -305,6 +332,11 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
         return dimIndex == DataSet.DIM_X ? xValues.elements()[index] : yValues.elements()[index];
     }
 
+    @Override
+    public boolean hasIncrementalLimits() {
+        return true;
+    }
+
     /**
      * @return storage capacity of dataset
      */
@@ -349,8 +381,8 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
     public DoubleErrorDataSet increaseCapacity(final int amount) {
         lock().writeLockGuard(() -> {
             final int size = getDataCount();
-            resize(this.getCapacity() + amount);
-            resize(size);
+            resizeInternal(this.getCapacity() + amount);
+            resizeInternal(size);
         });
         return getThis();
     }
@@ -384,6 +416,7 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
 
             // invalidate ranges
             getAxisDescriptions().forEach(AxisDescription::clear);
+            updateSortedXRemoved(fromIndex);
         });
         fireInvalidated(ChartBits.DataSetDataRemoved);
         return getThis();
@@ -397,15 +430,28 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
      */
     public DoubleErrorDataSet resize(final int size) {
         lock().writeLockGuard(() -> {
-            xValues.size(size);
-            yValues.size(size);
-            yErrorsPos.size(size);
-            yErrorsNeg.size(size);
+            final int oldCount = getDataCount();
+            resizeInternal(size);
+            if (size < oldCount) {
+                updateSortedXRemoved(size);
+            } else if (size > oldCount) {
+                invalidateSortedX(); // the appended values are not yet defined
+            }
+            if (size != oldCount) {
+                getAxisDescriptions().forEach(AxisDescription::clear);
+            }
         });
         fireInvalidated(ChartBits.DataSetData);
         return getThis();
     }
 
+    private void resizeInternal(final int size) { // N.B. the caller needs to update the order of the x coordinates
+        xValues.size(size);
+        yValues.size(size);
+        yErrorsPos.size(size);
+        yErrorsNeg.size(size);
+    }
+
     /**
      * clear old data and overwrite with data from 'other' data set (deep copy)
      *
@@ -529,6 +575,7 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
 
             // invalidate ranges
             getAxisDescriptions().forEach(AxisDescription::clear);
+            updateSortedX(nSamplesToAdd);
         });
         fireInvalidated(ChartBits.DataSetData);
         return getThis();
@@ -573,6 +620,7 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
      */
     public DoubleErrorDataSet set(final int index, final double x, final double y, final double yErrorNeg, final double yErrorPos) {
         lock().writeLockGuard(() -> {
+            final int from = Math.min(index, getDataCount()); // zero-padding if index exceeds the data count
             final int dataCount = Math.max(index + 1, this.getDataCount());
             xValues.size(dataCount);
             yValues.size(dataCount);
@@ -587,6 +635,7 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
 
             // invalidate ranges
             getAxisDescriptions().forEach(AxisDescription::clear);
+            updateSortedXReplaced(from, index + 1 - from);
         });
 
         fireInvalidated(ChartBits.DataSetData);
@@ -595,7 +644,12 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
 
     public DoubleErrorDataSet set(final int index, final double[] x, final double[] y, final double[] yErrorNeg, final double[] yErrorPos) {
         lock().writeLockGuard(() -> {
-            resize(Math.max(index + x.length, xValues.size()));
+            final int from = Math.min(index, getDataCount()); // zero-padding if index exceeds the data count
+            final int dataCount = Math.max(index + x.length, xValues.size());
+            xValues.size(dataCount);
+            yValues.size(dataCount);
+            yErrorsPos.size(dataCount);
+            yErrorsNeg.size(dataCount);
             System.arraycopy(x, 0, xValues.elements(), index, x.length);
             System.arraycopy(y, 0, yValues.elements(), index, y.length);
             System.arraycopy(yErrorNeg, 0, yErrorsNeg.elements(), index, yErrorNeg.length);
@@ -605,6 +659,7 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
 
             // invalidate ranges
             getAxisDescriptions().forEach(AxisDescription::clear);
+            updateSortedXReplaced(from, index + x.length - from);
         });
         fireInvalidated(ChartBits.DataSetData);
         return getThis();
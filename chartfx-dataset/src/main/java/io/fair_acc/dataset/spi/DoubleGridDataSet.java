@@ -6,6 +6,7 @@ import java.util.stream.IntStream;
 import io.fair_acc.dataset.DataSet;
 import io.fair_acc.dataset.DataSet3D;
 import io.fair_acc.dataset.GridDataSet;
+import io.fair_acc.dataset.TrackedGridDataSet;
 import io.fair_acc.dataset.events.ChartBits;
 import io.fair_acc.dataset.spi.utils.MultiArrayDouble;
 
@@ -16,16 +17,24 @@ import io.fair_acc.dataset.spi.utils.MultiArrayDouble;
  * The data is stored in a row-major container, but as the renderer interface expects column major, the data is transposed
  * internally in the DoubleGridDataSet.
  *
+ * Modifications through the setters are tracked per row and column (see {@link TrackedGridDataSet}). Direct
+ * modifications of the arrays returned by {@link #getValues(int)} need to be reported via
+ * {@link #markModified(int, int, int, int)}.
+ *
  * @author Alexander Krimm
  */
 @SuppressWarnings({ "java:S2160" }) // equals is still valid because of DataSet interface
-public class DoubleGridDataSet extends AbstractGridDataSet<DoubleGridDataSet> implements DataSet3D {
+public class DoubleGridDataSet extends AbstractGridDataSet<DoubleGridDataSet> implements DataSet3D, TrackedGridDataSet {
     private static final long serialVersionUID = -493232313124620828L;
 
     protected transient double[][] grid; // grid values
     protected transient MultiArrayDouble[] values; // the values on the grid
     protected transient int[] shape; // the sizes of the grid for each dimension [nx, ny ...]
     protected transient int dataCount; // the number of point on the grid nx * ny * ...
+    private transient long modificationCount;
+    private transient long structureModificationCount;
+    private transient long[] rowModificationCount = new long[0]; // per DIM_Y grid index
+    private transient long[] columnModificationCount = new long[0]; // per DIM_X grid index
 
     /**
      * Creates a new instance of <code>DoubleDataSet</code> as copy of another (deep-copy).
@@ -72,6 +81,7 @@ public class DoubleGridDataSet extends AbstractGridDataSet<DoubleGridDataSet> im
         for (int i = shape.length; i < nDims; i++) {
             values[i - shape.length] = MultiArrayDouble.wrap(new double[dataCount], 0, containerShape);
         }
+        structureModified();
     }
 
     /**
@@ -100,6 +110,7 @@ public class DoubleGridDataSet extends AbstractGridDataSet<DoubleGridDataSet> im
             }
             this.values[i - shape.length] = MultiArrayDouble.wrap(copy ? values[i - shape.length].clone() : values[i - shape.length], 0, containerShape);
         }
+        structureModified();
     }
 
     /**
@@ -191,6 +202,7 @@ public class DoubleGridDataSet extends AbstractGridDataSet<DoubleGridDataSet> im
                 }
                 values[i - shape.length] = MultiArrayDouble.wrap(copy ? vals[i - shape.length].clone() : vals[i - shape.length], 0, containerShape);
             }
+            structureModified();
         });
         fireInvalidated(ChartBits.DataSetData);
     }
@@ -242,6 +254,7 @@ public class DoubleGridDataSet extends AbstractGridDataSet<DoubleGridDataSet> im
             for (int dimIndex = 0; dimIndex < getDimension(); dimIndex++) {
                 this.getAxisDescription(dimIndex).set(new DefaultAxisDescription(anotherGridDataSet.getAxisDescription(dimIndex)));
             }
+            structureModified();
         }));
 
         fireInvalidated(ChartBits.DataSetData);
@@ -257,11 +270,71 @@ public class DoubleGridDataSet extends AbstractGridDataSet<DoubleGridDataSet> im
      * @return itself for method chaining
      */
     public GridDataSet set(int dimIndex, int[] indices, double value) {
-        lock().writeLockGuard(() -> values[dimIndex - shape.length].set(indices, value));
+        lock().writeLockGuard(() -> {
+            values[dimIndex - shape.length].set(reverseOrder(indices), value);
+            markModifiedInternal(index(indices, DIM_X), index(indices, DIM_X), index(indices, DIM_Y), index(indices, DIM_Y));
+        });
         fireInvalidated(ChartBits.DataSetData);
         return getThis();
     }
 
+    /**
+     * Reports a modification of the given (inclusive) grid index region, e.g. after having modified the arrays returned
+     * by {@link #getValues(int)} directly. N.B. does not notify any listeners.
+     *
+     * @param xIndexMin first modified column (DIM_X grid index)
+     * @param xIndexMax last modified column (DIM_X grid index)
+     * @param yIndexMin first modified row (DIM_Y grid index)
+     * @param yIndexMax last modified row (DIM_Y grid index)
+     * @return itself for method chaining
+     */
+    public DoubleGridDataSet markModified(final int xIndexMin, final int xIndexMax, final int yIndexMin, final int yIndexMax) {
+        lock().writeLockGuard(() -> markModifiedInternal(xIndexMin, xIndexMax, yIndexMin, yIndexMax));
+        return this;
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public long getStructureModificationCount() {
+        return structureModificationCount;
+    }
+
+    @Override
+    public long getRowModificationCount(final int yIndex) {
+        return rowModificationCount[yIndex];
+    }
+
+    @Override
+    public long getColumnModificationCount(final int xIndex) {
+        return columnModificationCount[xIndex];
+    }
+
+    private void markModifiedInternal(final int xIndexMin, final int xIndexMax, final int yIndexMin, final int yIndexMax) {
+        modificationCount++;
+        Arrays.fill(columnModificationCount, Math.max(0, xIndexMin), Math.min(xIndexMax + 1, columnModificationCount.length), modificationCount);
+        Arrays.fill(rowModificationCount, Math.max(0, yIndexMin), Math.min(yIndexMax + 1, rowModificationCount.length), modificationCount);
+    }
+
+    private void structureModified() {
+        structureModificationCount = ++modificationCount;
+        final int nColumns = shape.length > DIM_X ? shape[DIM_X] : 1;
+        final int nRows = shape.length > DIM_Y ? shape[DIM_Y] : 1;
+        if (columnModificationCount.length != nColumns) {
+            columnModificationCount = new long[nColumns];
+        }
+        if (rowModificationCount.length != nRows) {
+            rowModificationCount = new long[nRows];
+        }
+    }
+
+    private static int index(final int[] indices, final int dimIndex) {
+        return indices.length > dimIndex ? indices[dimIndex] : 0;
+    }
+
     public void clearData() {
         set(false, new double[shape.length][0], new double[1][0]);
     }
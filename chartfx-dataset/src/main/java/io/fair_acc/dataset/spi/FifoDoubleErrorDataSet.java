@@ -17,11 +17,13 @@ import io.fair_acc.dataset.utils.LimitedQueue;
  * Maximum number of samples and maximum horizontal span are configurable
  * @author rstein
  */
-public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet> implements DataSetError, DataSet2D {
+public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<FifoDoubleErrorDataSet> implements DataSetError, DataSet2D {
     private static final int SAFE_BET = 1;
     private static final long serialVersionUID = -7153702141838930486L;
     protected final transient LimitedQueue<DataBlob> data;
     protected double maxDistance;
+    private final transient SlidingDataRange xRange = new SlidingDataRange();
+    private final transient SlidingDataRange yRange = new SlidingDataRange();
 
     /**
      * Creates a new instance of <code>FifoDoubleErrorDataSet</code>.
@@ -95,16 +97,20 @@ public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorData
      */
     public FifoDoubleErrorDataSet add(final double x, final double y, final double yErrorNeg, final double yErrorPos,
             final String tag, final String style) {
-        lock().writeLockGuard(() -> {
+        final int nRemoved = lock().writeLockGuard(() -> {
+            final int dropped = data.size() >= data.getLimit() ? 1 : 0;
             data.add(new DataBlob(x, y, yErrorNeg, yErrorPos, tag, style));
-            this.getAxisDescription(DIM_X).add(x);
-            this.getAxisDescription(DIM_Y).add(y - yErrorNeg);
-            this.getAxisDescription(DIM_Y).add(y + yErrorPos);
+            addLimits(x, y, yErrorNeg, yErrorPos);
+            updateSortedX(1);
 
             // remove old fields if necessary
-            expire(x);
+            return dropped + expireInternal(x);
         });
-        fireInvalidated(ChartBits.DataSetDataAdded);
+        if (nRemoved == 0) {
+            fireInvalidated(ChartBits.DataSetDataAdded);
+        } else {
+            fireInvalidated(ChartBits.DataSetDataAdded, ChartBits.DataSetDataRemoved);
+        }
         return this;
     }
 
@@ -143,15 +149,89 @@ public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorData
      * @return itself
      */
     public FifoDoubleErrorDataSet add(final double[] xValues, final double[] yValues, final double[] yErrorsNeg, final double[] yErrorsPos, final int dataCount) {
-        lock().writeLockGuard(() -> {
-            for (int i = 0; i < dataCount; i++) {
-                this.add(xValues[i], yValues[i], yErrorsNeg[i], yErrorsPos[i]);
+        return add(xValues, yValues, yErrorsNeg, yErrorsPos, 0, dataCount);
+    }
+
+    /**
+     * Appends a block of samples, e.g. an acquisition frame. The limits are updated using only the new samples, old
+     * samples are expired once w.r.t. the last new sample, and a single invalidation event is emitted.
+     *
+     * @param xValues the new x coordinates
+     * @param yValues the new y coordinates
+     * @param yErrorsNeg the -dy errors
+     * @param yErrorsPos the +dy errors
+     * @param offset index of the first sample within the arrays
+     * @param length number of samples to be appended
+     * @return itself
+     */
+    public FifoDoubleErrorDataSet add(final double[] xValues, final double[] yValues, final double[] yErrorsNeg, final double[] yErrorsPos, final int offset, final int length) {
+        AssertUtils.notNull("X coordinates", xValues);
+        AssertUtils.notNull("Y coordinates", yValues);
+        AssertUtils.notNull("Y error neg", yErrorsNeg);
+        AssertUtils.notNull("Y error pos", yErrorsPos);
+        AssertUtils.gtEqThanZero("offset", offset);
+        AssertUtils.gtEqThanZero("length", length);
+        AssertUtils.gtOrEqual("X coordinates", offset + length, xValues.length);
+        AssertUtils.gtOrEqual("Y coordinates", offset + length, yValues.length);
+        AssertUtils.gtOrEqual("Y error neg", offset + length, yErrorsNeg.length);
+        AssertUtils.gtOrEqual("Y error pos", offset + length, yErrorsPos.length);
+        if (length == 0) {
+            return this;
+        }
+
+        final int nRemoved = lock().writeLockGuard(() -> {
+            final int dropped = Math.max(0, data.size() + length - data.getLimit());
+            for (int i = offset; i < offset + length; i++) {
+                data.add(new DataBlob(xValues[i], yValues[i], yErrorsNeg[i], yErrorsPos[i], null, null));
+                addLimits(xValues[i], yValues[i], yErrorsNeg[i], yErrorsPos[i]);
             }
+            updateSortedX(Math.min(length, data.size()));
+            return dropped + expireInternal(xValues[offset + length - 1]);
         });
-        fireInvalidated(ChartBits.DataSetDataAdded);
+        if (nRemoved == 0) {
+            fireInvalidated(ChartBits.DataSetDataAdded);
+        } else {
+            fireInvalidated(ChartBits.DataSetDataAdded, ChartBits.DataSetDataRemoved);
+        }
         return this;
     }
 
+    private void addLimits(final double x, final double y, final double yErrorNeg, final double yErrorPos) {
+        xRange.add(x);
+        yRange.add(getLowerLimit(DIM_Y, y, yErrorNeg, yErrorPos), getUpperLimit(DIM_Y, y, yErrorNeg, yErrorPos));
+    }
+
+    /**
+     * Drops the samples that have been removed from the head of the queue (e.g. due to its size limit) from the sliding
+     * limits and updates the axis descriptions, i.e. in O(1) amortised rather than via a full
+     * {@link #recomputeLimits(int)} scan.
+     */
+    private void updateLimits() {
+        xRange.removeOldest(xRange.size() - data.size());
+        yRange.removeOldest(yRange.size() - data.size());
+        getAxisDescription(DIM_X).set(xRange.getMin(), xRange.getMax());
+        getAxisDescription(DIM_Y).set(yRange.getMin(), yRange.getMax());
+    }
+
+    /**
+     * Recomputes the limits via a full scan of the queue, e.g. after the error type has been changed. N.B. limits are
+     * otherwise maintained incrementally on every add and expiry of the oldest samples.
+     */
+    @Override
+    public FifoDoubleErrorDataSet recomputeLimits(final int dimIndex) {
+        final SlidingDataRange range = dimIndex == DIM_X ? xRange : yRange;
+        range.clear();
+        for (final DataBlob blob : data) {
+            if (dimIndex == DIM_X) {
+                range.add(blob.getX());
+            } else {
+                range.add(getLowerLimit(DIM_Y, blob.getY(), blob.getErrorX(), blob.getErrorY()), getUpperLimit(DIM_Y, blob.getY(), blob.getErrorX(), blob.getErrorY()));
+            }
+        }
+        getAxisDescription(dimIndex).set(range.getMin(), range.getMax());
+        return getThis();
+    }
+
     /**
      * expire data points that are older than now minus length of the buffer, notifies a 'fireInvalidated()' in case
      * data has been removed
@@ -160,27 +240,48 @@ public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorData
      * @return number of items that have been removed
      */
     public int expire(final double now) {
-        final int dataPointsToRemove = lock().writeLockGuard(() -> {
-            final List<DataBlob> toRemoveList = new ArrayList<>(SAFE_BET);
-            for (final DataBlob blob : data) {
-                final double x = blob.getX();
+        final int dataPointsToRemove = lock().writeLockGuard(() -> expireInternal(now));
+        if (dataPointsToRemove != 0) {
+            fireInvalidated(ChartBits.DataSetDataRemoved);
+        }
+        return dataPointsToRemove;
+    }
+
+    /**
+     * @param now the newest time-stamp
+     * @return number of items that have been removed (N.B. needs to be called with the write lock held and does not
+     *         notify)
+     */
+    protected int expireInternal(final double now) {
+        final List<DataBlob> toRemoveList = new ArrayList<>(SAFE_BET);
+        boolean removesOldest = true; // common case of (sorted) time-series data
+        int firstRemoved = 0;
+        int index = 0;
+        for (final DataBlob blob : data) {
+            final double x = blob.getX();
 
-                if (!Double.isFinite(x) || Math.abs(now - x) > maxDistance) {
-                    toRemoveList.add(blob);
+            if (!Double.isFinite(x) || Math.abs(now - x) > maxDistance) {
+                removesOldest &= toRemoveList.size() == index;
+                if (toRemoveList.isEmpty()) {
+                    firstRemoved = index;
                 }
+                toRemoveList.add(blob);
             }
+            index++;
+        }
 
-            if (!toRemoveList.isEmpty()) {
-                // remove elements and invalidate ranges if necessary
-                data.removeAll(toRemoveList);
-                getAxisDescriptions().forEach(AxisDescription::clear);
-            }
-            return toRemoveList.size();
-        });
-        if (dataPointsToRemove != 0) {
-            fireInvalidated(ChartBits.DataSetDataRemoved);
+        if (!toRemoveList.isEmpty()) {
+            data.removeAll(toRemoveList);
         }
-        return dataPointsToRemove;
+        updateSortedXRemoved(removesOldest ? 0 : firstRemoved);
+        if (removesOldest) {
+            updateLimits();
+        } else {
+            // arbitrary samples have been removed -> fall back to a full scan
+            recomputeLimits(DIM_X);
+            recomputeLimits(DIM_Y);
+        }
+        return toRemoveList.size();
     }
 
     @Override
@@ -188,6 +289,11 @@ public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorData
         return dimIndex == DataSet.DIM_X ? data.get(index).getX() : data.get(index).getY();
     }
 
+    @Override
+    public boolean hasIncrementalLimits() {
+        return true;
+    }
+
     /**
      * @return the internal data container (N.B. this is not thread-safe)
      */
@@ -231,7 +337,13 @@ public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorData
      * remove all data points
      */
     public void reset() {
-        data.clear();
+        lock().writeLockGuard(() -> {
+            data.clear();
+            xRange.clear();
+            yRange.clear();
+            getAxisDescriptions().forEach(AxisDescription::clear);
+            updateSortedX(0);
+        });
         fireInvalidated(ChartBits.DataSetDataRemoved);
     }
 
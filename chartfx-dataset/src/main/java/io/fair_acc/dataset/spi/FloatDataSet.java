@@ -108,8 +108,9 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
                 addDataLabel(xValues.size() - 1, label);
             }
 
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y);
+            extendLimits(DIM_X, x);
+            extendLimits(DIM_Y, y);
+            updateSortedX(1);
         });
         fireInvalidated(ChartBits.DataSetDataAdded);
         return getThis();
@@ -134,12 +135,15 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
             xValues.addElements(xValues.size(), xValuesNew);
             yValues.addElements(yValues.size(), yValuesNew);
 
-            for (final float v : xValuesNew) {
-                getAxisDescription(DIM_X).add(v);
-            }
-            for (final float v : yValuesNew) {
-                getAxisDescription(DIM_Y).add(v);
+            final DataRange xRange = new DataRange();
+            final DataRange yRange = new DataRange();
+            for (int i = 0; i < xValuesNew.length; i++) {
+                xRange.add(xValuesNew[i]);
+                yRange.add(yValuesNew[i]);
             }
+            extendLimits(DIM_X, xRange, xValuesNew.length);
+            extendLimits(DIM_Y, yRange, xValuesNew.length);
+            updateSortedX(xValuesNew.length);
         });
         fireInvalidated(ChartBits.DataSetDataAdded);
         return getThis();
@@ -186,8 +190,9 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
             yValues.add(indexAt, y);
             getDataLabelMap().addValueAndShiftKeys(indexAt, xValues.size(), label);
             getDataStyleMap().shiftKeys(indexAt, xValues.size());
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y);
+            extendLimits(DIM_X, x);
+            extendLimits(DIM_Y, y);
+            updateSortedXInserted(indexAt, 1);
         });
         fireInvalidated(ChartBits.DataSetDataAdded);
         return getThis();
@@ -211,13 +216,18 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
             final int indexAt = Math.max(0, Math.min(index, getDataCount() + 1));
             xValues.addElements(indexAt, x, 0, min);
             yValues.addElements(indexAt, y, 0, min);
+            final DataRange xRange = new DataRange();
+            final DataRange yRange = new DataRange();
             for (int i = 0; i < min; i++) {
-                getAxisDescription(DIM_X).add(x[i]);
-                getAxisDescription(DIM_Y).add(y[i]);
+                xRange.add(x[i]);
+                yRange.add(y[i]);
             }
+            extendLimits(DIM_X, xRange, min);
+            extendLimits(DIM_Y, yRange, min);
 
             getDataLabelMap().shiftKeys(indexAt, xValues.size());
             getDataStyleMap().shiftKeys(indexAt, xValues.size());
+            updateSortedXInserted(indexAt, min);
         });
         fireInvalidated(ChartBits.DataSetDataAdded);
         return getThis();
@@ -237,6 +247,7 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
             clearMetaInfo();
 
             getAxisDescriptions().forEach(AxisDescription::clear);
+            updateSortedX(0);
         });
         fireInvalidated(ChartBits.DataSetDataRemoved);
         return getThis();
@@ -247,6 +258,11 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
         return dimIndex == DIM_X ? xValues.elements()[index] : yValues.elements()[index];
     }
 
+    @Override
+    public boolean hasIncrementalLimits() {
+        return true;
+    }
+
     /**
      * @return storage capacity of dataset
      */
@@ -266,8 +282,8 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
     public FloatDataSet increaseCapacity(final int amount) {
         lock().writeLockGuard(() -> {
             final int size = getDataCount();
-            resize(this.getCapacity() + amount);
-            resize(size);
+            resizeInternal(this.getCapacity() + amount);
+            resizeInternal(size);
         });
         return getThis();
     }
@@ -306,6 +322,7 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
             // invalidate ranges
             // -> fireInvalidated calls computeLimits for autoNotification
             this.getAxisDescriptions().forEach(AxisDescription::clear);
+            updateSortedXRemoved(fromIndex);
         });
         fireInvalidated(ChartBits.DataSetDataRemoved);
         return getThis();
@@ -319,13 +336,26 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
      */
     public FloatDataSet resize(final int size) {
         lock().writeLockGuard(() -> {
-            xValues.size(size);
-            yValues.size(size);
+            final int oldCount = getDataCount();
+            resizeInternal(size);
+            if (size < oldCount) {
+                updateSortedXRemoved(size);
+            } else if (size > oldCount) {
+                invalidateSortedX(); // the appended values are not yet defined
+            }
+            if (size != oldCount) {
+                getAxisDescriptions().forEach(AxisDescription::clear);
+            }
         });
         fireInvalidated(ChartBits.DataSetData);
         return getThis();
     }
 
+    private void resizeInternal(final int size) { // N.B. the caller needs to update the order of the x coordinates
+        xValues.size(size);
+        yValues.size(size);
+    }
+
     /**
      * clear old data and overwrite with data from 'other' data set (deep copy)
      *
@@ -425,6 +455,7 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
 
             // invalidate ranges
             getAxisDescriptions().forEach(AxisDescription::clear);
+            updateSortedX(nSamplesToAdd);
         });
         fireInvalidated(ChartBits.DataSetData);
         return getThis();
@@ -444,6 +475,7 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
 
     public FloatDataSet set(final int index, final double x, final double y) {
         lock().writeLockGuard(() -> {
+            final int from = Math.min(index, getDataCount()); // zero-padding if index exceeds the data count
             final int dataCount = Math.max(index + 1, this.getDataCount());
             xValues.size(dataCount);
             yValues.size(dataCount);
@@ -453,6 +485,7 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
             // invalidate ranges
             // -> fireInvalidated calls computeLimits for autoNotification
             getAxisDescriptions().forEach(AxisDescription::clear);
+            updateSortedXReplaced(from, index + 1 - from);
         });
         fireInvalidated(ChartBits.DataSetData);
         return getThis();
@@ -460,7 +493,10 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
 
     public FloatDataSet set(final int index, final double[] x, final double[] y) {
         lock().writeLockGuard(() -> {
-            resize(Math.max(index + x.length, xValues.size()));
+            final int from = Math.min(index, getDataCount()); // zero-padding if index exceeds the data count
+            final int dataCount = Math.max(index + x.length, xValues.size());
+            xValues.size(dataCount);
+            yValues.size(dataCount);
             System.arraycopy(MathUtils.toFloats(x), 0, xValues.elements(), index, x.length);
             System.arraycopy(MathUtils.toFloats(y), 0, yValues.elements(), index, y.length);
             getDataLabelMap().remove(index, index + x.length);
@@ -468,6 +504,7 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
 
             // invalidate ranges
             getAxisDescriptions().forEach(AxisDescription::clear);
+            updateSortedXReplaced(from, index + x.length - from);
         });
         fireInvalidated(ChartBits.DataSetData);
         return getThis();
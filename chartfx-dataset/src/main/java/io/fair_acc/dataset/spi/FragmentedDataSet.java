@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 
+import io.fair_acc.dataset.AxisDescription;
 import io.fair_acc.dataset.DataSet;
 import io.fair_acc.dataset.DataSet2D;
 import io.fair_acc.dataset.events.ChartBits;
@@ -32,10 +33,14 @@ public class FragmentedDataSet extends AbstractDataSet<FragmentedDataSet> implem
             /* Trace data is expected to be sorted in ascending order */
             list.sort(Comparator.comparingDouble(o -> o.getAxisDescription(DIM_X).getMin()));
             dataCount += set.getDataCount();
-            getAxisDescription(DIM_X).add(set.getAxisDescription(DIM_X).getMax());
-            getAxisDescription(DIM_X).add(set.getAxisDescription(DIM_X).getMin());
-            getAxisDescription(DIM_Y).add(set.getAxisDescription(DIM_Y).getMax());
-            getAxisDescription(DIM_Y).add(set.getAxisDescription(DIM_Y).getMin());
+            for (int dim = DIM_X; dim <= DIM_Y; dim++) {
+                final AxisDescription range = set.getAxisDescription(dim);
+                if (range.isDefined()) {
+                    extendLimits(dim, new DataRange(range.getMin(), range.getMax()), set.getDataCount());
+                } else if (set.getDataCount() > 0) {
+                    getAxisDescription(dim).clear();
+                }
+            }
         });
         fireInvalidated(ChartBits.DataSetDataAdded);
     }
@@ -108,6 +113,11 @@ public class FragmentedDataSet extends AbstractDataSet<FragmentedDataSet> implem
         return Double.NaN;
     }
 
+    @Override
+    public boolean hasIncrementalLimits() {
+        return true;
+    }
+
     @Override
     public double[] getValues(final int dimIndex) {
         return lock().readLockGuard(() -> {
@@ -82,10 +82,12 @@ public class Histogram extends AbstractHistogram implements Histogram1D, DataSet
             if (bin == 0 || bin == data.length - 1) {
                 return;
             }
-            if (getDimension() == 2) {
-                getAxisDescription(isHorizontal ? DIM_Y : DIM_X).add(data[bin]);
+            final int dimIndex = getDimension() == 2 && !isHorizontal ? DIM_X : getDimension() - 1;
+            if (w < 0) {
+                // the bin may have been the maximum -> recomputed on demand
+                getAxisDescription(dimIndex).clear();
             } else {
-                getAxisDescription(getDimension() - 1).add(data[bin]);
+                extendLimits(dimIndex, data[bin]);
             }
         });
         fireInvalidated(ChartBits.DataSetData);
@@ -137,6 +139,11 @@ public class Histogram extends AbstractHistogram implements Histogram1D, DataSet
         }
     }
 
+    @Override
+    public boolean hasIncrementalLimits() {
+        return true;
+    }
+
     @Override
     public int getIndex(int dimIndex, double... value) {
         AssertUtils.checkArrayDimension("value", value, 1);
@@ -45,7 +45,7 @@ public class LabelledMarkerDataSet extends AbstractDataSet<LabelledMarkerDataSet
         AssertUtils.notNull("marker", marker);
         lock().writeLockGuard(() -> {
             data.add(new DoublePoint(marker.getX(), marker.getY()));
-            getAxisDescription(DIM_X).add(marker.getX());
+            extendLimits(DIM_X, marker.getX());
             dataLabels.add(marker.getLabel());
             dataStyles.add(marker.getStyle());
         });
@@ -73,6 +73,11 @@ public class LabelledMarkerDataSet extends AbstractDataSet<LabelledMarkerDataSet
         return dimIndex == DIM_X ? data.get(index).getX() : data.get(index).getY();
     }
 
+    @Override
+    public boolean hasIncrementalLimits() {
+        return true;
+    }
+
     /**
      * @return list containing data point values
      */
@@ -162,7 +167,8 @@ public class LabelledMarkerDataSet extends AbstractDataSet<LabelledMarkerDataSet
         AssertUtils.indexInBounds(index, getDataCount());
         lock().writeLockGuard(() -> {
             data.get(index).set(marker.getX(), marker.getY());
-            getAxisDescription(DIM_X).add(marker.getX());
+            // the replaced marker may have defined the limits
+            getAxisDescriptions().forEach(AxisDescription::clear);
             dataLabels.set(index, marker.getLabel());
             dataStyles.set(index, marker.getStyle());
         });
@@ -198,7 +204,7 @@ public class LabelledMarkerDataSet extends AbstractDataSet<LabelledMarkerDataSet
                 final double x = marker.getX();
                 final double y = marker.getY();
                 data.add(new DoublePoint(x, y));
-                getAxisDescription(DIM_X).add(x);
+                extendLimits(DIM_X, x);
                 dataLabels.add(marker.getLabel());
                 dataStyles.add(marker.getStyle());
             }
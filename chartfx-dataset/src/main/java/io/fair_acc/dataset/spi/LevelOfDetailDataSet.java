@@ -0,0 +1,386 @@
+package io.fair_acc.dataset.spi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.fair_acc.dataset.AxisDescription;
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.DataSet2D;
+import io.fair_acc.dataset.MultiResolutionDataSet;
+import io.fair_acc.dataset.locks.DataSetLock;
+import io.fair_acc.dataset.utils.AssertUtils;
+
+/**
+ * Multi-resolution (level of detail) decorator of a large, x-sorted source data set.
+ * <p>
+ * Maintains a pyramid of down-sampled levels where each bucket of level k summarises <code>factor^k</code> source
+ * samples by their minimum, maximum and mean. Renderers may pick the coarsest level that still provides at least one
+ * bucket per pixel (cf. {@link #getLevelOfDetail(double, double, int)}) so that the drawing time is bounded by the
+ * screen resolution rather than by the number of samples, while the min/max envelope keeps narrow spikes visible.
+ * <p>
+ * The pyramid is updated lazily and incrementally on access: samples appended to the source since the last access are
+ * merged into the affected buckets only, i.e. in O(nAppended). The source is assumed to be append-only; a shrinking
+ * source or modified first/last x-coordinates trigger a full rebuild. In-place modifications of already processed
+ * samples are not detected and need an explicit {@link #invalidate()}.
+ * <p>
+ * The data, locking and axis ranges are those of the source. Each {@link Level} is a read-only data set with two
+ * points per bucket (located at the x-coordinates of the minimum and maximum) and asymmetric y-errors spanning the
+ * bucket's min/max envelope, e.g. to be drawn as error surface.
+ */
+public class LevelOfDetailDataSet extends AbstractDataSet<LevelOfDetailDataSet> implements MultiResolutionDataSet, DataSet2D {
+    private static final long serialVersionUID = 3954520175932431937L;
+    public static final int DEFAULT_FACTOR = 4;
+    private final DataSet source;
+    private final int factor;
+    private final List<Level> levels = new ArrayList<>();
+    private int nLevels;
+    private int processedCount;
+    private double firstX = Double.NaN;
+    private double lastX = Double.NaN;
+
+    /**
+     * @param source x-sorted, append-only data set to be decorated
+     */
+    public LevelOfDetailDataSet(final DataSet source) {
+        this(source, DEFAULT_FACTOR);
+    }
+
+    /**
+     * @param source x-sorted, append-only data set to be decorated
+     * @param factor number of buckets of a given level that are merged into one bucket of the next coarser level
+     */
+    public LevelOfDetailDataSet(final DataSet source, final int factor) {
+        super(AssertUtils.notNull("source", source).getName(), 2);
+        if (factor < 2) {
+            throw new IllegalArgumentException("factor " + factor + " must be at least 2");
+        }
+        this.source = source;
+        this.factor = factor;
+        source.getBitState().addInvalidateListener(getBitState());
+    }
+
+    @Override
+    public double get(final int dimIndex, final int index) {
+        return source.get(dimIndex, index);
+    }
+
+    @Override
+    public List<AxisDescription> getAxisDescriptions() {
+        return source.getAxisDescriptions();
+    }
+
+    @Override
+    public int getDataCount() {
+        return source.getDataCount();
+    }
+
+    /**
+     * @return number of buckets of a given level that are merged into one bucket of the next coarser level
+     */
+    public int getFactor() {
+        return factor;
+    }
+
+    @Override
+    public int getIndex(final int dimIndex, final double... x) {
+        return source.getIndex(dimIndex, x);
+    }
+
+    /**
+     * @param level level index, 0 being the finest down-sampled level with <code>factor</code> samples per bucket
+     * @return the down-sampled level, N.B. needs to be called within the read lock of the source
+     */
+    public synchronized Level getLevel(final int level) {
+        update();
+        AssertUtils.indexInBounds(level, nLevels);
+        return levels.get(level);
+    }
+
+    /**
+     * @return number of currently available down-sampled levels, N.B. needs to be called within the read lock of the
+     *         source
+     */
+    public synchronized int getLevelCount() {
+        update();
+        return nLevels;
+    }
+
+    /**
+     * N.B. needs to be called within the read lock of the source
+     */
+    @Override
+    public synchronized DataSet getLevelOfDetail(final double xMin, final double xMax, final int minSamples) {
+        update();
+        final int count = source.getDataCount();
+        if (count == 0 || nLevels == 0) {
+            return this;
+        }
+        final int indexMin = Double.isFinite(xMin) ? source.getIndex(DIM_X, xMin) : 0;
+        final int indexMax = Double.isFinite(xMax) ? source.getIndex(DIM_X, xMax) : count - 1;
+        final long nVisible = Math.abs(indexMax - indexMin) + 1L;
+        DataSet bestMatch = this;
+        for (int level = 0; level < nLevels; level++) {
+            if (nVisible / levels.get(level).span < Math.max(1, minSamples)) {
+                break;
+            }
+            bestMatch = levels.get(level);
+        }
+        return bestMatch;
+    }
+
+    /**
+     * @return the decorated data set
+     */
+    public DataSet getSource() {
+        return source;
+    }
+
+    @Override
+    public String getStyle(final int index) {
+        return source.getStyle(index);
+    }
+
+    /**
+     * Forces a full rebuild of the levels on the next access, e.g. after in-place modifications of the source.
+     */
+    public synchronized void invalidate() {
+        processedCount = 0;
+    }
+
+    @Override
+    public boolean isSorted(final int dimIndex) {
+        return source.isSorted(dimIndex);
+    }
+
+    @Override
+    public DataSetLock<? extends DataSet> lock() {
+        return source.lock();
+    }
+
+    @Override
+    public DataSet set(final DataSet other, final boolean copy) {
+        throw new UnsupportedOperationException("cannot modify level-of-detail view, modify the source data set instead");
+    }
+
+    private void update() {
+        final int count = source.getDataCount();
+        if (processedCount > 0 && (count < processedCount //
+                                          || Double.compare(source.get(DIM_X, 0), firstX) != 0 //
+                                          || Double.compare(source.get(DIM_X, processedCount - 1), lastX) != 0)) {
+            processedCount = 0;
+        }
+        if (processedCount == 0) {
+            nLevels = 0;
+            levels.forEach(Level::reset);
+        } else if (count == processedCount) {
+            return;
+        }
+
+        // finest level directly from the source samples, coarser levels from the next finer level
+        int parentCount = count;
+        long span = factor;
+        int level = 0;
+        while (parentCount > factor) {
+            if (level == levels.size()) {
+                levels.add(new Level(level, span));
+            }
+            final Level current = levels.get(level);
+            if (level == 0) {
+                current.updateFromSource(source, count);
+            } else {
+                current.updateFromParent(levels.get(level - 1));
+            }
+            parentCount = current.count;
+            span *= factor;
+            level++;
+        }
+        nLevels = level;
+
+        processedCount = count;
+        firstX = count > 0 ? source.get(DIM_X, 0) : Double.NaN;
+        lastX = count > 0 ? source.get(DIM_X, count - 1) : Double.NaN;
+    }
+
+    /**
+     * Read-only down-sampled level of a {@link LevelOfDetailDataSet}. Each bucket is represented by two points located
+     * at the x-coordinates of the bucket's minimum and maximum (in ascending x order) with asymmetric y-errors spanning
+     * the bucket's min/max envelope. Buckets without any valid (non-NaN) sample are represented by NaN values.
+     */
+    public final class Level extends AbstractErrorDataSet<Level> implements DataSet2D {
+        private static final long serialVersionUID = -1480612358474104734L;
+        private static final int INITIAL_CAPACITY = 64;
+        private final long span;
+        private int count; // number of buckets
+        private int complete; // number of leading buckets that cover a full span
+        private double[] xAtMin = new double[INITIAL_CAPACITY];
+        private double[] xAtMax = new double[INITIAL_CAPACITY];
+        private double[] yMin = new double[INITIAL_CAPACITY];
+        private double[] yMax = new double[INITIAL_CAPACITY];
+        private double[] ySum = new double[INITIAL_CAPACITY];
+        private long[] nValid = new long[INITIAL_CAPACITY];
+        private long[] nSamples = new long[INITIAL_CAPACITY];
+
+        private Level(final int level, final long span) {
+            super(LevelOfDetailDataSet.this.getName() + "-level" + level, 2, ErrorType.NO_ERROR, ErrorType.ASYMMETRIC);
+            this.span = span;
+        }
+
+        /**
+         * @return number of buckets, i.e. half the number of data points
+         */
+        public int getBucketCount() {
+            return count;
+        }
+
+        @Override
+        public double get(final int dimIndex, final int index) {
+            final int bucket = index >> 1;
+            if (dimIndex == DIM_X) {
+                return isMinimum(index) ? xAtMin[bucket] : xAtMax[bucket];
+            }
+            if (nValid[bucket] == 0) {
+                return Double.NaN;
+            }
+            return isMinimum(index) ? yMin[bucket] : yMax[bucket];
+        }
+
+        @Override
+        public int getDataCount() {
+            return 2 * count;
+        }
+
+        @Override
+        public double getErrorNegative(final int dimIndex, final int index) {
+            final int bucket = index >> 1;
+            if (dimIndex == DIM_X || nValid[bucket] == 0 || isMinimum(index)) {
+                return 0.0;
+            }
+            return yMax[bucket] - yMin[bucket];
+        }
+
+        @Override
+        public double getErrorPositive(final int dimIndex, final int index) {
+            final int bucket = index >> 1;
+            if (dimIndex == DIM_X || nValid[bucket] == 0 || !isMinimum(index)) {
+                return 0.0;
+            }
+            return yMax[bucket] - yMin[bucket];
+        }
+
+        /**
+         * @param index data point index
+         * @return mean of the valid (non-NaN) y-values of the bucket containing the data point
+         */
+        public double getMean(final int index) {
+            final int bucket = index >> 1;
+            return nValid[bucket] == 0 ? Double.NaN : ySum[bucket] / nValid[bucket];
+        }
+
+        /**
+         * @return number of source samples summarised by each (complete) bucket
+         */
+        public long getSpan() {
+            return span;
+        }
+
+        @Override
+        public DataSetLock<? extends DataSet> lock() {
+            return LevelOfDetailDataSet.this.lock();
+        }
+
+        @Override
+        public DataSet set(final DataSet other, final boolean copy) {
+            throw new UnsupportedOperationException("cannot modify level-of-detail view, modify the source data set instead");
+        }
+
+        private void ensureCapacity(final int capacity) {
+            if (capacity <= xAtMin.length) {
+                return;
+            }
+            final int newCapacity = Math.max(capacity, xAtMin.length + (xAtMin.length >> 1));
+            xAtMin = Arrays.copyOf(xAtMin, newCapacity);
+            xAtMax = Arrays.copyOf(xAtMax, newCapacity);
+            yMin = Arrays.copyOf(yMin, newCapacity);
+            yMax = Arrays.copyOf(yMax, newCapacity);
+            ySum = Arrays.copyOf(ySum, newCapacity);
+            nValid = Arrays.copyOf(nValid, newCapacity);
+            nSamples = Arrays.copyOf(nSamples, newCapacity);
+        }
+
+        private boolean isMinimum(final int index) {
+            final int bucket = index >> 1;
+            // first point of a bucket is the one with the lower x-coordinate
+            return ((index & 1) == 0) == (xAtMin[bucket] <= xAtMax[bucket]);
+        }
+
+        private void merge(final int bucket, final double xFirst, final double xMinValue, final double yMinValue,
+                final double xMaxValue, final double yMaxValue, final double sum, final long valid, final long samples) {
+            if (bucket == count) {
+                // new bucket
+                ensureCapacity(count + 1);
+                xAtMin[bucket] = xFirst;
+                xAtMax[bucket] = xFirst;
+                yMin[bucket] = Double.POSITIVE_INFINITY;
+                yMax[bucket] = Double.NEGATIVE_INFINITY;
+                ySum[bucket] = 0.0;
+                nValid[bucket] = 0;
+                nSamples[bucket] = 0;
+                count++;
+            }
+            if (valid > 0) {
+                if (yMinValue < yMin[bucket]) {
+                    yMin[bucket] = yMinValue;
+                    xAtMin[bucket] = xMinValue;
+                }
+                if (yMaxValue > yMax[bucket]) {
+                    yMax[bucket] = yMaxValue;
+                    xAtMax[bucket] = xMaxValue;
+                }
+                ySum[bucket] += sum;
+                nValid[bucket] += valid;
+            }
+            nSamples[bucket] += samples;
+        }
+
+        private void reset() {
+            count = 0;
+            complete = 0;
+            getAxisDescriptions().forEach(AxisDescription::clear);
+        }
+
+        private void updateComplete(final int first) {
+            // data points of the buckets from 'first' onwards have been re-computed
+            if (first == 0) {
+                updateSortedX(getDataCount());
+            } else {
+                updateSortedXReplaced(2 * first, getDataCount() - 2 * first);
+            }
+            complete = count > 0 && nSamples[count - 1] == span ? count : Math.max(0, count - 1);
+            getAxisDescriptions().forEach(AxisDescription::clear);
+        }
+
+        private void updateFromParent(final Level parent) {
+            // buckets beyond 'complete' may contain parent buckets that have changed since the last update
+            final int first = complete;
+            count = complete;
+            for (int i = complete * factor; i < parent.count; i++) {
+                final double xFirst = Math.min(parent.xAtMin[i], parent.xAtMax[i]);
+                merge(i / factor, xFirst, parent.xAtMin[i], parent.yMin[i], parent.xAtMax[i], parent.yMax[i], parent.ySum[i], parent.nValid[i], parent.nSamples[i]);
+            }
+            updateComplete(first);
+        }
+
+        private void updateFromSource(final DataSet dataSet, final int dataCount) {
+            final int first = complete;
+            count = complete;
+            for (int i = (int) (complete * span); i < dataCount; i++) {
+                final double x = dataSet.get(DIM_X, i);
+                final double y = dataSet.get(DIM_Y, i);
+                final boolean valid = !Double.isNaN(y);
+                merge((int) (i / span), x, x, y, x, y, valid ? y : 0.0, valid ? 1 : 0, 1);
+            }
+            updateComplete(first);
+        }
+    }
+}
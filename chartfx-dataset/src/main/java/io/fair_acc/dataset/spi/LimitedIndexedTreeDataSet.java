@@ -90,10 +90,10 @@ public class LimitedIndexedTreeDataSet extends AbstractErrorDataSet<LimitedIndex
             final String... labelStyle) {
         lock().writeLockGuard(() -> {
             data.add(new DataAtom(x, y, ex, ey, labelStyle));
-            getAxisDescription(DIM_X).add(x - ex);
-            getAxisDescription(DIM_X).add(x + ex);
-            getAxisDescription(DIM_Y).add(y - ey);
-            getAxisDescription(DIM_Y).add(y + ey);
+            extendLimits(DIM_X, x - ex);
+            extendLimits(DIM_X, x + ex);
+            extendLimits(DIM_Y, y - ey);
+            extendLimits(DIM_Y, y + ey);
             expire();
         });
         fireInvalidated(ChartBits.DataSetDataAdded);
@@ -139,10 +139,10 @@ public class LimitedIndexedTreeDataSet extends AbstractErrorDataSet<LimitedIndex
                 final double ey = yErrors[i];
                 data.add(new DataAtom(x, y, ex, ey, labelStyle)); // NOPMD need to initialise object in loop by design
 
-                getAxisDescription(DIM_X).add(x - ex);
-                getAxisDescription(DIM_X).add(x + ex);
-                getAxisDescription(DIM_Y).add(y - ey);
-                getAxisDescription(DIM_Y).add(y + ey);
+                extendLimits(DIM_X, x - ex);
+                extendLimits(DIM_X, x + ex);
+                extendLimits(DIM_Y, y - ey);
+                extendLimits(DIM_Y, y + ey);
             }
             expire();
         });
@@ -239,6 +239,11 @@ public class LimitedIndexedTreeDataSet extends AbstractErrorDataSet<LimitedIndex
         }
     }
 
+    @Override
+    public boolean hasIncrementalLimits() {
+        return true;
+    }
+
     /**
      * @return data container
      */
@@ -448,11 +453,11 @@ public class LimitedIndexedTreeDataSet extends AbstractErrorDataSet<LimitedIndex
                 final double y = yValues[i];
                 final double dx = xErrors[i];
                 final double dy = yErrors[i];
-                getAxisDescription(DIM_X).add(x - dx);
-                getAxisDescription(DIM_X).add(x + dx);
-                getAxisDescription(DIM_Y).add(y - dy);
-                getAxisDescription(DIM_Y).add(y + dy);
                 data.add(new DataAtom(x, y, dx, dy)); // NOPMD need to initialise object in loop by design
+                extendLimits(DIM_X, x - dx);
+                extendLimits(DIM_X, x + dx);
+                extendLimits(DIM_Y, y - dy);
+                extendLimits(DIM_Y, y + dy);
             }
             expire();
         });
@@ -519,10 +524,8 @@ public class LimitedIndexedTreeDataSet extends AbstractErrorDataSet<LimitedIndex
         lock().writeLockGuard(() -> {
             data.get(index).set(x, y, dy, dy);
 
-            getAxisDescription(DIM_X).add(x - dx);
-            getAxisDescription(DIM_X).add(x + dx);
-            getAxisDescription(DIM_Y).add(y - dy);
-            getAxisDescription(DIM_Y).add(y + dy);
+            // the replaced point may have defined the limits
+            getAxisDescriptions().forEach(AxisDescription::clear);
             expire();
         });
         fireInvalidated(ChartBits.DataSetData);
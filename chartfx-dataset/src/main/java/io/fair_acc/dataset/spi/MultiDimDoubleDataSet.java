@@ -120,7 +120,7 @@ public class MultiDimDoubleDataSet extends AbstractDataSet<MultiDimDoubleDataSet
         lock().writeLockGuard(() -> {
             for (int i = 0; i < this.values.length; i++) {
                 this.values[i].add(newValues[i]);
-                getAxisDescription(i).add(newValues[i]);
+                extendLimits(i, newValues[i]);
             }
             if ((label != null)) {
                 addDataLabel(this.values[0].size() - 1, label);
@@ -146,7 +146,7 @@ public class MultiDimDoubleDataSet extends AbstractDataSet<MultiDimDoubleDataSet
         lock().writeLockGuard(() -> {
             for (int i = 0; i < this.values.length; i++) {
                 this.values[i].addElements(values[i].size(), valuesNew[i], 0, nPoints);
-                getAxisDescription(i).add(valuesNew[i]);
+                extendLimits(i, valuesNew[i], 0, nPoints);
             }
         });
 
@@ -183,7 +183,7 @@ public class MultiDimDoubleDataSet extends AbstractDataSet<MultiDimDoubleDataSet
 
             for (int i = 0; i < this.values.length; i++) {
                 this.values[i].add(indexAt, newValues[i]);
-                getAxisDescription(i).add(newValues[i]);
+                extendLimits(i, newValues[i]);
             }
             getDataLabelMap().addValueAndShiftKeys(indexAt, this.values[0].size(), label);
             getDataStyleMap().shiftKeys(indexAt, this.values[0].size());
@@ -211,7 +211,7 @@ public class MultiDimDoubleDataSet extends AbstractDataSet<MultiDimDoubleDataSet
             final int indexAt = Math.max(0, Math.min(index, getDataCount() + 1));
             for (int i = 0; i < this.values.length; i++) {
                 this.values[i].addElements(indexAt, newValues[i], 0, nPointsFinal);
-                getAxisDescription(DIM_X).add(newValues[i], nPointsFinal);
+                extendLimits(i, newValues[i], 0, nPointsFinal);
             }
             getDataLabelMap().shiftKeys(indexAt, this.values[0].size());
             getDataStyleMap().shiftKeys(indexAt, this.values[0].size());
@@ -245,6 +245,11 @@ public class MultiDimDoubleDataSet extends AbstractDataSet<MultiDimDoubleDataSet
         return values[dimIndex].elements()[index];
     }
 
+    @Override
+    public boolean hasIncrementalLimits() {
+        return true;
+    }
+
     /**
      * @return storage capacity of dataset
      */
@@ -0,0 +1,357 @@
+package io.fair_acc.dataset.spi;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import io.fair_acc.dataset.AxisDescription;
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.DataSet2D;
+import io.fair_acc.dataset.events.ChartBits;
+import io.fair_acc.dataset.locks.DataSetLock;
+import io.fair_acc.dataset.utils.AssertUtils;
+
+/**
+ * Circular buffer DataSet for the single-producer case. In contrast to {@link CircularDoubleErrorDataSet}, samples are
+ * appended without acquiring the write lock, i.e. the producer thread never blocks on readers (e.g. the FX render
+ * thread) and vice versa.
+ * <p>
+ * The producer publishes two sequence numbers: the <em>write limit</em>, i.e. the number of samples that may be in the
+ * process of being written, and the <em>write count</em>, i.e. the number of fully written samples. Readers copy the
+ * ring buffer into a linear snapshot and verify afterwards via the write limit that none of the copied slots have been
+ * overwritten in the meantime. Overwritten (oldest) samples are dropped from the snapshot, and the copy is only retried
+ * if the producer lapped the whole buffer.
+ * <p>
+ * All read accessors (e.g. {@link #get(int, int)}, {@link #getValues(int)}, {@link #getDataCount()}) operate on the
+ * last snapshot, which is refreshed whenever a reader acquires the {@link #lock() read lock}. The snapshot is shared
+ * between readers and is not refreshed while another reader holds the lock, in which case the (consistent) previous
+ * snapshot is used.
+ * <p>
+ * N.B. {@link #add(double, double)}, {@link #add(double[], double[], int, int)}, {@link #reset()} and
+ * {@link #set(DataSet, boolean)} must only be called from a single producer thread.
+ */
+public class SingleWriterCircularDataSet extends AbstractDataSet<SingleWriterCircularDataSet> implements DataSet2D {
+    private static final long serialVersionUID = 4785128564108913247L;
+    private final int capacity;
+    private final double[] xValues; // ring buffers, written by the producer only
+    private final double[] yValues;
+    private final AtomicLong writeLimit = new AtomicLong(); // samples that may be (partially) written
+    private final AtomicLong writeCount = new AtomicLong(); // fully written samples
+    private final transient SnapshotLock snapshotLock = new SnapshotLock(this);
+    private final AtomicLong snapshotRetries = new AtomicLong();
+    private final double[] snapshotX; // linear copies that are accessed by the readers
+    private final double[] snapshotY;
+    private int snapshotCount;
+    private volatile long snapshotPosition;
+
+    /**
+     * @param name name of this DataSet.
+     * @param capacity maximum circular buffer capacity
+     */
+    public SingleWriterCircularDataSet(final String name, final int capacity) {
+        super(name, 2);
+        AssertUtils.gtThanZero("capacity", capacity);
+        this.capacity = capacity;
+        xValues = new double[capacity];
+        yValues = new double[capacity];
+        snapshotX = new double[capacity];
+        snapshotY = new double[capacity];
+    }
+
+    /**
+     * Appends a single sample. Must only be called from the producer thread.
+     *
+     * @param x the new x coordinate
+     * @param y the new y coordinate
+     * @return itself (fluent design)
+     */
+    public SingleWriterCircularDataSet add(final double x, final double y) {
+        final long position = writeCount.getPlain();
+        beginWrite(position + 1);
+        final int slot = (int) (position % capacity);
+        xValues[slot] = x;
+        yValues[slot] = y;
+        writeCount.setRelease(position + 1);
+        fireInvalidated(ChartBits.DataSetDataAdded);
+        return getThis();
+    }
+
+    /**
+     * Appends a block of samples. Must only be called from the producer thread.
+     *
+     * @param xVals the new x coordinates
+     * @param yVals the new y coordinates
+     * @param offset index of the first sample within the arrays
+     * @param length number of samples to be appended
+     * @return itself (fluent design)
+     */
+    public SingleWriterCircularDataSet add(final double[] xVals, final double[] yVals, final int offset, final int length) {
+        AssertUtils.notNull("X coordinates", xVals);
+        AssertUtils.notNull("Y coordinates", yVals);
+        AssertUtils.gtEqThanZero("offset", offset);
+        AssertUtils.gtEqThanZero("length", length);
+        AssertUtils.gtOrEqual("X coordinates", offset + length, xVals.length);
+        AssertUtils.gtOrEqual("Y coordinates", offset + length, yVals.length);
+        if (length == 0) {
+            return getThis();
+        }
+        // only the most recent 'capacity' samples can be retained
+        final int skip = Math.max(0, length - capacity);
+        final long position = writeCount.getPlain() + skip;
+        final int count = length - skip;
+        beginWrite(position + count);
+        copyIntoRing(xVals, offset + skip, xValues, position, count);
+        copyIntoRing(yVals, offset + skip, yValues, position, count);
+        writeCount.setRelease(position + count);
+        fireInvalidated(ChartBits.DataSetDataAdded);
+        return getThis();
+    }
+
+    private void beginWrite(final long limit) {
+        writeLimit.setRelease(limit);
+        // the announced limit must be visible before any of the slots get overwritten
+        VarHandle.storeStoreFence();
+    }
+
+    private void copyIntoRing(final double[] src, final int srcPos, final double[] ring, final long position, final int count) {
+        final int slot = (int) (position % capacity);
+        final int first = Math.min(count, capacity - slot);
+        System.arraycopy(src, srcPos, ring, slot, first);
+        System.arraycopy(src, srcPos + first, ring, 0, count - first);
+    }
+
+    private void copyFromRing(final double[] ring, final long position, final double[] dst, final int count) {
+        final int slot = (int) (position % capacity);
+        final int first = Math.min(count, capacity - slot);
+        System.arraycopy(ring, slot, dst, 0, first);
+        System.arraycopy(ring, 0, dst, first, count - first);
+    }
+
+    /**
+     * Copies the ring buffer into the snapshot arrays. Needs to be called with exclusive access to the snapshot.
+     */
+    protected void updateSnapshot() {
+        while (true) {
+            final long end = writeCount.getAcquire();
+            if (end == snapshotPosition) {
+                return;
+            }
+            final int count = (int) Math.min(end, capacity);
+            final long start = end - count;
+            copyFromRing(xValues, start, snapshotX, count);
+            copyFromRing(yValues, start, snapshotY, count);
+
+            // samples below 'limit - capacity' may have been overwritten while copying
+            VarHandle.loadLoadFence();
+            final long validStart = Math.max(start, writeLimit.getAcquire() - capacity);
+            if (validStart >= end) {
+                // producer lapped the whole buffer
+                snapshotRetries.incrementAndGet();
+                continue;
+            }
+            final int dropped = (int) (validStart - start);
+            if (dropped > 0) {
+                System.arraycopy(snapshotX, dropped, snapshotX, 0, count - dropped);
+                System.arraycopy(snapshotY, dropped, snapshotY, 0, count - dropped);
+            }
+            snapshotCount = count - dropped;
+            snapshotPosition = end;
+            getAxisDescriptions().forEach(AxisDescription::clear);
+            updateSortedX(snapshotCount); // N.B. O(n) similar to the copy of the snapshot
+            return;
+        }
+    }
+
+    /**
+     * @return number of snapshot attempts that had to be repeated because the producer overwrote the whole buffer
+     */
+    public long getSnapshotRetries() {
+        return snapshotRetries.get();
+    }
+
+    /**
+     * @return total number of samples that have been appended since the last reset
+     */
+    public long getWriteCount() {
+        return writeCount.getAcquire();
+    }
+
+    /**
+     * @return maximum number of samples that can be retained
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public double get(final int dimIndex, final int index) {
+        return dimIndex == DIM_X ? snapshotX[index] : snapshotY[index];
+    }
+
+    /**
+     * @param dimIndex the dimension index (ie. '0' equals 'X', '1' equals 'Y')
+     * @return snapshot array that may be larger than {@link #getDataCount()}. N.B. internal array, do not modify.
+     */
+    @Override
+    public double[] getValues(final int dimIndex) {
+        return dimIndex == DIM_X ? snapshotX : snapshotY;
+    }
+
+    @Override
+    public int getDataCount() {
+        return snapshotCount;
+    }
+
+    @Override
+    public DataSet recomputeLimits(final int dimIndex) {
+        final double[] values = getValues(dimIndex);
+        final DataRange newRange = new DataRange();
+        for (int i = 0; i < snapshotCount; i++) {
+            newRange.add(values[i]);
+        }
+        getAxisDescription(dimIndex).set(newRange.getMin(), newRange.getMax());
+        return this;
+    }
+
+    @Override
+    public DataSetLock<SingleWriterCircularDataSet> lock() {
+        return snapshotLock;
+    }
+
+    /**
+     * resets all data. Must only be called from the producer thread.
+     *
+     * @return itself (fluent design)
+     */
+    public SingleWriterCircularDataSet reset() {
+        lock().writeLockGuard(() -> {
+            // readers copy with exclusive access, so the sequence numbers can safely be rewound
+            writeLimit.set(0);
+            writeCount.set(0);
+            snapshotCount = 0;
+            snapshotPosition = 0;
+            getAxisDescriptions().forEach(AxisDescription::clear);
+            updateSortedX(0);
+        });
+        fireInvalidated(ChartBits.DataSetDataRemoved);
+        return getThis();
+    }
+
+    @Override
+    public DataSet set(final DataSet other, final boolean copy) {
+        lock().writeLockGuard(() -> other.lock().readLockGuard(() -> {
+            this.reset();
+            final int count = other.getDataCount();
+            this.add(other.getValues(DIM_X), other.getValues(DIM_Y), 0, count);
+            copyMetaData(other);
+            copyAxisDescription(other);
+            updateSnapshot();
+        }));
+        fireInvalidated(ChartBits.DataSetData);
+        return getThis();
+    }
+
+    /**
+     * Lock that refreshes the shared snapshot when readers acquire it. Readers never block the producer. The write lock
+     * only provides mutual exclusion w.r.t. readers of the snapshot, e.g. for resetting the data.
+     */
+    @SuppressWarnings({ "PMD.DoNotUseThreads" }) // Runnable used as functional interface
+    protected static class SnapshotLock implements DataSetLock<SingleWriterCircularDataSet> {
+        private static final long serialVersionUID = 1L;
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final SingleWriterCircularDataSet dataSet;
+
+        protected SnapshotLock(final SingleWriterCircularDataSet dataSet) {
+            this.dataSet = dataSet;
+        }
+
+        @Override
+        public SingleWriterCircularDataSet readLock() {
+            // refresh only if no other reader is currently working on the snapshot
+            if (dataSet.writeCount.getAcquire() != dataSet.snapshotPosition && lock.writeLock().tryLock()) {
+                try {
+                    dataSet.updateSnapshot();
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+            lock.readLock().lock();
+            return dataSet;
+        }
+
+        @Override
+        public SingleWriterCircularDataSet readLockGuard(final Runnable reading) {
+            readLock();
+            try {
+                reading.run();
+            } finally {
+                readUnLock();
+            }
+            return dataSet;
+        }
+
+        @Override
+        public <R> R readLockGuard(final Supplier<R> reading) {
+            readLock();
+            try {
+                return reading.get();
+            } finally {
+                readUnLock();
+            }
+        }
+
+        @Override
+        public SingleWriterCircularDataSet readLockGuardOptimistic(final Runnable reading) {
+            return readLockGuard(reading);
+        }
+
+        @Override
+        public <R> R readLockGuardOptimistic(final Supplier<R> reading) {
+            return readLockGuard(reading);
+        }
+
+        @Override
+        public SingleWriterCircularDataSet readUnLock() {
+            lock.readLock().unlock();
+            if (dataSet.writeCount.getAcquire() != dataSet.snapshotPosition) {
+                // readers may have cleared the bits of samples that did not make it into the snapshot
+                dataSet.fireInvalidated(ChartBits.DataSetDataAdded);
+            }
+            return dataSet;
+        }
+
+        @Override
+        public SingleWriterCircularDataSet writeLock() {
+            lock.writeLock().lock();
+            return dataSet;
+        }
+
+        @Override
+        public SingleWriterCircularDataSet writeLockGuard(final Runnable writing) {
+            writeLock();
+            try {
+                writing.run();
+            } finally {
+                writeUnLock();
+            }
+            return dataSet;
+        }
+
+        @Override
+        public <R> R writeLockGuard(final Supplier<R> writing) {
+            writeLock();
+            try {
+                return writing.get();
+            } finally {
+                writeUnLock();
+            }
+        }
+
+        @Override
+        public SingleWriterCircularDataSet writeUnLock() {
+            lock.writeLock().unlock();
+            return dataSet;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package io.fair_acc.dataset.spi;
+
+/**
+ * Minimum and maximum of a first-in-first-out window of samples, e.g. the content of a circular buffer or a FIFO
+ * queue. Samples are appended at the tail and removed from the head. The limits are tracked by two monotonic deques,
+ * i.e. appending and removing samples as well as querying the limits are O(1) amortised rather than requiring a full
+ * scan of the window whenever the oldest sample gets dropped.
+ * <p>
+ * Each sample may contribute a separate lower and upper bound (e.g. including its errors). Non-finite values are
+ * ignored, consistent with {@link DataRange#add(double)}.
+ */
+public class SlidingDataRange {
+    private static final int INITIAL_CAPACITY = 16;
+    private final MonotonicDeque minDeque = new MonotonicDeque(false);
+    private final MonotonicDeque maxDeque = new MonotonicDeque(true);
+    private long head; // sequence number of the oldest sample within the window
+    private long tail; // sequence number of the next sample
+
+    /**
+     * Appends a sample to the window.
+     *
+     * @param value the new value
+     */
+    public void add(final double value) {
+        add(value, value);
+    }
+
+    /**
+     * Appends a sample to the window.
+     *
+     * @param lower lower bound of the new sample
+     * @param upper upper bound of the new sample
+     */
+    public void add(final double lower, final double upper) {
+        if (Double.isFinite(lower)) {
+            minDeque.push(tail, lower);
+        }
+        if (Double.isFinite(upper)) {
+            maxDeque.push(tail, upper);
+        }
+        tail++;
+    }
+
+    /**
+     * removes all samples
+     */
+    public void clear() {
+        minDeque.clear();
+        maxDeque.clear();
+        head = 0;
+        tail = 0;
+    }
+
+    /**
+     * @return maximum of all samples within the window or {@code -Double.MAX_VALUE} if undefined (cf. {@link DataRange})
+     */
+    public double getMax() {
+        return maxDeque.isEmpty() ? -Double.MAX_VALUE : maxDeque.peek();
+    }
+
+    /**
+     * @return minimum of all samples within the window or {@code Double.MAX_VALUE} if undefined (cf. {@link DataRange})
+     */
+    public double getMin() {
+        return minDeque.isEmpty() ? Double.MAX_VALUE : minDeque.peek();
+    }
+
+    /**
+     * @return true if the window contains at least one finite lower and upper bound
+     */
+    public boolean isDefined() {
+        return !minDeque.isEmpty() && !maxDeque.isEmpty();
+    }
+
+    /**
+     * Removes the oldest samples from the window.
+     *
+     * @param count number of samples to be removed (clamped to the window size)
+     */
+    public void removeOldest(final int count) {
+        head = Math.min(tail, head + Math.max(0, count));
+        minDeque.removeBefore(head);
+        maxDeque.removeBefore(head);
+    }
+
+    /**
+     * @return number of samples within the window
+     */
+    public int size() {
+        return (int) (tail - head);
+    }
+
+    @Override
+    public String toString() {
+        return "SlidingDataRange [size=" + size() + ", min=" + getMin() + ", max=" + getMax() + "]";
+    }
+
+    /**
+     * Ring buffer of (sequence, value) pairs whose values are monotonic from head to tail, i.e. the head always holds
+     * the extremum of the window. Values that are dominated by a newer sample can never become the extremum again and
+     * are dropped on insertion. The buffer size is bounded by the window size.
+     */
+    private static final class MonotonicDeque {
+        private final boolean max;
+        private long[] sequence = new long[INITIAL_CAPACITY];
+        private double[] values = new double[INITIAL_CAPACITY];
+        private int first;
+        private int size;
+
+        private MonotonicDeque(final boolean max) {
+            this.max = max;
+        }
+
+        private void clear() {
+            first = 0;
+            size = 0;
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private double peek() {
+            return values[first];
+        }
+
+        private void push(final long seq, final double value) {
+            while (size > 0) {
+                final double last = values[index(size - 1)];
+                if (max ? last > value : last < value) {
+                    break;
+                }
+                size--;
+            }
+            if (size == values.length) {
+                grow();
+            }
+            final int index = index(size);
+            sequence[index] = seq;
+            values[index] = value;
+            size++;
+        }
+
+        private void removeBefore(final long seq) {
+            while (size > 0 && sequence[first] < seq) {
+                first = (first + 1) & (values.length - 1);
+                size--;
+            }
+        }
+
+        private int index(final int offset) {
+            return (first + offset) & (values.length - 1); // capacity is always a power of two
+        }
+
+        private void grow() {
+            final long[] newSequence = new long[2 * sequence.length];
+            final double[] newValues = new double[2 * values.length];
+            for (int i = 0; i < size; i++) {
+                newSequence[i] = sequence[index(i)];
+                newValues[i] = values[index(i)];
+            }
+            sequence = newSequence;
+            values = newValues;
+            first = 0;
+        }
+    }
+}
@@ -109,6 +109,11 @@ public class TransposedDataSet implements DataSet {
         return dataSet.getIndex(permutation[dimIndex], value);
     }
 
+    @Override
+    public boolean isSorted(final int dimIndex) {
+        return dataSet.isSorted(permutation[dimIndex]);
+    }
+
     @Override
     public String getName() {
         return dataSet.getName();
@@ -23,8 +23,10 @@ import java.util.concurrent.ConcurrentHashMap;
  * N.B. for other simple caching needs see @see Cache
  *
  * @author rstein
- *
+ * @deprecated all accesses synchronise on a global per-type monitor and only exact sizes are re-used, use the
+ *             size-class based and mostly thread-local {@link ArrayPool} instead
  */
+@Deprecated
 public final class ArrayCache { // NOPMD nomen est omen
     /**
      * Simple object wrapping an int similar to Integer but without interning to allow cache entries to be evicted.
@@ -0,0 +1,333 @@
+package io.fair_acc.dataset.utils;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Pooled allocator for large recurring temporary arrays, e.g. work buffers of numerical routines or image encoders
+ * that are needed on every invocation but not outside the function scope.
+ * <p>
+ * Requested sizes are rounded up to power-of-two size classes so that arrays of similar length are interchangeable,
+ * i.e. the returned array is at least (and usually longer than) the requested length. Callers must therefore use the
+ * requested length rather than {@code array.length} as loop bound. Released arrays are first kept in a small
+ * per-thread magazine that is accessed without any synchronisation. Overflowing magazines spill into a shared depot
+ * that is bounded per size class and by a total retained byte budget, beyond which released arrays are simply left to
+ * the garbage collector.
+ * <p>
+ * usage example:
+ *
+ * <pre>
+ * final double[] workingSpace = ArrayPool.DOUBLE.borrow(2 * length);
+ * try {
+ *     [..] user code using workingSpace[0..2*length-1] [..]
+ * } finally {
+ *     ArrayPool.DOUBLE.release(workingSpace);
+ * }
+ * </pre>
+ * <p>
+ * N.B. borrowed arrays are not cleared and may contain data from previous users. An array must not be used anymore
+ * after it has been released.
+ *
+ * @param <T> primitive array type, e.g. {@code double[]}
+ */
+public final class ArrayPool<T> {
+    /** smallest size class: 2^MIN_SHIFT elements */
+    private static final int MIN_SHIFT = 4;
+    /** largest size class: 2^MAX_SHIFT elements, larger requests are allocated but not pooled */
+    private static final int MAX_SHIFT = 30;
+    private static final int N_SIZE_CLASSES = MAX_SHIFT - MIN_SHIFT + 1;
+    private static final int MAGAZINE_SIZE = 4;
+    private static final int DEPOT_SIZE = 16;
+    private static final long MAX_MAGAZINE_ARRAY_BYTES = 1L << 20;
+    /** default upper bound of bytes retained in the shared depot of each pool */
+    public static final long DEFAULT_MAX_RETAINED_BYTES = 64L << 20;
+
+    public static final ArrayPool<boolean[]> BOOLEAN = new ArrayPool<>(boolean[]::new, a -> a.length, 1);
+    public static final ArrayPool<byte[]> BYTE = new ArrayPool<>(byte[]::new, a -> a.length, Byte.BYTES);
+    public static final ArrayPool<short[]> SHORT = new ArrayPool<>(short[]::new, a -> a.length, Short.BYTES); // NOPMD
+    public static final ArrayPool<int[]> INT = new ArrayPool<>(int[]::new, a -> a.length, Integer.BYTES);
+    public static final ArrayPool<long[]> LONG = new ArrayPool<>(long[]::new, a -> a.length, Long.BYTES);
+    public static final ArrayPool<float[]> FLOAT = new ArrayPool<>(float[]::new, a -> a.length, Float.BYTES);
+    public static final ArrayPool<double[]> DOUBLE = new ArrayPool<>(double[]::new, a -> a.length, Double.BYTES);
+
+    private final IntFunction<T> allocator;
+    private final ToIntFunction<T> lengthFunction;
+    private final int bytesPerElement;
+    private final long maxRetainedBytes;
+    private final int magazineClassLimit;
+    private final ThreadLocal<Magazine> magazines = ThreadLocal.withInitial(Magazine::new);
+    private final ArrayDeque<T>[] depot;
+    private final AtomicInteger generation = new AtomicInteger();
+    private final AtomicLong depotBytes = new AtomicLong();
+    private final LongAdder magazineBytes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param allocator allocates a new array of the given length, e.g. {@code double[]::new}
+     * @param lengthFunction returns the array length, e.g. {@code a -> a.length}
+     * @param bytesPerElement size of one element in bytes (used for the retained byte budget)
+     */
+    public ArrayPool(final IntFunction<T> allocator, final ToIntFunction<T> lengthFunction, final int bytesPerElement) {
+        this(allocator, lengthFunction, bytesPerElement, DEFAULT_MAX_RETAINED_BYTES);
+    }
+
+    /**
+     * @param allocator allocates a new array of the given length, e.g. {@code double[]::new}
+     * @param lengthFunction returns the array length, e.g. {@code a -> a.length}
+     * @param bytesPerElement size of one element in bytes (used for the retained byte budget)
+     * @param maxRetainedBytes upper bound of bytes retained in the shared depot
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayPool(final IntFunction<T> allocator, final ToIntFunction<T> lengthFunction, final int bytesPerElement, final long maxRetainedBytes) {
+        AssertUtils.notNull("allocator", allocator);
+        AssertUtils.notNull("lengthFunction", lengthFunction);
+        AssertUtils.gtThanZero("bytesPerElement", bytesPerElement);
+        AssertUtils.gtEqThanZero("maxRetainedBytes", maxRetainedBytes);
+        this.allocator = allocator;
+        this.lengthFunction = lengthFunction;
+        this.bytesPerElement = bytesPerElement;
+        this.maxRetainedBytes = maxRetainedBytes;
+        int limit = 0;
+        while (limit < N_SIZE_CLASSES && getCapacity(limit) * (long) bytesPerElement <= MAX_MAGAZINE_ARRAY_BYTES) {
+            limit++;
+        }
+        this.magazineClassLimit = limit;
+        depot = new ArrayDeque[N_SIZE_CLASSES];
+        for (int i = 0; i < N_SIZE_CLASSES; i++) {
+            depot[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * Returns a pooled array or allocates a new one if none is available.
+     * <p>
+     * N.B. do not forget to return ownership of the array via {@link #release}
+     *
+     * @param minSize minimum required array length
+     * @return array with a length of at least {@code minSize} (N.B. content is undefined)
+     */
+    public T borrow(final int minSize) {
+        AssertUtils.gtEqThanZero("minSize", minSize);
+        final int sizeClass = getSizeClass(minSize);
+        if (sizeClass >= N_SIZE_CLASSES) {
+            misses.increment();
+            return allocator.apply(minSize);
+        }
+
+        T array = null;
+        if (sizeClass < magazineClassLimit) {
+            final Magazine magazine = getMagazine();
+            array = magazine.pop(sizeClass);
+            if (array == null) {
+                array = refill(magazine, sizeClass);
+            }
+        } else {
+            array = pollDepot(sizeClass);
+        }
+
+        if (array == null) {
+            misses.increment();
+            return allocator.apply(getCapacity(sizeClass));
+        }
+        hits.increment();
+        return array;
+    }
+
+    /**
+     * Drops all retained arrays. Per-thread magazines of other threads are emptied lazily on their next access.
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        for (final ArrayDeque<T> queue : depot) {
+            synchronized (queue) {
+                while (!queue.isEmpty()) {
+                    depotBytes.addAndGet(-getBytes(lengthFunction.applyAsInt(queue.poll())));
+                }
+            }
+        }
+        getMagazine(); // drops the calling thread's magazine eagerly
+    }
+
+    /**
+     * @return number of {@link #borrow} calls that were served from the pool
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return upper bound of bytes retained in the shared depot
+     */
+    public long getMaxRetainedBytes() {
+        return maxRetainedBytes;
+    }
+
+    /**
+     * @return number of {@link #borrow} calls that required a new allocation
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return approximate number of bytes currently retained in the shared depot and the per-thread magazines
+     */
+    public long getRetainedBytes() {
+        return depotBytes.get() + magazineBytes.sum();
+    }
+
+    /**
+     * Returns ownership of an array to the pool. Arrays that do not match a size class (i.e. were not obtained via
+     * {@link #borrow}) or that exceed the pool's retention limits are left to the garbage collector.
+     *
+     * @param array the array to be released (may be {@code null})
+     */
+    public void release(final T array) {
+        if (array == null) {
+            return;
+        }
+        final int length = lengthFunction.applyAsInt(array);
+        if (length < getCapacity(0) || Integer.bitCount(length) != 1) {
+            return;
+        }
+        final int sizeClass = Integer.numberOfTrailingZeros(length) - MIN_SHIFT;
+        if (sizeClass >= N_SIZE_CLASSES) {
+            return;
+        }
+        if (sizeClass < magazineClassLimit) {
+            final Magazine magazine = getMagazine();
+            if (magazine.isFull(sizeClass)) {
+                spill(magazine, sizeClass);
+            }
+            magazine.push(sizeClass, array);
+        } else {
+            offerDepot(sizeClass, array);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ArrayPool [hits=" + getHits() + ", misses=" + getMisses() + ", retainedBytes=" + getRetainedBytes() + "]";
+    }
+
+    private long getBytes(final long length) {
+        return length * bytesPerElement;
+    }
+
+    private Magazine getMagazine() {
+        final Magazine magazine = magazines.get();
+        final int currentGeneration = generation.get();
+        if (magazine.generation != currentGeneration) {
+            magazine.clear();
+            magazine.generation = currentGeneration;
+        }
+        return magazine;
+    }
+
+    private void offerDepot(final int sizeClass, final T array) {
+        final long bytes = getBytes(getCapacity(sizeClass));
+        final ArrayDeque<T> queue = depot[sizeClass];
+        synchronized (queue) {
+            if (queue.size() >= DEPOT_SIZE || depotBytes.get() + bytes > maxRetainedBytes) {
+                return;
+            }
+            queue.push(array);
+            depotBytes.addAndGet(bytes);
+        }
+    }
+
+    private T pollDepot(final int sizeClass) {
+        final ArrayDeque<T> queue = depot[sizeClass];
+        synchronized (queue) {
+            final T array = queue.poll();
+            if (array != null) {
+                depotBytes.addAndGet(-getBytes(getCapacity(sizeClass)));
+            }
+            return array;
+        }
+    }
+
+    private T refill(final Magazine magazine, final int sizeClass) {
+        // take half a magazine from the depot in one go to amortise the synchronisation
+        final long bytes = getBytes(getCapacity(sizeClass));
+        final ArrayDeque<T> queue = depot[sizeClass];
+        T array;
+        synchronized (queue) {
+            array = queue.poll();
+            if (array == null) {
+                return null;
+            }
+            depotBytes.addAndGet(-bytes);
+            for (int i = 1; i < MAGAZINE_SIZE / 2 && !queue.isEmpty(); i++) {
+                magazine.push(sizeClass, queue.poll());
+                depotBytes.addAndGet(-bytes);
+            }
+        }
+        return array;
+    }
+
+    private void spill(final Magazine magazine, final int sizeClass) {
+        // move half a magazine to the depot, the remainder stays local
+        for (int i = 0; i < MAGAZINE_SIZE / 2; i++) {
+            offerDepot(sizeClass, magazine.pop(sizeClass));
+        }
+    }
+
+    private static int getCapacity(final int sizeClass) {
+        return 1 << (sizeClass + MIN_SHIFT);
+    }
+
+    private static int getSizeClass(final int size) {
+        if (size <= 1 << MIN_SHIFT) {
+            return 0;
+        }
+        return Integer.SIZE - Integer.numberOfLeadingZeros(size - 1) - MIN_SHIFT;
+    }
+
+    /**
+     * Per-thread stack of released arrays for each (small enough) size class.
+     */
+    private final class Magazine {
+        private final Object[][] arrays = new Object[N_SIZE_CLASSES][];
+        private final int[] counts = new int[N_SIZE_CLASSES];
+        private int generation = ArrayPool.this.generation.get();
+
+        private void clear() {
+            for (int sizeClass = 0; sizeClass < N_SIZE_CLASSES; sizeClass++) {
+                while (counts[sizeClass] > 0) {
+                    pop(sizeClass);
+                }
+            }
+        }
+
+        private boolean isFull(final int sizeClass) {
+            return counts[sizeClass] == MAGAZINE_SIZE;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T pop(final int sizeClass) {
+            if (counts[sizeClass] == 0) {
+                return null;
+            }
+            final Object[] stack = arrays[sizeClass];
+            final int index = --counts[sizeClass];
+            final T array = (T) stack[index];
+            stack[index] = null;
+            magazineBytes.add(-getBytes(getCapacity(sizeClass)));
+            return array;
+        }
+
+        private void push(final int sizeClass, final T array) {
+            if (arrays[sizeClass] == null) {
+                arrays[sizeClass] = new Object[MAGAZINE_SIZE];
+            }
+            arrays[sizeClass][counts[sizeClass]++] = array;
+            magazineBytes.add(getBytes(getCapacity(sizeClass)));
+        }
+    }
+}
@@ -204,6 +204,28 @@ public class CircularBuffer<E> {
         return put(newElements, startIndex + lengthUpperHalf, length - lengthUpperHalf);
     }
 
+    /**
+     * add the same element multiple times, e.g. 'null' placeholders
+     *
+     * @param element element to be written
+     * @param length number of times the element is to be written
+     * @return new write position
+     */
+    public int fill(final E element, final int length) {
+        final int nFill = Math.min(length, capacity);
+        final int start = (int) (((long) writePos + length - nFill) % capacity);
+        final int lengthUpperHalf = Math.min(nFill, capacity - start);
+        Arrays.fill(elements, start, start + lengthUpperHalf, element);
+        Arrays.fill(elements, 0, nFill - lengthUpperHalf, element);
+
+        final long newWritePos = (long) writePos + length;
+        if (newWritePos >= capacity) {
+            flipped = true;
+        }
+        writePos = (int) (newWritePos % capacity);
+        return writePos;
+    }
+
     /**
      *
      * @return number of available buffer elements that can be written before buffer wraps-around
@@ -9,6 +9,7 @@ import static io.fair_acc.dataset.utils.DataSetUtils.ErrType.EYP;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FilterInputStream;
 import java.io.IOException;
@@ -17,10 +18,16 @@ import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.PushbackInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -54,6 +61,8 @@ import io.fair_acc.dataset.spi.AbstractDataSet;
 import io.fair_acc.dataset.spi.DataSetBuilder;
 import io.fair_acc.dataset.spi.DefaultAxisDescription;
 import io.fair_acc.dataset.spi.DefaultDataSet;
+import io.fair_acc.dataset.spi.DoubleBufferDataSet;
+import io.fair_acc.dataset.spi.DoubleDataSet;
 import io.fair_acc.dataset.spi.DoubleErrorDataSet;
 
 /**
@@ -69,6 +78,13 @@ public class DataSetUtils extends DataSetUtilsHelper {
     private static final int SWITCH_TO_BINARY_KEY = 0xFE;
     private static final Logger LOGGER = LoggerFactory.getLogger(DataSetUtils.class);
     private static final String DEFAULT_TIME_FORMAT = "yyyyMMdd_HHmmss";
+    // versioned binary format: fixed header, string section, contiguous little-endian column blocks
+    private static final int BINARY_MAGIC = 0x44584643; // "CFXD" in little-endian byte order
+    public static final int BINARY_FORMAT_VERSION = 1;
+    private static final int BINARY_HEADER_SIZE = 32;
+    private static final int BINARY_LIMITS_SIZE = 4 * Double.BYTES; // x/y min/max
+    private static final int BINARY_FLAG_FLOAT32 = 0x1;
+    private static final int BINARY_CHUNK_SIZE = 1 << 20; // bytes per bulk channel transfer
     // prefix for axis specific Metadata representation
     private static final List<Character> AXIS_ID = Arrays.asList( //
             'x', 'y', 'z', 'u', 'v', 'w', 'r', 's', 't', 'o', //
@@ -346,6 +362,38 @@ public class DataSetUtils extends DataSetUtilsHelper {
         return split[1];
     }
 
+    /**
+     * Memory-maps a file in the binary format written by {@link #writeDataSetToBinaryFile(DataSet, Path, boolean)}
+     * read-only. The data is neither copied nor loaded onto the Java heap, i.e. only the accessed pages are read from
+     * disk, the axis limits are restored from the header. N.B. requires the data to be stored as doubles (ie.
+     * {@code asFloat = false}).
+     *
+     * @param file the file to be mapped
+     * @return read-only data set backed by the file
+     * @throws IOException in case of IO problems or an invalid file format
+     */
+    public static DoubleBufferDataSet mapDataSetFromBinaryFile(final Path file) throws IOException {
+        AssertUtils.notNull("file", file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final BinaryHeader header = BinaryHeader.read(channel);
+            if (header.asFloat) {
+                throw new IllegalArgumentException("cannot map float32 encoded data, use readDataSetFromBinaryFile instead");
+            }
+            final long columnBytes = (long) header.nSamples * Double.BYTES;
+            if (columnBytes > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("column size = '" + columnBytes + "' bytes exceeds maximum buffer size");
+            }
+            // mapping stays valid after the channel has been closed
+            final DoubleBuffer[] columns = new DoubleBuffer[4];
+            for (int i = 0; i < header.nColumns; i++) {
+                columns[i] = channel.map(FileChannel.MapMode.READ_ONLY, header.dataOffset + i * columnBytes, columnBytes).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            }
+            final DoubleBufferDataSet dataSet = new DoubleBufferDataSet(header.name, columns[0], columns[1], columns[2], columns[3]);
+            header.apply(dataSet);
+            return dataSet;
+        }
+    }
+
     /**
      * Open a InputStream that is backed by the appropriate stream classes for the chosen compression method.
      *
@@ -406,6 +454,45 @@ public class DataSetUtils extends DataSetUtilsHelper {
         }
     }
 
+    /**
+     * Reads a data set from a file in the binary format written by
+     * {@link #writeDataSetToBinaryFile(DataSet, Path, boolean)} via bulk channel transfers.
+     *
+     * @param file the file to be read
+     * @return DataSet with the data read from the file
+     * @throws IOException in case of IO problems or an invalid file format
+     * @see #mapDataSetFromBinaryFile(Path) for a zero-copy alternative
+     */
+    public static DataSet readDataSetFromBinaryFile(final Path file) throws IOException {
+        AssertUtils.notNull("file", file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return readDataSetFromChannel(channel);
+        }
+    }
+
+    /**
+     * Reads a data set in the binary format written by {@link #writeDataSetToChannel(DataSet, WritableByteChannel,
+     * boolean)}. The channel is positioned after the data set, i.e. several data sets may be read consecutively.
+     *
+     * @param channel the channel to read from
+     * @return DataSet with the data read from the channel
+     * @throws IOException in case of IO problems or an invalid format
+     */
+    public static DataSet readDataSetFromChannel(final ReadableByteChannel channel) throws IOException {
+        AssertUtils.notNull("channel", channel);
+        final BinaryHeader header = BinaryHeader.read(channel);
+        final ByteBuffer chunk = ByteBuffer.allocateDirect(BINARY_CHUNK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        final double[][] columns = new double[header.nColumns][];
+        for (int i = 0; i < header.nColumns; i++) {
+            columns[i] = readBinaryColumn(channel, header.nSamples, header.asFloat, chunk);
+        }
+        final AbstractDataSet<?> dataSet = header.nColumns == 4 //
+                                                 ? new DoubleErrorDataSet(header.name, columns[0], columns[1], columns[2], columns[3], header.nSamples, false)
+                                                 : new DoubleDataSet(header.name, columns[0], columns[1], header.nSamples, false);
+        header.apply(dataSet);
+        return dataSet;
+    }
+
     /**
      * Read a Dataset from a byte array containing comma separated values.<br>
      * The data format is a custom extension of csv with an additional #-commented Metadata Header and a $-commented
@@ -745,6 +832,60 @@ public class DataSetUtils extends DataSetUtilsHelper {
         return useFloat32BinaryStandard;
     }
 
+    /**
+     * Writes a (non-grid) 2D data set to a file in a versioned binary format, consisting of a fixed header including the
+     * axis limits (restored on reading/mapping without a scan of the data), the data set and axis names, and contiguous
+     * little-endian column blocks (x, y and, if present, the negative and positive y
+     * errors). In contrast to {@link #writeDataSetToFile(DataSet, Path, String, boolean)}, the data is transferred in
+     * bulk via NIO channels without intermediate text or per-value stream conversions.
+     *
+     * @param dataSet The DataSet to export
+     * @param file the file to be (over-)written
+     * @param asFloat {@code true}: encode data as floats (half the size), or {@code false} as doubles (full precision
+     *            and compatible with {@link #mapDataSetFromBinaryFile(Path)})
+     * @throws IOException in case of IO problems
+     */
+    public static void writeDataSetToBinaryFile(final DataSet dataSet, final Path file, final boolean asFloat) throws IOException {
+        AssertUtils.notNull("file", file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeDataSetToChannel(dataSet, channel, asFloat);
+        }
+    }
+
+    /**
+     * Writes a (non-grid) 2D data set to a channel in the binary format described in
+     * {@link #writeDataSetToBinaryFile(DataSet, Path, boolean)}.
+     *
+     * @param dataSet The DataSet to export
+     * @param channel the channel to write to
+     * @param asFloat {@code true}: encode data as floats, or {@code false} as doubles
+     * @throws IOException in case of IO problems
+     */
+    public static void writeDataSetToChannel(final DataSet dataSet, final WritableByteChannel channel, final boolean asFloat) throws IOException {
+        AssertUtils.notNull("dataSet", dataSet);
+        AssertUtils.notNull("channel", channel);
+        if (dataSet instanceof GridDataSet || dataSet.getDimension() != 2) {
+            throw new IllegalArgumentException("binary format supports only 2D non-grid data sets, dataSet = " + dataSet.getName());
+        }
+        dataSet.lock().readLock();
+        try {
+            final int nSamples = dataSet.getDataCount();
+            final boolean hasErrors = dataSet instanceof DataSetError && ((DataSetError) dataSet).getErrorType(DIM_Y) != DataSetError.ErrorType.NO_ERROR;
+            final BinaryHeader header = new BinaryHeader(asFloat, hasErrors ? 4 : 2, nSamples, dataSet, hasErrors);
+            writeFully(channel, header.toByteBuffer());
+
+            final ByteBuffer chunk = ByteBuffer.allocateDirect(BINARY_CHUNK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            writeBinaryColumn(channel, dataSet.getValues(DIM_X), nSamples, asFloat, chunk);
+            writeBinaryColumn(channel, dataSet.getValues(DIM_Y), nSamples, asFloat, chunk);
+            if (hasErrors) {
+                writeBinaryColumn(channel, errors(dataSet, EYN), nSamples, asFloat, chunk);
+                writeBinaryColumn(channel, errors(dataSet, EYP), nSamples, asFloat, chunk);
+            }
+        } finally {
+            dataSet.lock().readUnLock();
+        }
+    }
+
     /**
      * Write data set into byte buffer.
      *
@@ -1162,6 +1303,60 @@ public class DataSetUtils extends DataSetUtilsHelper {
         }
     }
 
+    private static double[] readBinaryColumn(final ReadableByteChannel channel, final int nSamples, final boolean asFloat, final ByteBuffer chunk) throws IOException {
+        final double[] values = new double[nSamples];
+        final int bytesPerValue = asFloat ? Float.BYTES : Double.BYTES;
+        final int chunkLength = chunk.capacity() / bytesPerValue;
+        for (int offset = 0; offset < nSamples; offset += chunkLength) {
+            final int length = Math.min(chunkLength, nSamples - offset);
+            chunk.clear().limit(length * bytesPerValue);
+            readFully(channel, chunk);
+            chunk.flip();
+            if (asFloat) {
+                final FloatBuffer floats = chunk.asFloatBuffer();
+                for (int i = 0; i < length; i++) {
+                    values[offset + i] = floats.get(i);
+                }
+            } else {
+                chunk.asDoubleBuffer().get(values, offset, length);
+            }
+        }
+        return values;
+    }
+
+    private static void readFully(final ReadableByteChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("unexpected end of binary data set stream");
+            }
+        }
+    }
+
+    private static void writeBinaryColumn(final WritableByteChannel channel, final double[] values, final int nSamples, final boolean asFloat, final ByteBuffer chunk) throws IOException {
+        final int bytesPerValue = asFloat ? Float.BYTES : Double.BYTES;
+        final int chunkLength = chunk.capacity() / bytesPerValue;
+        for (int offset = 0; offset < nSamples; offset += chunkLength) {
+            final int length = Math.min(chunkLength, nSamples - offset);
+            chunk.clear();
+            if (asFloat) {
+                final FloatBuffer floats = chunk.asFloatBuffer();
+                for (int i = 0; i < length; i++) {
+                    floats.put(i, (float) values[offset + i]);
+                }
+            } else {
+                chunk.asDoubleBuffer().put(values, offset, length);
+            }
+            chunk.limit(length * bytesPerValue);
+            writeFully(channel, chunk);
+        }
+    }
+
+    private static void writeFully(final WritableByteChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
     /**
      * Supported Compression Types
      */
@@ -1209,6 +1404,146 @@ public class DataSetUtils extends DataSetUtilsHelper {
         EYP
     }
 
+    /**
+     * Header of the binary data set format: magic number, version, flags, number of columns and samples (fixed size),
+     * the x and y axis limits, followed by the length-prefixed UTF-8 data set and axis
+     * names/units, padded such that the column blocks start at a multiple of eight bytes.
+     */
+    private static final class BinaryHeader {
+        private final boolean asFloat;
+        private final int nColumns;
+        private final int nSamples;
+        private final String name;
+        private final String[] axisNames = new String[2];
+        private final String[] axisUnits = new String[2];
+        private final double[] limits = new double[4]; // min/max per dimension incl. errors
+        private long dataOffset;
+
+        private BinaryHeader(final boolean asFloat, final int nColumns, final int nSamples, final String name) {
+            this.asFloat = asFloat;
+            this.nColumns = nColumns;
+            this.nSamples = nSamples;
+            this.name = name;
+        }
+
+        private BinaryHeader(final boolean asFloat, final int nColumns, final int nSamples, final DataSet dataSet, final boolean hasErrors) {
+            this(asFloat, nColumns, nSamples, dataSet.getName());
+            for (int dim = 0; dim < 2; dim++) {
+                final AxisDescription axis = dataSet.getAxisDescription(dim);
+                axisNames[dim] = axis.getName();
+                axisUnits[dim] = axis.getUnit();
+                // N.B. computed from the data rather than taken from the axis description, which may be stale or user-defined
+                computeLimits(dataSet, dim, hasErrors && dim == DIM_Y);
+            }
+        }
+
+        private void apply(final DataSet dataSet) {
+            for (int dim = 0; dim < 2; dim++) {
+                dataSet.getAxisDescription(dim).set(axisNames[dim], axisUnits[dim]);
+                if (nSamples > 0) {
+                    dataSet.getAxisDescription(dim).set(limits[2 * dim], limits[2 * dim + 1]);
+                }
+            }
+        }
+
+        private void computeLimits(final DataSet dataSet, final int dim, final boolean withErrors) {
+            // N.B. consistent with the values as read back, i.e. after a possible float conversion
+            double min = Double.NaN;
+            double max = Double.NaN;
+            for (int i = 0; i < nSamples; i++) {
+                final double value = round(dataSet.get(dim, i));
+                final double lower = withErrors ? value - round(error(dataSet, EYN, i)) : value;
+                final double upper = withErrors ? value + round(error(dataSet, EYP, i)) : value;
+                min = Double.isNaN(min) || lower < min ? lower : min;
+                max = Double.isNaN(max) || upper > max ? upper : max;
+            }
+            limits[2 * dim] = min;
+            limits[2 * dim + 1] = max;
+        }
+
+        private double round(final double value) {
+            return asFloat ? (float) value : value;
+        }
+
+        private ByteBuffer toByteBuffer() {
+            final byte[][] strings = { encode(name), encode(axisNames[DIM_X]), encode(axisUnits[DIM_X]), encode(axisNames[DIM_Y]), encode(axisUnits[DIM_Y]) };
+            int stringBytes = 0;
+            for (final byte[] string : strings) {
+                stringBytes += Integer.BYTES + (string == null ? 0 : string.length);
+            }
+            final ByteBuffer buffer = ByteBuffer.allocate(BINARY_HEADER_SIZE + BINARY_LIMITS_SIZE + align(stringBytes)).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(BINARY_MAGIC).putInt(BINARY_FORMAT_VERSION).putInt(asFloat ? BINARY_FLAG_FLOAT32 : 0).putInt(nColumns);
+            buffer.putLong(nSamples).putInt(stringBytes).putInt(0); // reserved
+            for (final double limit : limits) {
+                buffer.putDouble(limit);
+            }
+            for (final byte[] string : strings) {
+                buffer.putInt(string == null ? -1 : string.length);
+                if (string != null) {
+                    buffer.put(string);
+                }
+            }
+            return buffer.clear(); // including the zero padding
+        }
+
+        private static int align(final int length) {
+            return (length + Double.BYTES - 1) / Double.BYTES * Double.BYTES;
+        }
+
+        private static byte[] encode(final String string) {
+            return string == null ? null : string.getBytes(StandardCharsets.UTF_8);
+        }
+
+        private static String getString(final ByteBuffer buffer) throws IOException {
+            final int length = buffer.getInt();
+            if (length < 0) {
+                return null;
+            }
+            if (length > buffer.remaining()) {
+                throw new IOException("corrupt binary data set header: string length = " + length);
+            }
+            final String string = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return string;
+        }
+
+        private static BinaryHeader read(final ReadableByteChannel channel) throws IOException {
+            final ByteBuffer fixed = ByteBuffer.allocate(BINARY_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, fixed);
+            fixed.flip();
+            if (fixed.getInt() != BINARY_MAGIC) {
+                throw new IOException("not a binary data set (invalid magic number)");
+            }
+            final int version = fixed.getInt();
+            if (version != BINARY_FORMAT_VERSION) {
+                throw new IOException("unsupported binary data set version = " + version + " (supported: " + BINARY_FORMAT_VERSION + ")");
+            }
+            final int flags = fixed.getInt();
+            final int nColumns = fixed.getInt();
+            final long nSamples = fixed.getLong();
+            final int stringBytes = fixed.getInt();
+            if ((nColumns != 2 && nColumns != 4) || nSamples < 0 || nSamples > Integer.MAX_VALUE || stringBytes < 0) {
+                throw new IOException("corrupt binary data set header: nColumns = " + nColumns + " nSamples = " + nSamples);
+            }
+
+            final ByteBuffer limits = ByteBuffer.allocate(BINARY_LIMITS_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, limits);
+            limits.flip();
+
+            final ByteBuffer strings = ByteBuffer.allocate(align(stringBytes)).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, strings);
+            strings.flip().limit(stringBytes);
+            final BinaryHeader header = new BinaryHeader((flags & BINARY_FLAG_FLOAT32) != 0, nColumns, (int) nSamples, getString(strings));
+            for (int dim = 0; dim < 2; dim++) {
+                header.axisNames[dim] = getString(strings);
+                header.axisUnits[dim] = getString(strings);
+            }
+            limits.asDoubleBuffer().get(header.limits);
+            header.dataOffset = (long) BINARY_HEADER_SIZE + BINARY_LIMITS_SIZE + strings.capacity();
+            return header;
+        }
+    }
+
     protected static class SplitCharByteInputStream extends FilterInputStream {
         protected static final byte MARKER = (byte) SWITCH_TO_BINARY_KEY;
         private final PushbackInputStream pbin;
@@ -174,33 +174,23 @@ public class DoubleCircularBuffer {
      * @return true: write index is smaller than read index
      */
     public int put(final double[] newElements, final int startIndex, final int length) {
-        // readPos lower than writePos - free sections are:
-        // 1) from writePos to capacity
-        // 2) from 0 to readPos
-        final int lengthUpperHalf = capacity - writePos;
-        if (length <= lengthUpperHalf) {
-            // new elements fit into top half of elements array - copy directly
-            System.arraycopy(newElements, startIndex, elements, writePos, length);
-            writePos += length;
-
-            if (writePos == capacity) {
-                writePos = 0;
-                flipped = true;
-            }
-            return writePos;
-        }
-
-        // length > lengthUpperHalf
-        System.arraycopy(newElements, startIndex, elements, writePos, lengthUpperHalf);
-        writePos = capacity - 1;
-        writePos += lengthUpperHalf;
-        if (writePos >= capacity) {
-            writePos = 0;
+        // only the last 'capacity' elements can be retained
+        final int skip = Math.max(0, length - capacity);
+        final int nCopy = length - skip;
+        final int start = (int) (((long) writePos + skip) % capacity);
+        // at most one split at the wrap-around boundary:
+        // 1) from start to capacity
+        // 2) from 0 to the remainder
+        final int lengthUpperHalf = Math.min(nCopy, capacity - start);
+        System.arraycopy(newElements, startIndex + skip, elements, start, lengthUpperHalf);
+        System.arraycopy(newElements, startIndex + skip + lengthUpperHalf, elements, 0, nCopy - lengthUpperHalf);
+
+        final long newWritePos = (long) writePos + length;
+        if (newWritePos >= capacity) {
             flipped = true;
         }
-
-        // writing the remained of the array to the circular buffer
-        return put(newElements, startIndex + lengthUpperHalf, length - lengthUpperHalf);
+        writePos = (int) (newWritePos % capacity);
+        return writePos;
     }
 
     /**
@@ -0,0 +1,174 @@
+package io.fair_acc.dataset.events;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.fair_acc.bench.CountMeasure;
+import io.fair_acc.bench.MeasurementRecorder;
+import io.fair_acc.bench.TimeMeasure;
+
+class ThreadEventProcessorTest {
+    private static ThreadEventProcessor create(final boolean pooled) {
+        return pooled ? ThreadEventProcessor.createPooled(4) : new ThreadEventProcessor();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void onlyDirtyActionsAreExecuted(final boolean pooled) {
+        final ThreadEventProcessor processor = create(pooled);
+        assertEquals(pooled, processor.isPooled());
+        final BitState stateA = BitState.initCleanMultiThreaded(this, ChartBits.DataSetMask);
+        final BitState stateB = BitState.initCleanMultiThreaded(this, ChartBits.DataSetMask);
+        final AtomicInteger countA = new AtomicInteger();
+        final AtomicInteger countB = new AtomicInteger();
+        processor.addAction(stateA, countA::incrementAndGet);
+        processor.addAction(stateB, countB::incrementAndGet);
+
+        stateA.setDirty(ChartBits.DataSetData);
+        await().atMost(Duration.ofSeconds(5)).until(() -> countA.get() == 1 && stateA.isClean());
+        assertEquals(0, countB.get());
+
+        stateB.setDirty(ChartBits.DataSetData);
+        await().atMost(Duration.ofSeconds(5)).until(() -> countB.get() == 1 && stateB.isClean());
+        assertEquals(1, countA.get());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void initiallyDirtyStateIsProcessed(final boolean pooled) {
+        final ThreadEventProcessor processor = create(pooled);
+        final BitState state = BitState.initDirtyMultiThreaded(this, ChartBits.DataSetMask);
+        final AtomicInteger count = new AtomicInteger();
+        processor.addAction(state, count::incrementAndGet);
+        await().atMost(Duration.ofSeconds(5)).until(() -> count.get() == 1);
+    }
+
+    @Test
+    void actionsOfSameStateRunInOrderAndNeverConcurrently() {
+        final ThreadEventProcessor processor = ThreadEventProcessor.createPooled(4);
+        final BitState state = BitState.initCleanMultiThreaded(this, ChartBits.DataSetMask);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final List<Integer> order = new CopyOnWriteArrayList<>();
+        final AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            final int index = i;
+            processor.addAction(state, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                order.add(index);
+                running.decrementAndGet();
+                if (index == 2) {
+                    completed.incrementAndGet();
+                }
+            });
+        }
+
+        final int nUpdates = 1000;
+        for (int i = 0; i < nUpdates; i++) {
+            state.setDirty(ChartBits.DataSetData);
+        }
+        await().atMost(Duration.ofSeconds(5)).until(() -> state.isClean() && completed.get() > 0 && order.size() == 3 * completed.get());
+        assertEquals(1, maxRunning.get());
+        assertTrue(completed.get() <= nUpdates);
+        for (int i = 0; i < order.size(); i++) {
+            assertEquals(i % 3, order.get(i));
+        }
+    }
+
+    @Test
+    void independentStatesAreProcessedInParallel() {
+        final ThreadEventProcessor processor = ThreadEventProcessor.createPooled(2);
+        final BitState slowState = BitState.initCleanMultiThreaded(this, ChartBits.DataSetMask);
+        final BitState fastState = BitState.initCleanMultiThreaded(this, ChartBits.DataSetMask);
+        final Object blocker = new Object();
+        final AtomicInteger fastCount = new AtomicInteger();
+        processor.addAction(slowState, () -> {
+            synchronized (blocker) {
+                try {
+                    blocker.wait(5000);
+                } catch (InterruptedException ignored) {
+                }
+            }
+        });
+        processor.addAction(fastState, fastCount::incrementAndGet);
+
+        slowState.setDirty(ChartBits.DataSetData);
+        fastState.setDirty(ChartBits.DataSetData);
+        // the fast action must not be stalled by the slow one
+        await().atMost(Duration.ofSeconds(2)).until(() -> fastCount.get() == 1);
+        synchronized (blocker) {
+            blocker.notifyAll();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void rateLimitedActionsAreCoalesced(final boolean pooled) {
+        final ThreadEventProcessor processor = create(pooled);
+        final List<String> recorded = new CopyOnWriteArrayList<>();
+        processor.setRecorder(new MeasurementRecorder() {
+            @Override
+            public TimeMeasure newTime(final String tag, final IntSupplier level) {
+                return (unit, time) -> recorded.add(tag);
+            }
+
+            @Override
+            public CountMeasure newCount(final String tag, final IntSupplier level) {
+                return count -> recorded.add(tag);
+            }
+        });
+        final BitState state = BitState.initCleanMultiThreaded(this, ChartBits.DataSetMask);
+        final AtomicInteger count = new AtomicInteger();
+        processor.addAction(state, count::incrementAndGet, 200);
+
+        // leading edge gets executed right away
+        state.setDirty(ChartBits.DataSetData);
+        await().atMost(Duration.ofSeconds(5)).until(() -> count.get() == 1 && state.isClean());
+
+        // burst within the period gets coalesced into a single trailing update
+        final int nUpdates = 100;
+        for (int i = 0; i < nUpdates; i++) {
+            state.setDirty(ChartBits.DataSetData);
+            state.clear();
+        }
+        await().atMost(Duration.ofSeconds(5)).until(() -> count.get() == 2);
+        assertEquals(2, processor.getExecutedCount());
+        assertEquals(nUpdates - 1, processor.getDroppedCount());
+        assertTrue(recorded.contains("events-action"));
+        assertTrue(recorded.contains("events-coalesced"));
+    }
+
+    @Test
+    void globalRateLimit() {
+        final ThreadEventProcessor processor = create(false);
+        assertEquals(0, processor.getMinUpdatePeriod());
+        processor.setMinUpdatePeriod(50);
+        assertEquals(50, processor.getMinUpdatePeriod());
+        final BitState state = BitState.initCleanMultiThreaded(this, ChartBits.DataSetMask);
+        final AtomicInteger count = new AtomicInteger();
+        processor.addAction(state, count::incrementAndGet);
+
+        final long start = System.nanoTime();
+        state.setDirty(ChartBits.DataSetData);
+        await().atMost(Duration.ofSeconds(5)).until(() -> count.get() == 1 && state.isClean());
+        state.setDirty(ChartBits.DataSetData);
+        await().atMost(Duration.ofSeconds(5)).until(() -> count.get() == 2);
+        assertTrue(System.nanoTime() - start >= 50_000_000L);
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> ThreadEventProcessor.createPooled(0));
+        assertThrows(IllegalArgumentException.class, () -> new ThreadEventProcessor(null));
+    }
+}
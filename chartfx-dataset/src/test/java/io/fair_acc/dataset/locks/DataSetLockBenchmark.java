@@ -0,0 +1,98 @@
+package io.fair_acc.dataset.locks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.spi.DoubleDataSet;
+
+/**
+ * Overhead of the {@link DefaultDataSetLock} guards: uncontended read/write locking of a single thread as well as
+ * several render-like readers competing with one writer that continuously modifies the data set.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class DataSetLockBenchmark {
+    private static final int N_SAMPLES = 1000;
+    private DoubleDataSet dataSet;
+    private double x;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        dataSet = new DoubleDataSet("lock", N_SAMPLES);
+        for (int i = 0; i < N_SAMPLES; i++) {
+            dataSet.add(i, Math.sin(i));
+        }
+    }
+
+    @Benchmark
+    @Group("uncontendedRead")
+    public double uncontendedRead() {
+        return dataSet.lock().readLockGuard(() -> dataSet.get(DataSet.DIM_Y, 0));
+    }
+
+    @Benchmark
+    @Group("uncontendedWrite")
+    public DataSet uncontendedWrite() {
+        x += 1.0;
+        return dataSet.lock().writeLockGuard(() -> dataSet.set(0, x, x));
+    }
+
+    @Benchmark
+    @Group("readers")
+    @GroupThreads(4)
+    public double readersOnly() {
+        return dataSet.lock().readLockGuard(this::sum);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public double contendedRead() {
+        return dataSet.lock().readLockGuard(this::sum);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public DataSet contendedWrite() {
+        x += 1.0;
+        return dataSet.lock().writeLockGuard(() -> dataSet.set(0, x, x));
+    }
+
+    private double sum() {
+        // mimics the point-wise access of the renderers
+        double sum = 0.0;
+        final int count = dataSet.getDataCount();
+        for (int i = 0; i < count; i++) {
+            sum += dataSet.get(DataSet.DIM_Y, i);
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder().include(DataSetLockBenchmark.class.getSimpleName()).build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,107 @@
+package io.fair_acc.dataset.spi;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.fair_acc.dataset.DataSet;
+
+/**
+ * Concurrent single producer / single render-thread access of the lock-based {@link CircularDoubleErrorDataSet} vs.
+ * the lock-free {@link SingleWriterCircularDataSet}. The 'write' method measures the append throughput of the
+ * producer while the 'read' method concurrently takes (consistent) copies of the data as a renderer would.
+ *
+ * @see SingleWriterCircularDataSet
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class CircularDataSetBenchmark {
+    @Param({ "10000", "1000000" })
+    private int capacity;
+
+    private CircularDoubleErrorDataSet circularDataSet;
+    private SingleWriterCircularDataSet singleWriterDataSet;
+    private double[] xCopy;
+    private double[] yCopy;
+    private double x;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        circularDataSet = new CircularDoubleErrorDataSet("circular", capacity);
+        singleWriterDataSet = new SingleWriterCircularDataSet("singleWriter", capacity);
+        xCopy = new double[capacity];
+        yCopy = new double[capacity];
+        for (int i = 0; i < capacity; i++) {
+            circularDataSet.add(i, Math.sin(i), 0, 0);
+            singleWriterDataSet.add(i, Math.sin(i));
+        }
+        x = capacity;
+    }
+
+    @Benchmark
+    @Group("circular")
+    @GroupThreads(1)
+    public void circularWrite() {
+        x += 1.0;
+        circularDataSet.add(x, x, 0, 0);
+    }
+
+    @Benchmark
+    @Group("circular")
+    @GroupThreads(1)
+    public void circularRead(final Blackhole blackhole) {
+        blackhole.consume(circularDataSet.lock().readLockGuard(() -> copy(circularDataSet)));
+    }
+
+    @Benchmark
+    @Group("singleWriter")
+    @GroupThreads(1)
+    public void singleWriterWrite() {
+        x += 1.0;
+        singleWriterDataSet.add(x, x);
+    }
+
+    @Benchmark
+    @Group("singleWriter")
+    @GroupThreads(1)
+    public void singleWriterRead(final Blackhole blackhole) {
+        blackhole.consume(singleWriterDataSet.lock().readLockGuard(() -> copy(singleWriterDataSet)));
+    }
+
+    private int copy(final DataSet dataSet) {
+        // mimics the point-wise access of the renderers
+        final int count = dataSet.getDataCount();
+        for (int i = 0; i < count; i++) {
+            xCopy[i] = dataSet.get(DataSet.DIM_X, i);
+            yCopy[i] = dataSet.get(DataSet.DIM_Y, i);
+        }
+        return count;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder().include(CircularDataSetBenchmark.class.getSimpleName()).build();
+        new Runner(opt).run();
+    }
+}
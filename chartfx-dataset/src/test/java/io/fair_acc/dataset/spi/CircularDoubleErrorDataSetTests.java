@@ -2,9 +2,12 @@ package io.fair_acc.dataset.spi;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -175,6 +178,59 @@ class CircularDoubleErrorDataSetTests {
         assertEquals(2.1, yAxisDescription.getMax());
     }
 
+    @Test
+    void testBatchAddWithOffset() {
+        CircularDoubleErrorDataSet dataSet = new CircularDoubleErrorDataSet("test", 5);
+        final AtomicInteger nEvents = new AtomicInteger();
+        dataSet.getBitState().clear();
+        dataSet.getBitState().addInvalidateListener((src, bits) -> nEvents.incrementAndGet());
+
+        final double[] frame = { -1, 1, 2, 3, -1 };
+        dataSet.add(frame, frame, new double[5], new double[5], 1, 3);
+        assertEquals(3, dataSet.getDataCount());
+        assertArrayEquals(new double[] { 1, 2, 3 }, dataSet.getValues(DataSet.DIM_X));
+        // limits are updated incrementally w/o needing a recompute
+        assertAxisDescriptionRange(dataSet.getAxisDescription(DataSet.DIM_X), 1., 3.);
+        assertAxisDescriptionRange(dataSet.getAxisDescription(DataSet.DIM_Y), 1., 3.);
+        assertEquals(1, nEvents.get());
+
+        dataSet.add(new double[] { 4 }, new double[] { 10 }, new double[] { 1 }, new double[] { 2 }, 0, 1);
+        assertAxisDescriptionRange(dataSet.getAxisDescription(DataSet.DIM_Y), 1., 12.);
+
+        // wrap-around and frames larger than the capacity
+        final double[] large = { 5, 6, 7, 8, 9, 10, 11 };
+        dataSet.add(large, large, new double[7], new double[7], 0, 7);
+        assertArrayEquals(new double[] { 7, 8, 9, 10, 11 }, dataSet.getValues(DataSet.DIM_X));
+        assertAxisDescriptionRange(dataSet.getAxisDescription(DataSet.DIM_X), 7., 11.);
+        assertAxisDescriptionRange(dataSet.getAxisDescription(DataSet.DIM_Y), 7., 11.);
+
+        assertThrows(IllegalArgumentException.class, () -> dataSet.add(frame, frame, frame, frame, 3, 3));
+    }
+
+    @Test
+    void testSlidingWindowLimits() {
+        CircularDoubleErrorDataSet dataSet = new CircularDoubleErrorDataSet("test", 3);
+        final double[] y = { 5, 1, 4, 3, 2, 6, 0 };
+        for (int i = 0; i < y.length; i++) {
+            dataSet.add(i, y[i], 0.5, 1.0);
+            // exact limits of the last three samples (incl. errors) without needing a recompute
+            double min = Double.MAX_VALUE;
+            double max = -Double.MAX_VALUE;
+            for (int j = Math.max(0, i - 2); j <= i; j++) {
+                min = Math.min(min, y[j] - 0.5);
+                max = Math.max(max, y[j] + 1.0);
+            }
+            assertAxisDescriptionRange(dataSet.getAxisDescription(DataSet.DIM_X), Math.max(0, i - 2), i);
+            assertAxisDescriptionRange(dataSet.getAxisDescription(DataSet.DIM_Y), min, max);
+        }
+
+        // explicit recompute yields the same limits
+        dataSet.recomputeLimits(DataSet.DIM_Y);
+        assertAxisDescriptionRange(dataSet.getAxisDescription(DataSet.DIM_Y), -0.5, 7.0);
+        dataSet.reset();
+        assertFalse(dataSet.getAxisDescription(DataSet.DIM_Y).isDefined());
+    }
+
     private void assertAxisDescriptionRange(AxisDescription axisDescription, double min, double max) {
         assertEquals(min, axisDescription.getMin());
         assertEquals(max, axisDescription.getMax());
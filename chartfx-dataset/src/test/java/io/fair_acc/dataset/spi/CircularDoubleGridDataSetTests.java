@@ -0,0 +1,123 @@
+package io.fair_acc.dataset.spi;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static io.fair_acc.dataset.DataSet.DIM_X;
+import static io.fair_acc.dataset.DataSet.DIM_Y;
+import static io.fair_acc.dataset.DataSet.DIM_Z;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the CircularDoubleGridDataSet
+ */
+class CircularDoubleGridDataSetTests {
+    private static final double[] X_GRID = { 1, 2, 3 };
+
+    @Test
+    void testConstructor() {
+        final CircularDoubleGridDataSet dataSet = new CircularDoubleGridDataSet("waterfall", X_GRID, 4);
+        assertEquals("waterfall", dataSet.getName());
+        assertEquals(3, dataSet.getDimension());
+        assertEquals(4, dataSet.getRowCapacity());
+        assertArrayEquals(new int[] { 3, 0 }, dataSet.getShape());
+        assertEquals(0, dataSet.getDataCount());
+        assertFalse(dataSet.getAxisDescription(DIM_Z).isDefined());
+
+        assertThrows(IllegalArgumentException.class, () -> new CircularDoubleGridDataSet("waterfall", null, 4));
+        assertThrows(IllegalArgumentException.class, () -> new CircularDoubleGridDataSet("waterfall", X_GRID, 0));
+        assertThrows(IllegalArgumentException.class, () -> dataSet.appendRow(new double[] { 1, 2 }));
+    }
+
+    @Test
+    void testAppendRow() {
+        final CircularDoubleGridDataSet dataSet = new CircularDoubleGridDataSet("waterfall", X_GRID, 3);
+        dataSet.appendRow(10.0, new double[] { 1, 2, 3 });
+        dataSet.appendRow(new double[] { 4, 5, 6 });
+        assertArrayEquals(new int[] { 3, 2 }, dataSet.getShape());
+        assertEquals(6, dataSet.getDataCount());
+        assertArrayEquals(new double[] { 10, 11 }, dataSet.getGridValues(DIM_Y));
+        assertEquals(5.0, dataSet.get(DIM_Z, 1, 1));
+        assertEquals(5.0, dataSet.get(DIM_Z, 4));
+        assertEquals(2.0, dataSet.get(DIM_X, 4));
+        assertEquals(11.0, dataSet.get(DIM_Y, 4));
+        assertEquals(1.0, dataSet.getAxisDescription(DIM_Z).getMin());
+        assertEquals(6.0, dataSet.getAxisDescription(DIM_Z).getMax());
+        assertThrows(IndexOutOfBoundsException.class, () -> dataSet.get(DIM_Z, 0, 2));
+
+        // buffer full: the oldest rows are dropped, logical row '0' is always the oldest
+        dataSet.appendRow(new double[] { 7, 8, 9 });
+        dataSet.appendRow(new double[] { -1, 0, 1 });
+        dataSet.appendRow(new double[] { 2, 2, 2 });
+        assertArrayEquals(new int[] { 3, 3 }, dataSet.getShape());
+        assertArrayEquals(new double[] { 12, 13, 14 }, dataSet.getGridValues(DIM_Y));
+        assertEquals(2, dataSet.getFirstStorageRow());
+        assertEquals(7.0, dataSet.get(DIM_Z, 0, 0));
+        assertEquals(-1.0, dataSet.get(DIM_Z, 0, 1));
+        assertEquals(2.0, dataSet.get(DIM_Z, 2, 2));
+        assertEquals(-1.0, dataSet.getAxisDescription(DIM_Z).getMin());
+        assertEquals(9.0, dataSet.getAxisDescription(DIM_Z).getMax());
+        assertEquals(12.0, dataSet.getAxisDescription(DIM_Y).getMin());
+        assertEquals(14.0, dataSet.getAxisDescription(DIM_Y).getMax());
+
+        dataSet.recomputeLimits(DIM_Z);
+        assertEquals(-1.0, dataSet.getAxisDescription(DIM_Z).getMin());
+        assertEquals(9.0, dataSet.getAxisDescription(DIM_Z).getMax());
+
+        dataSet.clearData();
+        assertEquals(0, dataSet.getDataCount());
+        assertFalse(dataSet.getAxisDescription(DIM_Z).isDefined());
+    }
+
+    @Test
+    void testModificationTracking() {
+        final CircularDoubleGridDataSet dataSet = new CircularDoubleGridDataSet("waterfall", X_GRID, 2);
+        dataSet.appendRow(new double[] { 1, 2, 3 });
+        long count = dataSet.getModificationCount();
+        dataSet.appendRow(new double[] { 4, 5, 6 });
+        assertTrue(dataSet.getModificationCount() > count);
+        assertTrue(dataSet.getStructureModificationCount() <= count, "appending is no structure change");
+        assertTrue(dataSet.getRowModificationCount(1) > count);
+        assertFalse(dataSet.getRowModificationCount(0) > count);
+        assertTrue(dataSet.getStorageRowModificationCount(1) > count);
+        assertFalse(dataSet.getStorageRowModificationCount(0) > count);
+
+        // dropping the oldest row shifts all logical rows, but only one storage row changes
+        count = dataSet.getModificationCount();
+        dataSet.appendRow(new double[] { 7, 8, 9 });
+        assertTrue(dataSet.getRowModificationCount(0) > count);
+        assertTrue(dataSet.getRowModificationCount(1) > count);
+        assertTrue(dataSet.getStorageRowModificationCount(0) > count);
+        assertFalse(dataSet.getStorageRowModificationCount(1) > count);
+
+        count = dataSet.getModificationCount();
+        dataSet.clearData();
+        assertTrue(dataSet.getStructureModificationCount() > count);
+    }
+
+    @Test
+    void testSet() {
+        final DoubleGridDataSet source = new DoubleGridDataSet("source", false, new double[][] { { 0, 1 }, { 5, 6, 7 } }, new double[] { 1, 2, 3, 4, 5, 6 });
+        final CircularDoubleGridDataSet dataSet = new CircularDoubleGridDataSet("waterfall", X_GRID, 2);
+        final long count = dataSet.getModificationCount();
+        dataSet.set(source, true);
+        assertTrue(dataSet.getStructureModificationCount() > count);
+        assertArrayEquals(new int[] { 2, 2 }, dataSet.getShape());
+        assertArrayEquals(new double[] { 0, 1 }, dataSet.getGridValues(DIM_X));
+        assertArrayEquals(new double[] { 6, 7 }, dataSet.getGridValues(DIM_Y));
+        assertEquals(3.0, dataSet.get(DIM_Z, 0, 0));
+        assertEquals(6.0, dataSet.get(DIM_Z, 1, 1));
+        assertEquals(3.0, dataSet.getAxisDescription(DIM_Z).getMin());
+
+        // the x grid is copied, i.e. independent of later modifications of the source
+        source.getGridValues(DIM_X)[1] = 42.0;
+        assertArrayEquals(new double[] { 0, 1 }, dataSet.getGridValues(DIM_X));
+
+        dataSet.appendRow(new double[] { 0, 0 });
+        assertArrayEquals(new double[] { 7, 8 }, dataSet.getGridValues(DIM_Y));
+        assertEquals(0.0, dataSet.getAxisDescription(DIM_Z).getMin());
+        assertEquals(6.0, dataSet.getAxisDescription(DIM_Z).getMax());
+
+        assertThrows(IllegalArgumentException.class, () -> dataSet.set(new DoubleDataSet("1D"), true));
+    }
+}
@@ -0,0 +1,135 @@
+package io.fair_acc.dataset.spi;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.DataSetError.ErrorType;
+
+/**
+ * Checks for DoubleBufferDataSet with direct, wrapped, and memory-mapped buffers.
+ */
+class DoubleBufferDataSetTests {
+    @Test
+    void directBufferTests() {
+        final DoubleBufferDataSet dataSet = new DoubleBufferDataSet("test", 2, true);
+        assertEquals("test", dataSet.getName());
+        assertEquals(0, dataSet.getDataCount());
+        assertEquals(2, dataSet.getCapacity());
+        assertTrue(dataSet.hasErrors());
+        assertFalse(dataSet.isReadOnly());
+        assertEquals(ErrorType.ASYMMETRIC, dataSet.getErrorType(DataSet.DIM_Y));
+
+        dataSet.add(1.0, 2.0, 0.5, 0.25);
+        dataSet.add(2.0, 4.0);
+        final double[] block = { 3.0, 4.0, 5.0, 6.0 };
+        dataSet.add(block, block, new double[4], new double[4], 1, 3); // grows the buffers
+        assertEquals(5, dataSet.getDataCount());
+        assertTrue(dataSet.getCapacity() >= 5);
+        assertArrayEquals(new double[] { 1.0, 2.0, 4.0, 5.0, 6.0 }, dataSet.getValues(DataSet.DIM_X));
+        assertArrayEquals(new double[] { 2.0, 4.0, 4.0, 5.0, 6.0 }, dataSet.getValues(DataSet.DIM_Y));
+        assertEquals(0.5, dataSet.getErrorNegative(DataSet.DIM_Y, 0));
+        assertEquals(0.25, dataSet.getErrorPositive(DataSet.DIM_Y, 0));
+        assertEquals(0.0, dataSet.getErrorPositive(DataSet.DIM_X, 0));
+        assertEquals(0.5, dataSet.getErrorsNegative(DataSet.DIM_Y)[0]);
+
+        // limits include the errors
+        assertEquals(1.0, dataSet.getAxisDescription(DataSet.DIM_X).getMin());
+        assertEquals(6.0, dataSet.getAxisDescription(DataSet.DIM_X).getMax());
+        assertEquals(1.5, dataSet.getAxisDescription(DataSet.DIM_Y).getMin());
+
+        // materialised arrays are cached until the next modification
+        final double[] xValues = dataSet.getValues(DataSet.DIM_X);
+        assertSame(xValues, dataSet.getValues(DataSet.DIM_X));
+        dataSet.add(7.0, 8.0);
+        assertEquals(6, dataSet.getValues(DataSet.DIM_X).length);
+        assertArrayEquals(new double[] { 4.0, 5.0 }, dataSet.getValues(DataSet.DIM_X, 2, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> dataSet.getValues(DataSet.DIM_X, 4, 2));
+
+        assertTrue(dataSet.isSorted(DataSet.DIM_X));
+        assertEquals(3, dataSet.getIndex(DataSet.DIM_X, 4.9));
+
+        final DoubleBufferDataSet copy = new DoubleBufferDataSet("copy", 0, false);
+        copy.set(dataSet);
+        assertArrayEquals(dataSet.getValues(DataSet.DIM_Y), copy.getValues(DataSet.DIM_Y));
+
+        dataSet.clearData();
+        assertEquals(0, dataSet.getDataCount());
+        assertEquals(0, dataSet.getValues(DataSet.DIM_X).length);
+
+        // capacities beyond the maximum size of a direct buffer are rejected before the allocation
+        assertThrows(IllegalArgumentException.class, () -> new DoubleBufferDataSet("huge", DoubleBufferDataSet.MAX_CAPACITY + 1, false));
+        assertThrows(IllegalArgumentException.class, () -> new DoubleBufferDataSet("huge", Integer.MAX_VALUE / 2, false));
+    }
+
+    @Test
+    void wrappedBufferTests() {
+        final DoubleBuffer xBuffer = DoubleBuffer.wrap(new double[] { -1, 1, 2, 3 });
+        final DoubleBuffer yBuffer = DoubleBuffer.wrap(new double[] { -1, 1, 4, 9, 16 });
+        xBuffer.position(1);
+        yBuffer.position(1);
+        final DoubleBufferDataSet dataSet = new DoubleBufferDataSet("wrapped", xBuffer, yBuffer);
+        assertEquals(3, dataSet.getDataCount());
+        assertFalse(dataSet.hasErrors());
+        assertEquals(ErrorType.NO_ERROR, dataSet.getErrorType(DataSet.DIM_Y));
+        assertEquals(4.0, dataSet.get(DataSet.DIM_Y, 1));
+        assertEquals(0.0, dataSet.getErrorNegative(DataSet.DIM_Y, 1));
+        assertEquals(1, xBuffer.position());
+
+        assertThrows(IllegalArgumentException.class, () -> new DoubleBufferDataSet("test", xBuffer, null));
+        assertThrows(IllegalArgumentException.class, () -> new DoubleBufferDataSet("test", xBuffer, yBuffer, yBuffer, null));
+    }
+
+    @Test
+    void memoryMappedTests(@TempDir final Path tempDir) throws IOException {
+        final int n = 1000;
+        final Path file = tempDir.resolve("data.bin");
+        final ByteBuffer bytes = ByteBuffer.allocate(4 * n * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int column = 0; column < 4; column++) {
+            for (int i = 0; i < n; i++) {
+                bytes.putDouble(column == 0 ? i : column == 1 ? Math.sin(0.01 * i) : 0.1 * column);
+            }
+        }
+        bytes.flip();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.write(bytes);
+        }
+
+        final DoubleBufferDataSet dataSet = DoubleBufferDataSet.map("mapped", file, 4, ByteOrder.LITTLE_ENDIAN);
+        assertEquals(n, dataSet.getDataCount());
+        assertTrue(dataSet.isReadOnly());
+        assertEquals(999.0, dataSet.get(DataSet.DIM_X, 999));
+        assertEquals(Math.sin(0.01 * 42), dataSet.get(DataSet.DIM_Y, 42));
+        assertEquals(0.1 * 2, dataSet.getErrorNegative(DataSet.DIM_Y, 7));
+        assertEquals(0.1 * 3, dataSet.getErrorPositive(DataSet.DIM_Y, 7));
+        assertEquals(0.0, dataSet.getAxisDescription(DataSet.DIM_X).getMin());
+        assertEquals(999.0, dataSet.getAxisDescription(DataSet.DIM_X).getMax());
+        assertEquals(500, dataSet.getIndex(DataSet.DIM_X, 500.2));
+        assertThrows(UnsupportedOperationException.class, () -> dataSet.add(1000.0, 0.0));
+        // rejected modifications must retain the mapped data
+        assertThrows(UnsupportedOperationException.class, () -> dataSet.set(new DoubleDataSet("other", new double[] { 1, 2 }, new double[] { 3, 4 }, 2, true)));
+        assertThrows(UnsupportedOperationException.class, dataSet::clearData);
+        assertEquals(n, dataSet.getDataCount());
+        assertEquals(999.0, dataSet.get(DataSet.DIM_X, 999));
+
+        final DoubleBufferDataSet twoColumns = DoubleBufferDataSet.map("mapped", file, 2, ByteOrder.LITTLE_ENDIAN);
+        assertEquals(2 * n, twoColumns.getDataCount());
+        assertFalse(twoColumns.hasErrors());
+        assertThrows(IllegalArgumentException.class, () -> DoubleBufferDataSet.map("mapped", file, 3, ByteOrder.LITTLE_ENDIAN));
+    }
+}
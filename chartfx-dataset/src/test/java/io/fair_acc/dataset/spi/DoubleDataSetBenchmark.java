@@ -0,0 +1,157 @@
+package io.fair_acc.dataset.spi;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.fair_acc.dataset.DataSet;
+
+/**
+ * Single-threaded hot paths of the array-backed data sets: point-wise and block appends of {@link DoubleDataSet} and
+ * {@link CircularDoubleErrorDataSet}, bulk {@code set}, full limit recomputation and index look-ups on equidistant,
+ * sorted, and unsorted abscissae.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class DoubleDataSetBenchmark {
+    private static final int BLOCK_SIZE = 1000;
+
+    @Param({ "10000", "1000000" })
+    private int nSamples;
+
+    private double[] xValues;
+    private double[] yValues;
+    private double[] errors;
+    private double[] xBlock;
+    private double[] yBlock;
+    private double[] searchValues;
+    private DoubleDataSet appendDataSet;
+    private DoubleDataSet setDataSet;
+    private DoubleDataSet equidistantDataSet;
+    private DoubleDataSet sortedDataSet;
+    private DoubleDataSet unsortedDataSet;
+    private CircularDoubleErrorDataSet circularDataSet;
+    private int searchIndex;
+    private int blockOffset;
+    private double x;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42);
+        xValues = new double[nSamples];
+        yValues = new double[nSamples];
+        errors = new double[nSamples];
+        final double[] sortedX = new double[nSamples];
+        final double[] unsortedX = new double[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            xValues[i] = i;
+            yValues[i] = Math.sin(0.01 * i);
+            sortedX[i] = i + 0.4 * Math.sin(i); // strictly increasing but not equidistant
+            unsortedX[i] = rnd.nextDouble() * nSamples;
+        }
+        xBlock = Arrays.copyOf(xValues, BLOCK_SIZE);
+        yBlock = Arrays.copyOf(yValues, BLOCK_SIZE);
+        searchValues = new double[1024];
+        for (int i = 0; i < searchValues.length; i++) {
+            searchValues[i] = rnd.nextDouble() * nSamples;
+        }
+
+        appendDataSet = new DoubleDataSet("append", nSamples);
+        setDataSet = new DoubleDataSet("set", nSamples);
+        equidistantDataSet = new DoubleDataSet("equidistant", xValues, yValues, nSamples, true);
+        sortedDataSet = new DoubleDataSet("sorted", sortedX, yValues, nSamples, true);
+        unsortedDataSet = new DoubleDataSet("unsorted", unsortedX, yValues, nSamples, true);
+        circularDataSet = new CircularDoubleErrorDataSet("circular", nSamples);
+        circularDataSet.add(xValues, yValues, errors, errors);
+        x = nSamples;
+    }
+
+    @Benchmark
+    public DataSet addPoint() {
+        if (appendDataSet.getDataCount() >= nSamples) {
+            appendDataSet.clearData();
+        }
+        x += 1.0;
+        return appendDataSet.add(x, x);
+    }
+
+    @Benchmark
+    public DataSet addBlock() {
+        if (appendDataSet.getDataCount() + BLOCK_SIZE > nSamples) {
+            appendDataSet.clearData();
+        }
+        return appendDataSet.add(xBlock, yBlock);
+    }
+
+    @Benchmark
+    public DataSet set() {
+        return setDataSet.set(xValues, yValues, nSamples, true);
+    }
+
+    @Benchmark
+    public DataSet recomputeLimits() {
+        return equidistantDataSet.recomputeLimits(DataSet.DIM_Y);
+    }
+
+    @Benchmark
+    public int getIndexEquidistant() {
+        return equidistantDataSet.getIndex(DataSet.DIM_X, nextSearchValue());
+    }
+
+    @Benchmark
+    public int getIndexSorted() {
+        return sortedDataSet.getIndex(DataSet.DIM_X, nextSearchValue());
+    }
+
+    @Benchmark
+    public int getIndexUnsorted() {
+        return unsortedDataSet.getIndex(DataSet.DIM_X, nextSearchValue());
+    }
+
+    @Benchmark
+    public DataSet circularAddPoint() {
+        x += 1.0;
+        return circularDataSet.add(x, x, 0, 0);
+    }
+
+    @Benchmark
+    public DataSet circularAddBlock() {
+        return circularDataSet.add(xValues, yValues, errors, errors, nextBlockOffset(), BLOCK_SIZE);
+    }
+
+    private int nextBlockOffset() {
+        blockOffset = blockOffset + 2 * BLOCK_SIZE > nSamples ? 0 : blockOffset + BLOCK_SIZE;
+        return blockOffset;
+    }
+
+    private double nextSearchValue() {
+        searchIndex = (searchIndex + 1) & (searchValues.length - 1);
+        return searchValues[searchIndex];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder().include(DoubleDataSetBenchmark.class.getSimpleName()).build();
+        new Runner(opt).run();
+    }
+}
@@ -9,6 +9,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.spi.fastutil.DoubleArrayList;
 
 /**
  * Checks for DoubleDataSet interfaces and constructors.
@@ -180,6 +181,36 @@ public class DoubleDataSetTests extends EditableDataSetTests {
         }
     }
 
+    @Test
+    public void incrementalLimitsTest() {
+        final DoubleDataSet dataSet = new DoubleDataSet("test");
+        dataSet.add(1.0, 10.0);
+        dataSet.add(new double[] { 2.0, 3.0 }, new double[] { -5.0, 5.0 });
+        dataSet.add(0, -1.0, 20.0);
+        // limits are kept up-to-date while appending, i.e. without recomputeLimits()
+        assertEquals(-1.0, dataSet.getAxisDescription(DataSet.DIM_X).getMin());
+        assertEquals(3.0, dataSet.getAxisDescription(DataSet.DIM_X).getMax());
+        assertEquals(-5.0, dataSet.getAxisDescription(DataSet.DIM_Y).getMin());
+        assertEquals(20.0, dataSet.getAxisDescription(DataSet.DIM_Y).getMax());
+
+        // arbitrary removals invalidate the limits, which must not be partially redefined by further appends
+        dataSet.remove(0);
+        dataSet.add(4.0, 0.0);
+        assertFalse(dataSet.getAxisDescription(DataSet.DIM_X).isDefined());
+        assertFalse(dataSet.getAxisDescription(DataSet.DIM_Y).isDefined());
+        dataSet.recomputeLimits();
+        assertEquals(1.0, dataSet.getAxisDescription(DataSet.DIM_X).getMin());
+        assertEquals(4.0, dataSet.getAxisDescription(DataSet.DIM_X).getMax());
+        assertEquals(-5.0, dataSet.getAxisDescription(DataSet.DIM_Y).getMin());
+        assertEquals(10.0, dataSet.getAxisDescription(DataSet.DIM_Y).getMax());
+
+        // resizing drops or adds values -> limits are invalidated
+        assertTrue(dataSet.hasIncrementalLimits());
+        dataSet.resize(2);
+        assertFalse(dataSet.getAxisDescription(DataSet.DIM_X).isDefined());
+        assertFalse(dataSet.getAxisDescription(DataSet.DIM_Y).isDefined());
+    }
+
     @Test
     public void trimTest() {
         DoubleDataSet dataSet = new DoubleDataSet("test");
@@ -248,4 +279,153 @@ public class DoubleDataSetTests extends EditableDataSetTests {
 
         assertEquals(dataSet1, dataSet3);
     }
+
+    @Test
+    public void sortedIndexTests() {
+        final DoubleDataSet dataSet = new DoubleDataSet("test");
+        for (int i = 0; i < 100; i++) {
+            dataSet.add(0.1 * i, i);
+        }
+        // equidistant -> arithmetic index estimate
+        assertTrue(dataSet.isSorted(DataSet.DIM_X));
+        assertFalse(dataSet.isSorted(DataSet.DIM_Y + 1));
+        assertEquals(42, dataSet.getIndex(DataSet.DIM_X, 4.24));
+        assertEquals(43, dataSet.getIndex(DataSet.DIM_X, 4.26));
+        assertEquals(0, dataSet.getIndex(DataSet.DIM_X, -5.0));
+        assertEquals(99, dataSet.getIndex(DataSet.DIM_X, 1000.0));
+
+        // sorted but non-equidistant -> binary search
+        dataSet.add(new double[] { 20.0, 30.0 }, new double[] { 100, 101 });
+        assertTrue(dataSet.isSorted(DataSet.DIM_X));
+        assertEquals(42, dataSet.getIndex(DataSet.DIM_X, 4.24));
+        assertEquals(100, dataSet.getIndex(DataSet.DIM_X, 21.0));
+        assertEquals(101, dataSet.getIndex(DataSet.DIM_X, 26.0));
+
+        // in-place modifications are checked against their neighbours, removals retain the order
+        dataSet.set(50, 5.0, 0.0);
+        assertTrue(dataSet.isSorted(DataSet.DIM_X));
+        dataSet.remove(0, 2);
+        assertTrue(dataSet.isSorted(DataSet.DIM_X));
+        assertEquals(40, dataSet.getIndex(DataSet.DIM_X, 4.24));
+
+        // unsorted data remains unsorted until all values are re-set
+        dataSet.set(50, 1000.0, 0.0);
+        assertFalse(dataSet.isSorted(DataSet.DIM_X));
+        dataSet.set(50, 5.2, 0.0);
+        assertFalse(dataSet.isSorted(DataSet.DIM_X));
+        assertEquals(40, dataSet.getIndex(DataSet.DIM_X, 4.24));
+        dataSet.set(Arrays.copyOf(dataSet.getValues(DataSet.DIM_X), dataSet.getDataCount()), Arrays.copyOf(dataSet.getValues(DataSet.DIM_Y), dataSet.getDataCount()));
+        assertTrue(dataSet.isSorted(DataSet.DIM_X));
+
+        // appending a smaller value
+        dataSet.add(-1.0, 0.0);
+        assertFalse(dataSet.isSorted(DataSet.DIM_X));
+
+        // circular buffer wrapping around keeps the order of the retained samples
+        final CircularDoubleErrorDataSet circular = new CircularDoubleErrorDataSet("circular", 10);
+        for (int i = 0; i < 25; i++) {
+            circular.add(i, i, 0, 0);
+        }
+        assertTrue(circular.isSorted(DataSet.DIM_X));
+        assertEquals(0, circular.getIndex(DataSet.DIM_X, 12.0));
+        assertEquals(3, circular.getIndex(DataSet.DIM_X, 18.2));
+        circular.add(0, 0, 0, 0);
+        assertFalse(circular.isSorted(DataSet.DIM_X));
+    }
+
+    @Test
+    public void sortedIndexTrackingTests() {
+        final CountingDataSet dataSet = new CountingDataSet();
+        for (int i = 0; i < 1000; i++) {
+            dataSet.append(0.1 * i);
+        }
+        // appends keep the cached order up-to-date -> no re-scan of the data
+        dataSet.nGet = 0;
+        assertEquals(420, dataSet.getIndex(DataSet.DIM_X, 42.04));
+        assertTrue(dataSet.nGet < 10, "equidistant index estimate, get calls = " + dataSet.nGet);
+
+        // invalidated order -> binary search instead of a re-scan
+        dataSet.modify(500, 50.0);
+        dataSet.nGet = 0;
+        assertFalse(dataSet.isSorted(DataSet.DIM_X));
+        assertEquals(0, dataSet.nGet, "order is never re-scanned lazily");
+        assertEquals(420, dataSet.getIndex(DataSet.DIM_X, 42.04));
+        assertTrue(dataSet.nGet < 50, "binary search, get calls = " + dataSet.nGet);
+
+        // data sets that do not report their modifications are never considered sorted
+        final CountingDataSet untracked = new CountingDataSet();
+        untracked.modifyAppend(1.0);
+        untracked.modifyAppend(2.0);
+        assertFalse(untracked.isSorted(DataSet.DIM_X));
+        assertEquals(1, untracked.getIndex(DataSet.DIM_X, 1.9));
+
+        // growing resize leaves undefined values -> unsorted until externally written values are re-scanned
+        final DoubleDataSet resized = new DoubleDataSet("resized", new double[] { 0, 1, 2 }, new double[] { 0, 1, 2 }, 3, true);
+        assertTrue(resized.isSorted(DataSet.DIM_X));
+        resized.lock().writeLockGuard(() -> {
+            resized.resize(5);
+            assertFalse(resized.isSorted(DataSet.DIM_X));
+            final double[] x = resized.getValues(DataSet.DIM_X);
+            final double[] y = resized.getValues(DataSet.DIM_Y);
+            x[3] = 3.0;
+            y[3] = 3.0;
+            x[4] = 4.0;
+            y[4] = 4.0;
+            resized.recomputeSortedX();
+        });
+        assertTrue(resized.isSorted(DataSet.DIM_X));
+        assertEquals(3, resized.getIndex(DataSet.DIM_X, 3.1));
+        resized.lock().writeLockGuard(() -> {
+            resized.getValues(DataSet.DIM_X)[4] = -1.0;
+            resized.recomputeSortedX();
+        });
+        assertFalse(resized.isSorted(DataSet.DIM_X));
+    }
+
+    /**
+     * minimal data set that counts the accesses to its data
+     */
+    private static class CountingDataSet extends AbstractDataSet<CountingDataSet> {
+        private static final long serialVersionUID = 1L;
+        private final DoubleArrayList xValues = new DoubleArrayList();
+        private int nGet;
+
+        CountingDataSet() {
+            super("counting", 2);
+        }
+
+        void append(final double x) {
+            lock().writeLockGuard(() -> {
+                xValues.add(x);
+                updateSortedX(1);
+            });
+        }
+
+        void modify(final int index, final double x) {
+            lock().writeLockGuard(() -> {
+                xValues.set(index, x);
+                invalidateSortedX();
+            });
+        }
+
+        void modifyAppend(final double x) {
+            lock().writeLockGuard(() -> xValues.add(x));
+        }
+
+        @Override
+        public double get(final int dimIndex, final int index) {
+            nGet++;
+            return dimIndex == DataSet.DIM_X ? xValues.getDouble(index) : 0.0;
+        }
+
+        @Override
+        public int getDataCount() {
+            return xValues.size();
+        }
+
+        @Override
+        public DataSet set(final DataSet other, final boolean copy) {
+            throw new UnsupportedOperationException("not implemented");
+        }
+    }
 }
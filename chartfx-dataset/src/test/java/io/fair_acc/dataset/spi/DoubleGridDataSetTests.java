@@ -199,4 +199,39 @@ class DoubleGridDataSetTests {
         assertThrows(IllegalArgumentException.class, () -> dataset.set(false, new double[2][1], new double[2]));
         assertThrows(IllegalArgumentException.class, () -> dataset.set(false, new double[3][1], new double[2]));
     }
+
+    @Test
+    void testModificationTracking() {
+        final DoubleGridDataSet dataset = new DoubleGridDataSet("testGridDataSet", false, new double[][] { { 1, 2, 3 }, { 10, 20 } }, new double[6]);
+        final long initial = dataset.getModificationCount();
+        assertEquals(initial, dataset.getStructureModificationCount());
+        for (int x = 0; x < 3; x++) {
+            assertTrue(dataset.getColumnModificationCount(x) <= initial);
+        }
+
+        dataset.set(DIM_Z, new int[] { 2, 1 }, 42.0);
+        assertEquals(42.0, dataset.get(DIM_Z, 2, 1));
+        assertEquals(42.0, dataset.get(DIM_Z, 5)); // row-major: index = y * nx + x
+        final long afterSet = dataset.getModificationCount();
+        assertTrue(afterSet > initial);
+        assertEquals(initial, dataset.getStructureModificationCount());
+        assertEquals(afterSet, dataset.getRowModificationCount(1));
+        assertEquals(afterSet, dataset.getColumnModificationCount(2));
+        assertTrue(dataset.getRowModificationCount(0) <= initial);
+        assertTrue(dataset.getColumnModificationCount(0) <= initial);
+        assertTrue(dataset.getColumnModificationCount(1) <= initial);
+
+        dataset.getValues(DIM_Z)[0] = 1.0;
+        dataset.markModified(0, 1, 0, 0);
+        final long afterMark = dataset.getModificationCount();
+        assertEquals(afterMark, dataset.getRowModificationCount(0));
+        assertEquals(afterMark, dataset.getColumnModificationCount(0));
+        assertEquals(afterMark, dataset.getColumnModificationCount(1));
+        assertEquals(afterSet, dataset.getColumnModificationCount(2));
+
+        dataset.set(false, new double[][] { { 1, 2 }, { 10, 20, 30 } }, new double[6]);
+        assertEquals(dataset.getModificationCount(), dataset.getStructureModificationCount());
+        assertTrue(dataset.getStructureModificationCount() > afterMark);
+        assertDoesNotThrow(() -> dataset.getRowModificationCount(2));
+    }
 }
@@ -3,9 +3,12 @@ package io.fair_acc.dataset.spi;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 
 import io.fair_acc.dataset.DataSet;
@@ -70,4 +73,68 @@ public class FifoDoubleErrorDataSetTests {
         testDataSet.expire(10.0001);
         assertEquals(0, testDataSet.getDataCount());
     }
+
+    @Test
+    public void testDataSetBatchAdd() {
+        FifoDoubleErrorDataSet testDataSet = new FifoDoubleErrorDataSet("test data set", 4, 10.0);
+        final AtomicInteger nEvents = new AtomicInteger();
+        testDataSet.getBitState().clear();
+        testDataSet.getBitState().addInvalidateListener((src, bits) -> nEvents.incrementAndGet());
+
+        final double[] frame = new double[] { -1, 1, 2, 3, -1 };
+        final double[] errors = new double[] { 0, 0.1, 0.2, 0.3, 0 };
+        testDataSet.add(frame, frame, errors, errors, 1, 3);
+        assertEquals(3, testDataSet.getDataCount());
+        assertArrayEquals(new double[] { 1, 2, 3 }, testDataSet.getValues(DataSet.DIM_X));
+        assertArrayEquals(new double[] { 0.1, 0.2, 0.3 }, testDataSet.getErrorsPositive(DataSet.DIM_Y));
+        assertEquals(1, nEvents.get());
+        assertEquals(1.0, testDataSet.getAxisDescription(DataSet.DIM_X).getMin());
+        assertEquals(3.0, testDataSet.getAxisDescription(DataSet.DIM_X).getMax());
+        assertEquals(0.9, testDataSet.getAxisDescription(DataSet.DIM_Y).getMin(), 1e-9);
+        assertEquals(3.3, testDataSet.getAxisDescription(DataSet.DIM_Y).getMax(), 1e-9);
+
+        // samples older than the max distance are expired within the same update
+        testDataSet.add(new double[] { 12, 13 }, new double[] { 5, 6 }, new double[2], new double[2], 0, 2);
+        assertEquals(2, nEvents.get());
+        assertArrayEquals(new double[] { 3, 12, 13 }, testDataSet.getValues(DataSet.DIM_X));
+
+        // blocks larger than the max size only retain the latest samples
+        final double[] large = new double[] { 14, 15, 16, 17, 18 };
+        testDataSet.add(large, large, new double[5], new double[5], 0, 5);
+        assertArrayEquals(new double[] { 15, 16, 17, 18 }, testDataSet.getValues(DataSet.DIM_X));
+        testDataSet.recomputeLimits(DataSet.DIM_X);
+        assertEquals(15.0, testDataSet.getAxisDescription(DataSet.DIM_X).getMin());
+
+        assertThrows(IllegalArgumentException.class, () -> testDataSet.add(frame, frame, errors, errors, 3, 3));
+    }
+
+    @Test
+    public void testSlidingWindowLimits() {
+        FifoDoubleErrorDataSet testDataSet = new FifoDoubleErrorDataSet("test data set", 100, 2.5);
+        final double[] y = { 5, 1, 4, 3, 2, 6, 0 };
+        for (int i = 0; i < y.length; i++) {
+            testDataSet.add(i, y[i], 0.0, 0.0);
+            // samples older than 2.5 are expired, limits are updated without needing a recompute
+            double min = Double.MAX_VALUE;
+            double max = -Double.MAX_VALUE;
+            for (int j = Math.max(0, i - 2); j <= i; j++) {
+                min = Math.min(min, y[j]);
+                max = Math.max(max, y[j]);
+            }
+            assertEquals(Math.max(0, i - 2), testDataSet.getAxisDescription(DataSet.DIM_X).getMin());
+            assertEquals(i, testDataSet.getAxisDescription(DataSet.DIM_X).getMax());
+            assertEquals(min, testDataSet.getAxisDescription(DataSet.DIM_Y).getMin());
+            assertEquals(max, testDataSet.getAxisDescription(DataSet.DIM_Y).getMax());
+        }
+
+        // non-finite samples are removed from the middle of the queue -> falls back to a full scan
+        testDataSet.add(Double.NaN, 100.0, 0.0, 0.0);
+        testDataSet.add(7.0, -1.0, 0.0, 0.0);
+        assertArrayEquals(new double[] { 5, 6, 7 }, testDataSet.getValues(DataSet.DIM_X));
+        assertEquals(-1.0, testDataSet.getAxisDescription(DataSet.DIM_Y).getMin());
+        assertEquals(6.0, testDataSet.getAxisDescription(DataSet.DIM_Y).getMax());
+
+        testDataSet.reset();
+        assertFalse(testDataSet.getAxisDescription(DataSet.DIM_X).isDefined());
+    }
 }
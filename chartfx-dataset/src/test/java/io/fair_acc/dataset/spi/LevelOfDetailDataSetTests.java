@@ -0,0 +1,142 @@
+package io.fair_acc.dataset.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static io.fair_acc.dataset.DataSet.DIM_X;
+import static io.fair_acc.dataset.DataSet.DIM_Y;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.DataSetError;
+
+/**
+ * Checks for the LevelOfDetailDataSet pyramid: envelope, incremental updates, rebuilds and level selection.
+ */
+class LevelOfDetailDataSetTests {
+    @Test
+    void basicTests() {
+        final DoubleDataSet source = new DoubleDataSet("source");
+        final LevelOfDetailDataSet lod = new LevelOfDetailDataSet(source);
+        assertEquals(LevelOfDetailDataSet.DEFAULT_FACTOR, lod.getFactor());
+        assertSame(source, lod.getSource());
+        assertSame(source.lock(), lod.lock());
+        assertEquals(0, lod.getLevelCount());
+        assertSame(lod, lod.getLevelOfDetail(0, 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new LevelOfDetailDataSet(source, 1));
+        assertThrows(UnsupportedOperationException.class, () -> lod.set(source));
+
+        fill(source, 0, 100);
+        assertEquals(100, lod.getDataCount());
+        assertEquals(source.get(DIM_Y, 42), lod.get(DIM_Y, 42));
+        assertEquals(42, lod.getIndex(DIM_X, 42.0));
+        // 100 -> 25 -> 7 -> 2 buckets
+        assertEquals(3, lod.getLevelCount());
+        assertEquals(4, lod.getLevel(0).getSpan());
+        assertEquals(25, lod.getLevel(0).getBucketCount());
+        assertEquals(7, lod.getLevel(1).getBucketCount());
+        assertEquals(2, lod.getLevel(2).getBucketCount());
+    }
+
+    @Test
+    void envelopeTests() {
+        final DoubleDataSet source = new DoubleDataSet("source");
+        final double[] y = { 1, 5, -2, 3, /**/ 0, 0, 0, 0, /**/ 7, Double.NaN, 9, 8, /**/ Double.NaN, Double.NaN, Double.NaN, Double.NaN, /**/ 1 };
+        for (int i = 0; i < y.length; i++) {
+            source.add(i, y[i]);
+        }
+        final LevelOfDetailDataSet.Level level = new LevelOfDetailDataSet(source, 4).getLevel(0);
+        assertEquals(5, level.getBucketCount());
+        assertEquals(10, level.getDataCount());
+        assertEquals(DataSetError.ErrorType.ASYMMETRIC, level.getErrorType(DIM_Y));
+
+        // first bucket: max (x=1) before min (x=2)
+        assertEquals(1.0, level.get(DIM_X, 0));
+        assertEquals(5.0, level.get(DIM_Y, 0));
+        assertEquals(7.0, level.getErrorNegative(DIM_Y, 0));
+        assertEquals(0.0, level.getErrorPositive(DIM_Y, 0));
+        assertEquals(2.0, level.get(DIM_X, 1));
+        assertEquals(-2.0, level.get(DIM_Y, 1));
+        assertEquals(0.0, level.getErrorNegative(DIM_Y, 1));
+        assertEquals(7.0, level.getErrorPositive(DIM_Y, 1));
+        assertEquals(7.0 / 4.0, level.getMean(0));
+
+        // NaN samples are ignored by min/max/mean, all-NaN buckets are gaps
+        assertEquals(8.0, level.get(DIM_X, 4));
+        assertEquals(10.0, level.get(DIM_X, 5));
+        assertEquals(8.0, level.getMean(4));
+        assertTrue(Double.isNaN(level.get(DIM_Y, 6)));
+        assertTrue(Double.isNaN(level.getMean(6)));
+        assertEquals(0.0, level.getErrorPositive(DIM_Y, 6));
+        assertEquals(1.0, level.get(DIM_Y, 8));
+        assertTrue(level.isSorted(DIM_X));
+    }
+
+    @Test
+    void incrementalTests() {
+        final DoubleDataSet source = new DoubleDataSet("source");
+        final LevelOfDetailDataSet incremental = new LevelOfDetailDataSet(source, 3);
+        for (int chunk = 0; chunk < 50; chunk++) {
+            fill(source, source.getDataCount(), 1 + 7 * chunk % 23);
+            incremental.getLevelCount(); // trigger incremental update
+        }
+        final LevelOfDetailDataSet reference = new LevelOfDetailDataSet(source, 3);
+        assertLevelsEqual(reference, incremental);
+
+        // shrinking the source triggers a full rebuild
+        source.remove(100, source.getDataCount());
+        assertLevelsEqual(new LevelOfDetailDataSet(source, 3), incremental);
+
+        // in-place modification of the processed samples requires an explicit invalidate
+        source.set(DIM_Y, 50, 1e6);
+        incremental.invalidate();
+        assertLevelsEqual(new LevelOfDetailDataSet(source, 3), incremental);
+        final LevelOfDetailDataSet.Level coarsest = incremental.getLevel(incremental.getLevelCount() - 1);
+        assertEquals(1e6, Arrays.stream(coarsest.getValues(DIM_Y)).limit(coarsest.getDataCount()).max().orElseThrow());
+    }
+
+    @Test
+    void levelSelectionTests() {
+        final DoubleDataSet source = new DoubleDataSet("source");
+        fill(source, 0, 1_000_000);
+        final LevelOfDetailDataSet lod = new LevelOfDetailDataSet(source);
+
+        final DataSet full = lod.getLevelOfDetail(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 1000);
+        assertTrue(full instanceof LevelOfDetailDataSet.Level);
+        final long span = ((LevelOfDetailDataSet.Level) full).getSpan();
+        assertTrue(1_000_000 / span >= 1000);
+        assertTrue(1_000_000 / (span * lod.getFactor()) < 1000);
+
+        // zooming in selects finer levels, down to the source itself
+        final DataSet zoomed = lod.getLevelOfDetail(0, 9999, 1000);
+        assertTrue(((LevelOfDetailDataSet.Level) zoomed).getSpan() < span);
+        assertSame(lod, lod.getLevelOfDetail(0, 999, 1000));
+    }
+
+    private static void assertLevelsEqual(final LevelOfDetailDataSet expected, final LevelOfDetailDataSet actual) {
+        assertEquals(expected.getLevelCount(), actual.getLevelCount());
+        for (int level = 0; level < expected.getLevelCount(); level++) {
+            final LevelOfDetailDataSet.Level expectedLevel = expected.getLevel(level);
+            final LevelOfDetailDataSet.Level actualLevel = actual.getLevel(level);
+            assertEquals(expectedLevel.getDataCount(), actualLevel.getDataCount(), "level " + level);
+            for (int i = 0; i < expectedLevel.getDataCount(); i++) {
+                assertEquals(expectedLevel.get(DIM_X, i), actualLevel.get(DIM_X, i));
+                assertEquals(expectedLevel.get(DIM_Y, i), actualLevel.get(DIM_Y, i));
+                assertEquals(expectedLevel.getErrorNegative(DIM_Y, i), actualLevel.getErrorNegative(DIM_Y, i));
+                assertEquals(expectedLevel.getErrorPositive(DIM_Y, i), actualLevel.getErrorPositive(DIM_Y, i));
+                assertEquals(expectedLevel.getMean(i), actualLevel.getMean(i), 1e-9);
+            }
+        }
+    }
+
+    private static void fill(final DoubleDataSet dataSet, final int offset, final int length) {
+        for (int i = offset; i < offset + length; i++) {
+            dataSet.add(i, Math.sin(0.01 * i) + (i % 97 == 0 ? 10.0 : 0.0));
+        }
+    }
+}
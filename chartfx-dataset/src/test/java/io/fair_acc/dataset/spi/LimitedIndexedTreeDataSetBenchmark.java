@@ -0,0 +1,82 @@
+package io.fair_acc.dataset.spi;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.fair_acc.dataset.DataSet;
+
+/**
+ * Insertion throughput of the tree-based {@link LimitedIndexedTreeDataSet} for in-order (time-series like) and
+ * randomly ordered abscissae once the data set has reached its maximum queue size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class LimitedIndexedTreeDataSetBenchmark {
+    @Param({ "1000", "100000" })
+    private int maxQueueSize;
+
+    private LimitedIndexedTreeDataSet orderedDataSet;
+    private LimitedIndexedTreeDataSet randomDataSet;
+    private double[] randomValues;
+    private int randomIndex;
+    private double x;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42);
+        randomValues = new double[1 << 16];
+        for (int i = 0; i < randomValues.length; i++) {
+            randomValues[i] = rnd.nextDouble() * maxQueueSize;
+        }
+        orderedDataSet = new LimitedIndexedTreeDataSet("ordered", maxQueueSize);
+        randomDataSet = new LimitedIndexedTreeDataSet("random", maxQueueSize);
+        for (int i = 0; i < maxQueueSize; i++) {
+            orderedDataSet.add(i, Math.sin(i));
+            randomDataSet.add(nextRandomValue(), Math.sin(i));
+        }
+        x = maxQueueSize;
+    }
+
+    @Benchmark
+    public DataSet addOrdered() {
+        x += 1.0;
+        return orderedDataSet.add(x, x);
+    }
+
+    @Benchmark
+    public DataSet addRandom() {
+        final double value = nextRandomValue();
+        return randomDataSet.add(value, value);
+    }
+
+    private double nextRandomValue() {
+        randomIndex = (randomIndex + 1) & (randomValues.length - 1);
+        return randomValues[randomIndex];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder().include(LimitedIndexedTreeDataSetBenchmark.class.getSimpleName()).build();
+        new Runner(opt).run();
+    }
+}
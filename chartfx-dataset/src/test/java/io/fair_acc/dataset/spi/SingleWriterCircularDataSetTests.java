@@ -0,0 +1,135 @@
+package io.fair_acc.dataset.spi;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.events.ChartBits;
+
+/**
+ * Checks for SingleWriterCircularDataSet snapshot semantics and concurrent access.
+ */
+class SingleWriterCircularDataSetTests {
+    @Test
+    void defaultTests() {
+        final SingleWriterCircularDataSet dataSet = new SingleWriterCircularDataSet("test", 4);
+        assertEquals("test", dataSet.getName());
+        assertEquals(2, dataSet.getDimension());
+        assertEquals(4, dataSet.getCapacity());
+        assertEquals(0, dataSet.getDataCount());
+
+        // data only becomes visible with the next snapshot
+        dataSet.add(1.0, 2.0);
+        assertEquals(0, dataSet.getDataCount());
+        assertEquals(1, dataSet.getWriteCount());
+        dataSet.lock().readLockGuard(() -> {
+            assertEquals(1, dataSet.getDataCount());
+            assertEquals(1.0, dataSet.get(DataSet.DIM_X, 0));
+            assertEquals(2.0, dataSet.get(DataSet.DIM_Y, 0));
+        });
+
+        // wrap around
+        dataSet.add(new double[] { 2, 3, 4, 5 }, new double[] { 4, 6, 8, 10 }, 1, 3);
+        dataSet.lock().readLockGuard(() -> {
+            assertEquals(4, dataSet.getDataCount());
+            assertArrayEquals(new double[] { 1, 3, 4, 5 }, dataSet.getValues(DataSet.DIM_X));
+            assertArrayEquals(new double[] { 2, 6, 8, 10 }, dataSet.getValues(DataSet.DIM_Y));
+        });
+        dataSet.add(6.0, 12.0);
+        dataSet.lock().readLockGuard(() -> assertArrayEquals(new double[] { 3, 4, 5, 6 }, dataSet.getValues(DataSet.DIM_X)));
+
+        // blocks larger than the capacity only retain the latest samples
+        final double[] block = { 10, 11, 12, 13, 14, 15 };
+        dataSet.add(block, block, 0, block.length);
+        assertEquals(11, dataSet.getWriteCount());
+        dataSet.lock().readLockGuard(() -> {
+            assertArrayEquals(new double[] { 12, 13, 14, 15 }, dataSet.getValues(DataSet.DIM_X));
+            dataSet.recomputeLimits(DataSet.DIM_X);
+            assertEquals(12, dataSet.getAxisDescription(DataSet.DIM_X).getMin());
+            assertEquals(15, dataSet.getAxisDescription(DataSet.DIM_X).getMax());
+        });
+
+        dataSet.reset();
+        assertEquals(0, dataSet.getDataCount());
+        assertEquals(0, dataSet.getWriteCount());
+
+        final DoubleDataSet other = new DoubleDataSet("other", new double[] { 1, 2, 3 }, new double[] { 3, 2, 1 }, 3, false);
+        dataSet.set(other);
+        assertEquals(3, dataSet.getDataCount());
+        assertEquals(3.0, dataSet.get(DataSet.DIM_Y, 0));
+
+        assertThrows(IllegalArgumentException.class, () -> new SingleWriterCircularDataSet("test", 0));
+        assertThrows(IllegalArgumentException.class, () -> dataSet.add(new double[2], new double[2], 1, 2));
+    }
+
+    @Test
+    void snapshotIsNotRefreshedWhileReading() {
+        final SingleWriterCircularDataSet dataSet = new SingleWriterCircularDataSet("test", 10);
+        dataSet.add(1.0, 1.0);
+        dataSet.lock().readLockGuard(() -> {
+            dataSet.add(2.0, 2.0);
+            // nested (reentrant) lock keeps the snapshot stable
+            dataSet.lock().readLockGuard(() -> assertEquals(1, dataSet.getDataCount()));
+            assertEquals(1, dataSet.getDataCount());
+        });
+        // pending samples re-invalidate the data set after the reader released the lock
+        dataSet.getBitState().clear();
+        dataSet.lock().readLock();
+        dataSet.add(3.0, 3.0);
+        dataSet.getBitState().clear();
+        dataSet.lock().readUnLock();
+        assertTrue(dataSet.getBitState().isDirty(ChartBits.DataSetDataAdded));
+        dataSet.lock().readLockGuard(() -> assertEquals(3, dataSet.getDataCount()));
+    }
+
+    @Test
+    void concurrentSnapshotsAreConsistent() throws InterruptedException {
+        final int capacity = 1000;
+        final SingleWriterCircularDataSet dataSet = new SingleWriterCircularDataSet("test", capacity);
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final Thread producer = new Thread(() -> {
+            // y is always an exact function of x, and x strictly increases
+            double x = 0;
+            final double[] xBlock = new double[64];
+            final double[] yBlock = new double[64];
+            while (running.get()) {
+                for (int i = 0; i < xBlock.length; i++) {
+                    xBlock[i] = ++x;
+                    yBlock[i] = -x;
+                }
+                dataSet.add(xBlock, yBlock, 0, xBlock.length);
+                dataSet.add(++x, -x);
+            }
+        });
+        producer.start();
+
+        try {
+            for (int iteration = 0; iteration < 2000; iteration++) {
+                dataSet.lock().readLockGuard(() -> {
+                    final int count = dataSet.getDataCount();
+                    assertTrue(count <= capacity);
+                    final double[] x = Arrays.copyOf(dataSet.getValues(DataSet.DIM_X), count);
+                    final double[] y = Arrays.copyOf(dataSet.getValues(DataSet.DIM_Y), count);
+                    for (int i = 0; i < count; i++) {
+                        assertEquals(-x[i], y[i]);
+                        if (i > 0) {
+                            assertEquals(x[i - 1] + 1, x[i]);
+                        }
+                    }
+                });
+            }
+        } finally {
+            running.set(false);
+            producer.join();
+        }
+        assertFalse(producer.isAlive());
+    }
+}
@@ -0,0 +1,71 @@
+package io.fair_acc.dataset.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks for SlidingDataRange against a brute-force scan of the window.
+ */
+class SlidingDataRangeTests {
+    @Test
+    void basicTests() {
+        final SlidingDataRange range = new SlidingDataRange();
+        assertFalse(range.isDefined());
+        assertEquals(0, range.size());
+
+        range.add(3.0);
+        range.add(1.0, 5.0);
+        range.add(Double.NaN);
+        range.add(2.0);
+        assertTrue(range.isDefined());
+        assertEquals(4, range.size());
+        assertEquals(1.0, range.getMin());
+        assertEquals(5.0, range.getMax());
+
+        range.removeOldest(2);
+        assertEquals(2, range.size());
+        assertEquals(2.0, range.getMin());
+        assertEquals(2.0, range.getMax());
+
+        range.removeOldest(10);
+        assertEquals(0, range.size());
+        assertFalse(range.isDefined());
+        assertEquals(Double.MAX_VALUE, range.getMin());
+        assertEquals(-Double.MAX_VALUE, range.getMax());
+
+        range.add(-1.0);
+        range.clear();
+        assertFalse(range.isDefined());
+    }
+
+    @Test
+    void randomSlidingWindow() {
+        final Random rnd = new Random(42);
+        final SlidingDataRange range = new SlidingDataRange();
+        final Deque<Double> window = new ArrayDeque<>();
+        for (int i = 0; i < 10_000; i++) {
+            final double value = rnd.nextGaussian();
+            range.add(value);
+            window.addLast(value);
+            if (window.size() > 100 || rnd.nextInt(10) == 0) {
+                final int nRemove = 1 + rnd.nextInt(Math.min(5, window.size()));
+                range.removeOldest(nRemove);
+                for (int j = 0; j < nRemove; j++) {
+                    window.removeFirst();
+                }
+            }
+            assertEquals(window.size(), range.size());
+            if (!window.isEmpty()) {
+                assertEquals(window.stream().mapToDouble(Double::doubleValue).min().orElseThrow(), range.getMin());
+                assertEquals(window.stream().mapToDouble(Double::doubleValue).max().orElseThrow(), range.getMax());
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.fair_acc.dataset.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Borrow/return round trip of the named {@link ArrayCache}, the size-based {@link DoubleArrayCache} and the
+ * size-class based {@link ArrayPool} compared to plain array allocation, single-threaded and with several threads
+ * sharing the caches.
+ */
+@SuppressWarnings("deprecation")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class ArrayCacheBenchmark {
+    private static final String CACHE_NAME = "ArrayCacheBenchmark";
+
+    @Param({ "1000", "100000" })
+    private int size;
+
+    @Benchmark
+    public double[] allocate() {
+        return new double[size];
+    }
+
+    @Benchmark
+    public double[] arrayCache() {
+        final double[] array = ArrayCache.getCachedDoubleArray(CACHE_NAME, size);
+        ArrayCache.release(CACHE_NAME, array);
+        return array;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public double[] arrayCacheShared() {
+        return arrayCache();
+    }
+
+    @Benchmark
+    public double[] arrayPool() {
+        final double[] array = ArrayPool.DOUBLE.borrow(size);
+        ArrayPool.DOUBLE.release(array);
+        return array;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public double[] arrayPoolShared() {
+        return arrayPool();
+    }
+
+    @Benchmark
+    public double[] doubleArrayCache() {
+        final DoubleArrayCache cache = DoubleArrayCache.getInstance();
+        final double[] array = cache.getArray(size);
+        cache.add(array);
+        return array;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public double[] doubleArrayCacheShared() {
+        return doubleArrayCache();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder().include(ArrayCacheBenchmark.class.getSimpleName()).build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,118 @@
+package io.fair_acc.dataset.utils;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks for ArrayPool size classes, re-use, statistics and retention limits.
+ */
+class ArrayPoolTests {
+    @Test
+    void sizeClassTests() {
+        final ArrayPool<double[]> pool = new ArrayPool<>(double[]::new, a -> a.length, Double.BYTES);
+        assertEquals(16, pool.borrow(0).length);
+        assertEquals(16, pool.borrow(16).length);
+        assertEquals(32, pool.borrow(17).length);
+        assertEquals(1024, pool.borrow(1000).length);
+        assertEquals(1024, pool.borrow(1024).length);
+        assertEquals(5, pool.getMisses());
+        assertEquals(0, pool.getHits());
+        assertThrows(IllegalArgumentException.class, () -> pool.borrow(-1));
+        assertThrows(IllegalArgumentException.class, () -> new ArrayPool<>(double[]::new, a -> a.length, 0));
+    }
+
+    @Test
+    void reuseTests() {
+        final ArrayPool<int[]> pool = new ArrayPool<>(int[]::new, a -> a.length, Integer.BYTES);
+        final int[] original = pool.borrow(100);
+        pool.release(original);
+        assertEquals(128L * Integer.BYTES, pool.getRetainedBytes());
+
+        // any size within the same size class is served by the same array
+        assertSame(original, pool.borrow(120));
+        assertEquals(1, pool.getHits());
+        assertEquals(0, pool.getRetainedBytes());
+        assertNotSame(original, pool.borrow(100));
+        pool.release(original);
+        assertNotSame(original, pool.borrow(200));
+
+        // foreign arrays and null are ignored
+        assertDoesNotThrow(() -> pool.release(null));
+        pool.release(new int[100]);
+        pool.release(new int[8]);
+        assertEquals(128L * Integer.BYTES, pool.getRetainedBytes());
+
+        pool.clear();
+        assertEquals(0, pool.getRetainedBytes());
+        assertNotSame(original, pool.borrow(100));
+        assertTrue(pool.toString().contains("hits=1"));
+    }
+
+    @Test
+    void retentionLimitTests() {
+        // large arrays bypass the per-thread magazines and are bounded by the depot byte budget
+        final long maxRetainedBytes = 4L << 20;
+        final ArrayPool<double[]> pool = new ArrayPool<>(double[]::new, a -> a.length, Double.BYTES, maxRetainedBytes);
+        assertEquals(maxRetainedBytes, pool.getMaxRetainedBytes());
+        final List<double[]> arrays = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            arrays.add(pool.borrow(1 << 18)); // 2 MiB each
+        }
+        arrays.forEach(pool::release);
+        assertEquals(maxRetainedBytes, pool.getRetainedBytes());
+        assertSame(arrays.get(1), pool.borrow(1 << 18));
+        assertSame(arrays.get(0), pool.borrow(1 << 18));
+        assertNotSame(arrays.get(2), pool.borrow(1 << 18));
+
+        // small arrays: magazine of the calling thread spills into the depot
+        final ArrayPool<byte[]> smallPool = new ArrayPool<>(byte[]::new, a -> a.length, Byte.BYTES, 1024);
+        for (int i = 0; i < 100; i++) {
+            smallPool.release(new byte[64]);
+        }
+        assertTrue(smallPool.getRetainedBytes() <= 1024 + 4 * 64, "retained = " + smallPool.getRetainedBytes());
+    }
+
+    @Test
+    void concurrentTests() throws Exception {
+        final ArrayPool<double[]> pool = new ArrayPool<>(double[]::new, a -> a.length, Double.BYTES);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (int task = 0; task < 8; task++) {
+                final double marker = task;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        final double[] array = pool.borrow(1 + i % 3000);
+                        array[0] = marker;
+                        Thread.yield();
+                        if (array[0] != marker) {
+                            return false; // array is shared with another thread
+                        }
+                        pool.release(array);
+                    }
+                    return true;
+                }));
+            }
+            for (final Future<Boolean> result : results) {
+                assertTrue(result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(80_000, pool.getHits() + pool.getMisses());
+        assertTrue(pool.getHits() > pool.getMisses());
+    }
+}
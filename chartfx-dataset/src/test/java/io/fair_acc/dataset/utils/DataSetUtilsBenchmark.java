@@ -0,0 +1,104 @@
+package io.fair_acc.dataset.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.spi.DoubleErrorDataSet;
+
+/**
+ * Serialisation round trips of {@link DataSetUtils}: the legacy text and binary byte-array encoding vs. the versioned
+ * binary channel format. The channels are backed by memory to measure the encoding rather than the file system.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class DataSetUtilsBenchmark {
+    @Param({ "10000", "1000000" })
+    private int nSamples;
+
+    private DoubleErrorDataSet dataSet;
+    private final ByteArrayOutputStream byteOutput = new ByteArrayOutputStream();
+    private final WritableByteChannel nullChannel = Channels.newChannel(OutputStream.nullOutputStream());
+    private byte[] textBytes;
+    private byte[] binaryBytes;
+    private byte[] channelBytes;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        dataSet = new DoubleErrorDataSet("serialisation", nSamples);
+        for (int i = 0; i < nSamples; i++) {
+            dataSet.add(i, Math.sin(0.01 * i), 0.1, 0.2);
+        }
+        DataSetUtils.writeDataSetToByteArray(dataSet, byteOutput, false, false);
+        textBytes = byteOutput.toByteArray();
+        DataSetUtils.writeDataSetToByteArray(dataSet, byteOutput, true, false);
+        binaryBytes = byteOutput.toByteArray();
+        byteOutput.reset();
+        DataSetUtils.writeDataSetToChannel(dataSet, Channels.newChannel(byteOutput), false);
+        channelBytes = byteOutput.toByteArray();
+    }
+
+    @Benchmark
+    public int writeText() {
+        DataSetUtils.writeDataSetToByteArray(dataSet, byteOutput, false, false);
+        return byteOutput.size();
+    }
+
+    @Benchmark
+    public DataSet readText() {
+        return DataSetUtils.readDataSetFromByteArray(textBytes);
+    }
+
+    @Benchmark
+    public int writeBinaryByteArray() {
+        DataSetUtils.writeDataSetToByteArray(dataSet, byteOutput, true, false);
+        return byteOutput.size();
+    }
+
+    @Benchmark
+    public DataSet readBinaryByteArray() {
+        return DataSetUtils.readDataSetFromByteArray(binaryBytes);
+    }
+
+    @Benchmark
+    public DataSet writeChannel() throws IOException {
+        DataSetUtils.writeDataSetToChannel(dataSet, nullChannel, false);
+        return dataSet;
+    }
+
+    @Benchmark
+    public DataSet readChannel() throws IOException {
+        return DataSetUtils.readDataSetFromChannel(Channels.newChannel(new ByteArrayInputStream(channelBytes)));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder().include(DataSetUtilsBenchmark.class.getSimpleName()).build();
+        new Runner(opt).run();
+    }
+}
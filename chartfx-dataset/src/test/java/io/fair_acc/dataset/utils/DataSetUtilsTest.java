@@ -6,8 +6,13 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.PushbackInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Locale;
@@ -167,6 +172,72 @@ class DataSetUtilsTest {
         }
     }
 
+    @ParameterizedTest(name = "float: {0}, errors: {1}")
+    @CsvSource({ "false, false", "false, true", "true, false", "true, true" })
+    void readAndWriteBinaryChannelFormat(boolean asFloat, boolean withErrors, @TempDir Path tmpdir) throws IOException {
+        // large enough to span several bulk transfer chunks
+        final int nSamples = 300_000;
+        final DoubleErrorDataSet dataSet = new DoubleErrorDataSet("TestBinary äöü", nSamples);
+        for (int i = 0; i < nSamples; i++) {
+            dataSet.add(0.5 * i, Math.sin(0.001 * i), withErrors ? 0.1 : 0.0, withErrors ? 0.2 : 0.0);
+        }
+        final DataSet source = withErrors ? dataSet : new DefaultDataSet("TestBinary äöü", dataSet.getValues(DataSet.DIM_X), dataSet.getValues(DataSet.DIM_Y), nSamples, false);
+        source.getAxisDescription(DataSet.DIM_X).set("time", "s");
+        source.getAxisDescription(DataSet.DIM_Y).set("Voltage", (String) null);
+        source.getAxisDescription(DataSet.DIM_X).set(-1.0, 1.0); // stale/user-defined range must not be persisted
+
+        final Path file = tmpdir.resolve("dataset.cfxd");
+        DataSetUtils.writeDataSetToBinaryFile(source, file, asFloat);
+        final long dataBytes = (long) (withErrors ? 4 : 2) * nSamples * (asFloat ? Float.BYTES : Double.BYTES);
+        assertTrue(Files.size(file) > dataBytes && Files.size(file) < dataBytes + 128, "header size");
+
+        source.recomputeLimits(DataSet.DIM_Y); // reference, N.B. the written limits are always computed from the data
+        final DataSet read = DataSetUtils.readDataSetFromBinaryFile(file);
+        final DataSet mapped = asFloat ? read : DataSetUtils.mapDataSetFromBinaryFile(file);
+        for (final DataSet dataSetRead : new DataSet[] { read, mapped }) {
+            assertEquals(source.getName(), dataSetRead.getName());
+            assertEquals(nSamples, dataSetRead.getDataCount());
+            assertEquals(withErrors, dataSetRead instanceof DataSetError && ((DataSetError) dataSetRead).getErrorType(DataSet.DIM_Y) != DataSetError.ErrorType.NO_ERROR);
+            assertEquals("time", dataSetRead.getAxisDescription(DataSet.DIM_X).getName());
+            assertEquals("s", dataSetRead.getAxisDescription(DataSet.DIM_X).getUnit());
+            assertEquals("Voltage", dataSetRead.getAxisDescription(DataSet.DIM_Y).getName());
+            for (int i = 0; i < nSamples; i += 997) {
+                assertEquals(source.get(DataSet.DIM_X, i), dataSetRead.get(DataSet.DIM_X, i), asFloat ? EPSILON * i : 0.0);
+                assertEquals(source.get(DataSet.DIM_Y, i), dataSetRead.get(DataSet.DIM_Y, i), asFloat ? EPSILON : 0.0);
+                if (withErrors) {
+                    assertEquals(0.2, ((DataSetError) dataSetRead).getErrorPositive(DataSet.DIM_Y, i), asFloat ? EPSILON : 0.0);
+                }
+            }
+            // limits are restored from the header
+            assertTrue(dataSetRead.getAxisDescription(DataSet.DIM_Y).isDefined());
+            assertEquals(0.0, dataSetRead.getAxisDescription(DataSet.DIM_X).getMin(), EPSILON);
+            assertEquals(0.5 * (nSamples - 1), dataSetRead.getAxisDescription(DataSet.DIM_X).getMax(), EPSILON);
+            assertEquals(source.getAxisDescription(DataSet.DIM_Y).getMin(), dataSetRead.getAxisDescription(DataSet.DIM_Y).getMin(), EPSILON);
+            assertEquals(source.getAxisDescription(DataSet.DIM_Y).getMax(), dataSetRead.getAxisDescription(DataSet.DIM_Y).getMax(), EPSILON);
+        }
+        if (asFloat) {
+            assertThrows(IllegalArgumentException.class, () -> DataSetUtils.mapDataSetFromBinaryFile(file));
+        }
+
+        // several data sets in one stream
+        final ByteArrayOutputStream byteOutput = new ByteArrayOutputStream();
+        final WritableByteChannel outChannel = Channels.newChannel(byteOutput);
+        DataSetUtils.writeDataSetToChannel(source, outChannel, asFloat);
+        DataSetUtils.writeDataSetToChannel(new DoubleErrorDataSet("empty"), outChannel, asFloat);
+        final ReadableByteChannel inChannel = Channels.newChannel(new ByteArrayInputStream(byteOutput.toByteArray()));
+        assertEquals(nSamples, DataSetUtils.readDataSetFromChannel(inChannel).getDataCount());
+        assertEquals("empty", DataSetUtils.readDataSetFromChannel(inChannel).getName());
+        assertThrows(EOFException.class, () -> DataSetUtils.readDataSetFromChannel(inChannel));
+        assertThrows(IOException.class, () -> DataSetUtils.readDataSetFromChannel(Channels.newChannel(new ByteArrayInputStream(new byte[64]))));
+
+        // invalid format versions
+        final byte[] invalidVersion = byteOutput.toByteArray();
+        invalidVersion[4] = 0;
+        assertThrows(IOException.class, () -> DataSetUtils.readDataSetFromChannel(Channels.newChannel(new ByteArrayInputStream(invalidVersion))));
+        invalidVersion[4] = (byte) (DataSetUtils.BINARY_FORMAT_VERSION + 1);
+        assertThrows(IOException.class, () -> DataSetUtils.readDataSetFromChannel(Channels.newChannel(new ByteArrayInputStream(invalidVersion))));
+    }
+
     @Test
     void testFailureCases() {
         assertThrows(IllegalArgumentException.class, () -> DataSetUtils.readDataSetFromByteArray(null));
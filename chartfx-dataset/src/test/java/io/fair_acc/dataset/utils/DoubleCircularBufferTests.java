@@ -137,6 +137,27 @@ public class DoubleCircularBufferTests {
         assertEquals(bufferLength, buffer2.available());
     }
 
+    @Test
+    public void testBlockPut() {
+        final DoubleCircularBuffer buffer = new DoubleCircularBuffer(4);
+        buffer.put(new double[] { 0, 1, 2, 3, 4 }, 1, 3);
+        assertEquals(3, buffer.available());
+        assertEquals(3, buffer.writePosition());
+        assertArrayEquals(new double[] { 1, 2, 3 }, buffer.get(new double[3], 3));
+
+        // wrap-around
+        buffer.put(new double[] { 4, 5 }, 0, 2);
+        assertEquals(4, buffer.available());
+        assertEquals(1, buffer.writePosition());
+        assertArrayEquals(new double[] { 2, 3, 4, 5 }, buffer.get(new double[4], 4));
+
+        // blocks larger than the capacity only retain the latest samples
+        buffer.put(new double[] { 6, 7, 8, 9, 10, 11, 12 }, 0, 7);
+        assertEquals(4, buffer.available());
+        assertEquals(0, buffer.writePosition());
+        assertArrayEquals(new double[] { 9, 10, 11, 12 }, buffer.get(new double[4], 4));
+    }
+
     /**
      * meant for testing/illustrating usage (old main routine)
      *
@@ -21,7 +21,9 @@ import org.apache.maven.project.MavenProject;
  * helper functions and container classes for all primitive types.
  *
  * By default it looks for input files in src/main/codegen and writes the generated code to
- * target/generated-sources/codegen.
+ * target/generated-sources/codegen, which is added to the compile sources. Both directories may be overridden in a
+ * separate execution, e.g. for sources that require different compiler options, in which case
+ * `addCompileSourceRoot` can be set to false and the output compiled by a dedicated compiler execution.
  *
  * There are two different types of template classes. Classes ending in `Gen` are are rewritten, by repeating the
  * blocks inside `//// codegen: originalType -&gt; outputType1, outputType2, ...` and `//// end codegen` for each
@@ -46,6 +48,10 @@ import org.apache.maven.project.MavenProject;
  * Multiple comment flags can be given by separating them with four slashes:
  * //// codegen: returncast short //// subst%all%a%a &lt; 0 ? -a : a
  *
+ * Type arguments of generic types are replaced by the corresponding boxed type, e.g. `VectorSpecies&lt;Double&gt;`
+ * becomes `VectorSpecies&lt;Integer&gt;` for int, which allows templates for the (incubating) Java Vector API, e.g.
+ * `DoubleVector` -&gt; `IntVector`.
+ *
  * @author ennerf
  * @author Alexander Krimm
  */
@@ -63,14 +69,17 @@ public class CodeGenerator extends AbstractMojo {
     public static final String COMMAND_SUBST = "subst";
     public static final String PROTO_UTILCLASS_SUFFIX = "Gen";
     public static final String PROTOTYPE_CLASS_SUFFIX = "Proto";
+    private static final Map<String, String> BOXED_TYPES = Map.of("int", "Integer", "char", "Character");
     public static final String AUTOGENERATED_WARNING_HEADER = "// This file has been generated automatically by chartfx-generate. Do not modify!\n";
 
     @Parameter(defaultValue = "${project}", required = true, readonly = true)
     MavenProject project;
-    @Parameter(defaultValue = "${project.basedir}/src/main/codegen", readonly = true)
+    @Parameter(defaultValue = "${project.basedir}/src/main/codegen")
     String input;
-    @Parameter(defaultValue = "${project.build.directory}/generated-sources/codegen", readonly = true)
+    @Parameter(defaultValue = "${project.build.directory}/generated-sources/codegen")
     String output;
+    @Parameter(defaultValue = "true")
+    boolean addCompileSourceRoot;
 
     @Override
     public void execute() throws MojoExecutionException {
@@ -78,9 +87,11 @@ public class CodeGenerator extends AbstractMojo {
         final Path outputPath = Path.of(this.output);
 
         // Add the generated classes to the build path
-        project.addCompileSourceRoot(this.output);
-        if (getLog().isInfoEnabled()) {
-            getLog().info("Added directory for generated sources to compile sources: " + outputPath);
+        if (addCompileSourceRoot) {
+            project.addCompileSourceRoot(this.output);
+            if (getLog().isInfoEnabled()) {
+                getLog().info("Added directory for generated sources to compile sources: " + outputPath);
+            }
         }
 
         // Adding other types to helper function classes (...GenBase.java)
@@ -271,6 +282,9 @@ public class CodeGenerator extends AbstractMojo {
         String result = currentLine;
         if (!skip) {
             result = currentLine.replace(inputType, outputType).replace(capitalise(inputType), capitalise(outputType));
+            if (BOXED_TYPES.containsKey(outputType)) {
+                result = result.replace('<' + capitalise(outputType) + '>', '<' + BOXED_TYPES.get(outputType) + '>');
+            }
             if (returncast) {
                 result = result.replace(" = ", " = (" + outputType + ") ")
                                  .replace("return ", "return (" + outputType + ") ");
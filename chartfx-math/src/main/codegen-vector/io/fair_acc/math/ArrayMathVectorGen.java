@@ -0,0 +1,193 @@
+package io.fair_acc.math;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD implementations of the {@link ArrayMathKernels} based on the (incubating) Java Vector API.
+ * <p>
+ * N.B. this class is compiled separately with {@code --add-modules jdk.incubator.vector} (see the 'codegen-vector'
+ * sources in the module pom) and only instantiated reflectively by {@link VectorSupport}, as it cannot be loaded
+ * unless the JVM has been started with the module.
+ */
+final class ArrayMathVectorGen implements ArrayMathKernels {
+    //// codegen: double -> float, int, long, short
+    @Override
+    public void add(final double[] a, final int offsetA, final double[] b, final int offsetB, final double[] out, final int offsetOut, final int length) {
+        final VectorSpecies<Double> species = DoubleVector.SPECIES_PREFERRED;
+        final int bound = species.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += species.length()) {
+            DoubleVector.fromArray(species, a, offsetA + i).add(DoubleVector.fromArray(species, b, offsetB + i)).intoArray(out, offsetOut + i);
+        }
+        for (; i < length; i++) {
+            out[offsetOut + i] = (a[offsetA + i] + b[offsetB + i]); //// codegen: returncast short
+        }
+    }
+
+    @Override
+    public void add(final double[] a, final int offsetA, final double value, final double[] out, final int offsetOut, final int length) {
+        final VectorSpecies<Double> species = DoubleVector.SPECIES_PREFERRED;
+        final int bound = species.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += species.length()) {
+            DoubleVector.fromArray(species, a, offsetA + i).add(value).intoArray(out, offsetOut + i);
+        }
+        for (; i < length; i++) {
+            out[offsetOut + i] = (a[offsetA + i] + value); //// codegen: returncast short
+        }
+    }
+
+    @Override
+    public void multiply(final double[] a, final int offsetA, final double[] b, final int offsetB, final double[] out, final int offsetOut, final int length) {
+        final VectorSpecies<Double> species = DoubleVector.SPECIES_PREFERRED;
+        final int bound = species.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += species.length()) {
+            DoubleVector.fromArray(species, a, offsetA + i).mul(DoubleVector.fromArray(species, b, offsetB + i)).intoArray(out, offsetOut + i);
+        }
+        for (; i < length; i++) {
+            out[offsetOut + i] = (a[offsetA + i] * b[offsetB + i]); //// codegen: returncast short
+        }
+    }
+
+    @Override
+    public void multiply(final double[] a, final int offsetA, final double value, final double[] out, final int offsetOut, final int length) {
+        final VectorSpecies<Double> species = DoubleVector.SPECIES_PREFERRED;
+        final int bound = species.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += species.length()) {
+            DoubleVector.fromArray(species, a, offsetA + i).mul(value).intoArray(out, offsetOut + i);
+        }
+        for (; i < length; i++) {
+            out[offsetOut + i] = (a[offsetA + i] * value); //// codegen: returncast short
+        }
+    }
+
+    @Override
+    public void sqr(final double[] a, final int offsetA, final double[] out, final int offsetOut, final int length) {
+        final VectorSpecies<Double> species = DoubleVector.SPECIES_PREFERRED;
+        final int bound = species.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += species.length()) {
+            final DoubleVector v = DoubleVector.fromArray(species, a, offsetA + i);
+            v.mul(v).intoArray(out, offsetOut + i);
+        }
+        for (; i < length; i++) {
+            out[offsetOut + i] = (a[offsetA + i] * a[offsetA + i]); //// codegen: returncast short
+        }
+    }
+
+    @Override
+    public void subtract(final double[] a, final int offsetA, final double[] b, final int offsetB, final double[] out, final int offsetOut, final int length) {
+        final VectorSpecies<Double> species = DoubleVector.SPECIES_PREFERRED;
+        final int bound = species.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += species.length()) {
+            DoubleVector.fromArray(species, a, offsetA + i).sub(DoubleVector.fromArray(species, b, offsetB + i)).intoArray(out, offsetOut + i);
+        }
+        for (; i < length; i++) {
+            out[offsetOut + i] = (a[offsetA + i] - b[offsetB + i]); //// codegen: returncast short
+        }
+    }
+
+    @Override
+    public void subtract(final double[] a, final int offsetA, final double value, final double[] out, final int offsetOut, final int length) {
+        final VectorSpecies<Double> species = DoubleVector.SPECIES_PREFERRED;
+        final int bound = species.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += species.length()) {
+            DoubleVector.fromArray(species, a, offsetA + i).sub(value).intoArray(out, offsetOut + i);
+        }
+        for (; i < length; i++) {
+            out[offsetOut + i] = (a[offsetA + i] - value); //// codegen: returncast short
+        }
+    }
+
+    @Override
+    public double dot(final double[] a, final double[] b, final int length) {
+        final VectorSpecies<Double> species = DoubleVector.SPECIES_PREFERRED;
+        final int bound = species.loopBound(length);
+        DoubleVector acc = DoubleVector.zero(species);
+        int i = 0;
+        for (; i < bound; i += species.length()) {
+            acc = acc.add(DoubleVector.fromArray(species, a, i).mul(DoubleVector.fromArray(species, b, i)));
+        }
+        double val = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            val += a[i] * b[i];
+        }
+        return val;
+    }
+
+    @Override
+    public double maximum(final double[] data, final int length) {
+        final VectorSpecies<Double> species = DoubleVector.SPECIES_PREFERRED;
+        final int bound = species.loopBound(length);
+        final double init = -Double.MAX_VALUE; //// codegen: subst:int:Int:Integer
+        DoubleVector acc = DoubleVector.broadcast(species, init);
+        int i = 0;
+        for (; i < bound; i += species.length()) {
+            acc = acc.max(DoubleVector.fromArray(species, data, i));
+        }
+        double val = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < length; i++) {
+            val = java.lang.Math.max(val, data[i]); //// codegen: returncast short
+        }
+        return val;
+    }
+
+    @Override
+    public double minimum(final double[] data, final int length) {
+        final VectorSpecies<Double> species = DoubleVector.SPECIES_PREFERRED;
+        final int bound = species.loopBound(length);
+        final double init = +Double.MAX_VALUE; //// codegen: subst:int:Int:Integer
+        DoubleVector acc = DoubleVector.broadcast(species, init);
+        int i = 0;
+        for (; i < bound; i += species.length()) {
+            acc = acc.min(DoubleVector.fromArray(species, data, i));
+        }
+        double val = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < length; i++) {
+            val = java.lang.Math.min(val, data[i]); //// codegen: returncast short
+        }
+        return val;
+    }
+
+    @Override
+    public double sum(final double[] data, final int length) {
+        final VectorSpecies<Double> species = DoubleVector.SPECIES_PREFERRED;
+        final int bound = species.loopBound(length);
+        DoubleVector acc = DoubleVector.zero(species);
+        int i = 0;
+        for (; i < bound; i += species.length()) {
+            acc = acc.add(DoubleVector.fromArray(species, data, i));
+        }
+        double val = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            val += data[i];
+        }
+        return val;
+    }
+    //// end codegen
+
+    //// codegen: double -> float
+    @Override
+    public void sqrt(final double[] a, final int offsetA, final double[] out, final int offsetOut, final int length) {
+        final VectorSpecies<Double> species = DoubleVector.SPECIES_PREFERRED;
+        final int bound = species.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += species.length()) {
+            DoubleVector.fromArray(species, a, offsetA + i).sqrt().intoArray(out, offsetOut + i);
+        }
+        for (; i < length; i++) {
+            out[offsetOut + i] = MathBase.sqrt(a[offsetA + i]); //// codegen: returncast all
+        }
+    }
+    //// end codegen
+}
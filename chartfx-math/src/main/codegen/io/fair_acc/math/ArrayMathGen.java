@@ -5,6 +5,10 @@ import io.fair_acc.dataset.utils.AssertUtils;
 /**
  * Utility class containing static functions for working with arrays of
  * different types.
+ * <p>
+ * Each operation comes in three flavours: {@code op(in, ...)} returns a newly allocated array, {@code opInPlace(in, ...)}
+ * overwrites the input and {@code op(in, ..., out, offsetOut, length)} writes to a caller-supplied (e.g. re-used or
+ * pooled) output buffer, which may be identical to the input for the same offsets. The latter two do not allocate.
  *
  * @author rstein
  * @author Florian Enner
@@ -15,6 +19,7 @@ public class ArrayMathGen {
     protected static final String DIVISOR = "divisor";
     protected static final String IN = "in";
     protected static final String MULTIPLICATOR = "multiplicator";
+    protected static final String OUT = "out";
     protected static final String VALUE = "value";
 
     ArrayMathGen() { // NOPMD - package private
@@ -31,31 +36,45 @@ public class ArrayMathGen {
     }
 
     public static double[] add(final double[] in, final int offsetIn, final double[] value, final int offsetValue, final int length) {
+        return add(in, offsetIn, value, offsetValue, new double[length], 0, length);
+    }
+
+    public static double[] add(final double[] in, final int offset, final double value, final int length) {
+        return add(in, offset, value, new double[length], 0, length);
+    }
+
+    public static double[] add(final double[] in, final int offsetIn, final double[] value, final int offsetValue, final double[] out, final int offsetOut, final int length) {
         AssertUtils.notNull(IN, in);
         AssertUtils.gtOrEqual(IN, length + offsetIn, in.length);
         AssertUtils.notNull(VALUE, value);
         AssertUtils.gtOrEqual(VALUE, length + offsetValue, value.length);
+        AssertUtils.notNull(OUT, out);
+        AssertUtils.gtOrEqual(OUT, length + offsetOut, out.length);
 
-        final double[] ret = new double[length];
-
+        if (VectorSupport.isEnabled(length)) {
+            VectorSupport.kernels().add(in, offsetIn, value, offsetValue, out, offsetOut, length);
+            return out;
+        }
         for (int i = 0; i < length; i++) {
-            ret[i] = (double) (in[i + offsetIn] + value[i + offsetValue]);
+            out[i + offsetOut] = (in[i + offsetIn] + value[i + offsetValue]); //// codegen: returncast short
         }
-
-        return ret;
+        return out;
     }
 
-    public static double[] add(final double[] in, final int offset, final double value, final int length) {
+    public static double[] add(final double[] in, final int offsetIn, final double value, final double[] out, final int offsetOut, final int length) {
         AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offset, in.length);
-
-        final double[] ret = new double[length];
+        AssertUtils.gtOrEqual(IN, length + offsetIn, in.length);
+        AssertUtils.notNull(OUT, out);
+        AssertUtils.gtOrEqual(OUT, length + offsetOut, out.length);
 
+        if (VectorSupport.isEnabled(length)) {
+            VectorSupport.kernels().add(in, offsetIn, value, out, offsetOut, length);
+            return out;
+        }
         for (int i = 0; i < length; i++) {
-            ret[i] = (double) (in[i + offset] + value);
+            out[i + offsetOut] = (in[i + offsetIn] + value); //// codegen: returncast short
         }
-
-        return ret;
+        return out;
     }
 
     public static double[] addInPlace(final double[] in, final double value) {
@@ -67,24 +86,11 @@ public class ArrayMathGen {
     }
 
     public static double[] addInPlace(final double[] in, final int offsetIn, final double[] value, final int offsetValue, final int length) {
-        AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offsetIn, in.length);
-        AssertUtils.notNull(VALUE, value);
-        AssertUtils.gtOrEqual(VALUE, length + offsetValue, value.length);
-
-        for (int i = 0; i < length; i++) {
-            in[i + offsetIn] += value[i + offsetValue];
-        }
-        return in;
+        return add(in, offsetIn, value, offsetValue, in, offsetIn, length);
     }
 
     public static double[] addInPlace(final double[] in, final int offset, final double value, final int length) {
-        AssertUtils.notNull(IN, in);
-
-        for (int i = offset; i < length + offset; i++) {
-            in[i] += value;
-        }
-        return in;
+        return add(in, offset, value, in, offset, length);
     }
     //// end codegen
 
@@ -94,16 +100,19 @@ public class ArrayMathGen {
     }
 
     public static double[] decibel(final double[] in, final int offset, final int length) {
-        AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offset, in.length);
+        return decibel(in, offset, new double[length], 0, length);
+    }
 
-        final double[] ret = new double[length];
+    public static double[] decibel(final double[] in, final int offsetIn, final double[] out, final int offsetOut, final int length) {
+        AssertUtils.notNull(IN, in);
+        AssertUtils.gtOrEqual(IN, length + offsetIn, in.length);
+        AssertUtils.notNull(OUT, out);
+        AssertUtils.gtOrEqual(OUT, length + offsetOut, out.length);
 
         for (int i = 0; i < length; i++) {
-            ret[i] = (20 * MathBase.log10(in[i + offset])); //// codegen: returncast all
+            out[i + offsetOut] = (20 * MathBase.log10(in[i + offsetIn])); //// codegen: returncast all
         }
-
-        return ret;
+        return out;
     }
 
     public static double[] decibelInPlace(final double[] in) {
@@ -111,13 +120,7 @@ public class ArrayMathGen {
     }
 
     public static double[] decibelInPlace(final double[] in, final int offset, final int length) {
-        AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length, in.length);
-
-        for (int i = offset; i < length + offset; i++) {
-            in[i] = (20 * MathBase.log10(in[i])); //// codegen: returncast all
-        }
-        return in;
+        return decibel(in, offset, in, offset, length);
     }
     //// end codegen
 
@@ -131,37 +134,38 @@ public class ArrayMathGen {
     }
 
     public static double[] divide(final double[] in, final int offsetIn, final double[] divisor, final int offsetDiv, final int length) {
+        return divide(in, offsetIn, divisor, offsetDiv, new double[length], 0, length);
+    }
+
+    public static double[] divide(final double[] in, final int offset, final double divisor, final int length) {
+        return divide(in, offset, divisor, new double[length], 0, length);
+    }
+
+    public static double[] divide(final double[] in, final int offsetIn, final double[] divisor, final int offsetDiv, final double[] out, final int offsetOut, final int length) {
         AssertUtils.notNull(IN, in);
         AssertUtils.gtOrEqual(IN, length + offsetIn, in.length);
         AssertUtils.notNull(DIVISOR, divisor);
         AssertUtils.gtOrEqual(DIVISOR, length + offsetDiv, divisor.length);
+        AssertUtils.notNull(OUT, out);
+        AssertUtils.gtOrEqual(OUT, length + offsetOut, out.length);
 
-        final double[] ret = new double[in.length];
-
-        for (int i = 0; i < in.length; i++) {
+        for (int i = 0; i < length; i++) {
             if (divisor[i + offsetDiv] == 0.0) {
-                ret[i] = Double.NaN;
+                out[i + offsetOut] = Double.NaN;
             } else {
-                ret[i] = in[i + offsetIn] / divisor[i + offsetDiv];
+                out[i + offsetOut] = in[i + offsetIn] / divisor[i + offsetDiv];
             }
         }
-
-        return ret;
+        return out;
     }
 
-    public static double[] divide(final double[] in, final int offset, final double divisor, final int length) {
-        AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offset, in.length);
-
-        final double[] ret = new double[length];
+    public static double[] divide(final double[] in, final int offsetIn, final double divisor, final double[] out, final int offsetOut, final int length) {
         if (divisor == 0.0) {
-            return notANumberInPlace(ret);
+            AssertUtils.notNull(IN, in);
+            AssertUtils.gtOrEqual(IN, length + offsetIn, in.length);
+            return notANumberInPlace(out, offsetOut, length);
         }
-        final double invDivisor = 1.0 / divisor; //// codegen: subst:float:1.0:1.0f
-        for (int i = 0; i < length; i++) {
-            ret[i] = in[i + offset] * invDivisor;
-        }
-        return ret;
+        return multiply(in, offsetIn, 1.0 / divisor, out, offsetOut, length); //// codegen: subst:float:1.0:1.0f
     }
 
     public static double[] divideInPlace(final double[] in, final double divisor) {
@@ -173,33 +177,11 @@ public class ArrayMathGen {
     }
 
     public static double[] divideInPlace(final double[] in, final int offsetIn, final double[] divisor, final int offsetDiv, final int length) {
-        AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offsetIn, in.length);
-        AssertUtils.notNull(DIVISOR, divisor);
-        AssertUtils.gtOrEqual(DIVISOR, length + offsetDiv, divisor.length);
-
-        for (int i = 0; i < length; i++) {
-            if (divisor[i + offsetIn] == 0.0) {
-                in[i] = Double.NaN;
-            } else {
-                in[i + offsetIn] /= divisor[i + offsetDiv];
-            }
-        }
-        return in;
+        return divide(in, offsetIn, divisor, offsetDiv, in, offsetIn, length);
     }
 
     public static double[] divideInPlace(final double[] in, final int offset, final double divisor, final int length) {
-        AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offset, in.length);
-
-        if (divisor == 0.0) {
-            return ArrayMath.notANumberInPlace(in);
-        }
-        final double invDivisor = 1.0 / divisor; //// codegen: subst:float:1.0:1.0f //// subst:int,long,short:final:// final
-        for (int i = offset; i < length + offset; i++) {
-            in[i] *= invDivisor; //// subst:int,long,short:*= invDivisor:/= divisor
-        }
-        return in;
+        return divide(in, offset, divisor, in, offset, length);
     }
     //// end codegen
     //// codegen: long -> int, short
@@ -212,36 +194,43 @@ public class ArrayMathGen {
     }
 
     public static long[] divide(final long[] in, final int offsetIn, final long[] divisor, final int offsetDiv, final int length) {
+        return divide(in, offsetIn, divisor, offsetDiv, new long[length], 0, length);
+    }
+
+    public static long[] divide(final long[] in, final int offset, final long divisor, final int length) {
+        return divide(in, offset, divisor, new long[length], 0, length);
+    }
+
+    public static long[] divide(final long[] in, final int offsetIn, final long[] divisor, final int offsetDiv, final long[] out, final int offsetOut, final int length) {
         AssertUtils.notNull(IN, in);
         AssertUtils.gtOrEqual(IN, length + offsetIn, in.length);
         AssertUtils.notNull(DIVISOR, divisor);
         AssertUtils.gtOrEqual(DIVISOR, length + offsetDiv, divisor.length);
+        AssertUtils.notNull(OUT, out);
+        AssertUtils.gtOrEqual(OUT, length + offsetOut, out.length);
 
-        final long[] ret = new long[in.length];
-
-        for (int i = 0; i < in.length; i++) {
-            if (divisor[i + offsetDiv] == 0.0) {
+        for (int i = 0; i < length; i++) {
+            if (divisor[i + offsetDiv] == 0) {
                 throw new ArithmeticException("Division by zero");
-            } else {
-                ret[i + offsetIn] = (in[i + offsetIn] / divisor[i + offsetDiv]); //// codegen: returncast short
             }
+            out[i + offsetOut] = (in[i + offsetIn] / divisor[i + offsetDiv]); //// codegen: returncast short
         }
-
-        return ret;
+        return out;
     }
 
-    public static long[] divide(final long[] in, final int offset, final long divisor, final int length) {
+    public static long[] divide(final long[] in, final int offsetIn, final long divisor, final long[] out, final int offsetOut, final int length) {
         AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offset, in.length);
+        AssertUtils.gtOrEqual(IN, length + offsetIn, in.length);
+        AssertUtils.notNull(OUT, out);
+        AssertUtils.gtOrEqual(OUT, length + offsetOut, out.length);
 
-        final long[] ret = new long[length];
-        if (divisor == 0.0) {
+        if (divisor == 0) {
             throw new ArithmeticException("Division by zero");
         }
         for (int i = 0; i < length; i++) {
-            ret[i + offset] = (in[i + offset] / divisor); //// codegen: returncast short
+            out[i + offsetOut] = (in[i + offsetIn] / divisor); //// codegen: returncast short
         }
-        return ret;
+        return out;
     }
 
     public static long[] divideInPlace(final long[] in, final long divisor) {
@@ -253,32 +242,11 @@ public class ArrayMathGen {
     }
 
     public static long[] divideInPlace(final long[] in, final int offsetIn, final long[] divisor, final int offsetDiv, final int length) {
-        AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offsetIn, in.length);
-        AssertUtils.notNull(DIVISOR, divisor);
-        AssertUtils.gtOrEqual(DIVISOR, length + offsetDiv, divisor.length);
-
-        for (int i = 0; i < length; i++) {
-            if (divisor[i + offsetDiv] == 0.0) {
-                throw new ArithmeticException("Division by zero");
-            } else {
-                in[i + offsetIn] /= divisor[i + offsetDiv];
-            }
-        }
-        return in;
+        return divide(in, offsetIn, divisor, offsetDiv, in, offsetIn, length);
     }
 
     public static long[] divideInPlace(final long[] in, final int offset, final long divisor, final int length) {
-        AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length, in.length);
-
-        if (divisor == 0.0) {
-            throw new ArithmeticException("Division by zero");
-        }
-        for (int i = offset; i < length + offset; i++) {
-            in[i] /= divisor;
-        }
-        return in;
+        return divide(in, offset, divisor, in, offset, length);
     }
     //// end codegen
 
@@ -288,16 +256,19 @@ public class ArrayMathGen {
     }
 
     public static double[] inverseDecibel(final double[] in, final int offset, final int length) {
-        AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offset, in.length);
+        return inverseDecibel(in, offset, new double[length], 0, length);
+    }
 
-        final double[] ret = new double[length];
+    public static double[] inverseDecibel(final double[] in, final int offsetIn, final double[] out, final int offsetOut, final int length) {
+        AssertUtils.notNull(IN, in);
+        AssertUtils.gtOrEqual(IN, length + offsetIn, in.length);
+        AssertUtils.notNull(OUT, out);
+        AssertUtils.gtOrEqual(OUT, length + offsetOut, out.length);
 
         for (int i = 0; i < length; i++) {
-            ret[i + offset] = Math.pow(10, in[i] / 20); //// codegen: returncast all
+            out[i + offsetOut] = Math.pow(10, in[i + offsetIn] / 20); //// codegen: returncast all
         }
-
-        return ret;
+        return out;
     }
 
     public static double[] inverseDecibelInPlace(final double[] in) {
@@ -305,13 +276,7 @@ public class ArrayMathGen {
     }
 
     public static double[] inverseDecibelInPlace(final double[] in, final int offset, final int length) {
-        AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offset, in.length);
-
-        for (int i = offset; i < length + offset; i++) {
-            in[i] = Math.pow(10, in[i] / 20); //// codegen: returncast all
-        }
-        return in;
+        return inverseDecibel(in, offset, in, offset, length);
     }
     //// end codegen
 
@@ -325,30 +290,45 @@ public class ArrayMathGen {
     }
 
     public static double[] multiply(final double[] in, final int offsetIn, final double[] multiplicator, final int offsetMul, final int length) {
+        return multiply(in, offsetIn, multiplicator, offsetMul, new double[length], 0, length);
+    }
+
+    public static double[] multiply(final double[] in, final int offset, final double multiplicator, final int length) {
+        return multiply(in, offset, multiplicator, new double[length], 0, length);
+    }
+
+    public static double[] multiply(final double[] in, final int offsetIn, final double[] multiplicator, final int offsetMul, final double[] out, final int offsetOut, final int length) {
         AssertUtils.notNull(IN, in);
         AssertUtils.gtOrEqual(IN, length + offsetIn, in.length);
         AssertUtils.notNull(MULTIPLICATOR, multiplicator);
         AssertUtils.gtOrEqual(MULTIPLICATOR, length + offsetMul, multiplicator.length);
+        AssertUtils.notNull(OUT, out);
+        AssertUtils.gtOrEqual(OUT, length + offsetOut, out.length);
 
-        final double[] ret = new double[length];
-
+        if (VectorSupport.isEnabled(length)) {
+            VectorSupport.kernels().multiply(in, offsetIn, multiplicator, offsetMul, out, offsetOut, length);
+            return out;
+        }
         for (int i = 0; i < length; i++) {
-            ret[i] = (in[i + offsetIn] * multiplicator[i + offsetMul]); //// codegen: returncast short
+            out[i + offsetOut] = (in[i + offsetIn] * multiplicator[i + offsetMul]); //// codegen: returncast short
         }
-
-        return ret;
+        return out;
     }
 
-    public static double[] multiply(final double[] in, final int offset, final double multiplicator, final int length) {
+    public static double[] multiply(final double[] in, final int offsetIn, final double multiplicator, final double[] out, final int offsetOut, final int length) {
         AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offset, in.length);
+        AssertUtils.gtOrEqual(IN, length + offsetIn, in.length);
+        AssertUtils.notNull(OUT, out);
+        AssertUtils.gtOrEqual(OUT, length + offsetOut, out.length);
 
-        final double[] ret = new double[length];
+        if (VectorSupport.isEnabled(length)) {
+            VectorSupport.kernels().multiply(in, offsetIn, multiplicator, out, offsetOut, length);
+            return out;
+        }
         for (int i = 0; i < length; i++) {
-            ret[i] = (in[i + offset] * multiplicator); //// codegen: returncast short
+            out[i + offsetOut] = (in[i + offsetIn] * multiplicator); //// codegen: returncast short
         }
-
-        return ret;
+        return out;
     }
 
     public static double[] multiplyInPlace(final double[] in, final double multiplicator) {
@@ -360,25 +340,11 @@ public class ArrayMathGen {
     }
 
     public static double[] multiplyInPlace(final double[] in, final int offsetIn, final double[] multiplicator, final int offsetMul, final int length) {
-        AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offsetIn, in.length);
-        AssertUtils.notNull(MULTIPLICATOR, multiplicator);
-        AssertUtils.gtOrEqual(MULTIPLICATOR, length + offsetMul, multiplicator.length);
-
-        for (int i = 0; i < length; i++) {
-            in[i + offsetIn] *= multiplicator[i + offsetMul];
-        }
-        return in;
+        return multiply(in, offsetIn, multiplicator, offsetMul, in, offsetIn, length);
     }
 
     public static double[] multiplyInPlace(final double[] in, final int offset, final double multiplicator, final int length) {
-        AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offset, in.length);
-
-        for (int i = offset; i < length + offset; i++) {
-            in[i] *= multiplicator;
-        }
-        return in;
+        return multiply(in, offset, multiplicator, in, offset, length);
     }
     //// end codegen
 
@@ -409,16 +375,23 @@ public class ArrayMathGen {
     }
 
     public static double[] sqr(final double[] in, final int offset, final int length) {
-        AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offset, in.length);
+        return sqr(in, offset, new double[length], 0, length);
+    }
 
-        final double[] ret = new double[length];
+    public static double[] sqr(final double[] in, final int offsetIn, final double[] out, final int offsetOut, final int length) {
+        AssertUtils.notNull(IN, in);
+        AssertUtils.gtOrEqual(IN, length + offsetIn, in.length);
+        AssertUtils.notNull(OUT, out);
+        AssertUtils.gtOrEqual(OUT, length + offsetOut, out.length);
 
+        if (VectorSupport.isEnabled(length)) {
+            VectorSupport.kernels().sqr(in, offsetIn, out, offsetOut, length);
+            return out;
+        }
         for (int i = 0; i < length; i++) {
-            ret[i] = (in[i + offset] * in[i + offset]); //// codegen: returncast short
+            out[i + offsetOut] = (in[i + offsetIn] * in[i + offsetIn]); //// codegen: returncast short
         }
-
-        return ret;
+        return out;
     }
 
     public static double[] sqrInPlace(final double[] in) {
@@ -426,13 +399,7 @@ public class ArrayMathGen {
     }
 
     public static double[] sqrInPlace(final double[] in, final int offset, final int length) {
-        AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offset, in.length);
-
-        for (int i = offset; i < length + offset; i++) {
-            in[i] = (in[i] * in[i]); //// codegen: returncast short
-        }
-        return in;
+        return sqr(in, offset, in, offset, length);
     }
     //// end codegen
 
@@ -442,16 +409,23 @@ public class ArrayMathGen {
     }
 
     public static double[] sqrt(final double[] in, final int offset, final int length) {
-        AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offset, in.length);
+        return sqrt(in, offset, new double[length], 0, length);
+    }
 
-        final double[] ret = new double[length];
+    public static double[] sqrt(final double[] in, final int offsetIn, final double[] out, final int offsetOut, final int length) {
+        AssertUtils.notNull(IN, in);
+        AssertUtils.gtOrEqual(IN, length + offsetIn, in.length);
+        AssertUtils.notNull(OUT, out);
+        AssertUtils.gtOrEqual(OUT, length + offsetOut, out.length);
 
+        if (VectorSupport.isEnabled(length)) {
+            VectorSupport.kernels().sqrt(in, offsetIn, out, offsetOut, length);
+            return out;
+        }
         for (int i = 0; i < length; i++) {
-            ret[i] = MathBase.sqrt(in[i + offset]); //// codegen: returncast all
+            out[i + offsetOut] = MathBase.sqrt(in[i + offsetIn]); //// codegen: returncast all
         }
-
-        return ret;
+        return out;
     }
 
     public static double[] sqrtInPlace(final double[] in) {
@@ -459,12 +433,7 @@ public class ArrayMathGen {
     }
 
     public static double[] sqrtInPlace(final double[] in, final int offset, final int length) {
-        AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offset, in.length);
-        for (int i = offset; i < length + offset; i++) {
-            in[i] = MathBase.sqrt(in[i]); //// codegen: returncast all
-        }
-        return in;
+        return sqrt(in, offset, in, offset, length);
     }
     //// end codegen
 
@@ -478,30 +447,45 @@ public class ArrayMathGen {
     }
 
     public static double[] subtract(final double[] in, final int offsetIn, final double[] value, final int offsetValue, final int length) {
+        return subtract(in, offsetIn, value, offsetValue, new double[length], 0, length);
+    }
+
+    public static double[] subtract(final double[] in, final int offset, final double value, final int length) {
+        return subtract(in, offset, value, new double[length], 0, length);
+    }
+
+    public static double[] subtract(final double[] in, final int offsetIn, final double[] value, final int offsetValue, final double[] out, final int offsetOut, final int length) {
         AssertUtils.notNull(IN, in);
         AssertUtils.gtOrEqual(IN, length + offsetIn, in.length);
         AssertUtils.notNull(VALUE, value);
         AssertUtils.gtOrEqual(VALUE, length + offsetValue, value.length);
+        AssertUtils.notNull(OUT, out);
+        AssertUtils.gtOrEqual(OUT, length + offsetOut, out.length);
 
-        final double[] ret = new double[length];
-
-        for (int i = 0; i < in.length; i++) {
-            ret[i] = (in[i + offsetIn] - value[i + offsetValue]); //// codegen: returncast short
+        if (VectorSupport.isEnabled(length)) {
+            VectorSupport.kernels().subtract(in, offsetIn, value, offsetValue, out, offsetOut, length);
+            return out;
         }
-
-        return ret;
+        for (int i = 0; i < length; i++) {
+            out[i + offsetOut] = (in[i + offsetIn] - value[i + offsetValue]); //// codegen: returncast short
+        }
+        return out;
     }
 
-    public static double[] subtract(final double[] in, final int offset, final double value, final int length) {
+    public static double[] subtract(final double[] in, final int offsetIn, final double value, final double[] out, final int offsetOut, final int length) {
         AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offset, in.length);
-        final double[] ret = new double[length];
+        AssertUtils.gtOrEqual(IN, length + offsetIn, in.length);
+        AssertUtils.notNull(OUT, out);
+        AssertUtils.gtOrEqual(OUT, length + offsetOut, out.length);
 
+        if (VectorSupport.isEnabled(length)) {
+            VectorSupport.kernels().subtract(in, offsetIn, value, out, offsetOut, length);
+            return out;
+        }
         for (int i = 0; i < length; i++) {
-            ret[i] = (in[i + offset] - value); //// codegen: returncast short
+            out[i + offsetOut] = (in[i + offsetIn] - value); //// codegen: returncast short
         }
-
-        return ret;
+        return out;
     }
 
     public static double[] subtractInPlace(final double[] in, final double value) {
@@ -512,26 +496,12 @@ public class ArrayMathGen {
         return subtractInPlace(in, 0, value, 0, in.length);
     }
 
-    public static double[] subtractInPlace(final double[] in, final int offsetIn, final double[] value, final int offsetVal, final int length) {
-        AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offsetIn, in.length);
-        AssertUtils.notNull(VALUE, value);
-        AssertUtils.gtOrEqual(VALUE, length + offsetVal, value.length);
-
-        for (int i = 0; i < length; i++) {
-            in[i + offsetIn] -= value[i + offsetVal];
-        }
-        return in;
+    public static double[] subtractInPlace(final double[] in, final int offsetIn, final double[] value, final int offsetValue, final int length) {
+        return subtract(in, offsetIn, value, offsetValue, in, offsetIn, length);
     }
 
     public static double[] subtractInPlace(final double[] in, final int offset, final double value, final int length) {
-        AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offset, in.length);
-
-        for (int i = offset; i < length + offset; i++) {
-            in[i] -= value;
-        }
-        return in;
+        return subtract(in, offset, value, in, offset, length);
     }
     //// end codegen
 
@@ -541,16 +511,19 @@ public class ArrayMathGen {
     }
 
     public static double[] tenLog10(final double[] in, final int offset, final int length) {
-        AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offset, in.length);
+        return tenLog10(in, offset, new double[length], 0, length);
+    }
 
-        final double[] ret = new double[length];
+    public static double[] tenLog10(final double[] in, final int offsetIn, final double[] out, final int offsetOut, final int length) {
+        AssertUtils.notNull(IN, in);
+        AssertUtils.gtOrEqual(IN, length + offsetIn, in.length);
+        AssertUtils.notNull(OUT, out);
+        AssertUtils.gtOrEqual(OUT, length + offsetOut, out.length);
 
         for (int i = 0; i < length; i++) {
-            ret[i] = (10 * MathBase.log10(in[i + offset])); //// codegen: returncast float
+            out[i + offsetOut] = (10 * MathBase.log10(in[i + offsetIn])); //// codegen: returncast float
         }
-
-        return ret;
+        return out;
     }
 
     public static double[] tenLog10InPlace(final double[] in) {
@@ -558,13 +531,7 @@ public class ArrayMathGen {
     }
 
     public static double[] tenLog10InPlace(final double[] in, final int offset, final int length) {
-        AssertUtils.notNull(IN, in);
-        AssertUtils.gtOrEqual(IN, length + offset, in.length);
-
-        for (int i = offset; i < length + offset; i++) {
-            in[i] = (10 * MathBase.log10(in[i])); //// codegen: returncast float
-        }
-        return in;
+        return tenLog10(in, offset, in, offset, length);
     }
     //// end codegen
 }
@@ -0,0 +1,45 @@
+package io.fair_acc.math;
+
+/**
+ * Element-wise {@link ArrayMath} kernels and {@link Math} reductions that may be replaced by the SIMD implementations
+ * in {@code ArrayMathVector}, see {@link VectorSupport#kernels()}.
+ * <p>
+ * N.B. the kernels do not check their arguments and must only be called via {@link ArrayMath} and {@link Math} after
+ * {@link VectorSupport#isEnabled(int)}. The indirection keeps all references to the incubating
+ * {@code jdk.incubator.vector} module out of the regular compilation unit of this module.
+ */
+interface ArrayMathKernelsGen {
+    //// codegen: double -> float, int, long, short
+    void add(final double[] a, final int offsetA, final double[] b, final int offsetB, final double[] out, final int offsetOut, final int length);
+
+    void add(final double[] a, final int offsetA, final double value, final double[] out, final int offsetOut, final int length);
+
+    void multiply(final double[] a, final int offsetA, final double[] b, final int offsetB, final double[] out, final int offsetOut, final int length);
+
+    void multiply(final double[] a, final int offsetA, final double value, final double[] out, final int offsetOut, final int length);
+
+    void sqr(final double[] a, final int offsetA, final double[] out, final int offsetOut, final int length);
+
+    void subtract(final double[] a, final int offsetA, final double[] b, final int offsetB, final double[] out, final int offsetOut, final int length);
+
+    void subtract(final double[] a, final int offsetA, final double value, final double[] out, final int offsetOut, final int length);
+
+    double dot(final double[] a, final double[] b, final int length);
+
+    /**
+     * @return the largest element, or NaN if the data contains NaNs (which are treated by the scalar implementation)
+     */
+    double maximum(final double[] data, final int length);
+
+    /**
+     * @return the smallest element, or NaN if the data contains NaNs (which are treated by the scalar implementation)
+     */
+    double minimum(final double[] data, final int length);
+
+    double sum(final double[] data, final int length);
+    //// end codegen
+
+    //// codegen: double -> float
+    void sqrt(final double[] a, final int offsetA, final double[] out, final int offsetOut, final int length);
+    //// end codegen
+}
@@ -2558,6 +2558,12 @@ public class MathGen extends MathBase {
      * @return value of largest vector element
      */
     public static double maximum(double[] data, int length) {
+        if (VectorSupport.isEnabled(length)) {
+            final double max = VectorSupport.kernels().maximum(data, length);
+            if (max == max) { // NOPMD NOSONAR -- NaN check: NaNs are handled by the scalar loop below
+                return max;
+            }
+        }
         double val = -Double.MAX_VALUE; //// codegen: subst:int:Int:Integer
         for (int i = 0; i < length; i++) {
             val = Math.max(val, data[i]);
@@ -2612,12 +2618,65 @@ public class MathGen extends MathBase {
      * @return value of smallest vector element
      */
     public static double minimum(double[] data, int length) {
+        if (VectorSupport.isEnabled(length)) {
+            final double min = VectorSupport.kernels().minimum(data, length);
+            if (min == min) { // NOPMD NOSONAR -- NaN check: NaNs are handled by the scalar loop below
+                return min;
+            }
+        }
         double val = +Double.MAX_VALUE; //// codegen: subst:int:Int:Integer
         for (int i = 0; i < length; i++) {
             val = min(val, data[i]);
         }
         return val;
     }
+
+    public static double dot(double[] a, double[] b) {
+        return dot(a, b, Math.min(a.length, b.length));
+    }
+
+    /**
+     * N.B. the vectorised implementation (see {@link VectorSupport}) accumulates in a different order, i.e. floating
+     * point results may differ in the last digits.
+     *
+     * @param a the first input vector
+     * @param b the second input vector
+     * @param length &lt;= data.length elements to be used
+     * @return scalar product of the two vectors
+     */
+    public static double dot(double[] a, double[] b, int length) {
+        if (VectorSupport.isEnabled(length)) {
+            return VectorSupport.kernels().dot(a, b, length);
+        }
+        double val = 0;
+        for (int i = 0; i < length; i++) {
+            val += a[i] * b[i];
+        }
+        return val;
+    }
+
+    public static double sum(double[] data) {
+        return sum(data, data.length);
+    }
+
+    /**
+     * N.B. the vectorised implementation (see {@link VectorSupport}) accumulates in a different order, i.e. floating
+     * point results may differ in the last digits.
+     *
+     * @param data the input vector
+     * @param length &lt;= data.length elements to be used
+     * @return sum of vector elements
+     */
+    public static double sum(double[] data, int length) {
+        if (VectorSupport.isEnabled(length)) {
+            return VectorSupport.kernels().sum(data, length);
+        }
+        double val = 0;
+        for (int i = 0; i < length; i++) {
+            val += data[i];
+        }
+        return val;
+    }
     //// end codegen
 
     //// codegen: double -> float
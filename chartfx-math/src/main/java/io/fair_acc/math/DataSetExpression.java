@@ -0,0 +1,487 @@
+package io.fair_acc.math;
+
+import static io.fair_acc.dataset.DataSet.DIM_X;
+import static io.fair_acc.dataset.DataSet.DIM_Y;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import io.fair_acc.dataset.AxisDescription;
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.DataSetError;
+import io.fair_acc.dataset.events.ChartBits;
+import io.fair_acc.dataset.spi.DoubleErrorDataSet;
+import io.fair_acc.dataset.utils.AssertUtils;
+import io.fair_acc.math.DataSetMath.MathOp;
+
+/**
+ * Lazy, fused alternative to chaining point-wise {@link DataSetMath} functions.
+ * <p>
+ * Chains like {@code dbFunction(multiplyFunction(subtractFunction(a, b), 2.0))} allocate a new {@link DoubleErrorDataSet}
+ * for every intermediate result. A {@code DataSetExpression} only records the operations and evaluates all of them in a
+ * single pass over the source, directly into the storage of a (re-usable) output DataSet. The pass is performed in
+ * chunks of {@link #chunkSize(int) chunkSize} samples so that the intermediate values stay cache-resident, and may
+ * optionally be {@link #parallel(boolean) parallelised} over the chunks.
+ * <p>
+ * The values and error propagation follow the corresponding {@code DataSetMath} functions. N.B. the x-base of the
+ * expression is that of its source: operands with a different x-base are interpolated onto it (rather than evaluating
+ * on the union of both x-bases as {@link DataSetMath#mathFunction(DataSet, DataSet, MathOp, io.fair_acc.math.Formatter[])
+ * DataSetMath.mathFunction} does).
+ * <p>
+ * usage example:
+ *
+ * <pre>
+ * final DataSetExpression expression = DataSetExpression.of(signal).subtract(background).multiply(2.0).db();
+ * final DoubleErrorDataSet result = expression.evaluate(); // or, re-using the output storage on subsequent updates:
+ * expression.evaluate(result);
+ * </pre>
+ *
+ * or, to update automatically with its sources:
+ *
+ * <pre>
+ * new MathDataSet("expr", (inputs, output) -&gt; expression.evaluate(output), signal, background);
+ * </pre>
+ */
+public class DataSetExpression {
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+    private static final int MIN_PARALLEL_LENGTH = 1 << 16;
+    private final DataSet source;
+    private final List<Step> steps = new ArrayList<>();
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private boolean parallel;
+
+    // per-evaluation source state
+    private double[] sourceX;
+    private double[] sourceY;
+    private double[] sourceEYN;
+    private double[] sourceEYP;
+
+    protected DataSetExpression(final DataSet source) {
+        AssertUtils.notNull("source", source);
+        this.source = source;
+    }
+
+    /**
+     * @param other second operand
+     * @return itself (fluent design), equivalent to {@link DataSetMath#addFunction(DataSet, DataSet, io.fair_acc.math.Formatter[])}
+     */
+    public DataSetExpression add(final DataSet other) {
+        return addStep(MathOp.ADD, 0.0, other);
+    }
+
+    /**
+     * @param value offset
+     * @return itself (fluent design), equivalent to {@link DataSetMath#addFunction(DataSet, double, io.fair_acc.math.Formatter[])}
+     */
+    public DataSetExpression add(final double value) {
+        return addStep(MathOp.ADD, value, null);
+    }
+
+    /**
+     * @return itself (fluent design), equivalent to {@link DataSetMath#dbFunction(DataSet, io.fair_acc.math.Formatter[])}
+     */
+    public DataSetExpression db() {
+        return addStep(MathOp.DB, 0.0, null);
+    }
+
+    /**
+     * @param other second operand
+     * @return itself (fluent design), equivalent to {@link DataSetMath#divideFunction(DataSet, DataSet, io.fair_acc.math.Formatter[])}
+     */
+    public DataSetExpression divide(final DataSet other) {
+        return addStep(MathOp.DIVIDE, 0.0, other);
+    }
+
+    /**
+     * @param value divisor
+     * @return itself (fluent design), equivalent to {@link DataSetMath#divideFunction(DataSet, double, io.fair_acc.math.Formatter[])}
+     */
+    public DataSetExpression divide(final double value) {
+        return addStep(MathOp.DIVIDE, value, null);
+    }
+
+    /**
+     * @return new DataSet containing the result of the expression
+     */
+    public DoubleErrorDataSet evaluate() {
+        final DoubleErrorDataSet output = new DoubleErrorDataSet(getName(), source.getDataCount());
+        output.getAxisDescription(DIM_X).set(source.getAxisDescription(DIM_X));
+        output.getAxisDescription(DIM_Y).set(source.getAxisDescription(DIM_Y).getName(), source.getAxisDescription(DIM_Y).getUnit());
+        return evaluate(output);
+    }
+
+    /**
+     * Evaluates the expression into the given DataSet, re-using its storage if its capacity suffices. N.B. the output's
+     * name, meta data and axis descriptions are not modified.
+     *
+     * @param output DataSet receiving the result (must not be an operand of the expression)
+     * @return the output DataSet (fluent design)
+     */
+    public synchronized DoubleErrorDataSet evaluate(final DoubleErrorDataSet output) {
+        AssertUtils.notNull("output", output);
+        if (output == source || steps.stream().anyMatch(step -> step.operand == output)) {
+            throw new IllegalArgumentException("output must not be an operand of the expression");
+        }
+
+        final List<DataSet> locked = new ArrayList<>(steps.size() + 1);
+        try {
+            lockOperand(locked, source);
+            steps.forEach(step -> lockOperand(locked, step.operand));
+            output.lock().writeLockGuard(() -> {
+                final int length = source.getDataCount();
+                prepare(length);
+                output.resize(length);
+                final double[] x = output.getValues(DIM_X);
+                final double[] y = output.getValues(DIM_Y);
+                final double[] eyn = output.getErrorsNegative(DIM_Y);
+                final double[] eyp = output.getErrorsPositive(DIM_Y);
+
+                final int nChunks = (length + chunkSize - 1) / chunkSize;
+                if (parallel && length >= MIN_PARALLEL_LENGTH && nChunks > 1) {
+                    IntStream.range(0, nChunks).parallel().forEach(chunk -> evaluateChunk(chunk * chunkSize, Math.min(length, (chunk + 1) * chunkSize), x, y, eyn, eyp));
+                } else {
+                    for (int from = 0; from < length; from += chunkSize) {
+                        evaluateChunk(from, Math.min(length, from + chunkSize), x, y, eyn, eyp);
+                    }
+                }
+                output.recomputeSortedX(); // x has been written directly into the backing arrays
+                output.getAxisDescriptions().forEach(AxisDescription::clear);
+            });
+        } finally {
+            for (int i = locked.size() - 1; i >= 0; i--) {
+                locked.get(i).lock().readUnLock();
+            }
+            release();
+        }
+        output.fireInvalidated(ChartBits.DataSetData);
+        return output;
+    }
+
+    /**
+     * @param chunkSize number of samples processed by all operations before moving on to the next chunk
+     * @return itself (fluent design)
+     */
+    public DataSetExpression chunkSize(final int chunkSize) {
+        AssertUtils.gtThanZero("chunkSize", chunkSize);
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @return name of the resulting DataSet, constructed similar to the names of the corresponding DataSetMath functions
+     */
+    public String getName() {
+        final StringBuilder name = new StringBuilder(source.getName());
+        for (final Step step : steps) {
+            if (step.operand != null) {
+                name.append(step.op.getTag()).append(step.operand.getName());
+            } else {
+                name.insert(0, step.op.getTag() + '(').append(')');
+            }
+        }
+        return name.toString();
+    }
+
+    public DataSet getSource() {
+        return source;
+    }
+
+    /**
+     * @return itself (fluent design), equivalent to {@link DataSetMath#inversedbFunction(DataSet, io.fair_acc.math.Formatter[])}
+     */
+    public DataSetExpression inverseDb() {
+        return addStep(MathOp.INV_DB, 0.0, null);
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * @return itself (fluent design), equivalent to {@link DataSetMath#log10Function(DataSet, io.fair_acc.math.Formatter[])}
+     */
+    public DataSetExpression log10() {
+        return addStep(MathOp.LOG10, 0.0, null);
+    }
+
+    /**
+     * @param other second operand
+     * @return itself (fluent design), equivalent to {@link DataSetMath#multiplyFunction(DataSet, DataSet, io.fair_acc.math.Formatter[])}
+     */
+    public DataSetExpression multiply(final DataSet other) {
+        return addStep(MathOp.MULTIPLY, 0.0, other);
+    }
+
+    /**
+     * @param value factor
+     * @return itself (fluent design), equivalent to {@link DataSetMath#multiplyFunction(DataSet, double, io.fair_acc.math.Formatter[])}
+     */
+    public DataSetExpression multiply(final double value) {
+        return addStep(MathOp.MULTIPLY, value, null);
+    }
+
+    /**
+     * @param parallel true: large DataSets are evaluated concurrently over index ranges using the common fork-join pool
+     * @return itself (fluent design)
+     */
+    public DataSetExpression parallel(final boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
+    /**
+     * @return itself (fluent design), equivalent to {@link DataSetMath#sqrFunction(DataSet, double, io.fair_acc.math.Formatter[])} with zero offset
+     */
+    public DataSetExpression sqr() {
+        return addStep(MathOp.SQR, 0.0, null);
+    }
+
+    /**
+     * @return itself (fluent design), equivalent to {@link DataSetMath#sqrtFunction(DataSet, double, io.fair_acc.math.Formatter[])} with zero offset
+     */
+    public DataSetExpression sqrt() {
+        return addStep(MathOp.SQRT, 0.0, null);
+    }
+
+    /**
+     * @param other second operand
+     * @return itself (fluent design), equivalent to {@link DataSetMath#subtractFunction(DataSet, DataSet, io.fair_acc.math.Formatter[])}
+     */
+    public DataSetExpression subtract(final DataSet other) {
+        return addStep(MathOp.SUBTRACT, 0.0, other);
+    }
+
+    /**
+     * @param value offset
+     * @return itself (fluent design), equivalent to {@link DataSetMath#subtractFunction(DataSet, double, io.fair_acc.math.Formatter[])}
+     */
+    public DataSetExpression subtract(final double value) {
+        return addStep(MathOp.SUBTRACT, value, null);
+    }
+
+    private synchronized DataSetExpression addStep(final MathOp op, final double value, final DataSet operand) {
+        steps.add(new Step(op, value, operand));
+        return this;
+    }
+
+    private void evaluateChunk(final int from, final int to, final double[] x, final double[] y, final double[] eyn, final double[] eyp) {
+        System.arraycopy(sourceX, from, x, from, to - from);
+        System.arraycopy(sourceY, from, y, from, to - from);
+        copyErrors(sourceEYN, eyn, from, to);
+        copyErrors(sourceEYP, eyp, from, to);
+        for (final Step step : steps) {
+            if (step.operand == null) {
+                step.applyScalar(y, eyn, eyp, from, to);
+            } else {
+                step.applyOperand(x, y, eyn, eyp, from, to);
+            }
+        }
+    }
+
+    private void prepare(final int length) {
+        sourceX = source.getValues(DIM_X);
+        sourceY = source.getValues(DIM_Y);
+        sourceEYN = source instanceof DataSetError ? ((DataSetError) source).getErrorsNegative(DIM_Y) : null;
+        sourceEYP = source instanceof DataSetError ? ((DataSetError) source).getErrorsPositive(DIM_Y) : null;
+        for (final Step step : steps) {
+            step.prepare(sourceX, length);
+        }
+    }
+
+    private void release() {
+        sourceX = null;
+        sourceY = null;
+        sourceEYN = null;
+        sourceEYP = null;
+        steps.forEach(Step::release);
+    }
+
+    private static void copyErrors(final double[] src, final double[] dst, final int from, final int to) {
+        if (src == null) {
+            for (int i = from; i < to; i++) {
+                dst[i] = 0.0;
+            }
+        } else {
+            System.arraycopy(src, from, dst, from, to - from);
+        }
+    }
+
+    private static void lockOperand(final List<DataSet> locked, final DataSet dataSet) {
+        if (dataSet == null || locked.contains(dataSet)) {
+            return;
+        }
+        dataSet.lock().readLock();
+        locked.add(dataSet);
+    }
+
+    public static DataSetExpression of(final DataSet source) {
+        return new DataSetExpression(source);
+    }
+
+    private static class Step {
+        private final MathOp op;
+        private final double value;
+        private final DataSet operand;
+        // per-evaluation operand state
+        private boolean sameBase;
+        private double[] y2;
+        private double[] eyn2;
+        private double[] eyp2;
+
+        private Step(final MathOp op, final double value, final DataSet operand) {
+            this.op = op;
+            this.value = value;
+            this.operand = operand;
+        }
+
+        private void applyOperand(final double[] x, final double[] y, final double[] eyn, final double[] eyp, final int from, final int to) {
+            final DataSetError operandError = operand instanceof DataSetError ? (DataSetError) operand : null;
+            for (int i = from; i < to; i++) {
+                final double y1 = y[i];
+                final double yb;
+                final double ebn;
+                final double ebp;
+                if (sameBase) {
+                    yb = y2[i];
+                    ebn = eyn2 == null ? 0.0 : eyn2[i];
+                    ebp = eyp2 == null ? 0.0 : eyp2[i];
+                } else {
+                    yb = operand.getValue(DIM_Y, x[i]);
+                    ebn = operandError == null ? 0.0 : operandError.getErrorNegative(DIM_Y, x[i]);
+                    ebp = operandError == null ? 0.0 : operandError.getErrorPositive(DIM_Y, x[i]);
+                }
+
+                switch (op) {
+                case ADD:
+                    y[i] = y1 + yb;
+                    eyn[i] = MathBase.hypot(eyn[i], ebn);
+                    eyp[i] = MathBase.hypot(eyp[i], ebp);
+                    break;
+                case SUBTRACT:
+                    y[i] = y1 - yb;
+                    eyn[i] = MathBase.hypot(eyn[i], ebn);
+                    eyp[i] = MathBase.hypot(eyp[i], ebp);
+                    break;
+                case MULTIPLY:
+                    y[i] = y1 * yb;
+                    eyn[i] = MathBase.hypot(yb * eyn[i], y1 * ebn);
+                    eyp[i] = MathBase.hypot(yb * eyp[i], y1 * ebp);
+                    break;
+                case DIVIDE:
+                default:
+                    final double newY = y1 / yb;
+                    y[i] = newY;
+                    eyn[i] = MathBase.hypot(eyn[i] / yb, newY * ebn / yb);
+                    eyp[i] = MathBase.hypot(eyp[i] / yb, newY * ebp / yb);
+                    break;
+                }
+            }
+        }
+
+        private void applyScalar(final double[] y, final double[] eyn, final double[] eyp, final int from, final int to) {
+            switch (op) {
+            case ADD:
+                for (int i = from; i < to; i++) {
+                    y[i] += value;
+                }
+                break;
+            case SUBTRACT:
+                for (int i = from; i < to; i++) {
+                    y[i] -= value;
+                }
+                break;
+            case MULTIPLY:
+                for (int i = from; i < to; i++) {
+                    y[i] *= value;
+                    eyn[i] *= value;
+                    eyp[i] *= value;
+                }
+                break;
+            case DIVIDE:
+                for (int i = from; i < to; i++) {
+                    y[i] /= value;
+                    eyn[i] /= value;
+                    eyp[i] /= value;
+                }
+                break;
+            case SQR:
+                for (int i = from; i < to; i++) {
+                    final double abs = 2 * MathBase.abs(y[i]);
+                    y[i] = MathBase.sqr(y[i]);
+                    eyn[i] *= abs;
+                    eyp[i] *= abs;
+                }
+                break;
+            case SQRT:
+                for (int i = from; i < to; i++) {
+                    final double norm = MathBase.sqrt(MathBase.abs(y[i]));
+                    y[i] = MathBase.sqrt(y[i]);
+                    eyn[i] *= norm;
+                    eyp[i] *= norm;
+                }
+                break;
+            case LOG10:
+                for (int i = from; i < to; i++) {
+                    y[i] = 10 * MathBase.log10(y[i]);
+                    eyn[i] = 0.0; // 0.0 as a work-around, as in DataSetMath
+                    eyp[i] = 0.0;
+                }
+                break;
+            case DB:
+                for (int i = from; i < to; i++) {
+                    y[i] = 20 * MathBase.log10(y[i]);
+                    eyn[i] = 0.0; // 0.0 as a work-around, as in DataSetMath
+                    eyp[i] = 0.0;
+                }
+                break;
+            case INV_DB:
+                for (int i = from; i < to; i++) {
+                    y[i] = Math.pow(10, y[i] / 20);
+                    eyn[i] = 0.0; // 0.0 as a work-around, as in DataSetMath
+                    eyp[i] = 0.0;
+                }
+                break;
+            case IDENTITY:
+            default:
+                break;
+            }
+        }
+
+        private void prepare(final double[] xBase, final int length) {
+            if (operand == null) {
+                return;
+            }
+            sameBase = hasSameBase(operand, xBase, length);
+            y2 = operand.getValues(DIM_Y);
+            eyn2 = operand instanceof DataSetError ? ((DataSetError) operand).getErrorsNegative(DIM_Y) : null;
+            eyp2 = operand instanceof DataSetError ? ((DataSetError) operand).getErrorsPositive(DIM_Y) : null;
+        }
+
+        private void release() {
+            y2 = null;
+            eyn2 = null;
+            eyp2 = null;
+        }
+
+        private static boolean hasSameBase(final DataSet dataSet, final double[] xBase, final int length) {
+            if (dataSet.getDataCount() != length) {
+                return false;
+            }
+            final double[] x = dataSet.getValues(DIM_X);
+            if (x == xBase) {
+                return true;
+            }
+            for (int i = 0; i < length; i++) {
+                if (x[i] != xBase[i]) { // NOPMD NOSONAR -- exact match as in DataSetMath#sameHorizontalBase
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
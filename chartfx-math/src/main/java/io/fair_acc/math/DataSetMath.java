@@ -20,10 +20,13 @@ import org.jetbrains.annotations.NotNull;
 import org.jtransforms.fft.DoubleFFT_1D;
 
 import io.fair_acc.dataset.*;
+import io.fair_acc.dataset.events.ChartBits;
 import io.fair_acc.dataset.spi.DoubleDataSet;
 import io.fair_acc.dataset.spi.DoubleErrorDataSet;
 import io.fair_acc.dataset.spi.Histogram;
 import io.fair_acc.dataset.spi.utils.DoublePointError;
+import io.fair_acc.dataset.utils.ArrayPool;
+import io.fair_acc.dataset.utils.AssertUtils;
 import io.fair_acc.dataset.utils.NoDuplicatesList;
 import io.fair_acc.math.spectra.Apodization;
 import io.fair_acc.math.spectra.SpectrumTools;
@@ -408,6 +411,17 @@ public final class DataSetMath { // NOPMD - nomen est omen
         }
     }
 
+    /**
+     * Filters the function within a sliding window, i.e. each filtered point is computed from all points with an x
+     * distance of at most {@code width}. For sorted and finite x values (and finite y values and errors) the filters are
+     * updated incrementally while moving the window, otherwise all points are scanned for each point.
+     *
+     * @param function the input function
+     * @param width maximum x distance of the points within the window
+     * @param filterType the filter applied to the points within the window
+     * @param format optional formatter of the filtered data set's name
+     * @return the filtered function
+     */
     @SafeVarargs
     public static DataSet filterFunction(final DataSet function, final double width, final Filter filterType, @NotNull final Formatter<Number>... format) {
         final int n = function.getDataCount();
@@ -417,62 +431,23 @@ public final class DataSetMath { // NOPMD - nomen est omen
             final var refAxisDescription = function.getAxisDescription(dim);
             filteredFunction.getAxisDescription(dim).set(refAxisDescription.getName(), refAxisDescription.getUnit());
         }
-        final var subArrayY = new double[n];
-        final var subArrayYn = new double[n];
-        final var subArrayYp = new double[n];
 
         final double[] xValues = function.getValues(DIM_X);
         final double[] yValues = function.getValues(DIM_Y);
         final double[] yen = errors(function, EYN);
         final double[] yep = errors(function, EYN);
 
-        for (var i = 0; i < n; i++) {
-            final double time0 = xValues[i];
-
-            var count = 0;
-            for (var j = 0; j < n; j++) {
-                final double time = xValues[j];
-                if (MathBase.abs(time0 - time) <= width) {
-                    subArrayY[count] = yValues[j];
-                    subArrayYn[count] = yen[j];
-                    subArrayYp[count] = yep[j];
-                    count++;
-                }
-            }
-
-            final double norm = count > 0 ? 1.0 / MathBase.sqrt(count) : 0.0;
-
-            switch (filterType) {
-            case MEDIAN:
-                filteredFunction.add(time0, Math.median(subArrayY, count), Math.median(subArrayYn, count),
-                        Math.median(subArrayYp, count));
-                break;
-            case MIN:
-                filteredFunction.add(time0, Math.minimum(subArrayY, count), Math.minimum(subArrayYn, count),
-                        Math.minimum(subArrayYp, count));
-                break;
-            case MAX:
-                filteredFunction.add(time0, Math.maximum(subArrayY, count), Math.maximum(subArrayYn, count),
-                        Math.maximum(subArrayYp, count));
-                break;
-            case P2P:
-                filteredFunction.add(time0, Math.peakToPeak(subArrayY, count), Math.peakToPeak(subArrayYn, count),
-                        Math.peakToPeak(subArrayYp, count));
-                break;
-            case RMS:
-                filteredFunction.add(time0, Math.rms(subArrayY, count), Math.rms(subArrayYn, count),
-                        Math.rms(subArrayYp, count));
-                break;
-            case GEOMMEAN:
-                filteredFunction.add(time0, Math.geometricMean(subArrayY, 0, count),
-                        Math.geometricMean(subArrayYn, 0, count), Math.geometricMean(subArrayYp, 0, count));
-                break;
-            case MEAN:
-            default:
-                filteredFunction.add(time0, Math.mean(subArrayY, count), Math.mean(subArrayYn, count) * norm,
-                        Math.mean(subArrayYp, count) * norm);
-                break;
+        final int[] lower = ArrayPool.INT.borrow(n);
+        final int[] upper = ArrayPool.INT.borrow(n);
+        try {
+            if (SlidingWindowFilter.computeWindows(xValues, n, width, lower, upper) && isFinite(yValues, n) && isFinite(yen, n) && isFinite(yep, n)) {
+                filterSlidingWindows(filteredFunction, filterType, n, xValues, yValues, yen, yep, lower, upper);
+            } else {
+                filterDirectScan(filteredFunction, filterType, n, width, xValues, yValues, yen, yep);
             }
+        } finally {
+            ArrayPool.INT.release(lower);
+            ArrayPool.INT.release(upper);
         }
 
         return filteredFunction;
@@ -489,7 +464,22 @@ public final class DataSetMath { // NOPMD - nomen est omen
         final String dataSetName = getFormatter(format).format("subRange({0}, {1})", xMin, xMax);
         final var ret = new DoubleErrorDataSet(dataSetName, nLength);
 
-        for (var i = 0; i < nLength; i++) {
+        // sorted data: only the (closest) indices around the limits need to be checked
+        final boolean sorted = nLength > 0 && function.isSorted(DIM_X);
+        int start = 0;
+        int stop = nLength;
+        if (sorted) {
+            // N.B. getIndex returns any of several equal x values -> extend over repeated boundary values
+            start = Math.max(0, function.getIndex(DIM_X, xMin) - 1);
+            while (start > 0 && function.get(DIM_X, start - 1) >= xMin) {
+                start--;
+            }
+            stop = Math.min(nLength, function.getIndex(DIM_X, xMax) + 2);
+            while (stop < nLength && function.get(DIM_X, stop) <= xMax) {
+                stop++;
+            }
+        }
+        for (var i = start; i < stop; i++) {
             final double x = function.get(DIM_X, i);
             final double y = function.get(DIM_Y, i);
             final double ex = error(function, EXP, i);
@@ -534,63 +524,69 @@ public final class DataSetMath { // NOPMD - nomen est omen
         final double[] yen = errors(function, EYN);
         final double[] yep = errors(function, EYN);
 
-        final var yUp = new double[n];
-        final var yDown = new double[n];
-        final var ye1 = new double[n];
-        final var ye2 = new double[n];
-
-        final double smoothing = 0.5 * width;
-        // IIR smoothing algorithm:
-        // smoothed += elapsedTime * ( newValue - smoothed ) / smoothing
-        double smoothed = yValues[0];
-        double smoothed2 = smoothed * smoothed;
-        // for (int i = 1; i < n; i++) {
-        // final double x0 = xValues[i - 1];
-        // final double x1 = xValues[i];
-        // final double y = yValues[i];
-        // smoothed += (x1 - x0) * (y - smoothed) / smoothing;
-        // smoothed2 += (x1 - x0) * (y * y - smoothed2) / smoothing;
-        // final double newEYN = MathBase.sqrt(MathBase.abs(smoothed2 - smoothed *
-        // smoothed) + yen[i] * yen[i]);
-        // final double newEYP = MathBase.sqrt(MathBase.abs(smoothed2 - smoothed *
-        // smoothed) + yep[i] * yep[i]);
-        //
-        // filteredFunction.add(x1 - smoothing, smoothed, newEYN, newEYP);
-        // }
-
-        // calculate forward/backward to compensate for the IIR group-delay
-        for (var i = 1; i < n; i++) {
-            final double x0 = xValues[i - 1];
-            final double x1 = xValues[i];
-            final double y = yValues[i];
-            smoothed += (x1 - x0) * (y - smoothed) / smoothing;
-            smoothed2 += (x1 - x0) * (y * y - smoothed2) / smoothing;
-            yUp[i] = smoothed;
-            ye1[i] = smoothed2;
-        }
-        smoothed = yValues[n - 1];
-        smoothed2 = smoothed * smoothed;
-        for (var i = n - 2; i >= 0; i--) {
-            final double x0 = xValues[i];
-            final double x1 = xValues[i + 1];
-            final double y = yValues[i];
-            smoothed += (x1 - x0) * (y - smoothed) / smoothing;
-            smoothed2 += (x1 - x0) * (y * y - smoothed2) / smoothing;
-            yDown[i] = smoothed;
-            ye2[i] = smoothed2;
-        }
+        final double[] yUp = ArrayPool.DOUBLE.borrow(n);
+        final double[] yDown = ArrayPool.DOUBLE.borrow(n);
+        final double[] ye1 = ArrayPool.DOUBLE.borrow(n);
+        final double[] ye2 = ArrayPool.DOUBLE.borrow(n);
+        try {
+            final double smoothing = 0.5 * width;
+            // IIR smoothing algorithm:
+            // smoothed += elapsedTime * ( newValue - smoothed ) / smoothing
+            double smoothed = yValues[0];
+            double smoothed2 = smoothed * smoothed;
+            // for (int i = 1; i < n; i++) {
+            // final double x0 = xValues[i - 1];
+            // final double x1 = xValues[i];
+            // final double y = yValues[i];
+            // smoothed += (x1 - x0) * (y - smoothed) / smoothing;
+            // smoothed2 += (x1 - x0) * (y * y - smoothed2) / smoothing;
+            // final double newEYN = MathBase.sqrt(MathBase.abs(smoothed2 - smoothed *
+            // smoothed) + yen[i] * yen[i]);
+            // final double newEYP = MathBase.sqrt(MathBase.abs(smoothed2 - smoothed *
+            // smoothed) + yep[i] * yep[i]);
+            //
+            // filteredFunction.add(x1 - smoothing, smoothed, newEYN, newEYP);
+            // }
+
+            // calculate forward/backward to compensate for the IIR group-delay
+            for (var i = 1; i < n; i++) {
+                final double x0 = xValues[i - 1];
+                final double x1 = xValues[i];
+                final double y = yValues[i];
+                smoothed += (x1 - x0) * (y - smoothed) / smoothing;
+                smoothed2 += (x1 - x0) * (y * y - smoothed2) / smoothing;
+                yUp[i] = smoothed;
+                ye1[i] = smoothed2;
+            }
+            smoothed = yValues[n - 1];
+            smoothed2 = smoothed * smoothed;
+            for (var i = n - 2; i >= 0; i--) {
+                final double x0 = xValues[i];
+                final double x1 = xValues[i + 1];
+                final double y = yValues[i];
+                smoothed += (x1 - x0) * (y - smoothed) / smoothing;
+                smoothed2 += (x1 - x0) * (y * y - smoothed2) / smoothing;
+                yDown[i] = smoothed;
+                ye2[i] = smoothed2;
+            }
 
-        filteredFunction.add(xValues[0], yValues[0], yen[0], yep[0]);
-        for (var i = 1; i < n; i++) {
-            final double x1 = xValues[i];
-            final double y = 0.5 * (yUp[i] + yDown[i]);
-            final double mean2 = y * y;
-            final double y2 = 0.5 * MathBase.pow(ye1[i] + ye2[i], 1);
-            final double avgError2 = MathBase.abs(y2 - mean2);
-            final double newEYN = MathBase.sqrt(avgError2 + yen[i] * yen[i]);
-            final double newEYP = MathBase.sqrt(avgError2 + yep[i] * yep[i]);
-
-            filteredFunction.add(x1, y, newEYN, newEYP);
+            filteredFunction.add(xValues[0], yValues[0], yen[0], yep[0]);
+            for (var i = 1; i < n; i++) {
+                final double x1 = xValues[i];
+                final double y = 0.5 * (yUp[i] + yDown[i]);
+                final double mean2 = y * y;
+                final double y2 = 0.5 * MathBase.pow(ye1[i] + ye2[i], 1);
+                final double avgError2 = MathBase.abs(y2 - mean2);
+                final double newEYN = MathBase.sqrt(avgError2 + yen[i] * yen[i]);
+                final double newEYP = MathBase.sqrt(avgError2 + yep[i] * yep[i]);
+
+                filteredFunction.add(x1, y, newEYN, newEYP);
+            }
+        } finally {
+            ArrayPool.DOUBLE.release(yUp);
+            ArrayPool.DOUBLE.release(yDown);
+            ArrayPool.DOUBLE.release(ye1);
+            ArrayPool.DOUBLE.release(ye2);
         }
 
         return filteredFunction;
@@ -863,24 +859,35 @@ public final class DataSetMath { // NOPMD - nomen est omen
         final var fastFourierTrafo = new DoubleFFT_1D(n);
 
         // N.B. since realForward computes the FFT in-place -> generate a copy
-        final var fftSpectra = new double[n];
-        for (var i = 0; i < n; i++) {
-            final double window = apodization.getIndex(i, n);
-            fftSpectra[i] = function.get(DIM_Y, i) * window;
-        }
+        final var fftSpectra = ArrayPool.DOUBLE.borrow(n);
+        final int nMag = n / 2;
+        final var mag = ArrayPool.DOUBLE.borrow(nMag);
+        try {
+            for (var i = 0; i < n; i++) {
+                final double window = apodization.getIndex(i, n);
+                fftSpectra[i] = function.get(DIM_Y, i) * window;
+            }
 
-        fastFourierTrafo.realForward(fftSpectra);
-        final var mag = dbScale ? SpectrumTools.computeMagnitudeSpectrum_dB(fftSpectra, true) : SpectrumTools.computeMagnitudeSpectrum(fftSpectra, true);
-        final var dt = function.get(DIM_X, function.getDataCount() - 1) - function.get(DIM_X, 0);
-        final var fsampling = normalisedFrequency || dt <= 0 ? 0.5 / mag.length : 1.0 / dt;
+            fastFourierTrafo.realForward(fftSpectra);
+            if (dbScale) {
+                SpectrumTools.computeMagnitudeSpectrum_dB(fftSpectra, 0, n, mag, 0, true);
+            } else {
+                SpectrumTools.computeMagnitudeSpectrum(fftSpectra, 0, n, mag, 0, true);
+            }
+            final var dt = function.get(DIM_X, function.getDataCount() - 1) - function.get(DIM_X, 0);
+            final var fsampling = normalisedFrequency || dt <= 0 ? 0.5 / nMag : 1.0 / dt;
 
-        final var ret = new DoubleErrorDataSet(functionName, mag.length);
-        for (var i = 0; i < mag.length; i++) {
-            // TODO: consider magnitude error estimate
-            ret.add(i * fsampling, mag[i], 0, 0);
-        }
+            final var ret = new DoubleErrorDataSet(functionName, nMag);
+            for (var i = 0; i < nMag; i++) {
+                // TODO: consider magnitude error estimate
+                ret.add(i * fsampling, mag[i], 0, 0);
+            }
 
-        return ret;
+            return ret;
+        } finally {
+            ArrayPool.DOUBLE.release(mag);
+            ArrayPool.DOUBLE.release(fftSpectra);
+        }
     }
 
     @SafeVarargs
@@ -896,31 +903,40 @@ public final class DataSetMath { // NOPMD - nomen est omen
         final var fastFourierTrafo = new DoubleFFT_1D(n);
 
         // N.B. since realForward computes the FFT in-place -> generate a copy
-        final var fftSpectra = new double[2 * n];
-        for (var i = 0; i < n; i++) {
-            final double window = apodization.getIndex(i, n);
-            fftSpectra[2 * i] = function.get(DIM_Y, i) * window;
-            fftSpectra[2 * i + 1] = function.get(DIM_Z, i) * window;
-        }
+        final var fftSpectra = ArrayPool.DOUBLE.borrow(2 * n);
+        final var mag = ArrayPool.DOUBLE.borrow(n);
+        try {
+            for (var i = 0; i < n; i++) {
+                final double window = apodization.getIndex(i, n);
+                fftSpectra[2 * i] = function.get(DIM_Y, i) * window;
+                fftSpectra[2 * i + 1] = function.get(DIM_Z, i) * window;
+            }
 
-        fastFourierTrafo.complexForward(fftSpectra);
-        final var mag = dbScale ? SpectrumTools.computeMagnitudeSpectrum_dB(fftSpectra, true)
-                                : SpectrumTools.computeMagnitudeSpectrum(fftSpectra, true);
-        final var dt = function.get(DIM_X, function.getDataCount() - 1) - function.get(DIM_X, 0);
-        final var fsampling = normalisedFrequency || dt <= 0 ? 0.5 / mag.length : 1.0 / dt;
-
-        final var functionName = getFormatter(format).format("Mag{0}({1})", dbScale ? "[dB]" : "", function.getName());
-        final var ret = new DoubleErrorDataSet(functionName, mag.length);
-        for (var i = 0; i < mag.length; i++) {
-            // TODO: consider magnitude error estimate
-            if (i < mag.length / 2) {
-                ret.add((i - mag.length / 2.0) * fsampling, mag[i + mag.length / 2], 0, 0);
+            fastFourierTrafo.complexForward(fftSpectra);
+            if (dbScale) {
+                SpectrumTools.computeMagnitudeSpectrum_dB(fftSpectra, 0, 2 * n, mag, 0, true);
             } else {
-                ret.add((i - mag.length / 2.0) * fsampling, mag[i - mag.length / 2], 0, 0);
+                SpectrumTools.computeMagnitudeSpectrum(fftSpectra, 0, 2 * n, mag, 0, true);
+            }
+            final var dt = function.get(DIM_X, function.getDataCount() - 1) - function.get(DIM_X, 0);
+            final var fsampling = normalisedFrequency || dt <= 0 ? 0.5 / n : 1.0 / dt;
+
+            final var functionName = getFormatter(format).format("Mag{0}({1})", dbScale ? "[dB]" : "", function.getName());
+            final var ret = new DoubleErrorDataSet(functionName, n);
+            for (var i = 0; i < n; i++) {
+                // TODO: consider magnitude error estimate
+                if (i < n / 2) {
+                    ret.add((i - n / 2.0) * fsampling, mag[i + n / 2], 0, 0);
+                } else {
+                    ret.add((i - n / 2.0) * fsampling, mag[i - n / 2], 0, 0);
+                }
             }
-        }
 
-        return ret;
+            return ret;
+        } finally {
+            ArrayPool.DOUBLE.release(mag);
+            ArrayPool.DOUBLE.release(fftSpectra);
+        }
     }
 
     public static DataSet magnitudeSpectrumDecibel(final DataSet function) {
@@ -999,64 +1015,101 @@ public final class DataSetMath { // NOPMD - nomen est omen
     @SafeVarargs
     public static DataSet mathFunction(final DataSet function, final double value, final MathOp op, @NotNull final Formatter<Number>... format) {
         final String functionName = getFormatter(format).format("{0}({1})", op.getTag(), function.getName());
-        final double[] y = function.getValues(DIM_Y);
-        final double[] eyn = Arrays.copyOf(errors(function, EYN), y.length);
-        final double[] eyp = Arrays.copyOf(errors(function, EYP), y.length);
+        return mathFunction(function, value, op, new DoubleErrorDataSet(functionName, function.getDataCount()));
+    }
+
+    /**
+     * Applies the operation to all points of the function and stores the result in the given output. The storage of the
+     * output is re-used whenever its capacity suffices, i.e. repeated updates do not allocate.
+     *
+     * @param function the input function
+     * @param value the scalar operand of the operation
+     * @param op the operation to be applied
+     * @param output the data set receiving the result (N.B. name and meta data are retained)
+     * @return the output (fluent design)
+     */
+    public static DoubleErrorDataSet mathFunction(final DataSet function, final double value, final MathOp op, final DoubleErrorDataSet output) {
+        AssertUtils.notNull("function", function);
+        AssertUtils.notNull("output", output);
+        if (output == function) {
+            throw new IllegalArgumentException("output must not be the input function");
+        }
+        function.lock().readLock();
+        try {
+            output.lock().writeLockGuard(() -> {
+                final int ncount = function.getDataCount();
+                output.resize(ncount);
+                mathFunction(function, value, op, ncount, output.getValues(DIM_X), output.getValues(DIM_Y), output.getErrorsNegative(DIM_Y), output.getErrorsPositive(DIM_Y));
+                output.recomputeSortedX(); // x has been written directly into the backing arrays
+                output.getAxisDescriptions().forEach(AxisDescription::clear);
+            });
+        } finally {
+            function.lock().readUnLock();
+        }
+        output.fireInvalidated(ChartBits.DataSetData);
+        return output;
+    }
+
+    private static void mathFunction(final DataSet function, final double value, final MathOp op, final int ncount, //
+            final double[] x, final double[] y, final double[] eyn, final double[] eyp) {
+        final double[] in = function.getValues(DIM_Y);
+        System.arraycopy(function.getValues(DIM_X), 0, x, 0, ncount);
+        copyErrors(function, EYN, ncount, eyn);
+        copyErrors(function, EYP, ncount, eyp);
 
-        final int ncount = function.getDataCount();
         switch (op) {
         case ADD:
-            return new DoubleErrorDataSet(functionName, function.getValues(DIM_X), ArrayMath.add(y, value), eyn, eyp,
-                    ncount, true);
+            ArrayMath.add(in, 0, value, y, 0, ncount);
+            break;
         case SUBTRACT:
-            return new DoubleErrorDataSet(functionName, function.getValues(DIM_X), ArrayMath.subtract(y, value), eyn, eyp,
-                    ncount, true);
+            ArrayMath.subtract(in, 0, value, y, 0, ncount);
+            break;
         case MULTIPLY:
-            return new DoubleErrorDataSet(functionName, function.getValues(DIM_X), ArrayMath.multiply(y, value),
-                    ArrayMath.multiply(eyn, value), ArrayMath.multiply(eyp, value), ncount, true);
+            ArrayMath.multiply(in, 0, value, y, 0, ncount);
+            ArrayMath.multiplyInPlace(eyn, 0, value, ncount);
+            ArrayMath.multiplyInPlace(eyp, 0, value, ncount);
+            break;
         case DIVIDE:
-            return new DoubleErrorDataSet(functionName, function.getValues(DIM_X), ArrayMath.divide(y, value),
-                    ArrayMath.divide(eyn, value), ArrayMath.divide(eyp, value), ncount, true);
+            ArrayMath.divide(in, 0, value, y, 0, ncount);
+            ArrayMath.divideInPlace(eyn, 0, value, ncount);
+            ArrayMath.divideInPlace(eyp, 0, value, ncount);
+            break;
         case SQR:
-            for (var i = 0; i < eyn.length; i++) {
-                eyn[i] = 2 * MathBase.abs(y[i] + value) * eyn[i];
-                eyp[i] = 2 * MathBase.abs(y[i] + value) * eyp[i];
+            shiftedCopy(in, value, y, ncount);
+            for (var i = 0; i < ncount; i++) {
+                eyn[i] = 2 * MathBase.abs(y[i]) * eyn[i];
+                eyp[i] = 2 * MathBase.abs(y[i]) * eyp[i];
             }
-            return new DoubleErrorDataSet(functionName, function.getValues(DIM_X), value == 0.0 ? ArrayMath.sqr(y) : ArrayMath.sqr(ArrayMath.add(y, value)), eyn, eyp, ncount,
-                    true);
+            ArrayMath.sqrInPlace(y, 0, ncount);
+            break;
         case SQRT:
-            for (var i = 0; i < eyn.length; i++) {
-                eyn[i] = MathBase.sqrt(MathBase.abs(y[i] + value)) * eyn[i];
-                eyp[i] = MathBase.sqrt(MathBase.abs(y[i] + value)) * eyp[i];
+            shiftedCopy(in, value, y, ncount);
+            for (var i = 0; i < ncount; i++) {
+                eyn[i] = MathBase.sqrt(MathBase.abs(y[i])) * eyn[i];
+                eyp[i] = MathBase.sqrt(MathBase.abs(y[i])) * eyp[i];
             }
-            return new DoubleErrorDataSet(functionName, function.getValues(DIM_X), value == 0.0 ? ArrayMath.sqrt(y) : ArrayMath.sqrt(ArrayMath.add(y, value)), eyn, eyp, ncount,
-                    true);
+            ArrayMath.sqrtInPlace(y, 0, ncount);
+            break;
         case LOG10:
-            for (var i = 0; i < eyn.length; i++) {
-                eyn[i] = 0.0; // 0.0 as a work-around
-                eyp[i] = 0.0;
-            }
-            return new DoubleErrorDataSet(functionName, function.getValues(DIM_X), ArrayMath.tenLog10(y), eyn, eyp,
-                    ncount, true);
+            ArrayMath.tenLog10(in, 0, y, 0, ncount);
+            Arrays.fill(eyn, 0, ncount, 0.0); // 0.0 as a work-around
+            Arrays.fill(eyp, 0, ncount, 0.0);
+            break;
         case DB:
-            for (var i = 0; i < eyn.length; i++) {
-                eyn[i] = 0.0; // 0.0 as a work-around
-                eyp[i] = 0.0;
-            }
-            return new DoubleErrorDataSet(functionName, function.getValues(DIM_X), ArrayMath.decibel(y), eyn, eyp, ncount,
-                    true);
+            ArrayMath.decibel(in, 0, y, 0, ncount);
+            Arrays.fill(eyn, 0, ncount, 0.0); // 0.0 as a work-around
+            Arrays.fill(eyp, 0, ncount, 0.0);
+            break;
         case INV_DB:
-            for (var i = 0; i < eyn.length; i++) {
-                eyn[i] = 0.0; // 0.0 as a work-around
-                eyp[i] = 0.0;
-            }
-            return new DoubleErrorDataSet(functionName, function.getValues(DIM_X), ArrayMath.inverseDecibel(y), eyn, eyp,
-                    ncount, true);
+            ArrayMath.inverseDecibel(in, 0, y, 0, ncount);
+            Arrays.fill(eyn, 0, ncount, 0.0); // 0.0 as a work-around
+            Arrays.fill(eyp, 0, ncount, 0.0);
+            break;
         case IDENTITY:
         default:
             // return copy if nothing else matches
-            return new DoubleErrorDataSet(functionName, function.getValues(DIM_X), function.getValues(DIM_Y),
-                    errors(function, EYN), errors(function, EYP), ncount, true);
+            System.arraycopy(in, 0, y, 0, ncount);
+            break;
         }
     }
 
@@ -1099,15 +1152,16 @@ public final class DataSetMath { // NOPMD - nomen est omen
         // TODO: add error propagation to normalised function error estimate
         final String functionName = getFormatter(format).format("{0}", function.getName());
         if (integral == 0) {
-            return new DoubleErrorDataSet(functionName, function.getValues(DIM_X), new double[ncount],
-                    new double[ncount], new double[ncount], ncount, true);
+            return new DoubleErrorDataSet(functionName, Arrays.copyOf(function.getValues(DIM_X), ncount), new double[ncount],
+                    new double[ncount], new double[ncount], ncount, false);
         }
-        final var xValues = function.getValues(DIM_X);
-        final var yValues = ArrayMath.divide(function.getValues(DIM_Y), integral);
+        // N.B. all arrays are freshly allocated and adopted by the result without another copy
+        final var xValues = Arrays.copyOf(function.getValues(DIM_X), ncount);
+        final var yValues = ArrayMath.divide(function.getValues(DIM_Y), 0, integral, ncount);
         final var eyp = ArrayMath.divide(errors(function, EYN), integral);
         final var eyn = ArrayMath.divide(errors(function, EYP), integral);
 
-        return new DoubleErrorDataSet(functionName, xValues, yValues, eyp, eyn, ncount, true);
+        return new DoubleErrorDataSet(functionName, xValues, yValues, eyp, eyn, ncount, false);
     }
 
     @SafeVarargs
@@ -1192,6 +1246,116 @@ public final class DataSetMath { // NOPMD - nomen est omen
         return Arrays.copyOf(in, length);
     }
 
+    private static void copyErrors(final DataSet dataSet, final ErrType eType, final int length, final double[] out) {
+        if (!(dataSet instanceof DataSetError)) {
+            // data set does not have any error definition
+            Arrays.fill(out, 0, length, 0.0);
+            return;
+        }
+        final double[] errors = eType == EYN ? ((DataSetError) dataSet).getErrorsNegative(DIM_Y) : ((DataSetError) dataSet).getErrorsPositive(DIM_Y);
+        final int n = min(length, errors.length);
+        System.arraycopy(errors, 0, out, 0, n);
+        Arrays.fill(out, n, length, 0.0);
+    }
+
+    private static void shiftedCopy(final double[] in, final double value, final double[] out, final int length) {
+        if (value == 0.0) {
+            System.arraycopy(in, 0, out, 0, length);
+        } else {
+            ArrayMath.add(in, 0, value, out, 0, length);
+        }
+    }
+
+    private static void filterDirectScan(final DoubleErrorDataSet filteredFunction, final Filter filterType, final int n, final double width, //
+            final double[] xValues, final double[] yValues, final double[] yen, final double[] yep) {
+        final double[] subArrayY = ArrayPool.DOUBLE.borrow(n);
+        final double[] subArrayYn = ArrayPool.DOUBLE.borrow(n);
+        final double[] subArrayYp = ArrayPool.DOUBLE.borrow(n);
+        try {
+            for (var i = 0; i < n; i++) {
+                final double time0 = xValues[i];
+
+                var count = 0;
+                for (var j = 0; j < n; j++) {
+                    final double time = xValues[j];
+                    if (MathBase.abs(time0 - time) <= width) {
+                        subArrayY[count] = yValues[j];
+                        subArrayYn[count] = yen[j];
+                        subArrayYp[count] = yep[j];
+                        count++;
+                    }
+                }
+
+                final double norm = count > 0 ? 1.0 / MathBase.sqrt(count) : 0.0;
+
+                switch (filterType) {
+                case MEDIAN:
+                    filteredFunction.add(time0, Math.median(subArrayY, count), Math.median(subArrayYn, count),
+                            Math.median(subArrayYp, count));
+                    break;
+                case MIN:
+                    filteredFunction.add(time0, Math.minimum(subArrayY, count), Math.minimum(subArrayYn, count),
+                            Math.minimum(subArrayYp, count));
+                    break;
+                case MAX:
+                    filteredFunction.add(time0, Math.maximum(subArrayY, count), Math.maximum(subArrayYn, count),
+                            Math.maximum(subArrayYp, count));
+                    break;
+                case P2P:
+                    filteredFunction.add(time0, Math.peakToPeak(subArrayY, count), Math.peakToPeak(subArrayYn, count),
+                            Math.peakToPeak(subArrayYp, count));
+                    break;
+                case RMS:
+                    filteredFunction.add(time0, Math.rms(subArrayY, count), Math.rms(subArrayYn, count),
+                            Math.rms(subArrayYp, count));
+                    break;
+                case GEOMMEAN:
+                    filteredFunction.add(time0, Math.geometricMean(subArrayY, 0, count),
+                            Math.geometricMean(subArrayYn, 0, count), Math.geometricMean(subArrayYp, 0, count));
+                    break;
+                case MEAN:
+                default:
+                    filteredFunction.add(time0, Math.mean(subArrayY, count), Math.mean(subArrayYn, count) * norm,
+                            Math.mean(subArrayYp, count) * norm);
+                    break;
+                }
+            }
+        } finally {
+            ArrayPool.DOUBLE.release(subArrayY);
+            ArrayPool.DOUBLE.release(subArrayYn);
+            ArrayPool.DOUBLE.release(subArrayYp);
+        }
+    }
+
+    private static void filterSlidingWindows(final DoubleErrorDataSet filteredFunction, final Filter filterType, final int n, //
+            final double[] xValues, final double[] yValues, final double[] yen, final double[] yep, final int[] lower, final int[] upper) {
+        final double[] filteredY = ArrayPool.DOUBLE.borrow(n);
+        final double[] filteredYn = ArrayPool.DOUBLE.borrow(n);
+        final double[] filteredYp = ArrayPool.DOUBLE.borrow(n);
+        try {
+            SlidingWindowFilter.filter(filterType, yValues, n, lower, upper, filteredY);
+            SlidingWindowFilter.filter(filterType, yen, n, lower, upper, filteredYn);
+            SlidingWindowFilter.filter(filterType, yep, n, lower, upper, filteredYp);
+            for (var i = 0; i < n; i++) {
+                final double norm = filterType == Filter.MEAN ? 1.0 / MathBase.sqrt(upper[i] - lower[i] + 1.0) : 1.0;
+                filteredFunction.add(xValues[i], filteredY[i], filteredYn[i] * norm, filteredYp[i] * norm);
+            }
+        } finally {
+            ArrayPool.DOUBLE.release(filteredY);
+            ArrayPool.DOUBLE.release(filteredYn);
+            ArrayPool.DOUBLE.release(filteredYp);
+        }
+    }
+
+    private static boolean isFinite(final double[] values, final int n) {
+        for (var i = 0; i < n; i++) {
+            if (!Double.isFinite(values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public enum ErrType {
         EXN,
         EXP,
@@ -12,11 +12,22 @@ import io.fair_acc.dataset.events.ChartBits;
 import io.fair_acc.dataset.events.EventProcessor;
 import io.fair_acc.dataset.events.ThreadEventProcessor;
 import io.fair_acc.dataset.spi.DoubleErrorDataSet;
+import io.fair_acc.math.stream.SampleBuffer;
+import io.fair_acc.math.stream.StreamOperator;
 
 /**
  * DataSet that automatically transforms source DataSet accordance to
  * DataSetFunction or DataSetValueFunction definition. An optional rate limit is
  * available to limit the number of redundant (GUI) updates if desired.
+ * <p>
+ * N.B. the rate limit ({@code minUpdatePeriod}, default: {@value #DEFAULT_UPDATE_LIMIT} ms) is enforced by the
+ * {@link ThreadEventProcessor}: source updates arriving within the period are coalesced into a single, delayed
+ * re-computation. Use a period &lt;= 0 to re-compute on every source update.
+ * <p>
+ * For append-only (e.g. growing or FIFO-type) sources, a {@link StreamOperator} may
+ * be used instead: only the samples appended since the last update are processed
+ * and the results are appended to this DataSet, rather than re-computing the whole
+ * transform on every update.
  *
  * @author rstein
  */
@@ -27,7 +38,13 @@ public class MathDataSet extends DoubleErrorDataSet {
     private final transient DataSetFunction dataSetFunction;
     private final transient DataSetsFunction dataSetsFunction;
     private final transient DataSetValueFunction dataSetValueFunction;
-    private final transient long minUpdatePeriod; // NOPMD
+    private final transient StreamOperator streamOperator;
+    private final transient SampleBuffer streamBuffer = new SampleBuffer();
+    private transient double lastStreamX = Double.NaN;
+    private transient double[] xStream = new double[0]; // re-used copies of the not yet processed source samples
+    private transient double[] yStream = new double[0];
+    private transient double[] zeroErrors = new double[0];
+    private final transient long minUpdatePeriod; // [ms]
     private final transient String transformName;
     private final BitState inputDataSetBitState = BitState.initDirtyMultiThreaded(this, ChartBits.DataSetMask);
 
@@ -86,23 +103,47 @@ public class MathDataSet extends DoubleErrorDataSet {
         this(transformName, null, null, dataSetFunction, minUpdatePeriod, source);
     }
 
+    /**
+     * @param transformName String defining the prefix of the name of the calculated DataSet
+     * @param streamOperator the incremental transform applied to newly appended samples. see {@link StreamOperator} for details
+     * @param source reference append-only source DataSet
+     */
+    public MathDataSet(final String transformName, final StreamOperator streamOperator, final DataSet source) {
+        this(transformName, streamOperator, DEFAULT_UPDATE_LIMIT, source);
+    }
+
+    /**
+     * @param transformName String defining the prefix of the name of the calculated DataSet
+     * @param streamOperator the incremental transform applied to newly appended samples. see {@link StreamOperator} for details
+     * @param source reference append-only source DataSet
+     */
+    public MathDataSet(final String transformName, final StreamOperator streamOperator, final long minUpdatePeriod, final DataSet source) {
+        this(transformName, null, null, null, streamOperator, minUpdatePeriod, source);
+    }
+
     protected MathDataSet(final String transformName, DataSetFunction dataSetFunction, DataSetsFunction dataSetsFunction, DataSetValueFunction dataSetValueFunction,
             final long minUpdatePeriod, final DataSet... sources) {
+        this(transformName, dataSetFunction, dataSetsFunction, dataSetValueFunction, null, minUpdatePeriod, sources);
+    }
+
+    private MathDataSet(final String transformName, DataSetFunction dataSetFunction, DataSetsFunction dataSetsFunction, DataSetValueFunction dataSetValueFunction,
+            final StreamOperator streamOperator, final long minUpdatePeriod, final DataSet... sources) {
         super(getCompositeDataSetName(transformName, sources));
         this.sourceDataSets = new ArrayList<>(Arrays.asList(sources));
         this.minUpdatePeriod = minUpdatePeriod;
         this.dataSetFunction = dataSetFunction;
         this.dataSetsFunction = dataSetsFunction;
         this.dataSetValueFunction = dataSetValueFunction;
+        this.streamOperator = streamOperator;
         this.transformName = transformName;
 
-        if (dataSetFunction == null && dataSetsFunction == null && dataSetValueFunction == null) {
-            throw new IllegalArgumentException("dataSetFunction, dataSetsFunction and dataSetValueFunction cannot all be null");
+        if (dataSetFunction == null && dataSetsFunction == null && dataSetValueFunction == null && streamOperator == null) {
+            throw new IllegalArgumentException("dataSetFunction, dataSetsFunction, dataSetValueFunction and streamOperator cannot all be null");
         }
 
-        if (dataSetValueFunction != null && sourceDataSets.size() > 1) {
+        if ((dataSetValueFunction != null || streamOperator != null) && sourceDataSets.size() > 1) {
             throw new IllegalArgumentException(
-                    "sources list may not be larger than one if the 'dataSetValueFunction' interface is used"
+                    "sources list may not be larger than one if the 'dataSetValueFunction' or 'streamOperator' interface is used"
                     + " -> try to use 'DataSetFunction' instead");
             // N.B. rationale is that if one combines data from more than one DataSet
             // that it's very likely that they have different x vectors/sampling.
@@ -113,12 +154,19 @@ public class MathDataSet extends DoubleErrorDataSet {
         registerListener();
         EventProcessor eventProcessor = ThreadEventProcessor.getUserInstance();
         // eventProcessor.getBitState().addChangeListener(this);
-        eventProcessor.addAction(inputDataSetBitState, this::update);
+        eventProcessor.addAction(inputDataSetBitState, this::update, minUpdatePeriod);
         // inputDataSetBitState.addChangeListener((source, bits) -> update());
 
         // update();
     }
 
+    /**
+     * @return minimum period between two re-computations in milliseconds (&lt;= 0: no limit)
+     */
+    public long getMinUpdatePeriod() {
+        return minUpdatePeriod;
+    }
+
     public final void triggerUpdate() {
         inputDataSetBitState.setDirty(BitState.ALL_BITS);
     }
@@ -165,9 +213,71 @@ public class MathDataSet extends DoubleErrorDataSet {
                                                                                              // existing array
     }
 
+    private void handleStreamOperator() {
+        final DataSet source = sourceDataSets.get(0);
+        source.lock().readLockGuard(() -> {
+            // N.B. element-wise access: getValues(..) of e.g. FIFO or circular sources copies the whole data set
+            final int length = source.getDataCount();
+            if (length == 0 || source.get(DIM_X, length - 1) < lastStreamX) {
+                // source has been cleared or re-written -> restart the stream
+                streamOperator.reset();
+                lastStreamX = Double.NaN;
+                if (getDataCount() > 0) {
+                    clearData();
+                }
+                if (length == 0) {
+                    return;
+                }
+            }
+
+            // new samples: the tail beyond the last consumed x value
+            int from = length;
+            while (from > 0 && (Double.isNaN(lastStreamX) || source.get(DIM_X, from - 1) > lastStreamX)) {
+                from--;
+            }
+            final int nTail = length - from;
+            streamBuffer.clear();
+            if (nTail > 0) {
+                if (xStream.length < nTail) {
+                    xStream = new double[nTail];
+                    yStream = new double[nTail];
+                }
+                for (int i = 0; i < nTail; i++) {
+                    xStream[i] = source.get(DIM_X, from + i);
+                    yStream[i] = source.get(DIM_Y, from + i);
+                }
+                streamOperator.process(xStream, yStream, 0, nTail, streamBuffer);
+                lastStreamX = xStream[nTail - 1];
+            }
+
+            // drop output samples that preceded the oldest sample still retained by (e.g. FIFO-type) sources
+            final double xFirst = source.get(DIM_X, 0);
+            int nDrop = 0;
+            while (nDrop < getDataCount() && get(DIM_X, nDrop) < xFirst) {
+                nDrop++;
+            }
+            if (nDrop > 0) {
+                remove(0, nDrop);
+            }
+
+            final int nNew = streamBuffer.size();
+            if (nNew > 0) {
+                if (zeroErrors.length < nNew) {
+                    zeroErrors = new double[Math.max(nNew, 2 * zeroErrors.length)];
+                }
+                add(streamBuffer.getX(), streamBuffer.getY(), zeroErrors, zeroErrors, nNew);
+            }
+        });
+    }
+
     protected void update() {
         this.lock().writeLockGuard(() -> {
-            if (dataSetFunction != null) {
+            if (streamOperator != null) {
+                if (sourceDataSets.isEmpty()) {
+                    return;
+                }
+                handleStreamOperator();
+            } else if (dataSetFunction != null) {
                 set(dataSetFunction.transform(sourceDataSets.get(0)));
             } else if (dataSetsFunction != null) {
                 dataSetsFunction.transform(sourceDataSets, this);
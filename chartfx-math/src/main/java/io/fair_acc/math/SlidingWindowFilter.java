@@ -0,0 +1,304 @@
+package io.fair_acc.math;
+
+import java.util.Arrays;
+
+import io.fair_acc.dataset.utils.ArrayPool;
+
+/**
+ * Sliding-window filters for functions with sorted x values as used by
+ * {@link DataSetMath#filterFunction DataSetMath.filterFunction}.
+ * <p>
+ * The window of point {@code i} contains all points {@code j} with {@code |x[i] - x[j]| <= width}. For sorted x values
+ * these windows are contiguous index ranges whose lower and upper bounds move monotonically with {@code i}, so that
+ * the filters can be updated incrementally rather than re-scanning all points:
+ * <ul>
+ * <li>minimum, maximum and peak-to-peak: monotonic index deques, O(N);</li>
+ * <li>mean, r.m.s. and geometric mean: compensated running sums, O(N);</li>
+ * <li>median: rank-indexed Fenwick tree of the points within the window, O(N log N).</li>
+ * </ul>
+ * The results follow the conventions of the corresponding {@link Math} estimators, e.g. the first of equal extrema and
+ * the even-length median definition. Sums may differ from the direct summation in the last digits.
+ */
+final class SlidingWindowFilter {
+    private SlidingWindowFilter() {
+        // utility class
+    }
+
+    /**
+     * Computes the windows of all points.
+     *
+     * @param x the x values
+     * @param n number of points
+     * @param width maximum x distance of the points within a window
+     * @param lower output: first index of each point's window
+     * @param upper output: last index (inclusive) of each point's window
+     * @return {@code false} if the x values are not sorted and finite, in which case the windows are not contiguous
+     */
+    static boolean computeWindows(final double[] x, final int n, final double width, final int[] lower, final int[] upper) {
+        if (!(width >= 0.0)) {
+            return false;
+        }
+        for (int i = 0; i < n; i++) {
+            if (!Double.isFinite(x[i]) || (i > 0 && x[i] < x[i - 1])) {
+                return false;
+            }
+        }
+        int lo = 0;
+        int hi = 0;
+        for (int i = 0; i < n; i++) {
+            final double x0 = x[i];
+            // N.B. same criterion as the direct scan
+            while (!(MathBase.abs(x0 - x[lo]) <= width)) {
+                lo++;
+            }
+            while (hi + 1 < n && MathBase.abs(x0 - x[hi + 1]) <= width) {
+                hi++;
+            }
+            lower[i] = lo;
+            upper[i] = hi;
+        }
+        return true;
+    }
+
+    /**
+     * @param filterType the filter
+     * @param values the (finite) input values
+     * @param n number of points
+     * @param lower first index of each point's window
+     * @param upper last index (inclusive) of each point's window
+     * @param output the filtered values
+     */
+    static void filter(final DataSetMath.Filter filterType, final double[] values, final int n, final int[] lower, final int[] upper, final double[] output) {
+        switch (filterType) {
+        case MEDIAN:
+            median(values, n, lower, upper, output);
+            break;
+        case MIN:
+            extremum(values, n, lower, upper, false, output);
+            break;
+        case MAX:
+            extremum(values, n, lower, upper, true, output);
+            break;
+        case P2P:
+            peakToPeak(values, n, lower, upper, output);
+            break;
+        case RMS:
+            rms(values, n, lower, upper, output);
+            break;
+        case GEOMMEAN:
+            geometricMean(values, n, lower, upper, output);
+            break;
+        case MEAN:
+        default:
+            mean(values, n, lower, upper, output);
+            break;
+        }
+    }
+
+    private static void extremum(final double[] values, final int n, final int[] lower, final int[] upper, final boolean max, final double[] output) {
+        final int[] deque = ArrayPool.INT.borrow(n);
+        try {
+            // N.B. indices of the window's extremum candidates, the first being the (first) extremum
+            int head = 0;
+            int tail = 0;
+            int added = -1;
+            for (int i = 0; i < n; i++) {
+                while (added < upper[i]) {
+                    final double value = values[++added];
+                    while (tail > head && (max ? values[deque[tail - 1]] < value : values[deque[tail - 1]] > value)) {
+                        tail--;
+                    }
+                    deque[tail++] = added;
+                }
+                while (deque[head] < lower[i]) {
+                    head++;
+                }
+                output[i] = values[deque[head]];
+            }
+        } finally {
+            ArrayPool.INT.release(deque);
+        }
+    }
+
+    private static void geometricMean(final double[] values, final int n, final int[] lower, final int[] upper, final double[] output) {
+        final RunningSum logSum = new RunningSum();
+        int nZeros = 0;
+        int added = -1;
+        int removed = 0;
+        for (int i = 0; i < n; i++) {
+            while (added < upper[i]) {
+                final double value = values[++added];
+                if (value == 0) {
+                    nZeros++;
+                } else {
+                    logSum.add(java.lang.Math.log(MathBase.abs(value)));
+                }
+            }
+            while (removed < lower[i]) {
+                final double value = values[removed++];
+                if (value == 0) {
+                    nZeros--;
+                } else {
+                    logSum.add(-java.lang.Math.log(MathBase.abs(value)));
+                }
+            }
+            output[i] = nZeros > 0 ? 0.0 : java.lang.Math.exp(logSum.get() / (upper[i] - lower[i] + 1));
+        }
+    }
+
+    private static void mean(final double[] values, final int n, final int[] lower, final int[] upper, final double[] output) {
+        final RunningSum sum = new RunningSum();
+        int added = -1;
+        int removed = 0;
+        for (int i = 0; i < n; i++) {
+            while (added < upper[i]) {
+                sum.add(values[++added]);
+            }
+            while (removed < lower[i]) {
+                sum.add(-values[removed++]);
+            }
+            output[i] = sum.get() / (upper[i] - lower[i] + 1);
+        }
+    }
+
+    private static void median(final double[] values, final int n, final int[] lower, final int[] upper, final double[] output) {
+        final double[] sorted = ArrayPool.DOUBLE.borrow(n);
+        final int[] rank = ArrayPool.INT.borrow(n);
+        final int[] tree = ArrayPool.INT.borrow(n + 1);
+        try {
+            // rank of each point within the sorted values, equal values are ranked by their index
+            System.arraycopy(values, 0, sorted, 0, n);
+            Arrays.sort(sorted, 0, n);
+            final int[] nEqualRanked = tree; // N.B. temporarily used before being cleared for the Fenwick tree
+            Arrays.fill(nEqualRanked, 0, n + 1, 0);
+            for (int i = 0; i < n; i++) {
+                final int firstRank = lowerBound(sorted, n, values[i]);
+                rank[i] = firstRank + nEqualRanked[firstRank]++;
+            }
+            Arrays.fill(tree, 0, n + 1, 0);
+
+            int added = -1;
+            int removed = 0;
+            for (int i = 0; i < n; i++) {
+                while (added < upper[i]) {
+                    updateTree(tree, n, rank[++added], +1);
+                }
+                while (removed < lower[i]) {
+                    updateTree(tree, n, rank[removed++], -1);
+                }
+                final int count = upper[i] - lower[i] + 1;
+                if (count % 2 != 0) {
+                    output[i] = sorted[selectTree(tree, n, count / 2)];
+                } else if (count == 2) {
+                    output[i] = 0.5 * (values[lower[i]] + values[upper[i]]);
+                } else {
+                    // N.B. same even-length definition as Math.median
+                    output[i] = 0.5 * (sorted[selectTree(tree, n, count / 2)] + sorted[selectTree(tree, n, count / 2 + 1)]);
+                }
+            }
+        } finally {
+            ArrayPool.DOUBLE.release(sorted);
+            ArrayPool.INT.release(rank);
+            ArrayPool.INT.release(tree);
+        }
+    }
+
+    private static void peakToPeak(final double[] values, final int n, final int[] lower, final int[] upper, final double[] output) {
+        final double[] minimum = ArrayPool.DOUBLE.borrow(n);
+        try {
+            extremum(values, n, lower, upper, false, minimum);
+            extremum(values, n, lower, upper, true, output);
+            for (int i = 0; i < n; i++) {
+                output[i] = MathBase.abs(output[i] - minimum[i]);
+            }
+        } finally {
+            ArrayPool.DOUBLE.release(minimum);
+        }
+    }
+
+    private static void rms(final double[] values, final int n, final int[] lower, final int[] upper, final double[] output) {
+        final RunningSum sum = new RunningSum();
+        final RunningSum sum2 = new RunningSum();
+        int added = -1;
+        int removed = 0;
+        for (int i = 0; i < n; i++) {
+            while (added < upper[i]) {
+                final double value = values[++added];
+                sum.add(value);
+                sum2.add(value * value);
+            }
+            while (removed < lower[i]) {
+                final double value = values[removed++];
+                sum.add(-value);
+                sum2.add(-value * value);
+            }
+            final double norm = 1.0 / (upper[i] - lower[i] + 1);
+            final double val1 = sum.get() * norm;
+            final double val2 = sum2.get() * norm;
+            // un-biased rms!
+            output[i] = MathBase.sqrt(MathBase.abs(val2 - val1 * val1));
+        }
+    }
+
+    /**
+     * @return first index within sorted[0, n) whose value is not smaller than the given one (N.B. same total order as
+     *         {@link Arrays#sort(double[])}
+     */
+    private static int lowerBound(final double[] sorted, final int n, final double value) {
+        int low = 0;
+        int high = n;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (Double.compare(sorted[mid], value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the rank of the k-th (starting with '0') smallest value within the tree
+     */
+    private static int selectTree(final int[] tree, final int n, final int k) {
+        int position = 0;
+        int remaining = k + 1;
+        for (int step = Integer.highestOneBit(n); step > 0; step >>= 1) {
+            final int next = position + step;
+            if (next <= n && tree[next] < remaining) {
+                position = next;
+                remaining -= tree[next];
+            }
+        }
+        return position; // N.B. tree is 1-based
+    }
+
+    private static void updateTree(final int[] tree, final int n, final int rank, final int delta) {
+        for (int index = rank + 1; index <= n; index += index & -index) {
+            tree[index] += delta;
+        }
+    }
+
+    /**
+     * Neumaier-compensated sum that limits the round-off accumulating over many additions and removals
+     */
+    private static class RunningSum {
+        private double sum;
+        private double compensation;
+
+        void add(final double value) {
+            final double t = sum + value;
+            if (MathBase.abs(sum) >= MathBase.abs(value)) {
+                compensation += (sum - t) + value;
+            } else {
+                compensation += (value - t) + sum;
+            }
+            sum = t;
+        }
+
+        double get() {
+            return sum + compensation;
+        }
+    }
+}
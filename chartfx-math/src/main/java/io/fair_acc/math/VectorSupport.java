@@ -0,0 +1,78 @@
+package io.fair_acc.math;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Run-time switch for the SIMD implementations of the element-wise {@link ArrayMath} kernels and the {@link Math}
+ * reductions that are based on the (incubating) Java Vector API.
+ * <p>
+ * The vector kernels are only used if the {@code jdk.incubator.vector} module has been resolved at start-up, i.e. the
+ * JVM has been started with {@code --add-modules jdk.incubator.vector}, and may be disabled via the system property
+ * {@code -Dchartfx.math.vector=false} or {@link #setEnabled(boolean)}. Otherwise the functions fall back to their
+ * scalar loops, which the JIT may still auto-vectorise for the simple cases.
+ * <p>
+ * N.B. this class must not reference any {@code jdk.incubator.vector} types itself, as it decides whether the
+ * (generated) {@code ArrayMathVector} kernels can be loaded at all. These are compiled separately from the rest of
+ * this module and are only instantiated via reflection.
+ */
+public final class VectorSupport {
+    /**
+     * arrays shorter than this are always processed by the scalar loops, for which the call overhead dominates
+     */
+    public static final int MIN_LENGTH = 64;
+    private static final Logger LOGGER = LoggerFactory.getLogger(VectorSupport.class);
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNELS = "io.fair_acc.math.ArrayMathVector";
+    private static final ArrayMathKernels KERNELS = loadKernels();
+    private static final boolean AVAILABLE = KERNELS != null;
+    private static boolean enabled = AVAILABLE && Boolean.parseBoolean(System.getProperty("chartfx.math.vector", "true")); // NOPMD -- runtime switch
+
+    private VectorSupport() {
+        // utility class
+    }
+
+    /**
+     * @return true if the Vector API module has been resolved at start-up and the vector kernels could be loaded
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * @return true if the vector kernels are being used
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param state true: use the vector kernels if they are available, false: always use the scalar loops
+     */
+    public static void setEnabled(final boolean state) {
+        enabled = AVAILABLE && state;
+    }
+
+    static boolean isEnabled(final int length) {
+        return enabled && length >= MIN_LENGTH;
+    }
+
+    /**
+     * @return the vector kernels, must only be called after {@link #isEnabled(int)} returned true
+     */
+    static ArrayMathKernels kernels() {
+        return KERNELS;
+    }
+
+    private static ArrayMathKernels loadKernels() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            return (ArrayMathKernels) Class.forName(VECTOR_KERNELS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            LOGGER.atWarn().setCause(e).addArgument(VECTOR_KERNELS).log("could not load vector kernels '{}', using scalar loops");
+            return null;
+        }
+    }
+}
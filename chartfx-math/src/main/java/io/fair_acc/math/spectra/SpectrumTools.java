@@ -4,6 +4,7 @@ import java.util.Arrays;
 
 import org.jtransforms.fft.DoubleFFT_1D;
 
+import io.fair_acc.dataset.utils.ArrayPool;
 import io.fair_acc.math.Math;
 import io.fair_acc.math.MathBase;
 import io.fair_acc.math.fitter.NonLinearRegressionFitter;
@@ -30,7 +31,17 @@ public class SpectrumTools {
      * @return computed [0.0, 0.5] frequency scale
      */
     public static double[] computeFrequencyScale(final int nMag) {
-        final double[] ret = new double[nMag];
+        return computeFrequencyScale(new double[nMag], nMag);
+    }
+
+    /**
+     * compute equidistant frequency axis based on the length of the magnitude spectrum
+     *
+     * @param ret the output buffer, needs to hold at least nMag values
+     * @param nMag requested length of output vector
+     * @return computed [0.0, 0.5] frequency scale (the output buffer)
+     */
+    public static double[] computeFrequencyScale(final double[] ret, final int nMag) {
         final double scale = 0.5 / nMag;
         for (int i = 0; i < nMag; i++) {
             ret[i] = i * scale;
@@ -276,41 +287,45 @@ public class SpectrumTools {
     public static double[][] computeMaxima(final double[] data) {
         final int n = data.length;
         final double[][] ret = new double[2][2];
-        final double[] x = new double[n];
-        final double[] y = new double[n];
-
-        x[0] = 0;
-        y[0] = data[1];
-        int npeaks = 1;
-        for (int i = 1; i < n - 1; i++) {
-            if (data[i - 1] <= data[i] & data[i] >= data[i + 1]) {
-                x[npeaks] = i;
-                y[npeaks] = data[i];
-                npeaks++;
+        final double[] x = ArrayPool.DOUBLE.borrow(n);
+        final double[] y = ArrayPool.DOUBLE.borrow(n);
+        try {
+            x[0] = 0;
+            y[0] = data[1];
+            int npeaks = 1;
+            for (int i = 1; i < n - 1; i++) {
+                if (data[i - 1] <= data[i] & data[i] >= data[i + 1]) {
+                    x[npeaks] = i;
+                    y[npeaks] = data[i];
+                    npeaks++;
+                }
             }
-        }
 
-        x[npeaks] = n - 1;
-        y[npeaks] = data[n - 1];
+            x[npeaks] = n - 1;
+            y[npeaks] = data[n - 1];
 
-        if (npeaks >= 3) {
-            final double slope1 = (y[1] - y[2]) / (x[1] - x[2]);
-            final double tmp1 = slope1 * (x[0] - x[1]) + y[1];
-            if (tmp1 > y[0]) {
-                y[0] = tmp1;
-            }
+            if (npeaks >= 3) {
+                final double slope1 = (y[1] - y[2]) / (x[1] - x[2]);
+                final double tmp1 = slope1 * (x[0] - x[1]) + y[1];
+                if (tmp1 > y[0]) {
+                    y[0] = tmp1;
+                }
 
-            final double slope2 = (y[npeaks - 1] - y[npeaks - 2]) / (x[npeaks - 1] - x[npeaks - 2]);
-            final double tmp2 = slope2 * (x[npeaks] - x[npeaks - 1]) + y[npeaks - 1];
-            if (tmp2 > y[npeaks]) {
-                y[npeaks] = tmp2;
+                final double slope2 = (y[npeaks - 1] - y[npeaks - 2]) / (x[npeaks - 1] - x[npeaks - 2]);
+                final double tmp2 = slope2 * (x[npeaks] - x[npeaks - 1]) + y[npeaks - 1];
+                if (tmp2 > y[npeaks]) {
+                    y[npeaks] = tmp2;
+                }
             }
+            npeaks++;
+
+            ret[0] = Arrays.copyOf(x, npeaks);
+            ret[1] = Arrays.copyOf(y, npeaks);
+            return ret;
+        } finally {
+            ArrayPool.DOUBLE.release(x);
+            ArrayPool.DOUBLE.release(y);
         }
-        npeaks++;
-
-        ret[0] = Arrays.copyOf(x, npeaks);
-        ret[1] = Arrays.copyOf(y, npeaks);
-        return ret;
     }
 
     /**
@@ -322,42 +337,46 @@ public class SpectrumTools {
     public static double[][] computeMinima(final double[] data) {
         final int n = data.length;
         final double[][] ret = new double[2][2];
-        final double[] x = new double[n];
-        final double[] y = new double[n];
-
-        x[0] = 0;
-        y[0] = data[0];
-        int npeaks = 1;
-        for (int i = 2; i < n - 1; i++) {
-            if (data[i - 1] >= data[i] && data[i] <= data[i + 1]) {
-                x[npeaks] = i;
-                y[npeaks] = data[i];
-                npeaks++;
+        final double[] x = ArrayPool.DOUBLE.borrow(n);
+        final double[] y = ArrayPool.DOUBLE.borrow(n);
+        try {
+            x[0] = 0;
+            y[0] = data[0];
+            int npeaks = 1;
+            for (int i = 2; i < n - 1; i++) {
+                if (data[i - 1] >= data[i] && data[i] <= data[i + 1]) {
+                    x[npeaks] = i;
+                    y[npeaks] = data[i];
+                    npeaks++;
+                }
             }
-        }
 
-        x[npeaks] = n - 1;
-        y[npeaks] = data[n - 1];
+            x[npeaks] = n - 1;
+            y[npeaks] = data[n - 1];
 
-        if (npeaks >= 3) {
-            final double slope1 = (y[1] - y[2]) / (x[1] - x[2]);
-            final double tmp1 = slope1 * (x[0] - x[1]) + y[1];
-            if (tmp1 < y[0]) {
-                y[0] = tmp1;
-            }
+            if (npeaks >= 3) {
+                final double slope1 = (y[1] - y[2]) / (x[1] - x[2]);
+                final double tmp1 = slope1 * (x[0] - x[1]) + y[1];
+                if (tmp1 < y[0]) {
+                    y[0] = tmp1;
+                }
 
-            final double slope2 = (y[npeaks - 1] - y[npeaks - 2]) / (x[npeaks - 1] - x[npeaks - 2]);
-            final double tmp2 = slope2 * (x[npeaks] - x[npeaks - 1]) + y[npeaks - 1];
+                final double slope2 = (y[npeaks - 1] - y[npeaks - 2]) / (x[npeaks - 1] - x[npeaks - 2]);
+                final double tmp2 = slope2 * (x[npeaks] - x[npeaks - 1]) + y[npeaks - 1];
 
-            if (tmp2 < y[npeaks]) {
-                y[npeaks] = tmp2;
+                if (tmp2 < y[npeaks]) {
+                    y[npeaks] = tmp2;
+                }
             }
+            npeaks++;
+
+            ret[0] = Arrays.copyOf(x, npeaks);
+            ret[1] = Arrays.copyOf(y, npeaks);
+            return ret;
+        } finally {
+            ArrayPool.DOUBLE.release(x);
+            ArrayPool.DOUBLE.release(y);
         }
-        npeaks++;
-
-        ret[0] = Arrays.copyOf(x, npeaks);
-        ret[1] = Arrays.copyOf(y, npeaks);
-        return ret;
     }
 
     /**
@@ -369,20 +388,34 @@ public class SpectrumTools {
      */
     public static double[] computePhaseSpectrum(final double[] data) {
         final double[] ret = new double[data.length / 2];
-        for (int i = 0; i < ret.length; i++) {
-            final int i2 = i << 1;
+        computePhaseSpectrum(data, 0, data.length, ret, 0);
+        return ret;
+    }
+
+    /**
+     * compute phase spectra ([-PI,+PI])
+     *
+     * @see DoubleFFT_1D for the expected spectra layout
+     * @param data the input data
+     * @param fromPos start of the data to read
+     * @param length length to read of the input data
+     * @param ret the output data, should be able to hold length/2 values from toPos on
+     * @param toPos the position to start writing the result to
+     */
+    public static void computePhaseSpectrum(final double[] data, final int fromPos, final int length, final double[] ret, final int toPos) {
+        final int n2 = length / 2;
+        for (int i = 0; i < n2; i++) {
+            final int i2 = (i + fromPos) << 1;
             final double Re = data[i2];
             final double Im = data[i2 + 1];
 
-            ret[i] = MathBase.aTan2(Im, Re);
+            ret[toPos + i] = MathBase.aTan2(Im, Re);
         }
 
         // smooth spectra on both ends to minimise DC/Nyquist frequency
         // artifacts
-        ret[0] = ret[1];
-        ret[ret.length - 1] = ret[ret.length - 2];
-
-        return ret;
+        ret[toPos] = ret[toPos + 1];
+        ret[toPos + n2 - 1] = ret[toPos + n2 - 2];
     }
 
     /**
@@ -394,20 +427,34 @@ public class SpectrumTools {
      */
     public static float[] computePhaseSpectrum(final float[] data) {
         final float[] ret = new float[data.length / 2];
-        for (int i = 0; i < ret.length; i++) {
-            final int i2 = i << 1;
+        computePhaseSpectrum(data, 0, data.length, ret, 0);
+        return ret;
+    }
+
+    /**
+     * compute phase spectra ([-PI,+PI])
+     *
+     * @see DoubleFFT_1D for the expected spectra layout
+     * @param data the input data
+     * @param fromPos start of the data to read
+     * @param length length to read of the input data
+     * @param ret the output data, should be able to hold length/2 values from toPos on
+     * @param toPos the position to start writing the result to
+     */
+    public static void computePhaseSpectrum(final float[] data, final int fromPos, final int length, final float[] ret, final int toPos) {
+        final int n2 = length / 2;
+        for (int i = 0; i < n2; i++) {
+            final int i2 = (i + fromPos) << 1;
             final double Re = data[i2];
             final double Im = data[i2 + 1];
 
-            ret[i] = (float) MathBase.aTan2(Im, Re);
+            ret[toPos + i] = (float) MathBase.aTan2(Im, Re);
         }
 
         // smooth spectra on both ends to minimise DC/Nyquist frequency
         // artefacts
-        ret[0] = ret[1];
-        ret[ret.length - 1] = ret[ret.length - 2];
-
-        return ret;
+        ret[toPos] = ret[toPos + 1];
+        ret[toPos + n2 - 1] = ret[toPos + n2 - 2];
     }
 
     public static double[][] filterPeaksHarmonics(final double[][] peaks, final double[] magnitude, double estimate,
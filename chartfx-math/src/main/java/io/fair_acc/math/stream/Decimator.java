@@ -0,0 +1,49 @@
+package io.fair_acc.math.stream;
+
+/**
+ * Decimates the stream by an integer factor: each block of {@code factor} consecutive samples is replaced by its mean
+ * x and y value (i.e. a boxcar anti-aliasing filter). Samples of an incomplete block are kept until the block has been
+ * completed by later updates.
+ */
+public class Decimator implements StreamOperator {
+    private final int factor;
+    private int count;
+    private double sumX;
+    private double sumY;
+
+    /**
+     * @param factor number of input samples per output sample
+     */
+    public Decimator(final int factor) {
+        if (factor <= 0) {
+            throw new IllegalArgumentException("factor must be positive: " + factor);
+        }
+        this.factor = factor;
+    }
+
+    /**
+     * @return number of input samples per output sample
+     */
+    public int getFactor() {
+        return factor;
+    }
+
+    @Override
+    public void process(final double[] x, final double[] y, final int from, final int to, final SampleBuffer output) {
+        for (int i = from; i < to; i++) {
+            sumX += x[i];
+            sumY += y[i];
+            if (++count == factor) {
+                output.add(sumX / factor, sumY / factor);
+                reset();
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        count = 0;
+        sumX = 0.0;
+        sumY = 0.0;
+    }
+}
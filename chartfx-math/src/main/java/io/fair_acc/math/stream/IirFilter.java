@@ -0,0 +1,70 @@
+package io.fair_acc.math.stream;
+
+import io.fair_acc.math.filter.iir.Biquad;
+import io.fair_acc.math.filter.iir.Cascade;
+import io.fair_acc.math.filter.iir.DirectFormII;
+
+/**
+ * Applies an IIR filter to the stream. The filter state is carried across updates, so that the output is identical to
+ * filtering the complete stream at once. N.B. the sample rate the filter has been designed for is assumed, i.e. the x
+ * values are passed through unchanged.
+ * <p>
+ * usage example:
+ *
+ * <pre>
+ * final Butterworth lowPass = new Butterworth();
+ * lowPass.lowPass(4, sampleRate, cutOffFrequency);
+ * new MathDataSet("LowPass", new IirFilter(lowPass), source);
+ * </pre>
+ */
+public class IirFilter implements StreamOperator {
+    private final Cascade cascade;
+    private final Biquad biquad;
+    private final DirectFormII biquadState;
+
+    /**
+     * @param cascade the filter, e.g. {@link io.fair_acc.math.filter.iir.Butterworth}, whose state is used and modified
+     */
+    public IirFilter(final Cascade cascade) {
+        if (cascade == null) {
+            throw new IllegalArgumentException("cascade must not be null");
+        }
+        this.cascade = cascade;
+        this.biquad = null;
+        this.biquadState = null;
+    }
+
+    /**
+     * @param biquad coefficients of a single second-order section
+     */
+    public IirFilter(final Biquad biquad) {
+        if (biquad == null) {
+            throw new IllegalArgumentException("biquad must not be null");
+        }
+        this.cascade = null;
+        this.biquad = biquad;
+        this.biquadState = new DirectFormII();
+    }
+
+    @Override
+    public void process(final double[] x, final double[] y, final int from, final int to, final SampleBuffer output) {
+        if (cascade == null) {
+            for (int i = from; i < to; i++) {
+                output.add(x[i], biquadState.process1(y[i], biquad));
+            }
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            output.add(x[i], cascade.filter(y[i]));
+        }
+    }
+
+    @Override
+    public void reset() {
+        if (cascade == null) {
+            biquadState.reset();
+        } else {
+            cascade.reset();
+        }
+    }
+}
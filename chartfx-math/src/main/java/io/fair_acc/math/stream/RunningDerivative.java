@@ -0,0 +1,27 @@
+package io.fair_acc.math.stream;
+
+/**
+ * Causal derivative of the stream, i.e. the backward difference {@code (y[i] - y[i - 1]) / (x[i] - x[i - 1])} at each
+ * sample's x value. N.B. no output is generated for the first sample, which has no predecessor.
+ */
+public class RunningDerivative implements StreamOperator {
+    private double lastX = Double.NaN;
+    private double lastY;
+
+    @Override
+    public void process(final double[] x, final double[] y, final int from, final int to, final SampleBuffer output) {
+        for (int i = from; i < to; i++) {
+            if (!Double.isNaN(lastX)) {
+                output.add(x[i], (y[i] - lastY) / (x[i] - lastX));
+            }
+            lastX = x[i];
+            lastY = y[i];
+        }
+    }
+
+    @Override
+    public void reset() {
+        lastX = Double.NaN;
+        lastY = 0.0;
+    }
+}
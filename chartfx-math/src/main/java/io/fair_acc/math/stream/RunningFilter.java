@@ -0,0 +1,150 @@
+package io.fair_acc.math.stream;
+
+import io.fair_acc.math.DataSetMath.Filter;
+
+/**
+ * Causal running filter over the last {@code length} samples of the stream, i.e. each new sample produces one output
+ * sample at its x value containing the filtered value of the trailing window (which is shorter for the first samples
+ * after a reset). Mean and RMS are updated via running sums, min, max and peak-to-peak via monotonic deques, i.e. the
+ * cost per sample is O(1) independent of the window length.
+ * <p>
+ * Supported filter types: {@link Filter#MEAN MEAN}, {@link Filter#RMS RMS}, {@link Filter#MIN MIN},
+ * {@link Filter#MAX MAX} and {@link Filter#P2P P2P}.
+ */
+public class RunningFilter implements StreamOperator {
+    private final Filter filterType;
+    private final int length;
+    private final double[] window; // ring buffer of the last 'length' values
+    private final long[] minDeque; // absolute sample indices with increasing values
+    private final long[] maxDeque; // absolute sample indices with decreasing values
+    private long nSamples;
+    private int minHead;
+    private int minSize;
+    private int maxHead;
+    private int maxSize;
+    private double sum;
+    private double sum2;
+
+    /**
+     * @param filterType the filter type
+     * @param length number of samples of the trailing window
+     */
+    public RunningFilter(final Filter filterType, final int length) {
+        if (filterType == null) {
+            throw new IllegalArgumentException("filterType must not be null");
+        }
+        switch (filterType) {
+        case MEAN:
+        case RMS:
+        case MIN:
+        case MAX:
+        case P2P:
+            break;
+        default:
+            throw new IllegalArgumentException("filter type not supported for streaming: " + filterType);
+        }
+        if (length <= 0) {
+            throw new IllegalArgumentException("length must be positive: " + length);
+        }
+        this.filterType = filterType;
+        this.length = length;
+        this.window = new double[length];
+        this.minDeque = new long[length];
+        this.maxDeque = new long[length];
+    }
+
+    public Filter getFilterType() {
+        return filterType;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    @Override
+    public void process(final double[] x, final double[] y, final int from, final int to, final SampleBuffer output) {
+        for (int i = from; i < to; i++) {
+            output.add(x[i], push(y[i]));
+        }
+    }
+
+    @Override
+    public void reset() {
+        nSamples = 0;
+        minHead = 0;
+        minSize = 0;
+        maxHead = 0;
+        maxSize = 0;
+        sum = 0.0;
+        sum2 = 0.0;
+    }
+
+    private double push(final double value) {
+        final int slot = (int) (nSamples % length);
+        final double removed = nSamples >= length ? window[slot] : 0.0;
+        window[slot] = value;
+        final long index = nSamples++;
+        final int count = (int) Math.min(nSamples, length);
+        if (filterType == Filter.MEAN || filterType == Filter.RMS) {
+            if (nSamples % length == 0) {
+                // re-sum once per window turn-over to bound the round-off drift of the running sums (amortised O(1))
+                resum();
+            } else {
+                sum += value - removed;
+                sum2 += value * value - removed * removed;
+            }
+        }
+
+        switch (filterType) {
+        case MEAN:
+            return sum / count;
+        case RMS:
+            final double mean = sum / count;
+            return Math.sqrt(Math.max(0.0, sum2 / count - mean * mean));
+        case MIN:
+            pushMin(index, value);
+            return window[(int) (minDeque[minHead] % length)];
+        case MAX:
+            pushMax(index, value);
+            return window[(int) (maxDeque[maxHead] % length)];
+        case P2P:
+        default:
+            pushMin(index, value);
+            pushMax(index, value);
+            return window[(int) (maxDeque[maxHead] % length)] - window[(int) (minDeque[minHead] % length)];
+        }
+    }
+
+    private void resum() {
+        sum = 0.0;
+        sum2 = 0.0;
+        for (final double value : window) {
+            sum += value;
+            sum2 += value * value;
+        }
+    }
+
+    private void pushMin(final long index, final double value) {
+        if (minSize > 0 && minDeque[minHead] <= index - length) {
+            minHead = (minHead + 1) % length;
+            minSize--;
+        }
+        while (minSize > 0 && window[(int) (minDeque[(minHead + minSize - 1) % length] % length)] >= value) {
+            minSize--;
+        }
+        minDeque[(minHead + minSize) % length] = index;
+        minSize++;
+    }
+
+    private void pushMax(final long index, final double value) {
+        if (maxSize > 0 && maxDeque[maxHead] <= index - length) {
+            maxHead = (maxHead + 1) % length;
+            maxSize--;
+        }
+        while (maxSize > 0 && window[(int) (maxDeque[(maxHead + maxSize - 1) % length] % length)] <= value) {
+            maxSize--;
+        }
+        maxDeque[(maxHead + maxSize) % length] = index;
+        maxSize++;
+    }
+}
@@ -0,0 +1,32 @@
+package io.fair_acc.math.stream;
+
+/**
+ * Cumulative integral of the stream using the trapezoidal rule, i.e. the streaming counterpart of
+ * {@link io.fair_acc.math.DataSetMath#integrateFunction(io.fair_acc.dataset.DataSet, io.fair_acc.math.Formatter[])
+ * DataSetMath.integrateFunction}: the integral is zero at the first sample and each new sample adds the area to its
+ * predecessor.
+ */
+public class RunningIntegral implements StreamOperator {
+    private double integral;
+    private double lastX = Double.NaN;
+    private double lastY;
+
+    @Override
+    public void process(final double[] x, final double[] y, final int from, final int to, final SampleBuffer output) {
+        for (int i = from; i < to; i++) {
+            if (!Double.isNaN(lastX)) {
+                integral += 0.5 * (x[i] - lastX) * (lastY + y[i]);
+            }
+            lastX = x[i];
+            lastY = y[i];
+            output.add(lastX, integral);
+        }
+    }
+
+    @Override
+    public void reset() {
+        integral = 0.0;
+        lastX = Double.NaN;
+        lastY = 0.0;
+    }
+}
@@ -0,0 +1,72 @@
+package io.fair_acc.math.stream;
+
+import java.util.Arrays;
+
+/**
+ * Growable primitive (x, y) sample buffer receiving the output of {@link StreamOperator}s. The buffer is meant to be
+ * re-used, i.e. {@link #clear()} keeps the allocated storage.
+ */
+public class SampleBuffer {
+    private static final int DEFAULT_CAPACITY = 64;
+    private double[] x;
+    private double[] y;
+    private int size;
+
+    public SampleBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity initial number of samples that can be stored without re-allocation
+     */
+    public SampleBuffer(final int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+        }
+        x = new double[initialCapacity];
+        y = new double[initialCapacity];
+    }
+
+    /**
+     * @param xValue the new sample's x value
+     * @param yValue the new sample's y value
+     */
+    public void add(final double xValue, final double yValue) {
+        if (size == x.length) {
+            final int newCapacity = Math.max(DEFAULT_CAPACITY, 2 * size);
+            x = Arrays.copyOf(x, newCapacity);
+            y = Arrays.copyOf(y, newCapacity);
+        }
+        x[size] = xValue;
+        y[size] = yValue;
+        size++;
+    }
+
+    /**
+     * removes all samples
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return the x values, N.B. internal storage that is longer than {@link #size()}
+     */
+    public double[] getX() {
+        return x;
+    }
+
+    /**
+     * @return the y values, N.B. internal storage that is longer than {@link #size()}
+     */
+    public double[] getY() {
+        return y;
+    }
+
+    /**
+     * @return number of samples
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,49 @@
+package io.fair_acc.math.stream;
+
+/**
+ * Incremental (stateful) transform of a live, append-only sample stream, e.g. of a growing or FIFO-type source
+ * DataSet: each call consumes only the newly appended samples and appends its results to the output, while the
+ * operator state (filter memory, running sums, partial decimation blocks, ...) is carried across calls.
+ * <p>
+ * Feeding the stream in several chunks yields the same output as processing it in one go.
+ *
+ * @see io.fair_acc.math.MathDataSet
+ */
+public interface StreamOperator {
+    /**
+     * @param x x values of the source, e.g. time stamps
+     * @param y y values of the source
+     * @param from index of the first new sample
+     * @param to index after the last new sample
+     * @param output buffer the output samples are appended to
+     */
+    void process(double[] x, double[] y, int from, int to, SampleBuffer output);
+
+    /**
+     * discards the internal state, e.g. if the source has been cleared or re-written
+     */
+    void reset();
+
+    /**
+     * @param next operator processing the output of this operator
+     * @return operator chaining this and the next operator
+     */
+    default StreamOperator andThen(final StreamOperator next) {
+        final StreamOperator first = this;
+        final SampleBuffer intermediate = new SampleBuffer();
+        return new StreamOperator() {
+            @Override
+            public void process(final double[] x, final double[] y, final int from, final int to, final SampleBuffer output) {
+                intermediate.clear();
+                first.process(x, y, from, to, intermediate);
+                next.process(intermediate.getX(), intermediate.getY(), 0, intermediate.size(), output);
+            }
+
+            @Override
+            public void reset() {
+                first.reset();
+                next.reset();
+            }
+        };
+    }
+}
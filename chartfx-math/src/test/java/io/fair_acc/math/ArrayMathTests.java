@@ -1,6 +1,7 @@
 package io.fair_acc.math;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -26,6 +27,32 @@ public class ArrayMathTests {
         assertArrayEquals(new double[] { 1, 1, 1 }, ArrayMath.addInPlace(new double[3], 0, new double[] { 1.0, 1.0, 1.0, 1.0 }, 1, 3));
     }
 
+    @Test
+    public void outputBufferTests() {
+        final double[] out = { -1, -1, -1, -1, -1 };
+        assertSame(out, ArrayMath.add(new double[] { 0, 1, 1, 1 }, 1, 1.0, out, 2, 3));
+        assertArrayEquals(new double[] { -1, -1, 2, 2, 2 }, out);
+        assertSame(out, ArrayMath.subtract(new double[] { 5, 5, 5 }, 0, new double[] { 0, 1, 2, 3 }, 1, out, 0, 3));
+        assertArrayEquals(new double[] { 4, 3, 2, 2, 2 }, out);
+        assertArrayEquals(new double[] { 8, 6, 4, 2, 2 }, ArrayMath.multiply(out, 0, 2.0, out, 0, 3));
+        assertArrayEquals(new double[] { 2, 1.5, 1, 2, 2 }, ArrayMath.divide(out, 0, new double[] { 4, 4, 4 }, 0, out, 0, 3));
+        assertArrayEquals(new double[] { 2, 1.5, 1, Double.NaN, Double.NaN }, ArrayMath.divide(out, 3, 0.0, out, 3, 2));
+        assertArrayEquals(new double[] { 4, 2.25, 1, Double.NaN, Double.NaN }, ArrayMath.sqr(out, 0, out, 0, 3));
+        assertArrayEquals(new double[] { 2, 1.5, 1, Double.NaN, Double.NaN }, ArrayMath.sqrt(out, 0, out, 0, 3));
+        assertArrayEquals(new double[] { -10, -20, 1, Double.NaN, Double.NaN }, ArrayMath.tenLog10(new double[] { 0.1, 0.01 }, 0, out, 0, 2));
+        assertArrayEquals(new double[] { -10, -20, -20, Double.NaN, Double.NaN }, ArrayMath.decibel(new double[] { 0.1 }, 0, out, 2, 1));
+        assertArrayEquals(new double[] { 0.1, -20, -20, Double.NaN, Double.NaN }, ArrayMath.inverseDecibel(out, 1, out, 0, 1), 1e-12);
+
+        assertArrayEquals(new int[] { 3, 4, 0 }, ArrayMath.add(new int[] { 1, 2, 3 }, 0, 2, new int[3], 0, 2));
+        assertArrayEquals(new long[] { 2, 3, 3 }, ArrayMath.divide(new long[] { 4, 6 }, 0, new long[] { 2, 2 }, 0, new long[] { 0, 0, 3 }, 0, 2));
+        assertArrayEquals(new short[] { 0, 4, 9 }, ArrayMath.sqr(new short[] { 2, 3 }, 0, new short[3], 1, 2));
+        assertArrayEquals(new float[] { 1.5f, 1.0f }, ArrayMath.multiply(new float[] { 3.0f, 2.0f }, 0, 0.5f, new float[2], 0, 2));
+
+        assertThrows(IllegalArgumentException.class, () -> ArrayMath.add(new double[3], 0, 1.0, new double[2], 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> ArrayMath.sqr(new double[3], 0, null, 0, 3));
+        assertThrows(ArithmeticException.class, () -> ArrayMath.divide(new int[] { 1 }, 0, 0, new int[1], 0, 1));
+    }
+
     @Test
     public void constructorTest() {
         assertThrows(IllegalStateException.class, ArrayMath::new);
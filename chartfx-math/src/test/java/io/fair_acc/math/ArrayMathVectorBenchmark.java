@@ -0,0 +1,88 @@
+package io.fair_acc.math;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Element-wise {@link ArrayMath} kernels and {@link Math} reductions with and without the Vector API implementations
+ * (see {@link VectorSupport}) for cache-resident to memory-bound array sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g", "--add-modules=jdk.incubator.vector" })
+public class ArrayMathVectorBenchmark {
+    @Param({ "1000", "100000", "10000000" })
+    private int length;
+    @Param({ "true", "false" })
+    private boolean vector;
+    private double[] a;
+    private double[] b;
+    private double[] inPlace;
+
+    @Setup
+    public void setup() {
+        VectorSupport.setEnabled(vector);
+        final Random rnd = new Random(42);
+        a = new double[length];
+        b = new double[length];
+        inPlace = new double[length];
+        for (int i = 0; i < length; i++) {
+            a[i] = rnd.nextGaussian();
+            b[i] = 1.0 + rnd.nextDouble();
+        }
+    }
+
+    @Benchmark
+    public double[] add() {
+        return ArrayMath.add(a, b);
+    }
+
+    @Benchmark
+    public double[] multiplyInPlace() {
+        return ArrayMath.multiplyInPlace(inPlace, b);
+    }
+
+    @Benchmark
+    public double[] sqrt() {
+        return ArrayMath.sqrt(b);
+    }
+
+    @Benchmark
+    public double maximum() {
+        return Math.maximum(a);
+    }
+
+    @Benchmark
+    public double sum() {
+        return Math.sum(a);
+    }
+
+    @Benchmark
+    public double dot() {
+        return Math.dot(a, b);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder().include(ArrayMathVectorBenchmark.class.getSimpleName()).build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,148 @@
+package io.fair_acc.math;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the Vector API kernels behind {@link ArrayMath} and {@link Math} against their scalar loops.
+ * <p>
+ * N.B. the vector kernels are only exercised if the tests are run with {@code --add-modules jdk.incubator.vector}
+ * (default for this module), otherwise both paths are scalar.
+ */
+class ArrayMathVectorTests {
+    private static final int N_SAMPLES = 1003; // deliberately not a multiple of the vector length
+    private static final double[] A = new double[N_SAMPLES];
+    private static final double[] B = new double[N_SAMPLES];
+    private static final float[] A_FLOAT = new float[N_SAMPLES];
+    private static final float[] B_FLOAT = new float[N_SAMPLES];
+    private static final int[] A_INT = new int[N_SAMPLES];
+    private static final int[] B_INT = new int[N_SAMPLES];
+    private static final short[] A_SHORT = new short[N_SAMPLES];
+    private static final short[] B_SHORT = new short[N_SAMPLES];
+
+    static {
+        final Random rnd = new Random(42);
+        for (int i = 0; i < N_SAMPLES; i++) {
+            A[i] = 10.0 * rnd.nextGaussian();
+            B[i] = 1.0 + rnd.nextDouble();
+            A_FLOAT[i] = (float) A[i];
+            B_FLOAT[i] = (float) B[i];
+            A_INT[i] = rnd.nextInt();
+            B_INT[i] = rnd.nextInt(1000) - 500;
+            A_SHORT[i] = (short) rnd.nextInt();
+            B_SHORT[i] = (short) (rnd.nextInt(100) - 50);
+        }
+    }
+
+    @AfterEach
+    void restore() {
+        VectorSupport.setEnabled(true);
+    }
+
+    @Test
+    void testSwitch() {
+        // the separately compiled kernels must be loadable whenever the module has been resolved
+        assertEquals(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(), VectorSupport.isAvailable());
+        VectorSupport.setEnabled(false);
+        assertFalse(VectorSupport.isEnabled());
+        VectorSupport.setEnabled(true);
+        assertEquals(VectorSupport.isAvailable(), VectorSupport.isEnabled());
+        assertFalse(VectorSupport.isEnabled(VectorSupport.MIN_LENGTH - 1));
+        assertEquals(VectorSupport.isAvailable(), VectorSupport.isEnabled(VectorSupport.MIN_LENGTH));
+    }
+
+    @Test
+    void testElementWiseDouble() {
+        assertArrayEquals(scalar(() -> ArrayMath.add(A, B)), ArrayMath.add(A, B));
+        assertArrayEquals(scalar(() -> ArrayMath.add(A, 2, B, 1, 900)), ArrayMath.add(A, 2, B, 1, 900));
+        assertArrayEquals(scalar(() -> ArrayMath.add(A, 3, 1.5, 999)), ArrayMath.add(A, 3, 1.5, 999));
+        assertArrayEquals(scalar(() -> ArrayMath.subtract(A, B)), ArrayMath.subtract(A, B));
+        assertArrayEquals(scalar(() -> ArrayMath.subtract(A, 1, B, 2, 700)), ArrayMath.subtract(A, 1, B, 2, 700));
+        assertArrayEquals(scalar(() -> ArrayMath.subtract(A, 0.5)), ArrayMath.subtract(A, 0.5));
+        assertArrayEquals(scalar(() -> ArrayMath.multiply(A, B)), ArrayMath.multiply(A, B));
+        assertArrayEquals(scalar(() -> ArrayMath.multiply(A, -3.0)), ArrayMath.multiply(A, -3.0));
+        assertArrayEquals(scalar(() -> ArrayMath.divide(A, 4.0)), ArrayMath.divide(A, 4.0));
+        assertArrayEquals(scalar(() -> ArrayMath.sqr(A)), ArrayMath.sqr(A));
+        assertArrayEquals(scalar(() -> ArrayMath.sqrt(B)), ArrayMath.sqrt(B));
+
+        assertArrayEquals(scalar(() -> ArrayMath.addInPlace(A.clone(), B)), ArrayMath.addInPlace(A.clone(), B));
+        assertArrayEquals(scalar(() -> ArrayMath.subtractInPlace(A.clone(), 2.0)), ArrayMath.subtractInPlace(A.clone(), 2.0));
+        assertArrayEquals(scalar(() -> ArrayMath.multiplyInPlace(A.clone(), B)), ArrayMath.multiplyInPlace(A.clone(), B));
+        assertArrayEquals(scalar(() -> ArrayMath.sqrInPlace(A.clone())), ArrayMath.sqrInPlace(A.clone()));
+        assertArrayEquals(scalar(() -> ArrayMath.sqrtInPlace(B.clone())), ArrayMath.sqrtInPlace(B.clone()));
+
+        // in-place on a sub-range must leave the remaining elements untouched
+        final double[] expected = scalar(() -> ArrayMath.addInPlace(A.clone(), 5, 1.0, 500));
+        final double[] actual = ArrayMath.addInPlace(A.clone(), 5, 1.0, 500);
+        assertArrayEquals(expected, actual);
+        assertEquals(A[4], actual[4]);
+        assertEquals(A[505], actual[505]);
+    }
+
+    @Test
+    void testElementWiseOtherTypes() {
+        assertArrayEquals(scalar(() -> ArrayMath.add(A_FLOAT, B_FLOAT)), ArrayMath.add(A_FLOAT, B_FLOAT));
+        assertArrayEquals(scalar(() -> ArrayMath.multiply(A_FLOAT, 3.0f)), ArrayMath.multiply(A_FLOAT, 3.0f));
+        assertArrayEquals(scalar(() -> ArrayMath.sqrt(B_FLOAT)), ArrayMath.sqrt(B_FLOAT));
+        // integer overflow must wrap around identically
+        assertArrayEquals(scalar(() -> ArrayMath.add(A_INT, B_INT)), ArrayMath.add(A_INT, B_INT));
+        assertArrayEquals(scalar(() -> ArrayMath.multiply(A_INT, B_INT)), ArrayMath.multiply(A_INT, B_INT));
+        assertArrayEquals(scalar(() -> ArrayMath.sqr(A_INT)), ArrayMath.sqr(A_INT));
+        assertArrayEquals(scalar(() -> ArrayMath.subtract(A_SHORT, B_SHORT)), ArrayMath.subtract(A_SHORT, B_SHORT));
+        assertArrayEquals(scalar(() -> ArrayMath.multiply(A_SHORT, B_SHORT)), ArrayMath.multiply(A_SHORT, B_SHORT));
+    }
+
+    @Test
+    void testReductions() {
+        assertEquals(scalar(() -> Math.maximum(A)), Math.maximum(A));
+        assertEquals(scalar(() -> Math.minimum(A)), Math.minimum(A));
+        assertEquals(scalar(() -> Math.maximum(A, 700)), Math.maximum(A, 700));
+        assertEquals(scalar(() -> Math.minimum(A_FLOAT)), Math.minimum(A_FLOAT));
+        assertEquals(scalar(() -> Math.maximum(A_INT)), Math.maximum(A_INT));
+        assertEquals(scalar(() -> Math.minimum(A_SHORT)), Math.minimum(A_SHORT));
+        assertEquals(scalar(() -> Math.sum(A)), Math.sum(A), 1e-9);
+        assertEquals(scalar(() -> Math.dot(A, B)), Math.dot(A, B), 1e-9);
+        assertEquals(scalar(() -> Math.sum(A_INT)), Math.sum(A_INT));
+        assertEquals(scalar(() -> Math.dot(A_INT, B_INT)), Math.dot(A_INT, B_INT));
+
+        double sum = 0.0;
+        for (final double value : A) {
+            sum += value;
+        }
+        assertEquals(sum, Math.sum(A), 1e-9);
+    }
+
+    @Test
+    void testReductionsWithNaN() {
+        final double[] data = A.clone();
+        data[17] = Double.NaN;
+        data[512] = Double.NaN;
+        assertEquals(scalar(() -> Math.maximum(data)), Math.maximum(data));
+        assertEquals(scalar(() -> Math.minimum(data)), Math.minimum(data));
+        assertTrue(Double.isNaN(Math.sum(data)));
+
+        final double[] allNaN = new double[N_SAMPLES];
+        Arrays.fill(allNaN, Double.NaN);
+        assertEquals(scalar(() -> Math.maximum(allNaN)), Math.maximum(allNaN));
+        assertEquals(scalar(() -> Math.minimum(allNaN)), Math.minimum(allNaN));
+    }
+
+    private static <T> T scalar(final Supplier<T> function) {
+        final boolean state = VectorSupport.isEnabled();
+        VectorSupport.setEnabled(false);
+        try {
+            return function.get();
+        } finally {
+            VectorSupport.setEnabled(state);
+        }
+    }
+}
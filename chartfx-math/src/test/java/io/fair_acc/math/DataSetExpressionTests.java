@@ -0,0 +1,143 @@
+package io.fair_acc.math;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static io.fair_acc.dataset.DataSet.DIM_X;
+import static io.fair_acc.dataset.DataSet.DIM_Y;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.DataSetError;
+import io.fair_acc.dataset.spi.DoubleDataSet;
+import io.fair_acc.dataset.spi.DoubleErrorDataSet;
+
+/**
+ * Tests for the fused {@link DataSetExpression} against the equivalent chain of {@link DataSetMath} functions
+ */
+class DataSetExpressionTests {
+    private static final int N_SAMPLES = 1000;
+    private static final double EPSILON = 1e-12;
+
+    @Test
+    void testAgainstDataSetMath() {
+        final DoubleErrorDataSet signal = generateData("signal", N_SAMPLES, 3.0);
+        final DoubleErrorDataSet background = generateData("background", N_SAMPLES, 1.0);
+
+        final DataSet expected = DataSetMath.dbFunction(DataSetMath.multiplyFunction(DataSetMath.subtractFunction(signal, background), 2.0));
+        final DataSetExpression expression = DataSetExpression.of(signal).subtract(background).multiply(2.0).db().chunkSize(64);
+        assertEquals(expected.getName(), expression.getName());
+        assertEquals(64, expression.getChunkSize());
+        assertSame(signal, expression.getSource());
+        assertDataSetEquals(expected, expression.evaluate());
+
+        final DataSet expected2 = DataSetMath.sqrtFunction(DataSetMath.divideFunction(DataSetMath.addFunction(DataSetMath.multiplyFunction(signal, background), 1.5), 0.5), 0.0);
+        assertDataSetEquals(expected2, DataSetExpression.of(signal).multiply(background).add(1.5).divide(0.5).sqrt().evaluate());
+
+        final DataSet expected3 = DataSetMath.inversedbFunction(DataSetMath.log10Function(DataSetMath.sqrFunction(DataSetMath.divideFunction(signal, background), 0.0)));
+        assertDataSetEquals(expected3, DataSetExpression.of(signal).divide(background).sqr().log10().inverseDb().evaluate());
+
+        final DataSet expected4 = DataSetMath.subtractFunction(DataSetMath.addFunction(signal, background), 0.25);
+        assertDataSetEquals(expected4, DataSetExpression.of(signal).add(background).subtract(0.25).evaluate());
+    }
+
+    @Test
+    void testOutputReuse() {
+        final DoubleErrorDataSet signal = generateData("signal", N_SAMPLES, 3.0);
+        final DoubleDataSet offset = new DoubleDataSet("offset");
+        offset.set(signal.getValues(DIM_X), new double[N_SAMPLES]);
+        Arrays.fill(offset.getValues(DIM_Y), 0.5);
+
+        final DataSetExpression expression = DataSetExpression.of(signal).subtract(offset).multiply(2.0);
+        final DoubleErrorDataSet output = new DoubleErrorDataSet("output", N_SAMPLES);
+        final double[] storage = output.getValues(DIM_Y);
+        expression.evaluate(output);
+        assertSame(storage, output.getValues(DIM_Y));
+        assertEquals("output", output.getName());
+        assertEquals(N_SAMPLES, output.getDataCount());
+        assertEquals(2.0 * (signal.get(DIM_Y, 42) - 0.5), output.get(DIM_Y, 42), EPSILON);
+        assertEquals(2.0 * signal.getErrorNegative(DIM_Y, 42), output.getErrorNegative(DIM_Y, 42), EPSILON);
+
+        // updated sources are picked up on re-evaluation without re-allocating the output storage
+        signal.set(42, signal.get(DIM_X, 42), 10.0);
+        expression.evaluate(output);
+        assertSame(storage, output.getValues(DIM_Y));
+        assertEquals(19.0, output.get(DIM_Y, 42), EPSILON);
+        output.recomputeLimits(DIM_Y);
+        assertEquals(19.0, output.getAxisDescription(DIM_Y).getMax(), EPSILON);
+
+        assertThrows(IllegalArgumentException.class, () -> expression.evaluate(signal));
+        assertThrows(IllegalArgumentException.class, () -> DataSetExpression.of(signal).add(output).evaluate(output));
+        assertThrows(IllegalArgumentException.class, () -> expression.chunkSize(0));
+    }
+
+    @Test
+    void testParallel() {
+        final int nSamples = 200_000;
+        final DoubleErrorDataSet signal = generateData("signal", nSamples, 3.0);
+        final DoubleErrorDataSet background = generateData("background", nSamples, 1.0);
+        final DataSetExpression expression = DataSetExpression.of(signal).subtract(background).sqr().add(1.0).db().chunkSize(1024);
+        final DoubleErrorDataSet serial = expression.evaluate();
+        final DoubleErrorDataSet parallel = expression.parallel(true).evaluate();
+        assertEquals(true, expression.isParallel());
+        assertDataSetEquals(serial, parallel);
+    }
+
+    @Test
+    void testInterpolatedOperand() {
+        final DoubleErrorDataSet signal = generateData("signal", N_SAMPLES, 3.0);
+        final DoubleDataSet coarse = new DoubleDataSet("coarse");
+        for (int i = 0; i < N_SAMPLES; i += 10) {
+            coarse.add(signal.get(DIM_X, i), 0.01 * i);
+        }
+        final DoubleErrorDataSet result = DataSetExpression.of(signal).subtract(coarse).evaluate();
+        assertEquals(N_SAMPLES, result.getDataCount());
+        for (int i = 0; i < N_SAMPLES; i++) {
+            final double x = signal.get(DIM_X, i);
+            assertEquals(x, result.get(DIM_X, i));
+            assertEquals(signal.get(DIM_Y, i) - coarse.getValue(DIM_Y, x), result.get(DIM_Y, i), EPSILON);
+        }
+    }
+
+    @Test
+    void testUnsortedSource() {
+        final double[] x = { 4, 0, 3, 1, 2 };
+        final DoubleErrorDataSet unsorted = new DoubleErrorDataSet("unsorted", x, x.clone(), new double[5], new double[5], 5, true);
+        assertFalse(unsorted.isSorted(DIM_X));
+
+        final DoubleErrorDataSet output = new DoubleErrorDataSet("output", new double[] { 0, 1, 2, 3, 4 }, new double[5], new double[5], new double[5], 5, true);
+        assertTrue(output.isSorted(DIM_X));
+        for (final DataSet result : List.of(DataSetExpression.of(unsorted).add(1.0).evaluate(), DataSetExpression.of(unsorted).add(1.0).evaluate(output))) {
+            assertFalse(result.isSorted(DIM_X), "unsorted source must not be reported as sorted");
+            assertEquals(unsorted.getValue(DIM_Y, 0.0) + 1.0, result.getValue(DIM_Y, 0.0));
+        }
+
+        final DoubleErrorDataSet sorted = generateData("sorted", N_SAMPLES, 0.0);
+        assertTrue(DataSetExpression.of(sorted).add(1.0).evaluate(output).isSorted(DIM_X));
+    }
+
+    private static void assertDataSetEquals(final DataSet expected, final DataSet actual) {
+        final int n = expected.getDataCount();
+        assertEquals(n, actual.getDataCount());
+        assertArrayEquals(Arrays.copyOf(expected.getValues(DIM_X), n), Arrays.copyOf(actual.getValues(DIM_X), n), EPSILON);
+        assertArrayEquals(Arrays.copyOf(expected.getValues(DIM_Y), n), Arrays.copyOf(actual.getValues(DIM_Y), n), EPSILON);
+        assertArrayEquals(Arrays.copyOf(((DataSetError) expected).getErrorsNegative(DIM_Y), n), Arrays.copyOf(((DataSetError) actual).getErrorsNegative(DIM_Y), n), EPSILON);
+        assertArrayEquals(Arrays.copyOf(((DataSetError) expected).getErrorsPositive(DIM_Y), n), Arrays.copyOf(((DataSetError) actual).getErrorsPositive(DIM_Y), n), EPSILON);
+    }
+
+    private static DoubleErrorDataSet generateData(final String name, final int nSamples, final double offset) {
+        final DoubleErrorDataSet dataSet = new DoubleErrorDataSet(name, nSamples);
+        for (int i = 0; i < nSamples; i++) {
+            dataSet.add(0.1 * i, offset + Math.sin(0.01 * i), 0.1 + 0.001 * (i % 7), 0.2 + 0.001 * (i % 5));
+        }
+        return dataSet;
+    }
+}
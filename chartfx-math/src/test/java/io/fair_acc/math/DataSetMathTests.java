@@ -1,6 +1,8 @@
 package io.fair_acc.math;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -16,7 +18,9 @@ import org.junit.jupiter.api.Test;
 import org.opentest4j.AssertionFailedError;
 
 import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.DataSetError;
 import io.fair_acc.dataset.spi.AbstractHistogram;
+import io.fair_acc.dataset.spi.DoubleErrorDataSet;
 import io.fair_acc.dataset.spi.Histogram;
 import io.fair_acc.dataset.testdata.spi.AbstractTestFunction;
 import io.fair_acc.dataset.testdata.spi.GaussFunction;
@@ -130,6 +134,49 @@ class DataSetMathTests {
         testFunctionStrictBase("mathFunction(DataSet, double, IDENTITY)", refFunction, returnFunction, (i, x1, x2) -> assertEquals(x1, x2), (i, y1, y2) -> assertEquals(y1, y2));
     }
 
+    @Test
+    void basicMathOpsFunctionValueOutputTests() {
+        final TriangleFunction refFunction = new TriangleFunction("triag", N_SAMPLES);
+        final DoubleErrorDataSet output = new DoubleErrorDataSet("output", N_SAMPLES);
+        final double[] storage = output.getValues(DIM_Y);
+
+        for (final DataSetMath.MathOp op : DataSetMath.MathOp.values()) {
+            final DataSet expected = DataSetMath.mathFunction(refFunction, 2.0, op);
+            assertSame(output, DataSetMath.mathFunction(refFunction, 2.0, op, output));
+            assertSame(storage, output.getValues(DIM_Y), op + " re-uses the output storage");
+            assertEquals("output", output.getName());
+            assertEquals(N_SAMPLES, output.getDataCount());
+            for (int i = 0; i < N_SAMPLES; i++) {
+                assertEquals(expected.get(DIM_X, i), output.get(DIM_X, i));
+                assertEquals(expected.get(DIM_Y, i), output.get(DIM_Y, i), op + " at index " + i);
+                assertEquals(((DataSetError) expected).getErrorNegative(DIM_Y, i), output.getErrorNegative(DIM_Y, i));
+                assertEquals(((DataSetError) expected).getErrorPositive(DIM_Y, i), output.getErrorPositive(DIM_Y, i));
+            }
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> DataSetMath.mathFunction(output, 1.0, DataSetMath.MathOp.ADD, output));
+    }
+
+    @Test
+    void mathFunctionOrderTests() {
+        final double[] x = { 4, 0, 3, 1, 2 };
+        final double[] y = { 4, 0, 3, 1, 2 };
+        final DataSet unsorted = new DoubleErrorDataSet("unsorted", x, y, new double[5], new double[5], 5, true);
+        assertFalse(unsorted.isSorted(DIM_X));
+
+        final DoubleErrorDataSet output = new DoubleErrorDataSet("output", new double[] { 0, 1, 2, 3, 4 }, new double[5], new double[5], new double[5], 5, true);
+        assertTrue(output.isSorted(DIM_X));
+        for (final DataSet result : List.of(DataSetMath.mathFunction(unsorted, 0.0, DataSetMath.MathOp.ADD), DataSetMath.mathFunction(unsorted, 0.0, DataSetMath.MathOp.ADD, output))) {
+            assertFalse(result.isSorted(DIM_X), "unsorted input must not be reported as sorted");
+            assertEquals(unsorted.getValue(DIM_Y, 0.0), result.getValue(DIM_Y, 0.0));
+            assertEquals(unsorted.getIndex(DIM_X, 3.0), result.getIndex(DIM_X, 3.0));
+        }
+
+        final DataSet sorted = new DoubleErrorDataSet("sorted", new double[] { 0, 1, 2, 3, 4 }, y, new double[5], new double[5], 5, true);
+        assertTrue(DataSetMath.mathFunction(sorted, 1.0, DataSetMath.MathOp.ADD).isSorted(DIM_X));
+        assertTrue(DataSetMath.mathFunction(sorted, 1.0, DataSetMath.MathOp.ADD, output).isSorted(DIM_X));
+    }
+
     @Test
     void basicMathOpsFunctionFunctionTests() { // NOSONAR NOPMD -- excessive assertions -- is a necessity of unit-tests ;-)
         final TriangleFunction refFunction1 = new TriangleFunction("triag", 10);
@@ -260,4 +307,17 @@ class DataSetMathTests {
         assertThrows(IllegalArgumentException.class, () -> DataSetMath.integrateFromCentre(new GaussFunction("zeroGauss", 2), 2, 2, true));
         assertThrows(IllegalArgumentException.class, () -> DataSetMath.integrateFromCentre(new GaussFunction("zeroGauss", 2), 3, 2, true));
     }
+
+    @Test
+    void testSubRangeWithRepeatedBoundaryValues() {
+        final double[] x = { 0, 1, 1, 1, 1, 2, 3, 3, 3, 3, 4 };
+        final double[] y = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+        final DoubleErrorDataSet function = new DoubleErrorDataSet("steps", x, y, new double[x.length], new double[x.length], x.length, true);
+        assertTrue(function.isSorted(DIM_X));
+
+        final DataSet subRange = DataSetMath.getSubRange(function, 1.0, 3.0);
+        assertEquals(9, subRange.getDataCount());
+        assertEquals(1, subRange.get(DIM_Y, 0));
+        assertEquals(9, subRange.get(DIM_Y, subRange.getDataCount() - 1));
+    }
 }
@@ -4,7 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.awaitility.Awaitility;
@@ -16,6 +22,8 @@ import io.fair_acc.dataset.events.ChartBits;
 import io.fair_acc.dataset.spi.DoubleDataSet;
 import io.fair_acc.dataset.spi.DoubleErrorDataSet;
 import io.fair_acc.math.MathDataSet.DataSetValueFunction;
+import io.fair_acc.math.stream.RunningIntegral;
+import io.fair_acc.math.stream.StreamOperator;
 
 /**
  * Basic tests for DataSetMath class
@@ -181,6 +189,66 @@ public class MathDataSetTests {
         Awaitility.await().until(() -> identityDataSet.getBitState().isDirty());
     }
 
+    @Test
+    public void testMinUpdatePeriod() {
+        final DoubleDataSet source = generateSineWaveData(16);
+        final MathDataSet defaultLimit = new MathDataSet("N", identityValueFunction, source);
+        assertEquals(40, defaultLimit.getMinUpdatePeriod());
+        defaultLimit.deregisterListener();
+
+        // the period is forwarded to the event processor: updates within the period are coalesced into a single
+        // re-computation that is delayed until the period has elapsed
+        final List<Long> executions = new CopyOnWriteArrayList<>();
+        final MathDataSet limited = new MathDataSet("N", (input, output, length) -> {
+            executions.add(System.nanoTime());
+            System.arraycopy(input, 0, output, 0, length);
+        }, 500, source);
+        assertEquals(500, limited.getMinUpdatePeriod());
+        Awaitility.await().until(() -> executions.size() == 1); // initial update
+        for (int i = 0; i < 20; i++) {
+            source.fireInvalidated(ChartBits.DataSetData);
+        }
+        Awaitility.await().until(() -> executions.size() >= 2);
+        assertTrue(executions.get(1) - executions.get(0) >= TimeUnit.MILLISECONDS.toNanos(500), "rate limited re-computation");
+        Awaitility.await().pollDelay(Duration.ofMillis(200)).until(() -> true);
+        assertEquals(2, executions.size(), "coalesced re-computations");
+        limited.deregisterListener();
+    }
+
+    @Test
+    public void testStreamOperator() {
+        final DoubleDataSet source = new DoubleDataSet("source");
+        assertThrows(IllegalArgumentException.class, () -> new MathDataSet("I", (StreamOperator) null, -1, source));
+
+        final MathDataSet integral = new MathDataSet("I", new RunningIntegral(), -1, source);
+        assertEquals("I(source)", integral.getName());
+
+        // appended samples are integrated incrementally
+        source.add(new double[] { 0, 1, 2 }, new double[] { 1, 1, 1 });
+        integral.getBitState().clear();
+        source.fireInvalidated(ChartBits.DataSetData);
+        Awaitility.await().until(() -> integral.getDataCount() == 3);
+        assertArrayEquals(new double[] { 0, 1, 2 }, Arrays.copyOf(integral.getValues(DataSet.DIM_Y), integral.getDataCount()), 1e-12);
+
+        source.add(new double[] { 3, 4 }, new double[] { 3, 3 });
+        source.fireInvalidated(ChartBits.DataSetData);
+        Awaitility.await().until(() -> integral.getDataCount() == 5);
+        assertArrayEquals(new double[] { 0, 1, 2, 4, 7 }, Arrays.copyOf(integral.getValues(DataSet.DIM_Y), integral.getDataCount()), 1e-12);
+
+        // FIFO-type sources: output samples older than the source's first sample are dropped
+        source.remove(0, 2);
+        source.fireInvalidated(ChartBits.DataSetData);
+        Awaitility.await().until(() -> integral.getDataCount() == 3);
+        assertArrayEquals(new double[] { 2, 3, 4 }, Arrays.copyOf(integral.getValues(DataSet.DIM_X), integral.getDataCount()), 1e-12);
+        assertArrayEquals(new double[] { 2, 4, 7 }, Arrays.copyOf(integral.getValues(DataSet.DIM_Y), integral.getDataCount()), 1e-12);
+
+        // re-written source restarts the stream
+        source.set(new double[] { 0, 1 }, new double[] { 2, 2 });
+        source.fireInvalidated(ChartBits.DataSetData);
+        Awaitility.await().until(() -> integral.getDataCount() == 2);
+        assertArrayEquals(new double[] { 0, 2 }, Arrays.copyOf(integral.getValues(DataSet.DIM_Y), integral.getDataCount()), 1e-12);
+    }
+
     protected static DoubleDataSet generateSineWaveData(final int nData) {
         DoubleDataSet function = new DoubleDataSet("composite sine", nData);
         for (int i = 0; i < nData; i++) {
@@ -0,0 +1,125 @@
+package io.fair_acc.math;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static io.fair_acc.dataset.DataSet.DIM_X;
+import static io.fair_acc.dataset.DataSet.DIM_Y;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.DataSetError;
+import io.fair_acc.dataset.spi.DoubleErrorDataSet;
+import io.fair_acc.math.DataSetMath.Filter;
+
+/**
+ * Checks the incremental sliding-window filters against the {@link Math} estimators of the explicitly scanned windows
+ */
+class SlidingWindowFilterTests {
+    private static final int N_SAMPLES = 500;
+
+    @Test
+    void testWindows() {
+        final double[] x = { 0, 1, 1, 2, 5, 5.5, 9 };
+        final int[] lower = new int[x.length];
+        final int[] upper = new int[x.length];
+        assertTrue(SlidingWindowFilter.computeWindows(x, x.length, 1.0, lower, upper));
+        assertArrayEquals(new int[] { 0, 0, 0, 1, 4, 4, 6 }, lower);
+        assertArrayEquals(new int[] { 2, 3, 3, 3, 5, 5, 6 }, upper);
+
+        assertFalse(SlidingWindowFilter.computeWindows(x, x.length, -1.0, lower, upper), "negative width");
+        assertFalse(SlidingWindowFilter.computeWindows(new double[] { 0, 2, 1 }, 3, 1.0, lower, upper), "unsorted");
+        assertFalse(SlidingWindowFilter.computeWindows(new double[] { 0, 1, Double.NaN }, 3, 1.0, lower, upper), "NaN");
+    }
+
+    @ParameterizedTest
+    @EnumSource(Filter.class)
+    void testFilter(final Filter filterType) {
+        final Random random = new Random(42);
+        final double[] x = new double[N_SAMPLES];
+        final double[] values = new double[N_SAMPLES];
+        for (int i = 0; i < N_SAMPLES; i++) {
+            // N.B. includes duplicate x values, repeated values and zeros
+            x[i] = i == 0 ? 0.0 : x[i - 1] + random.nextInt(3);
+            values[i] = random.nextInt(10) == 0 ? 0.0 : java.lang.Math.round(100.0 * random.nextGaussian()) / 10.0;
+        }
+
+        for (final double width : new double[] { 0.0, 1.0, 4.5, 20.0, 2.0 * N_SAMPLES }) {
+            final int[] lower = new int[N_SAMPLES];
+            final int[] upper = new int[N_SAMPLES];
+            final double[] filtered = new double[N_SAMPLES];
+            assertTrue(SlidingWindowFilter.computeWindows(x, N_SAMPLES, width, lower, upper));
+            SlidingWindowFilter.filter(filterType, values, N_SAMPLES, lower, upper, filtered);
+
+            final double[] window = new double[N_SAMPLES];
+            for (int i = 0; i < N_SAMPLES; i++) {
+                int count = 0;
+                for (int j = 0; j < N_SAMPLES; j++) {
+                    if (MathBase.abs(x[i] - x[j]) <= width) {
+                        assertTrue(j >= lower[i] && j <= upper[i]);
+                        window[count++] = values[j];
+                    }
+                }
+                assertEquals(upper[i] - lower[i] + 1, count);
+                final double expected = getExpected(filterType, window, count);
+                final String msg = filterType + " width = " + width + " index = " + i;
+                if (filterType == Filter.MEAN || filterType == Filter.RMS || filterType == Filter.GEOMMEAN) {
+                    assertEquals(expected, filtered[i], 1e-12 * (1.0 + MathBase.abs(expected)), msg);
+                } else {
+                    assertEquals(expected, filtered[i], msg); // exact
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Filter.class)
+    void testFilterFunction(final Filter filterType) {
+        // unsorted (reversed) x values are filtered by the direct scan of all points
+        final DoubleErrorDataSet sorted = new DoubleErrorDataSet("sorted");
+        final DoubleErrorDataSet reversed = new DoubleErrorDataSet("reversed");
+        for (int i = 0; i < 100; i++) {
+            final double y = 1.0 + java.lang.Math.sin(0.3 * i);
+            sorted.add(i, y, 0.1 + 0.01 * i, 0.1);
+            reversed.add(0, i, y, 0.1 + 0.01 * i, 0.1);
+        }
+        final DataSet filtered = DataSetMath.filterFunction(sorted, 3.0, filterType);
+        final DataSet reference = DataSetMath.filterFunction(reversed, 3.0, filterType);
+        assertEquals(100, filtered.getDataCount());
+        for (int i = 0; i < 100; i++) {
+            final int j = 99 - i;
+            assertEquals(reference.get(DIM_X, j), filtered.get(DIM_X, i));
+            assertEquals(reference.get(DIM_Y, j), filtered.get(DIM_Y, i), 1e-12, filterType + " y @" + i);
+            assertEquals(((DataSetError) reference).getErrorNegative(DIM_Y, j), ((DataSetError) filtered).getErrorNegative(DIM_Y, i), 1e-12);
+            assertEquals(((DataSetError) reference).getErrorPositive(DIM_Y, j), ((DataSetError) filtered).getErrorPositive(DIM_Y, i), 1e-12);
+        }
+    }
+
+    private static double getExpected(final Filter filterType, final double[] window, final int count) {
+        switch (filterType) {
+        case MEDIAN:
+            // N.B. Math.median is not defined for two values
+            return count == 2 ? 0.5 * (window[0] + window[1]) : Math.median(window, count);
+        case MIN:
+            return Math.minimum(window, count);
+        case MAX:
+            return Math.maximum(window, count);
+        case P2P:
+            return Math.peakToPeak(window, count);
+        case RMS:
+            return Math.rms(window, count);
+        case GEOMMEAN:
+            return Math.geometricMean(window, 0, count);
+        case MEAN:
+        default:
+            return Math.mean(window, count);
+        }
+    }
+}
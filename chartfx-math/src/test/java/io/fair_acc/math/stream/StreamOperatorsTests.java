@@ -0,0 +1,211 @@
+package io.fair_acc.math.stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import io.fair_acc.math.DataSetMath.Filter;
+import io.fair_acc.math.filter.iir.Biquad;
+import io.fair_acc.math.filter.iir.Butterworth;
+import io.fair_acc.math.filter.iir.DirectFormII;
+
+/**
+ * Tests for the incremental {@link StreamOperator} implementations
+ */
+class StreamOperatorsTests {
+    private static final int N_SAMPLES = 1000;
+    private static final double[] X = new double[N_SAMPLES];
+    private static final double[] Y = new double[N_SAMPLES];
+
+    static {
+        final Random rnd = new Random(42);
+        for (int i = 0; i < N_SAMPLES; i++) {
+            X[i] = 0.1 * i;
+            Y[i] = Math.sin(0.05 * i) + 0.2 * rnd.nextGaussian();
+        }
+    }
+
+    @Test
+    void testSampleBuffer() {
+        assertThrows(IllegalArgumentException.class, () -> new SampleBuffer(-1));
+        final SampleBuffer buffer = new SampleBuffer(0);
+        for (int i = 0; i < 100; i++) {
+            buffer.add(i, 2 * i);
+        }
+        assertEquals(100, buffer.size());
+        assertEquals(42.0, buffer.getX()[42]);
+        assertEquals(84.0, buffer.getY()[42]);
+        buffer.clear();
+        assertEquals(0, buffer.size());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Filter.class, names = { "MEAN", "RMS", "MIN", "MAX", "P2P" })
+    void testRunningFilter(final Filter filter) {
+        final int length = 17;
+        final SampleBuffer output = processAll(new RunningFilter(filter, length));
+        assertArrayEquals(X, Arrays.copyOf(output.getX(), output.size()));
+        for (int i = 0; i < N_SAMPLES; i++) {
+            final double[] window = Arrays.copyOfRange(Y, Math.max(0, i - length + 1), i + 1);
+            final double min = Arrays.stream(window).min().orElseThrow();
+            final double max = Arrays.stream(window).max().orElseThrow();
+            final double mean = Arrays.stream(window).average().orElseThrow();
+            final double rms = Math.sqrt(Arrays.stream(window).map(v -> (v - mean) * (v - mean)).sum() / window.length);
+            final double expected;
+            switch (filter) {
+            case MEAN:
+                expected = mean;
+                break;
+            case RMS:
+                expected = rms;
+                break;
+            case MIN:
+                expected = min;
+                break;
+            case MAX:
+                expected = max;
+                break;
+            default:
+                expected = max - min;
+                break;
+            }
+            assertEquals(expected, output.getY()[i], 1e-9, filter + " at index " + i);
+        }
+
+        assertChunkInvariant(() -> new RunningFilter(filter, length));
+    }
+
+    @Test
+    void testRunningFilterArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new RunningFilter(null, 3));
+        assertThrows(IllegalArgumentException.class, () -> new RunningFilter(Filter.MEDIAN, 3));
+        assertThrows(IllegalArgumentException.class, () -> new RunningFilter(Filter.MEAN, 0));
+        final RunningFilter filter = new RunningFilter(Filter.P2P, 5);
+        assertEquals(Filter.P2P, filter.getFilterType());
+        assertEquals(5, filter.getLength());
+    }
+
+    @Test
+    void testIirFilter() {
+        final Butterworth reference = new Butterworth();
+        reference.lowPass(4, 10.0, 0.5);
+        final double[] expected = new double[N_SAMPLES];
+        for (int i = 0; i < N_SAMPLES; i++) {
+            expected[i] = reference.filter(Y[i]);
+        }
+
+        final Butterworth lowPass = new Butterworth();
+        lowPass.lowPass(4, 10.0, 0.5);
+        final SampleBuffer output = processAll(new IirFilter(lowPass));
+        assertArrayEquals(expected, Arrays.copyOf(output.getY(), output.size()), 1e-12);
+
+        assertChunkInvariant(() -> {
+            final Butterworth filter = new Butterworth();
+            filter.lowPass(4, 10.0, 0.5);
+            return new IirFilter(filter);
+        });
+
+        final Biquad biquad = new Biquad();
+        biquad.setCoefficients(1.0, -0.5, 0.1, 0.3, 0.2, 0.1);
+        final DirectFormII state = new DirectFormII();
+        final SampleBuffer biquadOutput = processAll(new IirFilter(biquad));
+        for (int i = 0; i < N_SAMPLES; i++) {
+            assertEquals(state.process1(Y[i], biquad), biquadOutput.getY()[i], 1e-12);
+        }
+        assertChunkInvariant(() -> new IirFilter(biquad));
+
+        assertThrows(IllegalArgumentException.class, () -> new IirFilter((Butterworth) null));
+        assertThrows(IllegalArgumentException.class, () -> new IirFilter((Biquad) null));
+    }
+
+    @Test
+    void testRunningIntegral() {
+        final SampleBuffer output = processAll(new RunningIntegral());
+        double integral = 0.0;
+        assertEquals(0.0, output.getY()[0]);
+        for (int i = 1; i < N_SAMPLES; i++) {
+            integral += 0.5 * (X[i] - X[i - 1]) * (Y[i] + Y[i - 1]);
+            assertEquals(integral, output.getY()[i], 1e-9);
+        }
+        assertChunkInvariant(RunningIntegral::new);
+    }
+
+    @Test
+    void testRunningDerivative() {
+        final SampleBuffer output = processAll(new RunningDerivative());
+        assertEquals(N_SAMPLES - 1, output.size());
+        for (int i = 1; i < N_SAMPLES; i++) {
+            assertEquals(X[i], output.getX()[i - 1]);
+            assertEquals((Y[i] - Y[i - 1]) / (X[i] - X[i - 1]), output.getY()[i - 1], 1e-12);
+        }
+        assertChunkInvariant(RunningDerivative::new);
+    }
+
+    @Test
+    void testDecimator() {
+        assertThrows(IllegalArgumentException.class, () -> new Decimator(0));
+        final Decimator decimator = new Decimator(3);
+        assertEquals(3, decimator.getFactor());
+        final SampleBuffer output = processAll(decimator);
+        assertEquals(N_SAMPLES / 3, output.size());
+        for (int i = 0; i < output.size(); i++) {
+            assertEquals((X[3 * i] + X[3 * i + 1] + X[3 * i + 2]) / 3, output.getX()[i], 1e-12);
+            assertEquals((Y[3 * i] + Y[3 * i + 1] + Y[3 * i + 2]) / 3, output.getY()[i], 1e-12);
+        }
+        assertChunkInvariant(() -> new Decimator(7));
+    }
+
+    @Test
+    void testAndThen() {
+        final SampleBuffer expected = new SampleBuffer();
+        final SampleBuffer decimated = processAll(new Decimator(4));
+        new RunningFilter(Filter.MAX, 5).process(decimated.getX(), decimated.getY(), 0, decimated.size(), expected);
+
+        final SampleBuffer output = processAll(new Decimator(4).andThen(new RunningFilter(Filter.MAX, 5)));
+        assertArrayEquals(Arrays.copyOf(expected.getY(), expected.size()), Arrays.copyOf(output.getY(), output.size()));
+        assertChunkInvariant(() -> new Decimator(4).andThen(new RunningFilter(Filter.MAX, 5)));
+    }
+
+    @Test
+    void testReset() {
+        final StreamOperator operator = new Decimator(5).andThen(new RunningIntegral());
+        final SampleBuffer first = processAll(operator);
+        operator.process(X, Y, 0, 3, new SampleBuffer()); // leave an incomplete decimation block
+        operator.reset();
+        final SampleBuffer second = processAll(operator);
+        assertArrayEquals(Arrays.copyOf(first.getY(), first.size()), Arrays.copyOf(second.getY(), second.size()));
+    }
+
+    private static SampleBuffer processAll(final StreamOperator operator) {
+        final SampleBuffer output = new SampleBuffer();
+        operator.process(X, Y, 0, N_SAMPLES, output);
+        return output;
+    }
+
+    /**
+     * asserts that feeding the samples in irregular chunks yields the same output as a single pass
+     */
+    private static void assertChunkInvariant(final Supplier<StreamOperator> factory) {
+        final SampleBuffer expected = processAll(factory.get());
+        final StreamOperator operator = factory.get();
+        final SampleBuffer output = new SampleBuffer();
+        int from = 0;
+        int chunk = 0;
+        while (from < N_SAMPLES) {
+            final int to = Math.min(N_SAMPLES, from + chunk % 13);
+            operator.process(X, Y, from, to, output);
+            from = to;
+            chunk++;
+        }
+        assertArrayEquals(Arrays.copyOf(expected.getX(), expected.size()), Arrays.copyOf(output.getX(), output.size()));
+        assertArrayEquals(Arrays.copyOf(expected.getY(), expected.size()), Arrays.copyOf(output.getY(), output.size()));
+    }
+}
@@ -232,8 +232,8 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
             }
             dataMaxIndex++;
 
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y);
+            extendLimits(DIM_X, x);
+            extendLimits(DIM_Y, y);
         });
         fireInvalidated(ChartBits.DataSetDataAdded);
         return getThis();
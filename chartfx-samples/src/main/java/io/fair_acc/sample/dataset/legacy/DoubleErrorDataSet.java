@@ -156,9 +156,9 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             yErrorsNeg[dataMaxIndex] = yErrorNeg;
             dataMaxIndex++;
 
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y - yErrorNeg);
-            getAxisDescription(DIM_Y).add(y + yErrorPos);
+            extendLimits(DIM_X, x);
+            extendLimits(DIM_Y, y - yErrorNeg);
+            extendLimits(DIM_Y, y + yErrorPos);
         });
         fireInvalidated(ChartBits.DataSetDataAdded);
         return getThis();
@@ -476,13 +476,11 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
                 yValues[index] = y;
                 yErrorsPos[index] = yErrorPos;
                 yErrorsNeg[index] = yErrorNeg;
+                // the replaced point may have been the extremum -> recomputed on demand
+                getAxisDescriptions().forEach(AxisDescription::clear);
             } else {
                 this.add(x, y, yErrorNeg, yErrorPos);
             }
-
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y - yErrorNeg);
-            getAxisDescription(DIM_Y).add(y + yErrorPos);
         });
         fireInvalidated(ChartBits.DataSetData);
         return getThis();